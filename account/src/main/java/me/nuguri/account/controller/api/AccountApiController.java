@@ -18,6 +18,7 @@ import me.nuguri.common.enums.Gender;
 import me.nuguri.common.enums.Roles;
 import me.nuguri.common.exception.InvalidRequestException;
 import me.nuguri.common.support.BaseValidator;
+import me.nuguri.common.support.EntityVersion;
 import me.nuguri.common.support.PaginationValidator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +33,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
@@ -104,7 +106,8 @@ public class AccountApiController {
      *
      * @param id             식별키
      * @param authentication 토큰 정보
-     * @return
+     * @param webRequest     요청, If-None-Match, If-Modified-Since 조건부 요청 확인
+     * @return 변경 되지 않은 경우 본문 없이 304
      */
     @GetMapping(
             value = "/api/v1/user/{id}",
@@ -112,7 +115,11 @@ public class AccountApiController {
     )
     @PreAuthorize("hasRole('USER') and #oauth2.hasScope('read')")
     @HasAuthority
-    public ResponseEntity<?> getUser(@PathVariable Long id, @TokenAuthentication AuthenticationAdapter authentication) {
+    public ResponseEntity<?> getUser(@PathVariable Long id, @TokenAuthentication AuthenticationAdapter authentication, WebRequest webRequest) {
+        EntityVersion version = accountService.findVersion(id, authentication);
+        if (version != null && version.checkNotModified(webRequest)) {
+            return null;
+        }
         Account account = accountService.findById(id, authentication);
         GetUserResponse getUserResponse = new GetUserResponse(account);
         GetUserResource getUserResource = new GetUserResource(getUserResponse);
@@ -335,7 +342,7 @@ public class AccountApiController {
     public static class QueryUsersResource extends EntityModel<GetUserResponse> {
         public QueryUsersResource(GetUserResponse content, Link... links) {
             super(content, links);
-            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null)).withRel("getUser").withType("GET"));
+            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null, null)).withRel("getUser").withType("GET"));
             add(linkTo(methodOn(AccountApiController.class).updateUser(content.getId(), null, null, null)).withRel("updateUser").withType("PATCH"));
             add(linkTo(methodOn(AccountApiController.class).mergeUser(content.getId(), null, null, null)).withRel("mergeUser").withType("PUT"));
             add(linkTo(methodOn(AccountApiController.class).deleteUser(content.getId(), null)).withRel("deleteUser").withType("DELETE"));
@@ -347,7 +354,7 @@ public class AccountApiController {
             super(content, links);
             add(linkTo(AccountApiController.class).slash("/docs/account.html").withRel("document"));
             add(linkTo(methodOn(AccountApiController.class).getMe(null)).withSelfRel().withType("GET"));
-            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null)).withRel("getUser").withType("GET"));
+            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null, null)).withRel("getUser").withType("GET"));
             add(linkTo(methodOn(AccountApiController.class).updateUser(content.getId(), null, null, null)).withRel("updateUser").withType("PATCH"));
             add(linkTo(methodOn(AccountApiController.class).mergeUser(content.getId(), null, null, null)).withRel("mergeUser").withType("PUT"));
             add(linkTo(methodOn(AccountApiController.class).deleteUser(content.getId(), null)).withRel("deleteUser").withType("DELETE"));
@@ -358,7 +365,7 @@ public class AccountApiController {
         public GetUserResource(GetUserResponse content, Link... links) {
             super(content, links);
             add(linkTo(AccountApiController.class).slash("/docs/account.html").withRel("document"));
-            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null)).withSelfRel().withType("GET"));
+            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null, null)).withSelfRel().withType("GET"));
             add(linkTo(methodOn(AccountApiController.class).updateUser(content.getId(), null, null, null)).withRel("updateUser").withType("PATCH"));
             add(linkTo(methodOn(AccountApiController.class).mergeUser(content.getId(), null, null, null)).withRel("mergeUser").withType("PUT"));
             add(linkTo(methodOn(AccountApiController.class).deleteUser(content.getId(), null)).withRel("deleteUser").withType("DELETE"));
@@ -370,7 +377,7 @@ public class AccountApiController {
             super(content, links);
             add(linkTo(AccountApiController.class).slash("/docs/account.html").withRel("document"));
             add(linkTo(methodOn(AccountApiController.class).generateUser(null, null)).withSelfRel().withType("POST"));
-            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null)).withRel("getUser").withType("GET"));
+            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null, null)).withRel("getUser").withType("GET"));
             add(linkTo(methodOn(AccountApiController.class).updateUser(content.getId(), null, null, null)).withRel("updateUser").withType("PATCH"));
             add(linkTo(methodOn(AccountApiController.class).mergeUser(content.getId(), null, null, null)).withRel("mergeUser").withType("PUT"));
             add(linkTo(methodOn(AccountApiController.class).deleteUser(content.getId(), null)).withRel("deleteUser").withType("DELETE"));
@@ -382,7 +389,7 @@ public class AccountApiController {
             super(content, links);
             add(linkTo(AccountApiController.class).slash("/docs/account.html").withRel("document"));
             add(linkTo(methodOn(AccountApiController.class).updateUser(content.getId(), null, null, null)).withSelfRel().withType("PATCH"));
-            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null)).withRel("getUser").withType("GET"));
+            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null, null)).withRel("getUser").withType("GET"));
             add(linkTo(methodOn(AccountApiController.class).mergeUser(content.getId(), null, null, null)).withRel("mergeUser").withType("PUT"));
             add(linkTo(methodOn(AccountApiController.class).deleteUser(content.getId(), null)).withRel("deleteUser").withType("DELETE"));
         }
@@ -393,7 +400,7 @@ public class AccountApiController {
             super(content, links);
             add(linkTo(AccountApiController.class).slash("/docs/account.html").withRel("document"));
             add(linkTo(methodOn(AccountApiController.class).mergeUser(content.getId(), null, null, null)).withSelfRel().withType("PUT"));
-            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null)).withRel("getUser").withType("GET"));
+            add(linkTo(methodOn(AccountApiController.class).getUser(content.getId(), null, null)).withRel("getUser").withType("GET"));
             add(linkTo(methodOn(AccountApiController.class).updateUser(content.getId(), null, null, null)).withRel("updateUser").withType("PATCH"));
             add(linkTo(methodOn(AccountApiController.class).deleteUser(content.getId(), null)).withRel("deleteUser").withType("DELETE"));
         }
@@ -57,7 +57,7 @@ public class IndexApiController {
                 if (account.getRoles().equals(Roles.ADMIN)) {
                     _links.add(linkTo(methodOn(AccountApiController.class).queryUsers(null, null, null)).withRel("queryUsers").withType("GET"));
                 }
-                _links.add(linkTo(methodOn(AccountApiController.class).getUser(account.getId(), null)).withRel("getUser").withType("GET"));
+                _links.add(linkTo(methodOn(AccountApiController.class).getUser(account.getId(), null, null)).withRel("getUser").withType("GET"));
                 _links.add(linkTo(methodOn(AccountApiController.class).updateUser(account.getId(), null, null, null)).withRel("updateUser").withType("PATCH"));
                 _links.add(linkTo(methodOn(AccountApiController.class).mergeUser(account.getId(), null, null, null)).withRel("mergeUser").withType("PUT"));
                 _links.add(linkTo(methodOn(AccountApiController.class).deleteUser(account.getId(), null)).withRel("deleteUser").withType("DELETE"));
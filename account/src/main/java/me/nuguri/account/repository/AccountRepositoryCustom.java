@@ -2,6 +2,7 @@ package me.nuguri.account.repository;
 
 import me.nuguri.account.dto.AccountSearchCondition;
 import me.nuguri.common.entity.Account;
+import me.nuguri.common.support.EntityVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,8 @@ public interface AccountRepositoryCustom {
 
     Optional<Account> findByEmailFetchClients(String email);
 
+    EntityVersion findVersionById(Long id);
+
     long deleteByIdsBatchInQuery(List<Long> ids);
 
 }
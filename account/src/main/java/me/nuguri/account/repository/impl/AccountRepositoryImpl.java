@@ -1,8 +1,9 @@
 package me.nuguri.account.repository.impl;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.dsl.Param;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import me.nuguri.account.dto.AccountSearchCondition;
@@ -11,13 +12,17 @@ import me.nuguri.common.entity.Account;
 import me.nuguri.common.enums.Gender;
 import me.nuguri.common.enums.Roles;
 import me.nuguri.common.exception.NoElementException;
+import me.nuguri.common.support.EntityVersion;
 import me.nuguri.common.support.QuerydslSupportCustom;
+import me.nuguri.common.support.SearchQueryCompiler;
+import me.nuguri.common.support.SearchShape;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,10 +38,27 @@ import static org.springframework.util.StringUtils.hasText;
 @RequiredArgsConstructor
 public class AccountRepositoryImpl extends QuerydslSupportCustom implements AccountRepositoryCustom {
 
+    /** 검색 조건 파라미터, 값은 쿼리 생성 후 바인딩 */
+    private static final Param<String> EMAIL = new Param<>(String.class, "email");
+
+    private static final Param<String> NAME = new Param<>(String.class, "name");
+
+    private static final Param<Gender> GENDER = new Param<>(Gender.class, "gender");
+
+    private static final Param<Roles> ROLES = new Param<>(Roles.class, "roles");
+
+    private static final Param<String> CITY = new Param<>(String.class, "city");
+
+    private static final Param<String> STREET = new Param<>(String.class, "street");
+
+    private static final Param<String> ZIP_CODE = new Param<>(String.class, "zipCode");
+
     private final JPAQueryFactory jpaQueryFactory;
 
+    private final SearchQueryCompiler searchQueryCompiler;
+
     /**
-     * 유저 엔티티 페이지 조회
+     * 유저 엔티티 페이지 조회, 입력 된 검색 조건과 정렬이 같은 요청은 컴파일 된 쿼리 재사용
      *
      * @param condition
      * @param pageable  page 페이지, size 사이즈, sort 정렬
@@ -45,25 +67,22 @@ public class AccountRepositoryImpl extends QuerydslSupportCustom implements Acco
     @Transactional(readOnly = true)
     @Override
     public Page<Account> pageByCondition(AccountSearchCondition condition, Pageable pageable) {
-        JPAQuery<Account> countQuery = jpaQueryFactory
-                .selectFrom(account)
-                .where(
-                        eqEmail(condition.getEmail()),
-                        eqName(condition.getName()),
-                        eqGender(condition.getGender()),
-                        eqRole(condition.getRoles()),
-                        eqCity(condition.getCity()),
-                        eqStreet(condition.getStreet()),
-                        eqZipCode(condition.getZipCode()),
-                        betweenCreated(account, condition.getStartCreated(), condition.getEndCreated()),
-                        betweenUpdated(account, condition.getStartUpdated(), condition.getEndUpdated())
-                );
-        List<Account> content = countQuery
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(getOrderSpecifiers(account, pageable))
-                .fetch();
-        Page<Account> page = PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+        SearchShape shape = shape("account.page", condition).sort(pageable.getSort());
+        List<Account> content = searchQueryCompiler
+                .createQuery(shape, Account.class, () -> jpaQueryFactory
+                        .selectFrom(account)
+                        .where(where(shape))
+                        .orderBy(getOrderSpecifiers(account, pageable)))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        SearchShape countShape = shape("account.count", condition);
+        Page<Account> page = PageableExecutionUtils.getPage(content, pageable, () -> searchQueryCompiler
+                .createQuery(countShape, Long.class, () -> jpaQueryFactory
+                        .select(account.count())
+                        .from(account)
+                        .where(where(countShape)))
+                .getSingleResult());
         if (page.getNumberOfElements() < 1) {
             throw new NoElementException();
         }
@@ -88,6 +107,23 @@ public class AccountRepositoryImpl extends QuerydslSupportCustom implements Acco
         return Optional.ofNullable(result);
     }
 
+    /**
+     * 유저 조건부 요청 검증 값 조회, 엔티티를 조회하지 않고 수정 날짜만 조회
+     *
+     * @param id 식별키
+     * @return 검증 값, 유저가 없거나 수정 날짜가 없는 경우 null
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public EntityVersion findVersionById(Long id) {
+        LocalDateTime updated = jpaQueryFactory
+                .select(account.updated)
+                .from(account)
+                .where(account.id.eq(id))
+                .fetchOne();
+        return EntityVersion.of(id, updated);
+    }
+
     @Override
     public long deleteByIdsBatchInQuery(List<Long> ids) {
         // 삭제 유저 엔티티와 연관 관계에 있는 엔티티의 식별키 조회
@@ -147,28 +183,42 @@ public class AccountRepositoryImpl extends QuerydslSupportCustom implements Acco
         return account.id.in(ids);
     }
 
-    private BooleanExpression eqCity(String city) {
-        return hasText(city) ? account.address.city.eq(city) : null;
-    }
-
-    private BooleanExpression eqStreet(String street) {
-        return hasText(street) ? account.address.street.eq(street) : null;
-    }
-
-    private BooleanExpression eqZipCode(String zipCode) {
-        return hasText(zipCode) ? account.address.zipCode.eq(zipCode) : null;
-    }
-
-    private BooleanExpression eqRole(Roles roles) {
-        return roles != null ? account.role.eq(roles) : null;
-    }
-
-    private BooleanExpression eqGender(Gender gender) {
-        return gender != null ? account.gender.eq(gender) : null;
+    /**
+     * 입력 된 검색 조건으로 검색 쿼리 형태 생성
+     *
+     * @param name 쿼리 이름
+     * @param condition 검색 조건
+     * @return 검색 쿼리 형태
+     */
+    private SearchShape shape(String name, AccountSearchCondition condition) {
+        return super.shape(name, condition)
+                .param(EMAIL, condition.getEmail())
+                .param(NAME, condition.getName())
+                .param(GENDER, condition.getGender())
+                .param(ROLES, condition.getRoles())
+                .param(CITY, condition.getCity())
+                .param(STREET, condition.getStreet())
+                .param(ZIP_CODE, condition.getZipCode());
     }
 
-    private BooleanExpression eqName(String name) {
-        return hasText(name) ? account.name.eq(name) : null;
+    /**
+     * 검색 쿼리 형태의 검색 조건, 값 대신 파라미터를 사용하므로 형태 별로 처음 한번만 호출
+     *
+     * @param shape 검색 쿼리 형태
+     * @return 입력 되지 않은 조건은 null 인 검색 조건
+     */
+    private Predicate[] where(SearchShape shape) {
+        return new Predicate[]{
+                shape.when(EMAIL, account.email.eq(EMAIL)),
+                shape.when(NAME, account.name.eq(NAME)),
+                shape.when(GENDER, account.gender.eq(GENDER)),
+                shape.when(ROLES, account.role.eq(ROLES)),
+                shape.when(CITY, account.address.city.eq(CITY)),
+                shape.when(STREET, account.address.street.eq(STREET)),
+                shape.when(ZIP_CODE, account.address.zipCode.eq(ZIP_CODE)),
+                betweenCreated(shape, account),
+                betweenUpdated(shape, account)
+        };
     }
 
     private BooleanExpression eqEmail(String email) {
@@ -9,6 +9,7 @@ import me.nuguri.common.entity.Address;
 import me.nuguri.common.enums.Gender;
 import me.nuguri.common.enums.Roles;
 import me.nuguri.common.exception.NoAuthorityException;
+import me.nuguri.common.support.EntityVersion;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -55,16 +56,25 @@ public class AccountService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public Account findById(Long id, AuthenticationAdapter authentication) {
-        Long ownerId = authentication.getId();
-        List<Roles> authorities = authentication.getAuthorities();
-        if (authorities.stream().noneMatch(r -> r.equals(Roles.ADMIN)) && !id.equals(ownerId)) {
-            throw new NoAuthorityException();
-        }
+        checkAuthority(id, authentication);
         return accountRepository
                 .findById(id)
                 .orElseThrow(EntityNotFoundException::new);
     }
 
+    /**
+     * 유저 조건부 요청 검증 값 조회, 조회와 같은 권한 확인 후 수정 날짜만 조회
+     *
+     * @param id             식별키
+     * @param authentication 토큰 정보
+     * @return 검증 값, 없는 경우 null
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion findVersion(Long id, AuthenticationAdapter authentication) {
+        checkAuthority(id, authentication);
+        return accountRepository.findVersionById(id);
+    }
+
     /**
      * 유저 엔티티 생성, 입력 받은 파라미터 값으로 생성
      *
@@ -147,4 +157,18 @@ public class AccountService implements UserDetailsService {
         accountRepository.delete(account);
     }
 
+    /**
+     * 관리자 권한이거나 리소스 소유자인지 확인
+     *
+     * @param id             식별키
+     * @param authentication 토큰 정보
+     */
+    private void checkAuthority(Long id, AuthenticationAdapter authentication) {
+        Long ownerId = authentication.getId();
+        List<Roles> authorities = authentication.getAuthorities();
+        if (authorities.stream().noneMatch(r -> r.equals(Roles.ADMIN)) && !id.equals(ownerId)) {
+            throw new NoAuthorityException();
+        }
+    }
+
 }
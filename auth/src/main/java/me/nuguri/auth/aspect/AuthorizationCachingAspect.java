@@ -1,24 +1,61 @@
 package me.nuguri.auth.aspect;
 
-import lombok.RequiredArgsConstructor;
+import me.nuguri.auth.property.RedisCacheProperties;
 import me.nuguri.auth.service.RedisService;
+import me.nuguri.auth.support.CircuitBreaker;
+import me.nuguri.auth.support.LocalCache;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.oauth2.provider.ClientDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 트랜잭션 어드바이스보다 먼저 실행해서 캐시 적중 시 트랜잭션을 시작하지 않고, 서킷이 열린 동안 DB 조회 트랜잭션 제한 시간 적용
+ */
 @Aspect
 @Component
-@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class AuthorizationCachingAspect {
 
     private final RedisService redisService;
 
+    private final CircuitBreaker redisCircuitBreaker;
+
+    private final RedisCacheProperties properties;
+
+    /** 레디스 장애 시 사용하는 프로세스 내부 캐시 */
+    private final LocalCache<String, ClientDetails> localCache;
+
+    /** 서킷이 열린 동안 DB 조회 트랜잭션, 레디스 장애로 DB 에 몰리는 조회가 오래 대기하지 않도록 제한 시간 설정 */
+    private final TransactionTemplate fallbackTransactionTemplate;
+
+    public AuthorizationCachingAspect(RedisService redisService, CircuitBreaker redisCircuitBreaker, RedisCacheProperties properties,
+                                      PlatformTransactionManager transactionManager) {
+        this.redisService = redisService;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.properties = properties;
+        this.localCache = new LocalCache<>(properties.getLocalTtl(), properties.getLocalMaxSize());
+        this.fallbackTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.fallbackTransactionTemplate.setReadOnly(true);
+        this.fallbackTransactionTemplate.setTimeout(properties.getFallbackTimeoutSecond());
+    }
+
     /**
      * 인증 토큰 발급 시, 반복적으로 발생하는 loadClientByClientId 메소드의 반환 데이터를 캐싱해서 사용
      * 레디스 캐싱을 사용하지 않는 경우, 토큰 발급 시 loadByClientId 7번, loadByUsername 1번 수행 => 총 8 조회 쿼리 발생
      * 레디스 캐싱을 사용하지 않는 경우, 토큰 검사 시 loadByClientId 2번, 총 2 조회 쿼리 발생
+     * 레디스 호출은 서킷 브레이커로 보호하며 장애로 서킷이 열린 동안에는 레디스를 호출하지 않고 로컬 캐시, DB 순서로 조회
+     * 서킷이 열린 동안 DB 조회는 제한 시간이 있는 트랜잭션에서 실행, 제한 시간을 넘기면 쿼리 타임아웃으로 실패
      *
      * @param joinPoint AOP 적용 조인 포인트
      * @return
@@ -27,19 +64,97 @@ public class AuthorizationCachingAspect {
     @Around("execution(* me.nuguri.auth.service.AuthorizationService.loadClientByClientId(String))")
     public Object caching(ProceedingJoinPoint joinPoint) throws Throwable {
         String clientId = (String) joinPoint.getArgs()[0];
-        ClientDetails clientDetails = (ClientDetails) redisService.get(clientId);
-        if (clientDetails == null) {
-            Object proceed = joinPoint.proceed();
-            clientDetails = (ClientDetails) proceed;
-            if (clientDetails != null) {
-//                redisService.set(clientId, clientDetails, cachingSecond);
-                redisService.set(clientId, clientDetails);
-            }
-            return clientDetails;
-        } else {
+        ClientDetails clientDetails = redisCircuitBreaker.execute(
+                () -> (ClientDetails) redisService.get(clientId),
+                () -> localCache.get(clientId));
+        if (clientDetails != null) {
+            localCache.put(clientId, clientDetails);
             return clientDetails;
         }
+        clientDetails = (ClientDetails) load(joinPoint, joinPoint.getArgs());
+        if (clientDetails != null) {
+            ClientDetails loaded = clientDetails;
+            localCache.put(clientId, loaded);
+            redisCircuitBreaker.execute(() -> {
+                redisService.set(clientId, loaded, properties.getExpireSecond());
+                return null;
+            }, () -> null);
+        }
+        return clientDetails;
     }
 
+    /**
+     * 여러 클라이언트 정보 조회 시 레디스에서 한번에 조회(MGET)하고 캐시에 없는 클라이언트만 DB 에서 조회
+     * DB 에서 조회한 클라이언트 정보는 만료 시간과 함께 파이프라인으로 한번에 레디스에 저장
+     * 레디스 호출은 단건 조회와 같은 서킷 브레이커로 보호하며 서킷이 열린 동안에는 로컬 캐시, DB 순서로 조회
+     *
+     * @param joinPoint AOP 적용 조인 포인트
+     * @return
+     * @throws Throwable
+     */
+    @Around("execution(* me.nuguri.auth.service.AuthorizationService.loadClientsByClientIds(java.util.Collection))")
+    @SuppressWarnings("unchecked")
+    public Object cachingAll(ProceedingJoinPoint joinPoint) throws Throwable {
+        List<String> clientIds = new ArrayList<>((Collection<String>) joinPoint.getArgs()[0]);
+        List<?> cached = redisCircuitBreaker.execute(
+                () -> redisService.multiGet(clientIds),
+                () -> clientIds.stream().map(localCache::get).collect(toList()));
+        Map<String, ClientDetails> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < clientIds.size(); i++) {
+            ClientDetails clientDetails = (ClientDetails) cached.get(i);
+            if (clientDetails == null) {
+                missing.add(clientIds.get(i));
+                continue;
+            }
+            localCache.put(clientIds.get(i), clientDetails);
+            found.put(clientIds.get(i), clientDetails);
+        }
+        if (!missing.isEmpty()) {
+            Map<String, Object> loaded = new HashMap<>();
+            for (ClientDetails clientDetails : (List<ClientDetails>) load(joinPoint, new Object[]{missing})) {
+                localCache.put(clientDetails.getClientId(), clientDetails);
+                found.put(clientDetails.getClientId(), clientDetails);
+                loaded.put(clientDetails.getClientId(), clientDetails);
+            }
+            redisCircuitBreaker.execute(() -> {
+                redisService.multiSet(loaded, properties.getExpireSecond());
+                return null;
+            }, () -> null);
+        }
+        return clientIds
+                .stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    /**
+     * DB 조회, 서킷이 닫혀 있으면 그대로 호출하고 열려 있으면 제한 시간이 있는 읽기 전용 트랜잭션에서 호출
+     * 이미 트랜잭션 안에서 호출 된 경우 바깥 트랜잭션에 참여하므로 바깥 트랜잭션 제한 시간을 따름
+     *
+     * @param joinPoint AOP 적용 조인 포인트
+     * @param args 호출 인자
+     * @return 조회 결과
+     * @throws Throwable
+     */
+    private Object load(ProceedingJoinPoint joinPoint, Object[] args) throws Throwable {
+        if (redisCircuitBreaker.getState() == CircuitBreaker.State.CLOSED) {
+            return joinPoint.proceed(args);
+        }
+        try {
+            return fallbackTransactionTemplate.execute(status -> {
+                try {
+                    return joinPoint.proceed(args);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            });
+        } catch (UndeclaredThrowableException e) {
+            throw e.getUndeclaredThrowable();
+        }
+    }
 
 }
@@ -1,22 +1,34 @@
 package me.nuguri.auth.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import me.nuguri.auth.filter.RateLimitFilter;
+import me.nuguri.auth.property.RateLimitProperties;
+import me.nuguri.auth.service.AuthorizationService;
+import me.nuguri.auth.service.RateLimitService;
+import me.nuguri.auth.support.ClaimsJwtAccessTokenConverter;
 import me.nuguri.common.adapter.AccountAdapter;
 import me.nuguri.common.enums.GrantType;
 import me.nuguri.common.support.EntityInitializer;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
 import org.springframework.security.oauth2.provider.token.TokenEnhancer;
 import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
 import org.springframework.security.oauth2.provider.token.store.KeyStoreKeyFactory;
 
@@ -24,6 +36,7 @@ import javax.persistence.EntityManager;
 import java.security.KeyPair;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableJpaAuditing
@@ -40,13 +53,13 @@ public class ApplicationConfiguration {
     }
 
     @Bean
-    public JwtAccessTokenConverter jwtAccessTokenConverter() {
+    public ClaimsJwtAccessTokenConverter jwtAccessTokenConverter() {
         Resource resource = resourceLoader.getResource("classpath:/oauth2jwt.jks");
         char[] storePass = "oauth2jwt".toCharArray(); // 키스토어 파일 비밀번호
         char[] keyPass = "nuguribom".toCharArray(); // 키 비밀번호
         KeyStoreKeyFactory keyStoreKeyFactory = new KeyStoreKeyFactory(resource, storePass);
         KeyPair keyPair = keyStoreKeyFactory.getKeyPair("nuguri", keyPass); // 키 별칭
-        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        ClaimsJwtAccessTokenConverter jwtAccessTokenConverter = new ClaimsJwtAccessTokenConverter();
         jwtAccessTokenConverter.setKeyPair(keyPair);
         return jwtAccessTokenConverter;
     }
@@ -78,6 +91,53 @@ public class ApplicationConfiguration {
         };
     }
 
+    /**
+     * 토큰 엔드포인트 요청 제한 필터 등록, 시큐리티 필터 체인보다 먼저 실행
+     *
+     * @return
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitService rateLimitService, AuthorizationService authorizationService,
+                                                                   RateLimitProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimitService, authorizationService, properties, objectMapper));
+        registration.setUrlPatterns(properties.getPaths());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+
+    /**
+     * 다건 토큰 검사 병렬 처리 스레드 풀, 대기열이 가득 차면 요청 스레드에서 실행하여 요청 실패 없이 처리 속도만 늦춤
+     * 주입 받는 곳에서 이름으로 지정, 타입으로 주입 받는 곳은 applicationTaskExecutor 사용
+     *
+     * @return
+     */
+    @Bean
+    public ThreadPoolTaskExecutor checkTokenExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("check-token-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 스프링 부트 기본 스레드 풀(MVC 비동기 요청, @Async), 다른 Executor 빈이 있으면 자동 설정이 등록하지 않으므로 같은 설정(spring.task.execution)으로 직접 등록
+     *
+     * @param builder spring.task.execution 설정이 적용 된 빌더
+     * @return
+     */
+    @Lazy
+    @Primary
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
     @Bean
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
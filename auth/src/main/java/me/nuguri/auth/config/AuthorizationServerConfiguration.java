@@ -6,8 +6,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.config.annotation.configurers.ClientDetailsServiceConfigurer;
@@ -18,6 +20,7 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.R
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.client.ClientDetailsUserDetailsService;
 import org.springframework.security.oauth2.provider.error.OAuth2AccessDeniedHandler;
 import org.springframework.security.oauth2.provider.token.TokenEnhancer;
 import org.springframework.security.oauth2.provider.token.TokenEnhancerChain;
@@ -108,6 +111,47 @@ public class AuthorizationServerConfiguration {
 
     }
 
+    @Configuration
+    @Order(-1) // 인증 서버(0), 시큐리티(1) 필터 체인보다 먼저 /oauth/check_tokens url 패턴만 검사
+    @RequiredArgsConstructor
+    public static class CheckTokensSecurityConfiguration extends WebSecurityConfigurerAdapter {
+
+        private final PasswordEncoder passwordEncoder;
+
+        private final AuthorizationService authorizationService;
+
+        /**
+         * 다건 토큰 검사 호출 클라이언트 인증, /oauth/check_token 과 같이 클라이언트 ID, 시크릿으로 인증
+         *
+         * @param auth
+         * @throws Exception
+         */
+        @Override
+        protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+            auth.userDetailsService(new ClientDetailsUserDetailsService(authorizationService)).passwordEncoder(passwordEncoder);
+        }
+
+        /**
+         * 다건 토큰 검사 필터 체인 설정
+         *
+         * @param http
+         * @throws Exception
+         */
+        @Override
+        protected void configure(HttpSecurity http) throws Exception {
+            http
+                    .requestMatchers()
+                    .antMatchers("/oauth/check_tokens")
+                    .and()
+                    .authorizeRequests()
+                    .anyRequest().authenticated();
+            http.httpBasic();
+            http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+            http.csrf().disable();
+        }
+
+    }
+
     @Configuration // TODO 추후 분리할 시간 있으면 분리...
     @EnableGlobalMethodSecurity(prePostEnabled = true) // 애노테이션 기반 권한 검사 사용
     @Order(100) // 시큐리티 필터 체인보다 우선순위를 낮게 하여 우선적으로 시큐리티 필터 체인의 url 패턴으로 검사
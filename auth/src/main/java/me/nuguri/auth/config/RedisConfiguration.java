@@ -1,11 +1,22 @@
 package me.nuguri.auth.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.lettuce.core.ClientOptions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.nuguri.auth.property.RedisCacheProperties;
+import me.nuguri.auth.support.CircuitBreaker;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 import org.springframework.session.web.context.AbstractHttpSessionApplicationInitializer;
 
@@ -13,10 +24,80 @@ import org.springframework.session.web.context.AbstractHttpSessionApplicationIni
 @EnableRedisHttpSession
 public class RedisConfiguration extends AbstractHttpSessionApplicationInitializer {
 
+    /**
+     * 커넥션 풀, 명령어 타임아웃이 적용 된 레디스 커넥션 팩토리
+     * spring.redis.timeout, spring.redis.lettuce.pool.* 설정 사용
+     * 연결이 끊긴 동안에는 명령어를 대기시키지 않고 즉시 실패시켜 서킷 브레이커가 빠르게 동작하도록 함
+     *
+     * @param redisProperties 레디스 설정
+     * @return
+     */
     @Bean
     @Profile("!test")
-    public RedisConnectionFactory redisConnectionFactory(@Value("${spring.redis.host}") String host, @Value("${spring.redis.port}") int port) {
-        return new LettuceConnectionFactory(host, port);
+    public RedisConnectionFactory redisConnectionFactory(RedisProperties redisProperties) {
+        RedisStandaloneConfiguration standaloneConfiguration = new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        standaloneConfiguration.setDatabase(redisProperties.getDatabase());
+        standaloneConfiguration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig(redisProperties.getLettuce().getPool()))
+                .clientOptions(ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .shutdownTimeout(redisProperties.getLettuce().getShutdownTimeout());
+        if (redisProperties.getTimeout() != null) {
+            builder.commandTimeout(redisProperties.getTimeout());
+        }
+        return new LettuceConnectionFactory(standaloneConfiguration, builder.build());
+    }
+
+    /**
+     * 레디스 캐시 호출을 보호하는 서킷 브레이커, 상태는 redis.circuit.state 게이지(0 CLOSED, 1 OPEN, 2 HALF_OPEN)로 노출
+     *
+     * @param properties 레디스 캐시 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return
+     */
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(RedisCacheProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("redis", properties.getFailureThreshold(), properties.getOpenDuration());
+        Gauge.builder("redis.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("name", circuitBreaker.getName())
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+
+    /**
+     * 토큰 엔드포인트 요청 제한 토큰 버킷 Lua 스크립트
+     *
+     * @return
+     */
+    @Bean
+    public RedisScript<Long> tokenBucketScript() {
+        return RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), Long.class);
+    }
+
+    /**
+     * 레디스 커넥션 풀 설정 생성, 설정이 없는 경우 commons-pool 기본 값 사용
+     *
+     * @param pool 커넥션 풀 설정
+     * @return
+     */
+    private GenericObjectPoolConfig<?> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        if (pool == null) {
+            return config;
+        }
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            config.setMaxWaitMillis(pool.getMaxWait().toMillis());
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRunsMillis(pool.getTimeBetweenEvictionRuns().toMillis());
+        }
+        return config;
     }
 
 }
@@ -0,0 +1,137 @@
+package me.nuguri.auth.controller.api;
+
+import lombok.Getter;
+import lombok.Setter;
+import me.nuguri.auth.property.AuthServerConfigProperties;
+import me.nuguri.auth.support.ClaimsJwtAccessTokenConverter;
+import me.nuguri.common.dto.ErrorResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@RestController
+public class CheckTokenApiController {
+
+    private final ClaimsJwtAccessTokenConverter jwtAccessTokenConverter;
+
+    private final ThreadPoolTaskExecutor checkTokenExecutor;
+
+    private final AuthServerConfigProperties properties;
+
+    /**
+     * 기본 스레드 풀(applicationTaskExecutor)이 @Primary 이므로 검사 스레드 풀은 이름으로 주입
+     */
+    public CheckTokenApiController(ClaimsJwtAccessTokenConverter jwtAccessTokenConverter,
+                                   @Qualifier("checkTokenExecutor") ThreadPoolTaskExecutor checkTokenExecutor,
+                                   AuthServerConfigProperties properties) {
+        this.jwtAccessTokenConverter = jwtAccessTokenConverter;
+        this.checkTokenExecutor = checkTokenExecutor;
+        this.properties = properties;
+    }
+
+    /**
+     * 다건 엑세스 토큰 검사, 호출 클라이언트 인증은 요청 당 한번만 수행하고 토큰 검사는 병렬로 수행
+     * 응답 results 는 요청 토큰 순서대로 /oauth/check_token 과 같은 claim 또는 토큰 별 에러
+     * 검사 스레드 풀 대기열이 가득 찬 경우 요청 스레드에서 직접 검사
+     *
+     * @param request tokens 검사 할 엑세스 토큰 목록
+     * @param errors 에러
+     * @return 응답
+     */
+    @PostMapping(value = "/oauth/check_tokens", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> checkTokens(@RequestBody @Valid CheckTokensRequest request, Errors errors) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        if (request.tokens.size() > properties.getCheckTokensMaxSize()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "tokens size must be less than or equal to " + properties.getCheckTokensMaxSize());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        List<CompletableFuture<Map<String, ?>>> futures = request.tokens
+                .stream()
+                .map(token -> CompletableFuture.<Map<String, ?>>supplyAsync(() -> checkToken(token), checkTokenExecutor))
+                .collect(toList());
+        List<Map<String, ?>> results = futures
+                .stream()
+                .map(CompletableFuture::join)
+                .collect(toList());
+        return ResponseEntity.ok(new CheckTokensResponse(results));
+    }
+
+    /**
+     * 엑세스 토큰 하나 검사, 서명 검증은 한번만 수행
+     *
+     * @param value 엑세스 토큰
+     * @return 유효한 경우 토큰 claim, 유효하지 않은 경우 에러
+     */
+    private Map<String, ?> checkToken(String value) {
+        try {
+            Map<String, Object> claims = jwtAccessTokenConverter.decodeClaims(value);
+            OAuth2AccessToken accessToken = jwtAccessTokenConverter.extractAccessToken(value, claims);
+            // 재발급 토큰도 같은 키로 서명되므로 ati claim 으로 구분, /oauth/check_token 과 같이 거부
+            if (jwtAccessTokenConverter.isRefreshToken(accessToken)) {
+                return error("invalid_token", "Encoded token is a refresh token");
+            }
+            if (accessToken.isExpired()) {
+                return error("invalid_token", "Token has expired");
+            }
+            OAuth2Authentication authentication = jwtAccessTokenConverter.extractAuthentication(claims);
+            Map<String, Object> response = new HashMap<>(jwtAccessTokenConverter.convertAccessToken(accessToken, authentication));
+            response.put("active", true);
+            return response;
+        } catch (OAuth2Exception e) {
+            return error(e.getOAuth2ErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            return error("invalid_token", "Token was not recognised");
+        }
+    }
+
+    private Map<String, ?> error(String error, String description) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("active", false);
+        response.put("error", error);
+        response.put("error_description", description);
+        return response;
+    }
+
+    // ==========================================================================================================================================
+    // Domain
+    @Getter
+    @Setter
+    public static class CheckTokensRequest {
+        @NotEmpty
+        private List<String> tokens;
+    }
+
+    @Getter
+    @Setter
+    public static class CheckTokensResponse {
+        private List<Map<String, ?>> results;
+
+        public CheckTokensResponse(List<Map<String, ?>> results) {
+            this.results = results;
+        }
+    }
+    // ==========================================================================================================================================
+
+}
@@ -0,0 +1,124 @@
+package me.nuguri.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nuguri.auth.property.RateLimitProperties;
+import me.nuguri.auth.service.RateLimitService;
+import me.nuguri.auth.support.LocalCache;
+import me.nuguri.auth.support.RateLimit;
+import me.nuguri.common.dto.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.provider.ClientDetailsService;
+import org.springframework.security.oauth2.provider.ClientRegistrationException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 토큰 엔드포인트 IP, 클라이언트 별 요청 제한 필터
+ * 시큐리티 필터 체인보다 먼저 실행되어 클라이언트 시크릿 검증(BCrypt), 토큰 서명 등 비싼 연산 이전에 429 응답
+ * 클라이언트 ID 는 검증 전의 값이므로 IP 제한을 먼저 확인
+ * 클라이언트 별 제한은 Basic 인증 헤더의 클라이언트가 등록 된 경우에만 적용, client_id 파라미터, 등록 되지 않은 클라이언트는 IP 제한만 적용
+ * 임의의 클라이언트 ID 로 요청해도 클라이언트 버킷 키가 늘어나지 않음
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+
+    private final ClientDetailsService clientDetailsService;
+
+    private final ObjectMapper objectMapper;
+
+    private final RateLimit defaultClientLimit;
+
+    private final RateLimit ipLimit;
+
+    /** 클라이언트 별 제한 값 캐시, 존재하지 않는 클라이언트도 빈 값으로 캐싱하여 매 요청 조회 방지 */
+    private final LocalCache<String, Optional<RateLimit>> clientLimits;
+
+    public RateLimitFilter(RateLimitService rateLimitService, ClientDetailsService clientDetailsService,
+                           RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimitService = rateLimitService;
+        this.clientDetailsService = clientDetailsService;
+        this.objectMapper = objectMapper;
+        this.defaultClientLimit = new RateLimit(properties.getClientCapacity(), properties.getClientRefillPerSecond());
+        this.ipLimit = new RateLimit(properties.getIpCapacity(), properties.getIpRefillPerSecond());
+        this.clientLimits = new LocalCache<>(properties.getClientLimitTtl(), properties.getLocalMaxKeys());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!rateLimitService.tryAcquire("ip:" + request.getRemoteAddr(), ipLimit)) {
+            reject(response);
+            return;
+        }
+        String clientId = extractClientId(request);
+        if (StringUtils.hasText(clientId)) {
+            Optional<RateLimit> clientLimit = getClientLimit(clientId);
+            if (clientLimit.isPresent() && !rateLimitService.tryAcquire("client:" + clientId, clientLimit.get())) {
+                reject(response);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 검증 없이 Basic 인증 헤더에서 클라이언트 ID 추출, client_id 파라미터는 사용하지 않음
+     *
+     * @param request
+     * @return 클라이언트 ID, Basic 인증 헤더가 없는 경우 null
+     */
+    private String extractClientId(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            try {
+                String decoded = new String(Base64.getDecoder().decode(header.substring(6).trim()), StandardCharsets.UTF_8);
+                int delimiter = decoded.indexOf(':');
+                return delimiter == -1 ? null : decoded.substring(0, delimiter);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 클라이언트 등록 정보의 요청 제한 값 조회, 클라이언트 조회 실패 시 기본 값
+     *
+     * @param clientId 클라이언트 ID
+     * @return 제한 값, 등록 되지 않은 클라이언트는 빈 값
+     */
+    private Optional<RateLimit> getClientLimit(String clientId) {
+        Optional<RateLimit> limit = clientLimits.get(clientId);
+        if (limit == null) {
+            try {
+                limit = Optional.of(RateLimit.of(clientDetailsService.loadClientByClientId(clientId), defaultClientLimit));
+            } catch (ClientRegistrationException e) {
+                limit = Optional.empty();
+            } catch (RuntimeException e) {
+                return Optional.of(defaultClientLimit);
+            }
+            clientLimits.put(clientId, limit);
+        }
+        return limit;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "too many requests"));
+    }
+
+}
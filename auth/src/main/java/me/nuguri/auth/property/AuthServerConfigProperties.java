@@ -33,4 +33,7 @@ public class AuthServerConfigProperties {
     /** 기본 생성 사용자 비밀번호 */
     private String userPassword;
 
+    /** 다건 토큰 검사 최대 토큰 수 */
+    private int checkTokensMaxSize = 100;
+
 }
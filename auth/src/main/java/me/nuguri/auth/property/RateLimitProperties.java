@@ -0,0 +1,49 @@
+package me.nuguri.auth.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /** 요청 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 요청 제한 적용 경로 */
+    private List<String> paths = new ArrayList<>(Arrays.asList("/oauth/token", "/oauth/check_token", "/oauth/check_tokens"));
+
+    /** 클라이언트 기본 버킷 크기, 클라이언트 등록 정보에 설정이 없는 경우 사용 */
+    private int clientCapacity = 100;
+
+    /** 클라이언트 기본 초당 충전 요청 수, 클라이언트 등록 정보에 설정이 없는 경우 사용 */
+    private double clientRefillPerSecond = 50;
+
+    /** IP 버킷 크기 */
+    private int ipCapacity = 200;
+
+    /** IP 초당 충전 요청 수 */
+    private double ipRefillPerSecond = 100;
+
+    /** 레디스 버킷에서 한 번에 임대해 서버 로컬에서 소비하는 토큰 비율, 0 이면 요청마다 레디스 조회 */
+    private double localShare = 0.2;
+
+    /** 임대 토큰 유효 시간, 지나면 남은 토큰은 버리므로 서버 수와 상관 없이 전체 제한을 넘지 않음 */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    /** 로컬 버킷 최대 키 수 */
+    private int localMaxKeys = 10000;
+
+    /** 클라이언트 제한 값 로컬 캐시 만료 시간 */
+    private Duration clientLimitTtl = Duration.ofSeconds(60);
+
+}
@@ -0,0 +1,37 @@
+package me.nuguri.auth.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.redis-cache")
+@Getter
+@Setter
+public class RedisCacheProperties {
+
+    /** 레디스 캐시 만료 시간(초) */
+    private Long expireSecond = 3600L;
+
+    /** 레디스 장애 대비 로컬 캐시 만료 시간 */
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    /** 로컬 캐시 최대 항목 수 */
+    private int localMaxSize = 1000;
+
+    /** 서킷 브레이커 OPEN 전환 연속 실패 임계치 */
+    private int failureThreshold = 5;
+
+    /** 서킷 브레이커 OPEN 상태 유지 시간, 이후 시험 호출로 복구 확인 */
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    /** 서킷이 열린 동안 DB 조회 트랜잭션 제한 시간(초), 레디스 장애로 몰리는 조회가 커넥션을 오래 점유하지 않도록 짧게 설정 */
+    private int fallbackTimeoutSecond = 1;
+
+    /** 시작 시 전체 클라이언트 정보 레디스 캐시 적재 여부 */
+    private boolean warmUp = true;
+
+}
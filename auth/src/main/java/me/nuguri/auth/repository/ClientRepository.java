@@ -3,6 +3,13 @@ package me.nuguri.auth.repository;
 import me.nuguri.auth.repository.custom.ClientRepositoryCustom;
 import me.nuguri.common.entity.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface ClientRepository extends JpaRepository<Client, Long>, ClientRepositoryCustom {
-}
\ No newline at end of file
+
+    @Query("select c.clientId from Client c")
+    List<String> findAllClientIds();
+
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import me.nuguri.auth.repository.AccountRepository;
 import me.nuguri.auth.repository.ClientRepository;
 import me.nuguri.auth.service.lazy.AuthorizationLazyService;
+import me.nuguri.auth.support.RateLimit;
 import me.nuguri.common.adapter.AccountAdapter;
 import me.nuguri.common.entity.Account;
 import me.nuguri.common.entity.Client;
@@ -20,6 +21,7 @@ import org.springframework.security.oauth2.provider.client.BaseClientDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -103,6 +105,28 @@ public class AuthorizationService implements UserDetailsService, ClientDetailsSe
         clientDetails.setAuthorizedGrantTypes(grantTypes);
         clientDetails.setScope(scopes);
         clientDetails.setAuthorities(authorities);
+        // 토큰 엔드포인트 요청 제한 값, 설정 된 경우에만 포함
+        if (client.getRateLimitCapacity() != null) {
+            clientDetails.addAdditionalInformation(RateLimit.CAPACITY, client.getRateLimitCapacity());
+        }
+        if (client.getRateLimitRefillPerSecond() != null) {
+            clientDetails.addAdditionalInformation(RateLimit.REFILL_PER_SECOND, client.getRateLimitRefillPerSecond());
+        }
         return clientDetails;
     }
+
+    /**
+     * 여러 클라이언트 정보 한번에 조회, 레디스 캐싱 사용 시 캐시에 없는 클라이언트만 DB 에서 조회
+     *
+     * @param clientIds 클라이언트 아이디
+     * @return 클라이언트 정보
+     */
+    @Transactional(readOnly = true)
+    public List<ClientDetails> loadClientsByClientIds(Collection<String> clientIds) {
+        return clientIds
+                .stream()
+                .map(this::loadClientByClientId)
+                .collect(toList());
+    }
+
 }
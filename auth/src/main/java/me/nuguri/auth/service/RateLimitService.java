@@ -0,0 +1,95 @@
+package me.nuguri.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.nuguri.auth.property.RateLimitProperties;
+import me.nuguri.auth.support.CircuitBreaker;
+import me.nuguri.auth.support.LocalTokenBuckets;
+import me.nuguri.auth.support.RateLimit;
+import me.nuguri.auth.support.TokenLeases;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+
+@Service
+public class RateLimitService {
+
+    /** 레디스 버킷 키 접두사 */
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final RedisScript<Long> tokenBucketScript;
+
+    private final CircuitBreaker redisCircuitBreaker;
+
+    private final RateLimitProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    /** 레디스 버킷에서 임대해 레디스 조회 없이 소비하는 토큰 */
+    private final TokenLeases leases;
+
+    /** 레디스 장애 시 전체 제한 값으로 사용하는 서버 로컬 버킷 */
+    private final LocalTokenBuckets localFallback;
+
+    public RateLimitService(StringRedisTemplate stringRedisTemplate, RedisScript<Long> tokenBucketScript,
+                            CircuitBreaker redisCircuitBreaker, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenBucketScript = tokenBucketScript;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.leases = new TokenLeases(properties.getLocalMaxKeys(), properties.getLeaseTtl());
+        this.localFallback = new LocalTokenBuckets(properties.getLocalMaxKeys());
+    }
+
+    /**
+     * 요청 허용 여부 판단
+     * 1. 레디스 버킷에서 임대한 토큰이 남아 있으면 레디스 조회 없이 허용
+     * 2. 임대 토큰을 다 쓴 경우 레디스 토큰 버킷(Lua 스크립트)에서 버킷 크기의 local-share 비율만큼 임대, 하나는 이번 요청에 사용
+     * 3. 레디스 장애로 서킷이 열린 경우 전체 제한 값의 로컬 버킷으로 판단
+     *
+     * @param key 제한 대상 키
+     * @param limit 제한 값
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String key, RateLimit limit) {
+        if (leases.tryConsume(key)) {
+            return count("local", true);
+        }
+        Long granted = redisCircuitBreaker.execute(() -> leaseRedis(key, limit, limit.leaseSize(properties.getLocalShare())), () -> null);
+        if (granted != null) {
+            if (granted < 1) {
+                return count("redis", false);
+            }
+            leases.lease(key, granted - 1);
+            return count("redis", true);
+        }
+        return count("fallback", localFallback.tryConsume(key, limit));
+    }
+
+    /**
+     * 레디스 토큰 버킷에서 토큰 임대 시도
+     *
+     * @param key 제한 대상 키
+     * @param limit 제한 값
+     * @param size 최대 임대 토큰 수
+     * @return 임대한 토큰 수, 0 이면 거부
+     */
+    private Long leaseRedis(String key, RateLimit limit, int size) {
+        Long granted = stringRedisTemplate.execute(tokenBucketScript, Collections.singletonList(KEY_PREFIX + key),
+                String.valueOf(limit.getCapacity()),
+                String.valueOf(limit.getRefillPerSecond()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(size));
+        return granted == null ? 0L : granted;
+    }
+
+    private boolean count(String decision, boolean allowed) {
+        meterRegistry.counter("auth.rate_limit", "decision", decision, "result", allowed ? "allowed" : "rejected").increment();
+        return allowed;
+    }
+
+}
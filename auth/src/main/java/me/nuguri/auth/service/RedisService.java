@@ -1,24 +1,42 @@
 package me.nuguri.auth.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
+    /** 레디스 명령어 지연 시간 메트릭 이름 */
+    public static final String COMMAND_METRIC = "redis.command";
+
     private final RedisTemplate redisTemplate;
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * 레디스 캐시 key, value 저장
      * @param key
      * @param value
      */
     public void set(String key, Object value) {
-        redisTemplate.opsForValue().set(key, value);
+        record("set", () -> {
+            redisTemplate.opsForValue().set(key, value);
+            return null;
+        });
     }
 
     /**
@@ -28,7 +46,10 @@ public class RedisService {
      * @param expireSecond
      */
     public void set(String key, Object value, Long expireSecond) {
-        redisTemplate.opsForValue().set(key, value, expireSecond, TimeUnit.SECONDS);
+        record("set", () -> {
+            redisTemplate.opsForValue().set(key, value, expireSecond, TimeUnit.SECONDS);
+            return null;
+        });
     }
 
     /**
@@ -37,7 +58,78 @@ public class RedisService {
      * @return
      */
     public Object get(String key) {
-        return redisTemplate.opsForValue().get(key);
+        return record("get", () -> redisTemplate.opsForValue().get(key));
+    }
+
+    /**
+     * 레디스 캐시 여러 key 데이터 한번에 추출(MGET), 키 순서대로 반환하며 없는 키는 null
+     * @param keys
+     * @return
+     */
+    public List<Object> multiGet(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return record("mget", () -> redisTemplate.opsForValue().multiGet(keys));
+    }
+
+    /**
+     * 레디스 캐시 여러 key, value 한번에 저장(MSET)
+     * @param values
+     */
+    public void multiSet(Map<String, Object> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        record("mset", () -> {
+            redisTemplate.opsForValue().multiSet(values);
+            return null;
+        });
+    }
+
+    /**
+     * 레디스 캐시 여러 key, value 지정 시간 저장, MSET 은 만료 시간을 지원하지 않으므로 SET EX 명령어들을 파이프라인으로 한번에 전송
+     * @param values
+     * @param expireSecond
+     */
+    public void multiSet(Map<String, Object> values, Long expireSecond) {
+        if (values.isEmpty()) {
+            return;
+        }
+        pipelined("mset.ex", operations ->
+                values.forEach((key, value) -> operations.opsForValue().set(key, value, expireSecond, TimeUnit.SECONDS)));
+    }
+
+    /**
+     * 여러 레디스 명령어를 파이프라인으로 묶어서 한번의 왕복으로 실행
+     * @param command 메트릭 태그로 사용 할 배치 이름
+     * @param commands 파이프라인 내부에서 실행 할 명령어들
+     * @return 명령어 순서대로의 실행 결과
+     */
+    public List<Object> pipelined(String command, Consumer<RedisOperations<String, Object>> commands) {
+        return record(command, () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        }));
+    }
+
+    /**
+     * 레디스 명령어 실행 시간을 명령어 별 타이머로 기록
+     * @param command 명령어 이름
+     * @param execution 실행 할 명령어
+     * @return 명령어 실행 결과
+     */
+    private <T> T record(String command, Supplier<T> execution) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return execution.get();
+        } finally {
+            sample.stop(meterRegistry.timer(COMMAND_METRIC, "command", command));
+        }
     }
 
 }
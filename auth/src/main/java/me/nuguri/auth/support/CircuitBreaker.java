@@ -0,0 +1,117 @@
+package me.nuguri.auth.support;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 외부 저장소 장애 시 호출을 차단하는 서킷 브레이커
+ * CLOSED : 정상 호출, 연속 실패 횟수가 임계치에 도달하면 OPEN
+ * OPEN : 호출하지 않고 즉시 대체 로직 수행, 대기 시간이 지나면 HALF_OPEN
+ * HALF_OPEN : 하나의 요청만 시험 호출, 성공 시 CLOSED 실패 시 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** 서킷 브레이커 이름 */
+    @Getter
+    private final String name;
+
+    /** OPEN 전환 연속 실패 임계치 */
+    private final int failureThreshold;
+
+    /** OPEN 상태 유지 시간 */
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private volatile long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+    }
+
+    /**
+     * 서킷 브레이커 상태에 따라 호출 또는 대체 로직 수행
+     * 호출 중 예외 발생 시 실패로 기록하고 대체 로직 결과 반환
+     * Error 는 실패로 기록한 후 다시 던짐, 기록하지 않으면 시험 호출 중인 HALF_OPEN 상태에서 벗어나지 못함
+     *
+     * @param call 보호 할 호출
+     * @param fallback 호출 불가, 실패 시 대체 로직
+     * @return 호출 또는 대체 로직 결과
+     */
+    public <T> T execute(Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            return fallback.get();
+        }
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            onFailure(e);
+            return fallback.get();
+        } catch (Error e) {
+            onFailure(e);
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    /**
+     * 호출 가능 여부 확인, OPEN 대기 시간이 지난 경우 하나의 요청에만 시험 호출 허용
+     *
+     * @return 호출 가능 여부
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * 호출 성공 기록, 시험 호출 성공 시 CLOSED 전환
+     */
+    public void onSuccess() {
+        failures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("circuit breaker [{}] closed", name);
+        }
+    }
+
+    /**
+     * 호출 실패 기록, 시험 호출 실패 또는 연속 실패 임계치 도달 시 OPEN 전환
+     *
+     * @param e 실패 원인
+     */
+    public void onFailure(Throwable e) {
+        if (state.get() == State.HALF_OPEN || failures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("circuit breaker [{}] opened : {}", name, e.getMessage());
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+}
@@ -0,0 +1,23 @@
+package me.nuguri.auth.support;
+
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.util.Map;
+
+/**
+ * 서명 검증 후 JWT claim 을 외부에서 꺼낼 수 있는 변환기
+ * 토큰 검사 시 서명 검증을 토큰 당 한번만 수행하기 위해 사용
+ */
+public class ClaimsJwtAccessTokenConverter extends JwtAccessTokenConverter {
+
+    /**
+     * 서명 검증 후 claim 추출
+     *
+     * @param token JWT 토큰
+     * @return claim
+     */
+    public Map<String, Object> decodeClaims(String token) {
+        return decode(token);
+    }
+
+}
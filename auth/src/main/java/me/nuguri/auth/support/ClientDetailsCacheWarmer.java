@@ -0,0 +1,39 @@
+package me.nuguri.auth.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.nuguri.auth.property.RedisCacheProperties;
+import me.nuguri.auth.repository.ClientRepository;
+import me.nuguri.auth.service.AuthorizationService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시작 시 전체 클라이언트 정보를 레디스 캐시에 적재
+ * 배포 직후 토큰 요청마다 캐시 실패로 DB 를 조회하지 않도록 한번의 MGET, 파이프라인 저장으로 미리 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientDetailsCacheWarmer {
+
+    private final ClientRepository clientRepository;
+
+    private final AuthorizationService authorizationService;
+
+    private final RedisCacheProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+        List<String> clientIds = clientRepository.findAllClientIds();
+        int loaded = authorizationService.loadClientsByClientIds(clientIds).size();
+        log.info("client details cache warmed up : {} clients", loaded);
+    }
+
+}
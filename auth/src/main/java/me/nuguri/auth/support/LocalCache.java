@@ -0,0 +1,82 @@
+package me.nuguri.auth.support;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 시간, 최대 크기가 있는 프로세스 내부 캐시
+ * 레디스 장애 시 대체 캐시로 사용하기 위한 용도로 최대 크기 초과 시 만료 된 항목을 정리하고 그래도 초과하면 저장하지 않음
+ */
+public class LocalCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /** 항목 만료 시간 */
+    private final long ttlMillis;
+
+    /** 최대 항목 수 */
+    private final int maxSize;
+
+    public LocalCache(Duration ttl, int maxSize) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시 데이터 추출, 만료 된 경우 제거 후 null 반환
+     *
+     * @param key
+     * @return
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 캐시 데이터 저장
+     *
+     * @param key
+     * @param value
+     */
+    public void put(K key, V value) {
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            entries.values().removeIf(entry -> entry.expireAt < now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(key, new Entry<>(value, now + ttlMillis));
+    }
+
+    /**
+     * 캐시 데이터 제거
+     *
+     * @param key
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+
+        private final long expireAt;
+
+        private Entry(V value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+}
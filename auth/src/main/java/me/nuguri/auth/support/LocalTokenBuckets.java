@@ -0,0 +1,86 @@
+package me.nuguri.auth.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키 별 프로세스 내부 토큰 버킷
+ * 최대 키 수 초과 시 가득 찬(오래 요청이 없었던) 버킷을 정리
+ */
+public class LocalTokenBuckets {
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /** 최대 키 수 */
+    private final int maxKeys;
+
+    public LocalTokenBuckets(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 버킷에서 토큰 하나 소비 시도
+     *
+     * @param key 버킷 키
+     * @param limit 제한 값
+     * @return 소비 성공 여부
+     */
+    public boolean tryConsume(String key, RateLimit limit) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evictIdle();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(limit.getCapacity()));
+        }
+        return bucket.tryConsume(limit, System.nanoTime());
+    }
+
+    /**
+     * 충전이 끝나 가득 찬 버킷 제거, 제거 되어도 다시 가득 찬 상태로 생성되므로 결과는 같음
+     */
+    private void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static class Bucket {
+
+        private double tokens;
+
+        private long refilledAt;
+
+        /** 마지막 사용 제한 값, 버킷이 가득 찼는지 판단 할 때 사용 */
+        private RateLimit limit;
+
+        private Bucket(int capacity) {
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private synchronized boolean tryConsume(RateLimit limit, long now) {
+            this.limit = limit;
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        private synchronized boolean isFull(long now) {
+            if (limit == null) {
+                return false;
+            }
+            refill(now);
+            return tokens >= limit.getCapacity();
+        }
+
+        private void refill(long now) {
+            double elapsedSecond = (now - refilledAt) / 1_000_000_000.0;
+            tokens = Math.min(limit.getCapacity(), tokens + elapsedSecond * limit.getRefillPerSecond());
+            refilledAt = now;
+        }
+
+    }
+
+}
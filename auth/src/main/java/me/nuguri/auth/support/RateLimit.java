@@ -0,0 +1,65 @@
+package me.nuguri.auth.support;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.oauth2.provider.ClientDetails;
+
+import java.util.Map;
+
+/**
+ * 토큰 버킷 요청 제한 값
+ */
+@Getter
+@EqualsAndHashCode
+public class RateLimit {
+
+    /** 클라이언트 정보 추가 정보 버킷 크기 키 */
+    public static final String CAPACITY = "rate_limit_capacity";
+
+    /** 클라이언트 정보 추가 정보 초당 충전 수 키 */
+    public static final String REFILL_PER_SECOND = "rate_limit_refill_per_second";
+
+    /** 버킷 크기, 순간 최대 요청 수 */
+    private final int capacity;
+
+    /** 초당 충전 요청 수 */
+    private final double refillPerSecond;
+
+    public RateLimit(int capacity, double refillPerSecond) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive : " + capacity);
+        }
+        if (!(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("refillPerSecond must be positive : " + refillPerSecond);
+        }
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    /**
+     * 레디스 버킷에서 한 번에 임대 할 토큰 수, 버킷 크기의 일부 비율이며 최소 1
+     *
+     * @param ratio 비율
+     * @return
+     */
+    public int leaseSize(double ratio) {
+        return Math.max(1, (int) (capacity * ratio));
+    }
+
+    /**
+     * 클라이언트 등록 정보에 설정 된 요청 제한 값 추출, 설정이 없거나 0 이하인 경우 기본 값 사용
+     *
+     * @param clientDetails 클라이언트 정보
+     * @param defaultLimit 기본 제한 값
+     * @return
+     */
+    public static RateLimit of(ClientDetails clientDetails, RateLimit defaultLimit) {
+        Map<String, Object> info = clientDetails.getAdditionalInformation();
+        Object capacity = info.get(CAPACITY);
+        Object refill = info.get(REFILL_PER_SECOND);
+        return new RateLimit(
+                capacity instanceof Number && ((Number) capacity).intValue() > 0 ? ((Number) capacity).intValue() : defaultLimit.getCapacity(),
+                refill instanceof Number && ((Number) refill).doubleValue() > 0 ? ((Number) refill).doubleValue() : defaultLimit.getRefillPerSecond());
+    }
+
+}
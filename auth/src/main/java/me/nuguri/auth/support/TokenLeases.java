@@ -0,0 +1,89 @@
+package me.nuguri.auth.support;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키 별 레디스 버킷에서 임대한 토큰, 임대 토큰이 남아 있는 동안은 레디스 조회 없이 허용
+ * 임대 토큰은 레디스 버킷에서 이미 차감 된 것이므로 서버가 여러 대여도 전체 허용 수는 레디스 버킷 제한을 넘지 않음
+ * 유효 시간이 지난 임대 토큰은 버리고, 새로 임대하면 남은 토큰을 버리고 교체
+ */
+public class TokenLeases {
+
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    /** 최대 키 수 */
+    private final int maxKeys;
+
+    /** 임대 토큰 유효 시간 */
+    private final long ttlNanos;
+
+    public TokenLeases(int maxKeys, Duration ttl) {
+        this.maxKeys = maxKeys;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 임대 토큰 하나 소비 시도
+     *
+     * @param key 버킷 키
+     * @return 소비 성공 여부, 임대 토큰이 없거나 만료 된 경우 false
+     */
+    public boolean tryConsume(String key) {
+        Lease lease = leases.get(key);
+        return lease != null && lease.tryConsume(System.nanoTime());
+    }
+
+    /**
+     * 레디스 버킷에서 임대한 토큰 저장
+     *
+     * @param key 버킷 키
+     * @param tokens 임대 토큰 수
+     */
+    public void lease(String key, long tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (leases.size() >= maxKeys && !leases.containsKey(key)) {
+            leases.values().removeIf(lease -> lease.isExpired(now));
+            if (leases.size() >= maxKeys) {
+                return;
+            }
+        }
+        leases.put(key, new Lease(tokens, now + ttlNanos));
+    }
+
+    private static class Lease {
+
+        private final AtomicLong remaining;
+
+        private final long expireAt;
+
+        private Lease(long tokens, long expireAt) {
+            this.remaining = new AtomicLong(tokens);
+            this.expireAt = expireAt;
+        }
+
+        private boolean tryConsume(long now) {
+            if (isExpired(now)) {
+                return false;
+            }
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expireAt > 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+-- 토큰 버킷 요청 제한, 충전과 임대를 하나의 스크립트로 원자적으로 수행
+-- KEYS[1] : 버킷 키
+-- ARGV[1] : 버킷 크기, ARGV[2] : 초당 충전 수, ARGV[3] : 현재 시간(ms), ARGV[4] : 최대 임대 토큰 수
+-- 반환 : 임대한 토큰 수, 남은 토큰이 최대 임대 수보다 적으면 남은 만큼만 임대, 0 이면 거부
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local requested = tonumber(ARGV[4])
+
+-- 충전 속도가 0 이하면 만료 시간 계산이 무한대가 되어 PEXPIRE 가 실패하므로 거부
+if capacity == nil or capacity < 1 or rate == nil or rate <= 0 then
+    return redis.error_reply('invalid rate limit, capacity : ' .. tostring(ARGV[1]) .. ', refill : ' .. tostring(ARGV[2]))
+end
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local granted = math.max(0, math.min(math.floor(tokens), requested))
+tokens = tokens - granted
+
+redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- 버킷이 가득 찰 때까지 요청이 없으면 키 만료
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000) + 1000)
+return granted
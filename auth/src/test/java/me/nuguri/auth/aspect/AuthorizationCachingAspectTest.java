@@ -0,0 +1,139 @@
+package me.nuguri.auth.aspect;
+
+import me.nuguri.auth.common.BaseIntegrationTest;
+import me.nuguri.auth.property.RedisCacheProperties;
+import me.nuguri.auth.service.AuthorizationService;
+import me.nuguri.auth.service.RedisService;
+import me.nuguri.auth.support.CircuitBreaker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.oauth2.provider.ClientDetails;
+import org.springframework.security.oauth2.provider.client.BaseClientDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("클라이언트 정보 레디스 캐싱 서킷 브레이커 테스트")
+public class AuthorizationCachingAspectTest extends BaseIntegrationTest {
+
+    @Autowired
+    AuthorizationService authorizationService;
+
+    @Autowired
+    CircuitBreaker redisCircuitBreaker;
+
+    @Autowired
+    RedisCacheProperties redisCacheProperties;
+
+    @Autowired
+    RedisServer redisServer;
+
+    @Autowired
+    RedisService redisService;
+
+    @Autowired
+    RedisTemplate<Object, Object> redisTemplate;
+
+    @AfterEach
+    public void afterEach() {
+        if (!redisServer.isActive()) {
+            redisServer.start();
+        }
+    }
+
+    @Test
+    @DisplayName("레디스 중지 시 서킷이 열리고 로컬 캐시, DB 로 조회하다가 레디스 재시작 후 시험 호출로 복구되는 경우")
+    public void loadClientByClientId_RedisStopped_CircuitOpenAndRecover() throws Exception {
+        String clientId = properties.getClientId();
+        assertEquals(clientId, authorizationService.loadClientByClientId(clientId).getClientId());
+        assertEquals(CircuitBreaker.State.CLOSED, redisCircuitBreaker.getState());
+
+        redisServer.stop();
+
+        for (int i = 0; i < redisCacheProperties.getFailureThreshold(); i++) {
+            ClientDetails clientDetails = authorizationService.loadClientByClientId(clientId);
+            assertEquals(clientId, clientDetails.getClientId());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, redisCircuitBreaker.getState());
+
+        // 서킷이 열린 동안 로컬 캐시에 없는 클라이언트는 DB 에서 조회
+        assertEquals("test", authorizationService.loadClientByClientId("test").getClientId());
+        assertEquals(CircuitBreaker.State.OPEN, redisCircuitBreaker.getState());
+
+        redisServer.start();
+
+        // 레디스 클라이언트 재연결 지연이 있으므로 시험 호출이 성공 할 때까지 대기
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (redisCircuitBreaker.getState() != CircuitBreaker.State.CLOSED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(redisCacheProperties.getOpenDuration().toMillis());
+            assertEquals(clientId, authorizationService.loadClientByClientId(clientId).getClientId());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, redisCircuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("여러 클라이언트 조회 시 캐시에 없는 클라이언트만 DB 에서 조회하고 만료 시간과 함께 레디스에 한번에 저장하는 경우")
+    public void loadClientsByClientIds_Missing_FilledWithExpire() {
+        String clientId = properties.getClientId();
+        List<String> clientIds = Arrays.asList(clientId, "test");
+        redisTemplate.delete(Arrays.<Object>asList(clientId, "test"));
+        assertNull(redisService.get(clientId));
+
+        List<ClientDetails> clients = authorizationService.loadClientsByClientIds(clientIds);
+
+        assertEquals(clientIds, clients.stream().map(ClientDetails::getClientId).collect(toList()));
+        List<Object> cached = redisService.multiGet(clientIds);
+        assertEquals(clientId, ((ClientDetails) cached.get(0)).getClientId());
+        assertEquals("test", ((ClientDetails) cached.get(1)).getClientId());
+        Long expire = redisTemplate.getExpire(clientId);
+        assertTrue(expire > 0 && expire <= redisCacheProperties.getExpireSecond());
+
+        // 모두 캐시 된 이후에는 레디스 조회 결과로 응답
+        assertEquals(clientIds, authorizationService.loadClientsByClientIds(clientIds)
+                .stream().map(ClientDetails::getClientId).collect(toList()));
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 동안 로컬 캐시에 없는 클라이언트는 제한 시간이 있는 읽기 전용 트랜잭션에서 DB 조회하는 경우")
+    public void caching_CircuitOpen_LoadedWithTimeout() throws Throwable {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1));
+        AuthorizationCachingAspect aspect = new AuthorizationCachingAspect(
+                mock(RedisService.class), circuitBreaker, redisCacheProperties, transactionManager);
+        ClientDetails clientDetails = new BaseClientDetails("open", null, null, null, null);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"open"});
+        when(joinPoint.proceed(any(Object[].class))).thenReturn(clientDetails);
+
+        // 서킷이 닫혀 있으면 호출한 곳의 트랜잭션 설정 사용
+        assertSame(clientDetails, aspect.caching(joinPoint));
+        verify(transactionManager, never()).getTransaction(any());
+
+        circuitBreaker.onFailure(new IllegalStateException("redis down"));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"other"});
+        assertSame(clientDetails, aspect.caching(joinPoint));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(redisCacheProperties.getFallbackTimeoutSecond(), definition.getValue().getTimeout());
+        verify(transactionManager).commit(any());
+    }
+
+}
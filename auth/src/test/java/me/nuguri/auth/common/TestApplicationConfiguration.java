@@ -1,16 +1,18 @@
 package me.nuguri.auth.common;
 
+import io.lettuce.core.ClientOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.restdocs.RestDocsMockMvcConfigurationCustomizer;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.util.SocketUtils;
 import redis.embedded.RedisServer;
 
-import javax.annotation.PostConstruct;
-import javax.annotation.PreDestroy;
+import java.time.Duration;
 
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
 
@@ -20,8 +22,6 @@ public class TestApplicationConfiguration {
     /** 임베디드 Redis 사용 시 사용 중이지 않는 포트 사용  */
     private int port = SocketUtils.findAvailableTcpPort();
 
-    private RedisServer redisServer = new RedisServer(port);
-
     @Bean
     public RestDocsMockMvcConfigurationCustomizer restDocsMockMvcConfigurationCustomizer() {
         return configurer -> configurer
@@ -30,19 +30,25 @@ public class TestApplicationConfiguration {
                 .withRequestDefaults(prettyPrint());
     }
 
-    @Bean
-    public RedisConnectionFactory redisConnectionFactory(@Value("${spring.redis.host}") String host) {
-        return new LettuceConnectionFactory(host, port);
-    }
-
-    @PostConstruct
-    public void postConstruct() {
+    /**
+     * 임베디드 Redis 서버, 장애 테스트에서 중지, 재시작 할 수 있도록 빈으로 등록
+     */
+    @Bean(destroyMethod = "stop")
+    public RedisServer redisServer() {
+        RedisServer redisServer = new RedisServer(port);
         redisServer.start();
+        return redisServer;
     }
 
-    @PreDestroy
-    public void preDestroy() {
-        redisServer.stop();
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory(@Value("${spring.redis.host}") String host, RedisServer redisServer) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(500))
+                .clientOptions(ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
     }
 
 }
@@ -4,14 +4,22 @@ import me.nuguri.auth.common.BaseIntegrationTest;
 import me.nuguri.common.enums.GrantType;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.json.JacksonJsonParser;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -32,6 +40,13 @@ public class AuthorizationServerConfigurationTest extends BaseIntegrationTest {
     @Autowired
     AuthenticationManager authenticationManager;
 
+    @Autowired
+    @Qualifier("checkTokenExecutor")
+    ThreadPoolTaskExecutor checkTokenExecutor;
+
+    @Autowired
+    ThreadPoolTaskExecutor applicationTaskExecutor;
+
     @Test
     @DisplayName("인증 서버 엑세스 토큰 유효한 경우")
     public void checkAccessToken_Success_200() throws Exception {
@@ -74,6 +89,74 @@ public class AuthorizationServerConfigurationTest extends BaseIntegrationTest {
                 );
     }
 
+    @Test
+    @DisplayName("인증 서버 다건 엑세스 토큰 검사 유효, 유효하지 않은 토큰이 함께 있는 경우")
+    public void checkAccessTokens_Success_200() throws Exception {
+        String accessToken = getAccessToken(properties.getAdminEmail(), properties.getAdminPassword(), properties.getClientId(), properties.getClientSecret());
+        Map<String, Object> request = new HashMap<>();
+        request.put("tokens", Arrays.asList(accessToken, "invalid token"));
+        mockMvc.perform(post("/oauth/check_tokens")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("results[0].active").value(true))
+                .andExpect(jsonPath("results[0].client_id").value(properties.getClientId()))
+                .andExpect(jsonPath("results[0].id").exists())
+                .andExpect(jsonPath("results[1].active").value(false))
+                .andExpect(jsonPath("results[1].error").value("invalid_token"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("인증 서버 다건 엑세스 토큰 검사 재발급 토큰은 유효하지 않은 토큰으로 응답하는 경우")
+    public void checkAccessTokens_RefreshToken_Inactive() throws Exception {
+        String refreshToken = (String) new JacksonJsonParser()
+                .parseMap(getAccessTokenPasswordGrantTypeResponse(properties.getAdminEmail(), properties.getAdminPassword())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .get("refresh_token");
+        Map<String, Object> request = new HashMap<>();
+        request.put("tokens", Arrays.asList(refreshToken));
+        mockMvc.perform(post("/oauth/check_tokens")
+                .with(httpBasic(properties.getClientId(), properties.getClientSecret()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("results[0].active").value(false))
+                .andExpect(jsonPath("results[0].error").value("invalid_token"))
+                .andExpect(jsonPath("results[0].authorities").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("인증 서버 다건 엑세스 토큰 검사 스레드 풀 대기열이 가득 찬 경우 요청 실패 없이 요청 스레드에서 검사")
+    public void checkTokenExecutor_QueueFull_CallerRuns() {
+        assertThat(checkTokenExecutor.getThreadPoolExecutor().getRejectedExecutionHandler())
+                .isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+    }
+
+    @Test
+    @DisplayName("다건 엑세스 토큰 검사 스레드 풀과 별도로 스프링 부트 기본 스레드 풀이 타입 주입 기본 값으로 등록 되는 경우")
+    public void applicationTaskExecutor_Primary() {
+        assertThat(applicationTaskExecutor).isNotSameAs(checkTokenExecutor);
+        assertThat(applicationTaskExecutor.getThreadNamePrefix()).isEqualTo("task-");
+    }
+
+    @Test
+    @DisplayName("인증 서버 다건 엑세스 토큰 검사 클라이언트 인증 실패하는 경우")
+    public void checkAccessTokens_Unauthorized_401() throws Exception {
+        Map<String, Object> request = new HashMap<>();
+        request.put("tokens", Arrays.asList("token"));
+        mockMvc.perform(post("/oauth/check_tokens")
+                .with(httpBasic(properties.getClientId(), "wrong secret"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("인증 서버 엑세스 토큰 유효하지 않는 경우")
     public void checkAccessToken_Invalid_AccessToken_400() throws Exception {
@@ -0,0 +1,129 @@
+package me.nuguri.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nuguri.auth.property.RateLimitProperties;
+import me.nuguri.auth.service.RateLimitService;
+import me.nuguri.auth.support.RateLimit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.provider.ClientDetailsService;
+import org.springframework.security.oauth2.provider.NoSuchClientException;
+import org.springframework.security.oauth2.provider.client.BaseClientDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("토큰 엔드포인트 요청 제한 필터 테스트")
+public class RateLimitFilterTest {
+
+    private RateLimitService rateLimitService;
+
+    private ClientDetailsService clientDetailsService;
+
+    private RateLimitProperties properties;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    public void beforeEach() {
+        rateLimitService = mock(RateLimitService.class);
+        clientDetailsService = mock(ClientDetailsService.class);
+        properties = new RateLimitProperties();
+        rateLimitFilter = new RateLimitFilter(rateLimitService, clientDetailsService, properties, new ObjectMapper());
+        when(rateLimitService.tryAcquire(anyString(), any(RateLimit.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("client_id 파라미터는 클라이언트 조회 없이 IP 제한만 적용")
+    public void doFilter_ClientIdParameter_IpLimitOnly() throws Exception {
+        MockHttpServletRequest request = tokenRequest();
+        request.setParameter("client_id", "random-client");
+
+        MockFilterChain filterChain = doFilter(request, new MockHttpServletResponse());
+
+        assertNotNull(filterChain.getRequest());
+        verifyNoInteractions(clientDetailsService);
+        verify(rateLimitService).tryAcquire(eq("ip:127.0.0.1"), any(RateLimit.class));
+        verifyNoMoreInteractions(rateLimitService);
+    }
+
+    @Test
+    @DisplayName("Basic 인증 클라이언트는 등록 정보의 제한 값 적용, 제한 값은 캐싱하여 한번만 조회")
+    public void doFilter_BasicClient_ClientLimit() throws Exception {
+        BaseClientDetails clientDetails = new BaseClientDetails();
+        Map<String, Object> info = new HashMap<>();
+        info.put(RateLimit.CAPACITY, 10);
+        info.put(RateLimit.REFILL_PER_SECOND, 5.0);
+        clientDetails.setAdditionalInformation(info);
+        when(clientDetailsService.loadClientByClientId("nuguri")).thenReturn(clientDetails);
+
+        doFilter(basic(tokenRequest(), "nuguri"), new MockHttpServletResponse());
+        doFilter(basic(tokenRequest(), "nuguri"), new MockHttpServletResponse());
+
+        verify(clientDetailsService, times(1)).loadClientByClientId("nuguri");
+        verify(rateLimitService, times(2)).tryAcquire("client:nuguri", new RateLimit(10, 5.0));
+    }
+
+    @Test
+    @DisplayName("Basic 인증 클라이언트가 등록 되지 않은 경우 클라이언트 버킷 없이 IP 제한만 적용, 조회 결과 캐싱")
+    public void doFilter_UnknownBasicClient_IpLimitOnly() throws Exception {
+        when(clientDetailsService.loadClientByClientId("unknown")).thenThrow(new NoSuchClientException("unknown"));
+
+        MockFilterChain first = doFilter(basic(tokenRequest(), "unknown"), new MockHttpServletResponse());
+        MockFilterChain second = doFilter(basic(tokenRequest(), "unknown"), new MockHttpServletResponse());
+
+        assertNotNull(first.getRequest());
+        assertNotNull(second.getRequest());
+        verify(clientDetailsService, times(1)).loadClientByClientId("unknown");
+        verify(rateLimitService, never()).tryAcquire(eq("client:unknown"), any(RateLimit.class));
+    }
+
+    @Test
+    @DisplayName("요청 제한 초과 시 다음 필터 실행 없이 429 응답")
+    public void doFilter_Rejected_TooManyRequests() throws Exception {
+        when(rateLimitService.tryAcquire(eq("ip:127.0.0.1"), any(RateLimit.class))).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        MockFilterChain filterChain = doFilter(basic(tokenRequest(), "nuguri"), response);
+
+        assertNull(filterChain.getRequest());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        verifyNoInteractions(clientDetailsService);
+    }
+
+    private MockFilterChain doFilter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        MockFilterChain filterChain = new MockFilterChain();
+        rateLimitFilter.doFilter(request, response, filterChain);
+        return filterChain;
+    }
+
+    private MockHttpServletRequest tokenRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/oauth/token");
+        request.setRemoteAddr("127.0.0.1");
+        return request;
+    }
+
+    private MockHttpServletRequest basic(MockHttpServletRequest request, String clientId) {
+        String credentials = Base64.getEncoder().encodeToString((clientId + ":secret").getBytes(StandardCharsets.UTF_8));
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+        return request;
+    }
+
+}
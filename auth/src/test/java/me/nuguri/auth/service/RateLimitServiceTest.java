@@ -0,0 +1,179 @@
+package me.nuguri.auth.service;
+
+import io.lettuce.core.ClientOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.nuguri.auth.property.RateLimitProperties;
+import me.nuguri.auth.support.CircuitBreaker;
+import me.nuguri.auth.support.RateLimit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.SocketUtils;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("토큰 엔드포인트 요청 제한 테스트")
+public class RateLimitServiceTest {
+
+    private static RedisServer redisServer;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private static final RedisScript<Long> tokenBucketScript =
+            RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), Long.class);
+
+    /** 테스트 중 충전 되지 않도록 충전 속도를 아주 낮게 설정 */
+    private final RateLimit limit = new RateLimit(10, 0.001);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    public static void beforeAll() {
+        int port = SocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(500))
+                .clientOptions(ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.flushAll();
+            return null;
+        });
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 거부, 임대 토큰으로 허용한 요청은 레디스 조회 없음")
+    public void tryAcquire_Capacity_AllowThenDeny() {
+        RateLimitService rateLimitService = rateLimitService(0.5, closedCircuitBreaker());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimitService.tryAcquire("ip:1", limit));
+        }
+        assertFalse(rateLimitService.tryAcquire("ip:1", limit));
+        assertTrue(rateLimitService.tryAcquire("ip:2", limit));
+
+        // 임대 크기 5, 키 ip:1 은 두 번 임대 후 한 번 거부, 키 ip:2 는 한 번 임대
+        assertEquals(8, decisions("local", "allowed"));
+        assertEquals(3, decisions("redis", "allowed"));
+        assertEquals(1, decisions("redis", "rejected"));
+    }
+
+    @Test
+    @DisplayName("서버 여러 대가 같은 키로 요청해도 전체 허용 수는 레디스 버킷 크기를 넘지 않음")
+    public void tryAcquire_MultipleInstances_GlobalLimit() {
+        RateLimitService first = rateLimitService(0.3, closedCircuitBreaker());
+        RateLimitService second = rateLimitService(0.3, closedCircuitBreaker());
+        RateLimitService third = rateLimitService(0.3, closedCircuitBreaker());
+
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            for (RateLimitService rateLimitService : new RateLimitService[]{first, second, third}) {
+                if (rateLimitService.tryAcquire("client:nuguri", limit)) {
+                    allowed++;
+                }
+            }
+        }
+
+        assertEquals(limit.getCapacity(), allowed);
+    }
+
+    @Test
+    @DisplayName("임대 토큰이 유효 시간이 지나면 버리고 레디스 버킷에서 다시 확인")
+    public void tryAcquire_LeaseExpired_CheckRedis() throws Exception {
+        RateLimitProperties properties = properties(0.5);
+        properties.setLeaseTtl(Duration.ofMillis(10));
+        RateLimitService rateLimitService = new RateLimitService(stringRedisTemplate, tokenBucketScript,
+                closedCircuitBreaker(), properties, meterRegistry);
+
+        assertTrue(rateLimitService.tryAcquire("ip:1", limit));
+        Thread.sleep(50);
+        assertTrue(rateLimitService.tryAcquire("ip:1", limit));
+
+        assertEquals(2, decisions("redis", "allowed"));
+        assertEquals(0, decisions("local", "allowed"));
+    }
+
+    @Test
+    @DisplayName("레디스 서킷이 열린 경우 전체 제한 값의 로컬 버킷으로 판단")
+    public void tryAcquire_CircuitOpen_LocalFallback() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("redis", 1, Duration.ofMinutes(1));
+        circuitBreaker.onFailure(new IllegalStateException("redis down"));
+        RateLimitService rateLimitService = rateLimitService(0.5, circuitBreaker);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimitService.tryAcquire("ip:1", limit));
+        }
+        assertFalse(rateLimitService.tryAcquire("ip:1", limit));
+
+        assertEquals(10, decisions("fallback", "allowed"));
+        assertEquals(1, decisions("fallback", "rejected"));
+        assertFalse(stringRedisTemplate.hasKey("rate_limit:ip:1"));
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 스크립트는 남은 토큰만큼만 임대, 충전 속도가 0 이하면 오류")
+    public void tokenBucketScript() {
+        String now = String.valueOf(System.currentTimeMillis());
+        assertEquals(3L, executeScript("3", "0.001", now, "4"));
+        assertEquals(0L, executeScript("3", "0.001", now, "1"));
+        assertThrows(RuntimeException.class, () -> executeScript("3", "0", now, "1"));
+        assertThrows(RuntimeException.class, () -> executeScript("0", "1", now, "1"));
+    }
+
+    private Long executeScript(String capacity, String rate, String now, String requested) {
+        return stringRedisTemplate.execute(tokenBucketScript, Collections.singletonList("rate_limit:script"),
+                capacity, rate, now, requested);
+    }
+
+    private RateLimitService rateLimitService(double localShare, CircuitBreaker circuitBreaker) {
+        return new RateLimitService(stringRedisTemplate, tokenBucketScript, circuitBreaker, properties(localShare), meterRegistry);
+    }
+
+    private RateLimitProperties properties(double localShare) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLocalShare(localShare);
+        properties.setLeaseTtl(Duration.ofMinutes(1));
+        return properties;
+    }
+
+    private CircuitBreaker closedCircuitBreaker() {
+        return new CircuitBreaker("redis", 3, Duration.ofSeconds(1));
+    }
+
+    private double decisions(String decision, String result) {
+        return meterRegistry.counter("auth.rate_limit", "decision", decision, "result", result).count();
+    }
+
+}
@@ -0,0 +1,126 @@
+package me.nuguri.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.SocketUtils;
+import redis.embedded.RedisServer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("레디스 배치 명령어 테스트")
+public class RedisServiceTest {
+
+    private static RedisServer redisServer;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static RedisTemplate<Object, Object> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RedisService redisService;
+
+    @BeforeAll
+    public static void beforeAll() {
+        int port = SocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.flushAll();
+            return null;
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        redisService = new RedisService(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("여러 키를 한번에 저장, 조회하면 키 순서대로 반환하고 없는 키는 null 인 경우")
+    public void multiSet_MultiGet_KeyOrder() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("first", "1");
+        values.put("second", 2);
+        redisService.multiSet(values);
+
+        assertEquals(Arrays.asList(2, null, "1"), redisService.multiGet(Arrays.asList("second", "none", "first")));
+        assertEquals(-1L, redisTemplate.getExpire("first"));
+        assertEquals(1, timerCount("mset"));
+        assertEquals(1, timerCount("mget"));
+    }
+
+    @Test
+    @DisplayName("만료 시간과 함께 여러 키를 저장하면 파이프라인 한번으로 모든 키에 만료 시간이 적용 되는 경우")
+    public void multiSet_WithExpire_AllExpire() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("first", "1");
+        values.put("second", "2");
+        redisService.multiSet(values, 60L);
+
+        assertEquals(Arrays.asList("1", "2"), redisService.multiGet(Arrays.asList("first", "second")));
+        for (String key : values.keySet()) {
+            Long expire = redisTemplate.getExpire(key);
+            assertTrue(expire > 0 && expire <= 60);
+        }
+        assertEquals(1, timerCount("mset.ex"));
+    }
+
+    @Test
+    @DisplayName("파이프라인으로 묶은 명령어 결과가 명령어 순서대로 반환 되는 경우")
+    public void pipelined_ResultsInOrder() {
+        redisService.set("counter", "value");
+
+        List<Object> results = redisService.pipelined("batch", operations -> {
+            operations.opsForValue().get("counter");
+            operations.hasKey("none");
+            operations.opsForValue().set("other", "other");
+        });
+
+        assertEquals("value", results.get(0));
+        assertEquals(false, results.get(1));
+        assertEquals("other", redisService.get("other"));
+        assertEquals(1, timerCount("batch"));
+    }
+
+    @Test
+    @DisplayName("빈 키 목록은 레디스를 호출하지 않는 경우")
+    public void multiGet_Empty_NoCommand() {
+        assertTrue(redisService.multiGet(Collections.emptyList()).isEmpty());
+        redisService.multiSet(Collections.emptyMap());
+        redisService.multiSet(Collections.emptyMap(), 60L);
+
+        assertEquals(0, meterRegistry.getMeters().size());
+    }
+
+    private long timerCount(String command) {
+        return meterRegistry.timer(RedisService.COMMAND_METRIC, "command", command).count();
+    }
+
+}
@@ -0,0 +1,62 @@
+package me.nuguri.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("서킷 브레이커 테스트")
+public class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN, 대기 시간 동안 호출하지 않고 대체 로직 수행")
+    public void execute_Failures_OpenAndFallback() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("fallback", circuitBreaker.execute(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("down");
+            }, () -> "fallback"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertEquals("fallback", circuitBreaker.execute(() -> String.valueOf(calls.incrementAndGet()), () -> "fallback"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("시험 호출 중 Error 가 발생하면 다시 OPEN 으로 전환하고 Error 는 그대로 던지는 경우")
+    public void execute_HalfOpenError_ReopenedAndRethrown() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, Duration.ZERO);
+        circuitBreaker.onFailure(new IllegalStateException("down"));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertThrows(StackOverflowError.class, () -> circuitBreaker.execute(() -> {
+            assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+            throw new StackOverflowError();
+        }, () -> "fallback"));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // HALF_OPEN 에 남지 않으므로 다음 시험 호출로 복구
+        assertEquals("ok", circuitBreaker.execute(() -> "ok", () -> "fallback"));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("CLOSED 상태에서 Error 도 연속 실패로 기록하는 경우")
+    public void execute_ClosedError_CountedAsFailure() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1));
+
+        assertThrows(OutOfMemoryError.class, () -> circuitBreaker.execute(() -> {
+            throw new OutOfMemoryError("test");
+        }, () -> "fallback"));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+}
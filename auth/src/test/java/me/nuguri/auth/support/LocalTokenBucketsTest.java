@@ -0,0 +1,39 @@
+package me.nuguri.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("로컬 토큰 버킷 테스트")
+public class LocalTokenBucketsTest {
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 거부, 키 별로 독립된 버킷")
+    public void tryConsume_Capacity_AllowThenDeny() {
+        LocalTokenBuckets buckets = new LocalTokenBuckets(100);
+        RateLimit limit = new RateLimit(3, 0.001);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(buckets.tryConsume("a", limit));
+        }
+        assertFalse(buckets.tryConsume("a", limit));
+        assertTrue(buckets.tryConsume("b", limit));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전 수만큼 다시 허용")
+    public void tryConsume_Refill_AllowAgain() throws Exception {
+        LocalTokenBuckets buckets = new LocalTokenBuckets(100);
+        RateLimit limit = new RateLimit(1, 100);
+
+        assertTrue(buckets.tryConsume("a", limit));
+        assertFalse(buckets.tryConsume("a", limit));
+
+        Thread.sleep(50);
+
+        assertTrue(buckets.tryConsume("a", limit));
+    }
+
+}
@@ -0,0 +1,59 @@
+package me.nuguri.auth.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.provider.client.BaseClientDetails;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("요청 제한 값 테스트")
+public class RateLimitTest {
+
+    private final RateLimit defaultLimit = new RateLimit(100, 50);
+
+    @Test
+    @DisplayName("버킷 크기, 충전 수가 0 이하인 경우 예외")
+    public void constructor_NotPositive_Exception() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(10, -1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(10, Double.NaN));
+    }
+
+    @Test
+    @DisplayName("임대 토큰 수는 버킷 크기의 비율만큼 내림, 최소 1")
+    public void leaseSize() {
+        assertEquals(20, new RateLimit(100, 50).leaseSize(0.2));
+        assertEquals(2, new RateLimit(14, 50).leaseSize(0.2));
+        assertEquals(1, new RateLimit(3, 50).leaseSize(0.2));
+        assertEquals(1, new RateLimit(100, 50).leaseSize(0));
+        assertEquals(100, new RateLimit(100, 50).leaseSize(1));
+    }
+
+    @Test
+    @DisplayName("클라이언트 등록 정보에 제한 값이 있으면 사용, 없거나 0 이하면 기본 값 사용")
+    public void of_ClientDetails() {
+        assertEquals(new RateLimit(10, 5), RateLimit.of(clientDetails(10, 5.0), defaultLimit));
+        assertEquals(defaultLimit, RateLimit.of(clientDetails(null, null), defaultLimit));
+        assertEquals(new RateLimit(10, 50), RateLimit.of(clientDetails(10, 0.0), defaultLimit));
+        assertEquals(new RateLimit(100, 5), RateLimit.of(clientDetails(0, 5.0), defaultLimit));
+    }
+
+    private BaseClientDetails clientDetails(Integer capacity, Double refillPerSecond) {
+        BaseClientDetails clientDetails = new BaseClientDetails();
+        Map<String, Object> info = new HashMap<>();
+        if (capacity != null) {
+            info.put(RateLimit.CAPACITY, capacity);
+        }
+        if (refillPerSecond != null) {
+            info.put(RateLimit.REFILL_PER_SECOND, refillPerSecond);
+        }
+        clientDetails.setAdditionalInformation(info);
+        return clientDetails;
+    }
+
+}
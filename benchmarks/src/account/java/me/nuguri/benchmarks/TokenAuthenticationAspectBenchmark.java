@@ -0,0 +1,137 @@
+package me.nuguri.benchmarks;
+
+import me.nuguri.account.annotation.TokenAuthentication;
+import me.nuguri.account.annotation.TokenAuthenticationUser;
+import me.nuguri.account.aspect.TokenAuthenticationAspect;
+import me.nuguri.common.adapter.AuthenticationAdapter;
+import me.nuguri.common.adapter.CustomUserAuthentication;
+import me.nuguri.common.entity.Account;
+import me.nuguri.common.entity.Address;
+import me.nuguri.common.entity.Authority;
+import me.nuguri.common.enums.Gender;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 인증 정보 파라미터 바인딩 성능, 계정 API 요청 마다 애스펙트가 파라미터를 인증 정보, 계정 엔티티로 교체
+ * 실제 스프링 AOP 프록시로 호출, 계정 조회 쿼리는 미리 만든 계정을 반환하도록 대체해서 바인딩 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenAuthenticationAspectBenchmark {
+
+    private final TokenController target = new TokenController();
+
+    private TokenController proxy;
+
+    private AuthenticationAdapter authenticationAdapter;
+
+    @Setup
+    public void setup() {
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_ADMIN");
+        OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "nuguri", authorities, true,
+                Collections.singleton("read"), Collections.singleton("account"), null, null, null);
+        CustomUserAuthentication userAuthentication = new CustomUserAuthentication(
+                new UsernamePasswordAuthenticationToken("admin@naver.com", null, authorities), 1L);
+        // 인증 정보는 스레드 로컬이므로 측정 스레드에서 설정
+        SecurityContextHolder.getContext().setAuthentication(new OAuth2Authentication(request, userAuthentication));
+
+        Account account = Account.builder()
+                .id(1L)
+                .email("admin@naver.com")
+                .password("1234")
+                .name("관리자")
+                .gender(Gender.M)
+                .address(new Address("경기도 과천시", "부림2길 76 2층", "13830"))
+                .authority(Authority.builder().name("ADMIN").build())
+                .build();
+        authenticationAdapter = new AuthenticationAdapter(userAuthentication);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TokenAuthenticationAspect(loadedAccountEntityManager(account)));
+        proxy = factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 애스펙트 없이 직접 호출, 바인딩 비용 비교 기준
+     */
+    @Benchmark
+    public Object direct() {
+        return target.authentication(authenticationAdapter);
+    }
+
+    @Benchmark
+    public Object tokenAuthentication() {
+        return proxy.authentication(null);
+    }
+
+    @Benchmark
+    public Object tokenAuthenticationUser() {
+        return proxy.user(null);
+    }
+
+    /**
+     * 계정 조회 쿼리 없이 미리 만든 계정을 반환하는 EntityManager
+     */
+    private static EntityManager loadedAccountEntityManager(Account account) {
+        ClassLoader classLoader = TokenAuthenticationAspectBenchmark.class.getClassLoader();
+        TypedQuery<?> query = (TypedQuery<?>) Proxy.newProxyInstance(classLoader, new Class<?>[]{TypedQuery.class},
+                (instance, method, args) -> {
+                    switch (method.getName()) {
+                        case "getSingleResult":
+                            return account;
+                        case "setParameter":
+                        case "setHint":
+                            return instance;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        return (EntityManager) Proxy.newProxyInstance(classLoader, new Class<?>[]{EntityManager.class},
+                (instance, method, args) -> {
+                    if (method.getName().equals("createQuery")) {
+                        return query;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * 계정 API 컨트롤러와 같은 형태의 파라미터를 받는 대상
+     */
+    public static class TokenController {
+
+        public Object authentication(@TokenAuthentication AuthenticationAdapter authentication) {
+            return authentication;
+        }
+
+        public Object user(@TokenAuthenticationUser Account account) {
+            return account;
+        }
+
+    }
+
+}
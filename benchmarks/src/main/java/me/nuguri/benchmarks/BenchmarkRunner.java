@@ -0,0 +1,40 @@
+package me.nuguri.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점, JMH 명령행 옵션을 그대로 받고 결과 형식, 파일만 기본 값 지정
+ * 결과는 커밋 간 비교할 수 있도록 JSON 으로 기록, -rf, -rff 옵션을 주면 해당 값 사용
+ * 예) java -jar benchmarks/target/benchmarks.jar -rff target/jmh-$(git rev-parse --short HEAD).json ClientDetails
+ */
+public class BenchmarkRunner {
+
+    /** 결과 파일 기본 경로 */
+    public static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT);
+        }
+        Runner runner = new Runner(builder.build());
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+
+}
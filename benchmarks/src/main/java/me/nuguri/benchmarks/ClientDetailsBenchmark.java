@@ -0,0 +1,87 @@
+package me.nuguri.benchmarks;
+
+import me.nuguri.auth.service.AuthorizationService;
+import me.nuguri.auth.service.lazy.AuthorizationLazyService;
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.common.enums.GrantType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Scope;
+import org.springframework.security.oauth2.provider.ClientDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 정보 조회 DTO 조립 성능, 토큰 발급, 토큰 검사 요청 마다 실행
+ * 클라이언트 조회는 매핑까지 로딩 된 엔티티를 반환하도록 대체해서 조회 이후 조립 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientDetailsBenchmark {
+
+    private static final String CLIENT_ID = "nuguri";
+
+    private AuthorizationService authorizationService;
+
+    @Setup
+    public void setup() {
+        Authority admin = Authority.builder().name("ADMIN").build();
+        Authority user = Authority.builder().name("USER").build();
+        Account account = Account.builder()
+                .email("admin@naver.com")
+                .password("1234")
+                .name("관리자")
+                .gender(Gender.M)
+                .address(new Address("경기도 과천시", "부림2길 76 2층", "13830"))
+                .authority(admin)
+                .build();
+        Client client = Client.builder()
+                .clientId(CLIENT_ID)
+                .clientSecret("{noop}bom")
+                .rateLimitCapacity(100)
+                .rateLimitRefillPerSecond(10)
+                .account(account)
+                .build();
+        ClientAuthority.builder().client(client).authority(admin).build();
+        ClientAuthority.builder().client(client).authority(user).build();
+        ClientScope.builder().client(client).scope(me.nuguri.common.entity.Scope.builder().name("read").build()).build();
+        ClientScope.builder().client(client).scope(me.nuguri.common.entity.Scope.builder().name("write").build()).build();
+        for (String name : new String[]{"account", "nuguri", "test"}) {
+            ClientResource.builder().client(client).resource(Resource.builder().name(name).build()).build();
+        }
+        for (GrantType grantType : GrantType.values()) {
+            ClientGrantType.builder().client(client).grantType(grantType).build();
+        }
+        ClientRedirectUri.builder().client(client).uri("http://localhost:9600/main").build();
+        authorizationService = new AuthorizationService(null, null, new LoadedClientService(client));
+    }
+
+    @Benchmark
+    public ClientDetails loadClientByClientId() {
+        return authorizationService.loadClientByClientId(CLIENT_ID);
+    }
+
+    /**
+     * 조회 쿼리 없이 미리 만든 클라이언트 반환
+     */
+    private static class LoadedClientService extends AuthorizationLazyService {
+
+        private final Client client;
+
+        LoadedClientService(Client client) {
+            super(null);
+            this.client = client;
+        }
+
+        @Override
+        public Client findByClientIdFetchAndLazy(String clientId) {
+            return client;
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package me.nuguri.benchmarks;
+
+import me.nuguri.common.entity.Creator;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.resc.controller.api.CreatorApiController.GenerateCreatorRequest;
+import me.nuguri.resc.mapper.CreatorMapper;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저자 생성 요청 매핑 성능 비교, 이전 ModelMapper 경로와 생성 된 CreatorMapper 경로
+ * -prof gc 옵션으로 요청 당 할당량 함께 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreatorMapperBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final CreatorMapper creatorMapper = Mappers.getMapper(CreatorMapper.class);
+
+    private GenerateCreatorRequest request;
+
+    @Setup
+    public void setup() {
+        request = new GenerateCreatorRequest();
+        request.setName("Test Creator");
+        request.setGender(Gender.M);
+        request.setBirth(LocalDate.of(1996, 9, 17));
+        request.setDeath(LocalDate.of(2070, 9, 17));
+        // ModelMapper 는 첫 매핑 시 타입 맵을 생성하므로 측정 전 한번 실행
+        modelMapper.map(request, Creator.class);
+    }
+
+    @Benchmark
+    public Creator modelMapper() {
+        return modelMapper.map(request, Creator.class);
+    }
+
+    @Benchmark
+    public Creator creatorMapper() {
+        return creatorMapper.toCreator(request);
+    }
+
+}
@@ -0,0 +1,54 @@
+package me.nuguri.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nuguri.common.dto.BaseResponse;
+import me.nuguri.common.dto.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 값 검증 실패 응답 직렬화 성능, 400 응답 마다 ErrorsSerializer 로 에러 상세 정보 출력
+ * 스프링 부트와 같은 방식으로 생성한 ObjectMapper 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorsSerializerBenchmark {
+
+    /** 필드 에러 수 */
+    @Param({"1", "10"})
+    public int fieldErrors;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setup() {
+        BaseResponse baseResponse = new BaseResponse();
+        baseResponse.setCreated(LocalDateTime.of(2020, 1, 2, 0, 0));
+        baseResponse.setUpdated(LocalDateTime.of(2020, 1, 1, 0, 0));
+        Errors errors = new BeanPropertyBindingResult(baseResponse, "baseResponse");
+        for (int i = 0; i < fieldErrors; i++) {
+            errors.rejectValue(i % 2 == 0 ? "created" : "updated", "wrongDateTime", "created is must be before than updated");
+        }
+        errors.reject("wrongDateTime", "created or updated is wrong");
+        errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, "invalid value", errors);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(errorResponse);
+    }
+
+}
@@ -0,0 +1,80 @@
+package me.nuguri.benchmarks;
+
+import me.nuguri.auth.support.ClaimsJwtAccessTokenConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.store.KeyStoreKeyFactory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 토큰 서명, 검증 성능, 토큰 발급 시 서명, 토큰 검사 시 검증 후 claim, 인증 정보 추출
+ * 인증 서버와 같은 키스토어, 키 쌍(RSA) 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAccessTokenConverterBenchmark {
+
+    private ClaimsJwtAccessTokenConverter converter;
+
+    private OAuth2Authentication authentication;
+
+    private DefaultOAuth2AccessToken accessToken;
+
+    private String jwt;
+
+    @Setup
+    public void setup() throws Exception {
+        KeyStoreKeyFactory keyStoreKeyFactory = new KeyStoreKeyFactory(new ClassPathResource("oauth2jwt.jks"), "oauth2jwt".toCharArray());
+        converter = new ClaimsJwtAccessTokenConverter();
+        converter.setKeyPair(keyStoreKeyFactory.getKeyPair("nuguri", "nuguribom".toCharArray()));
+        converter.afterPropertiesSet();
+
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_ADMIN");
+        OAuth2Request request = new OAuth2Request(Collections.singletonMap("grant_type", "password"), "nuguri", authorities, true,
+                new HashSet<>(Arrays.asList("read", "write")), new HashSet<>(Arrays.asList("account", "nuguri")), null, null, null);
+        authentication = new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken("admin@naver.com", null, authorities));
+
+        accessToken = new DefaultOAuth2AccessToken("00000000-0000-0000-0000-000000000000");
+        // 측정 기간 동안 만료 되지 않도록 고정 만료 시간 사용
+        accessToken.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+        accessToken.setScope(request.getScope());
+        accessToken.setAdditionalInformation(Collections.singletonMap("id", 1L));
+        jwt = converter.enhance(accessToken, authentication).getValue();
+    }
+
+    @Benchmark
+    public String encode() {
+        return converter.enhance(accessToken, authentication).getValue();
+    }
+
+    @Benchmark
+    public Map<String, Object> decode() {
+        return converter.decodeClaims(jwt);
+    }
+
+    /**
+     * 토큰 검사 경로, 서명 검증 한 번으로 인증 토큰, 인증 정보 모두 추출
+     */
+    @Benchmark
+    public void checkToken(Blackhole blackhole) {
+        Map<String, Object> claims = converter.decodeClaims(jwt);
+        OAuth2AccessToken token = converter.extractAccessToken(jwt, claims);
+        blackhole.consume(token);
+        blackhole.consume(converter.extractAuthentication(claims));
+    }
+
+}
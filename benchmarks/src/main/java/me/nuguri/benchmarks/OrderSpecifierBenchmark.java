@@ -0,0 +1,58 @@
+package me.nuguri.benchmarks;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import me.nuguri.common.support.QuerydslSupportCustom;
+import me.nuguri.common.support.SortablePropertyRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.nuguri.common.entity.QCreator.creator;
+
+/**
+ * pageable 정렬 조건의 querydsl 정렬 조건 변환 성능, 정렬 있는 목록 조회 요청 마다 실행
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderSpecifierBenchmark {
+
+    /** 내림차순 정렬 속성, 쉼표로 구분 */
+    @Param({"created", "name,birth,created"})
+    public String properties;
+
+    private final OrderSpecifierSupport support = new OrderSpecifierSupport();
+
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        support.setSortablePropertyRegistry(new SortablePropertyRegistry());
+        pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, properties.split(",")));
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] getOrderSpecifiers() {
+        return support.getOrderSpecifiers(creator, pageable);
+    }
+
+    /**
+     * 저장소 구현체와 같은 경로로 호출하기 위한 하위 클래스
+     */
+    private static class OrderSpecifierSupport extends QuerydslSupportCustom {
+
+        @Override
+        public OrderSpecifier<?>[] getOrderSpecifiers(EntityPathBase<?> entityPathBase, Pageable pageable) {
+            return super.getOrderSpecifiers(entityPathBase, pageable);
+        }
+
+    }
+
+}
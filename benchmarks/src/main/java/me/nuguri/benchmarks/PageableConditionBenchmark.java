@@ -0,0 +1,39 @@
+package me.nuguri.benchmarks;
+
+import me.nuguri.common.dto.PageableCondition;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 조건 값 파싱 성능, 목록 조회 요청 마다 실행
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageableConditionBenchmark {
+
+    /** 정렬 조건, 빈 값은 정렬 없음 */
+    @Param({"", "created", "name,created,desc"})
+    public String sort;
+
+    private PageableCondition condition;
+
+    @Setup
+    public void setup() {
+        condition = new PageableCondition();
+        condition.setPage("3");
+        condition.setSize("20");
+        condition.setSort(sort);
+    }
+
+    @Benchmark
+    public Pageable getPageable() {
+        return condition.getPageable();
+    }
+
+}
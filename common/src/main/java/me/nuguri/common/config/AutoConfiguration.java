@@ -1,18 +1,53 @@
 package me.nuguri.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import me.nuguri.common.support.EntityInitializer;
 import me.nuguri.common.support.PaginationValidator;
+import me.nuguri.common.support.SearchQueryCompiler;
+import me.nuguri.common.support.SortablePropertyRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import javax.persistence.EntityManagerFactory;
+
 @Configuration
 public class AutoConfiguration {
 
+    /**
+     * 정렬 가능 속성 목록, 시작 시 엔티티 메타모델로 한번만 생성
+     *
+     * @param entityManagerFactory
+     * @return
+     */
+    @Bean
+    public SortablePropertyRegistry sortablePropertyRegistry(EntityManagerFactory entityManagerFactory) {
+        return new SortablePropertyRegistry(entityManagerFactory.getMetamodel());
+    }
+
+    @Bean
+    public PaginationValidator paginationValidator(SortablePropertyRegistry sortablePropertyRegistry) {
+        return new PaginationValidator(sortablePropertyRegistry);
+    }
+
+    /**
+     * 동적 검색 쿼리 형태 별 컴파일 캐시
+     *
+     * @param entityManagerFactory
+     * @param meterRegistry
+     * @return
+     */
     @Bean
-    public PaginationValidator paginationValidator() { return new PaginationValidator(); }
+    public SearchQueryCompiler searchQueryCompiler(EntityManagerFactory entityManagerFactory, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SearchQueryCompiler(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                SearchQueryCompiler.DEFAULT_MAX_SIZE, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
 
     @Bean
     @ConditionalOnMissingBean
@@ -25,4 +60,38 @@ public class AutoConfiguration {
         return new EntityInitializer(passwordEncoder());
     }
 
+    /**
+     * Hibernate 2차 캐시, 쿼리 캐시 기본 설정, 서비스 설정(spring.jpa.properties)에 같은 키가 있으면 서비스 설정 사용
+     * 캐시 영역은 ehcache-hibernate.xml, 영역 별 적중, 실패, 저장 수는 통계로 수집해서 hibernate.second.level.cache.* 메트릭으로 노출
+     *
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.cache.use_second_level_cache", true);
+            properties.putIfAbsent("hibernate.cache.use_query_cache", true);
+            properties.putIfAbsent("hibernate.cache.region.factory_class", "jcache");
+            properties.putIfAbsent("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+            properties.putIfAbsent("hibernate.javax.cache.uri", "ehcache-hibernate.xml");
+            properties.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            properties.putIfAbsent("hibernate.generate_statistics", true);
+            // 통계 수집 시 세션 마다 남기는 INFO 로그는 끔
+            properties.putIfAbsent("hibernate.session.events.log", false);
+        };
+    }
+
+    /**
+     * Hibernate 쿼리 계획 캐시 기본 설정, IN 절 파라미터 수를 2의 거듭제곱으로 맞춰서 목록 크기 마다 계획이 생성 되지 않도록 함
+     *
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.query.in_clause_parameter_padding", true);
+            properties.putIfAbsent("hibernate.query.plan_cache_max_size", 2048);
+        };
+    }
+
 }
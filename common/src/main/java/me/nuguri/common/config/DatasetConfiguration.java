@@ -0,0 +1,37 @@
+package me.nuguri.common.config;
+
+import me.nuguri.common.property.DatasetProperties;
+import me.nuguri.common.support.DatasetGenerator;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 부하 테스트용 대량 데이터 생성, common.dataset.enabled 가 true 인 경우에만 등록
+ * 스키마가 만들어진 뒤 서비스 시작 시 한 번 실행, 같은 DB 를 쓰는 서비스 중 하나에서만 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "common.dataset", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DatasetProperties.class)
+public class DatasetConfiguration {
+
+    @Bean
+    public DatasetGenerator datasetGenerator(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+                                             PasswordEncoder passwordEncoder, DatasetProperties properties) {
+        return new DatasetGenerator(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                transactionManager, passwordEncoder, properties);
+    }
+
+    @Bean
+    public ApplicationRunner datasetGeneratorRunner(DatasetGenerator datasetGenerator) {
+        return args -> datasetGenerator.generate();
+    }
+
+}
@@ -0,0 +1,85 @@
+package me.nuguri.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.nuguri.common.property.ReplicaDataSourceProperties;
+import me.nuguri.common.support.ReplicaLagMonitor;
+import me.nuguri.common.support.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션 복제 DB 라우팅, common.datasource.replica.enabled 가 true 인 경우에만 등록
+ * 원본 DB 는 spring.datasource, 복제 DB 는 common.datasource.replica 설정으로 각각 커넥션 풀 생성
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "common.datasource.replica", name = "enabled", havingValue = "true")
+@AutoConfigureBefore(DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaDataSourceProperties.class})
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(StringUtils.hasText(replicaProperties.getUsername()) ? replicaProperties.getUsername() : properties.determineUsername())
+                .password(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource, ReplicaDataSourceProperties replicaProperties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties.getLagQuery(),
+                replicaProperties.getMaxLag(), replicaProperties.getCheckInterval(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * JPA, JDBC 가 사용하는 기본 DataSource, 읽기 전용 여부가 확정 된 첫 쿼리 실행 시점에 라우팅
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, meterRegistry.getIfAvailable(SimpleMeterRegistry::new)));
+    }
+
+    /**
+     * 트랜잭션 종료 시 커넥션 반환, 기본 설정(세션 종료 시 반환)은 같은 세션의 다음 트랜잭션이 이전 라우팅 대상을 재사용
+     *
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaRoutingHibernateCustomizer() {
+        return properties -> properties.put("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+}
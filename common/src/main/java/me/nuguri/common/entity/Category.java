@@ -1,15 +1,21 @@
 package me.nuguri.common.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * 상위 카테고리 엔티티
+ * 카테고리 엔티티
+ * 부모 카테고리 참조와 함께 루트부터의 식별키 경로(/1/5/)를 저장하여 하위 트리 전체를 경로 접두사 조건 하나로 조회
  */
 @Entity
+@Table(indexes = @Index(name = "idx_category_path", columnList = "path"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,6 +31,10 @@ public class Category extends BaseEntity {
     @Column(nullable = false)
     private String name;
 
+    /** 루트부터 자신까지 식별키 경로, /1/5/ 형식 */
+    @Column(length = 255)
+    private String path;
+
     /** 부모 카테고리 매핑 */
     @ManyToOne(optional = true, fetch = FetchType.LAZY)
     private Category category;
@@ -56,4 +66,24 @@ public class Category extends BaseEntity {
         category.getSubCategories().add(this);
     }
 
+    /**
+     * 식별키 생성 후 경로 설정, 부모 경로가 아직 없는 경우 부모 식별키로 경로 생성
+     */
+    @PostPersist
+    public void initPath() {
+        this.path = buildPath();
+    }
+
+    /**
+     * 부모 카테고리 식별키로 경로 생성
+     * @return 경로
+     */
+    public String buildPath() {
+        if (category == null) {
+            return "/" + id + "/";
+        }
+        String parentPath = category.getPath() != null ? category.getPath() : category.buildPath();
+        return parentPath + id + "/";
+    }
+
 }
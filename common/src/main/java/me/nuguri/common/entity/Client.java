@@ -3,6 +3,8 @@ package me.nuguri.common.entity;
 import lombok.*;
 import me.nuguri.common.converter.BooleanColumnConverter;
 import me.nuguri.common.enums.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -59,6 +61,16 @@ public class Client extends BaseEntity implements Serializable {
     @Column(nullable = false)
     private boolean autoApprove;
 
+    /**
+     * 토큰 엔드포인트 요청 제한 버킷 크기(순간 최대 요청 수), null 인 경우 인증 서버 기본 값 사용
+     */
+    private Integer rateLimitCapacity;
+
+    /**
+     * 토큰 엔드포인트 요청 제한 초당 충전 요청 수, null 인 경우 인증 서버 기본 값 사용
+     */
+    private Integer rateLimitRefillPerSecond;
+
     /**
      * 클라이언트 등록 계정
      */
@@ -69,41 +81,49 @@ public class Client extends BaseEntity implements Serializable {
      * 클라이언트 접근 권한 목록 엔티티
      */
     @OneToMany(mappedBy = "client")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ClientAuthority> clientAuthorities = new ArrayList<>();
 
     /**
      * 클라이언트 접근 범위 목록 엔티티
      */
     @OneToMany(mappedBy = "client")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ClientScope> clientScopes = new ArrayList<>();
 
     /**
      * 클라이언트 접근 리소스 목록 엔티티
      */
     @OneToMany(mappedBy = "client")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ClientResource> clientResources = new ArrayList<>();
 
     /**
      * 클라이언트 인증 부여 방식 목록 엔티티
      */
     @OneToMany(mappedBy = "client")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ClientGrantType> clientGrantTypes = new ArrayList<>();
 
     /**
      * 클라이언트 리다이렉트 목록 엔티티
      */
     @OneToMany(mappedBy = "client")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ClientRedirectUri> clientRedirectUris = new ArrayList<>();
 
     @Builder
     protected Client(Long id, String clientId, String clientSecret, Integer accessTokenValidity,
-                     Integer refreshTokenValidity, boolean autoApprove, Account account) {
+                     Integer refreshTokenValidity, boolean autoApprove, Integer rateLimitCapacity,
+                     Integer rateLimitRefillPerSecond, Account account) {
         this.id = id;
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.accessTokenValidity = accessTokenValidity != null ? accessTokenValidity : 600;
         this.refreshTokenValidity = refreshTokenValidity != null ? refreshTokenValidity : 3600;
         this.autoApprove = autoApprove;
+        this.rateLimitCapacity = rateLimitCapacity;
+        this.rateLimitRefillPerSecond = rateLimitRefillPerSecond;
         this.addAccount(account);
     }
 
@@ -0,0 +1,31 @@
+package me.nuguri.common.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 멱등 키 엔티티
+ * 일괄 주문 등록 시 키를 먼저 추가해서 기본 키 중복으로 재시도 된 주문을 조회 없이 구분
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "idempotencyKey")
+public class OrderIdempotencyKey {
+
+    /** 멱등 키 */
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    /** 주문 식별키 */
+    private Long orderId;
+
+    /** 생성 날짜 */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime created;
+
+}
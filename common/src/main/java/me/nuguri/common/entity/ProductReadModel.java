@@ -0,0 +1,113 @@
+package me.nuguri.common.entity;
+
+import lombok.*;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.common.enums.Size;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 조회 모델 엔티티
+ * 상품, 자식 테이블, 저자, 회사, 카테고리 정보를 한 로우로 비정규화, 상품 관련 엔티티 변경 시 같은 트랜잭션에서 갱신
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_product_read_model_ptype_id", columnList = "ptype, id"),
+        @Index(name = "idx_product_read_model_creator_id", columnList = "creator_id"),
+        @Index(name = "idx_product_read_model_company_id", columnList = "company_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id", callSuper = false)
+public class ProductReadModel {
+
+    /** 상품 식별키 */
+    @Id
+    private Long id;
+
+    /** 상품 구분 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 1)
+    private ProductType ptype;
+
+    /** 이름 */
+    @Column(nullable = false)
+    private String name;
+
+    /** 가격 */
+    private int price;
+
+    /** 재고 수량 */
+    private int stockCount;
+
+    /** 출판 날짜, 책 */
+    private LocalDate publishDate;
+
+    /** 사이즈, 의류 */
+    @Enumerated(EnumType.STRING)
+    private Size size;
+
+    /** 칼로리, 음식 */
+    private Integer calorie;
+
+    /** 중량 gram, 음식 */
+    private Integer weightGram;
+
+    /** 저자 식별키 */
+    private Long creatorId;
+
+    /** 저자 이름 */
+    private String creatorName;
+
+    /** 회사 식별키 */
+    private Long companyId;
+
+    /** 회사 이름 */
+    private String companyName;
+
+    /** 카테고리 식별키, 이름 목록 JSON */
+    @Column(length = 4000)
+    private String categories;
+
+    /** 갱신 날짜 */
+    private LocalDateTime refreshed;
+
+    public ProductReadModel(Product product, String categories) {
+        this.id = product.getId();
+        refresh(product, categories);
+    }
+
+    /**
+     * 상품 엔티티 값으로 갱신
+     *
+     * @param product 상품 자식 엔티티, 프록시가 아닌 실제 엔티티
+     * @param categories 카테고리 식별키, 이름 목록 JSON
+     */
+    public void refresh(Product product, String categories) {
+        // 같은 트랜잭션에서 생성한 엔티티는 ptype 필드가 채워지지 않으므로 타입으로 구분
+        this.ptype = ProductType.of(product.getClass());
+        this.name = product.getName();
+        this.price = product.getPrice();
+        this.stockCount = product.getStockCount();
+        if (product instanceof Book) {
+            this.publishDate = ((Book) product).getPublishDate();
+        } else if (product instanceof Clothes) {
+            this.size = ((Clothes) product).getSize();
+        } else if (product instanceof Food) {
+            this.calorie = ((Food) product).getCalorie();
+            this.weightGram = ((Food) product).getWeightGram();
+        }
+        Creator creator = product.getCreator();
+        this.creatorId = creator != null ? creator.getId() : null;
+        this.creatorName = creator != null ? creator.getName() : null;
+        Company company = product.getCompany();
+        this.companyId = company.getId();
+        this.companyName = company.getName();
+        this.categories = categories;
+        this.refreshed = LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,37 @@
+package me.nuguri.common.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 재고 원장 기록 엔티티
+ * 재고 원장으로 예약한 주문의 재고 차감 수량을 주문과 같은 트랜잭션에서 기록, 상품 재고에 반영 후 삭제
+ * 반영 전 장애가 발생해도 재시작 시 남은 기록으로 상품 재고 보정
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+public class StockLedgerEntry {
+
+    /** 식별키 */
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    /** 상품 식별키 */
+    @Column(nullable = false)
+    private Long productId;
+
+    /** 재고 차감 수량 */
+    @Column(nullable = false)
+    private int delta;
+
+    public StockLedgerEntry(Long productId, int delta) {
+        this.productId = productId;
+        this.delta = delta;
+    }
+
+}
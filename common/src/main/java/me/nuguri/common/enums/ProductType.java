@@ -1,5 +1,37 @@
 package me.nuguri.common.enums;
 
+import lombok.Getter;
+import me.nuguri.common.entity.Book;
+import me.nuguri.common.entity.Clothes;
+import me.nuguri.common.entity.Food;
+import me.nuguri.common.entity.Product;
+
+/**
+ * 상품 구분 값(PTYPE), 상품 자식 엔티티 타입과 매핑
+ */
+@Getter
 public enum ProductType {
-    B, C, F
+    B(Book.class), C(Clothes.class), F(Food.class);
+
+    /** 자식 테이블 엔티티 타입 */
+    private final Class<? extends Product> entityType;
+
+    ProductType(Class<? extends Product> entityType) {
+        this.entityType = entityType;
+    }
+
+    /**
+     * 엔티티 타입으로 상품 구분 값 조회
+     *
+     * @param type 상품 자식 엔티티 타입
+     * @return 상품 구분 값
+     */
+    public static ProductType of(Class<?> type) {
+        for (ProductType value : values()) {
+            if (value.entityType.isAssignableFrom(type)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("not product entity type : " + type.getName());
+    }
 }
@@ -0,0 +1,20 @@
+package me.nuguri.common.exception;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class OutOfStockException extends BaseException {
+
+    /**
+     * 재고가 부족한 상품 식별키
+     */
+    private Long productId;
+
+    public OutOfStockException(Long productId) {
+        super("out of stock product of id " + productId);
+        this.productId = productId;
+    }
+
+}
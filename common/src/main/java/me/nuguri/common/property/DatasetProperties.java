@@ -0,0 +1,60 @@
+package me.nuguri.common.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "common.dataset")
+@Getter
+@Setter
+public class DatasetProperties {
+
+    /** 시작 시 부하 테스트용 데이터 생성 여부 */
+    private boolean enabled = false;
+
+    /** 난수 시드, 같은 시드와 수량이면 같은 데이터 생성 */
+    private long seed = 20200401L;
+
+    /** 계정 수 */
+    private int accounts = 100000;
+
+    /** 클라이언트 수, 권한, 범위, 리소스, 인증 부여 방식, 리다이렉트 URI 매핑 포함 */
+    private int clients = 10000;
+
+    /** 작가 수 */
+    private int creators = 10000;
+
+    /** 회사 수 */
+    private int companies = 1000;
+
+    /** 상품 수, 책, 옷, 음식 균등 분배 */
+    private int products = 200000;
+
+    /** 최상위 카테고리 수 */
+    private int rootCategories = 10;
+
+    /** 최상위 카테고리 별 하위 카테고리 수, 상품은 하위 카테고리에만 매핑 */
+    private int subCategories = 20;
+
+    /** 상품 별 최대 카테고리 수 */
+    private int maxProductCategories = 3;
+
+    /** 주문 수 */
+    private int orders = 500000;
+
+    /** 주문 별 최대 상품 수 */
+    private int maxOrderProducts = 5;
+
+    /** Zipf 지수, 주문 계정, 주문 상품, 상품 작가, 상품 카테고리 편중 정도, 0 이면 균등 분포 */
+    private double skew = 1.0;
+
+    /** JDBC 배치 한 번에 실행 할 최대 행 수 */
+    private int batchSize = 1000;
+
+    /** 트랜잭션 하나로 커밋 할 최대 행 수, 부모 테이블 기준 */
+    private int commitSize = 10000;
+
+    /** 생성 계정, 클라이언트 공통 비밀번호, 한 번만 인코딩 */
+    private String password = "1234";
+
+}
@@ -0,0 +1,41 @@
+package me.nuguri.common.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "common.datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    /** 읽기 전용 트랜잭션 복제 DB 라우팅 사용 여부 */
+    private boolean enabled = false;
+
+    /** 복제 DB JDBC URL */
+    private String url;
+
+    /** 복제 DB 사용자, 없는 경우 spring.datasource.username */
+    private String username;
+
+    /** 복제 DB 비밀번호, 없는 경우 spring.datasource.password */
+    private String password;
+
+    /** 복제 DB 커넥션 풀 최대 크기 */
+    private int maximumPoolSize = 10;
+
+    /** 복제 지연 허용 시간, 초과하면 지연이 줄어들 때까지 원본 DB 로 라우팅 */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** 복제 지연 확인 주기 */
+    private Duration checkInterval = Duration.ofSeconds(1);
+
+    /**
+     * 복제 DB 에서 실행 할 복제 지연(초) 조회 쿼리, Seconds_Behind_Master 컬럼이 있으면 해당 컬럼, 없으면 첫 번째 컬럼 사용
+     * 결과 행이 없거나 값이 null 이면 복제 중단으로 판단, 복제 구성 없이 DB 두 개로 로컬 테스트 하는 경우 "select 0"
+     */
+    private String lagQuery = "SHOW SLAVE STATUS";
+
+}
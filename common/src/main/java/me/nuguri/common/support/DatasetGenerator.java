@@ -0,0 +1,458 @@
+package me.nuguri.common.support;
+
+import lombok.extern.slf4j.Slf4j;
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.DeliveryStatus;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.common.enums.GrantType;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.common.enums.Size;
+import me.nuguri.common.property.DatasetProperties;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManager;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongConsumer;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기, 엔티티를 거치지 않고 테이블 별 JDBC 배치로 추가
+ * 테이블 마다 시드로 만든 난수 생성기를 따로 사용하므로 같은 시드와 수량이면 빈 DB 에 항상 같은 데이터 생성
+ * 주문 계정, 주문 상품, 상품 작가, 상품 카테고리는 Zipf 분포로 편중, 식별키가 작을수록 인기 순위가 높음
+ * 권한, 접근 범위, 리소스는 EntityInitializer 와 같은 이름의 행이 있으면 재사용, 없으면 추가
+ * 엔티티 이벤트가 발생하지 않으므로 resc 상품 조회 모델은 resc.read-model.rebuild-on-startup=true 로 재구성 필요
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    /** 생성 날짜 기준, 기준 이전 1년 안에서 생성 날짜 결정 */
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final int SECONDS_OF_YEAR = 365 * 24 * 60 * 60;
+
+    private static final String EMAIL_DOMAIN = "@dataset.nuguri.me";
+
+    private static final String[] CITIES = {"서울시", "부산시", "인천시", "대구시", "대전시", "광주시", "울산시", "경기도 과천시", "경기도 안양시", "제주시"};
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final DatasetProperties properties;
+
+    private final JdbcBatchInserter inserter;
+
+    public DatasetGenerator(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            PasswordEncoder passwordEncoder, DatasetProperties properties) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.inserter = new JdbcBatchInserter(entityManager, properties.getBatchSize());
+    }
+
+    /**
+     * 데이터 생성, 부모 테이블 commitSize 행 단위로 자식 테이블까지 추가 후 커밋
+     * 첫 번째 생성 계정이 이미 있으면 생성 된 DB 로 보고 건너 뜀
+     */
+    public void generate() {
+        validate();
+        if (exists()) {
+            log.info("[log] dataset already generated => skip");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        log.info("[log] dataset generate start, seed : {}", properties.getSeed());
+        Map<String, Long> authorities = transactionTemplate.execute(status -> references(Authority.class, "authority", "ADMIN", "USER"));
+        Map<String, Long> scopes = transactionTemplate.execute(status -> references(Scope.class, "scope", "read", "write"));
+        Map<String, Long> resources = transactionTemplate.execute(status -> references(Resource.class, "resource", "account", "nuguri", "test"));
+
+        long[] accountIds = accounts(authorities);
+        clients(accountIds, toArray(authorities.values()), toArray(scopes.values()), toArray(resources.values()));
+        long[] creatorIds = creators();
+        long[] companyIds = companies();
+        long[] categoryIds = categories();
+        long[] productIds = products(creatorIds, companyIds, categoryIds);
+        orders(accountIds, productIds);
+        log.info("[log] dataset generate end, {}ms", System.currentTimeMillis() - start);
+    }
+
+    private void validate() {
+        Assert.isTrue(properties.getBatchSize() > 0 && properties.getCommitSize() > 0, "batch size and commit size must be positive");
+        Assert.isTrue(properties.getAccounts() > 0 || properties.getClients() + properties.getOrders() == 0, "clients and orders require accounts");
+        Assert.isTrue(properties.getCompanies() > 0 || properties.getProducts() == 0, "products require companies");
+        Assert.isTrue(properties.getCreators() > 0 || properties.getProducts() == 0, "products require creators");
+        Assert.isTrue(properties.getProducts() > 0 || properties.getOrders() == 0, "orders require products");
+    }
+
+    private boolean exists() {
+        Number count = transactionTemplate.execute(status -> (Number) entityManager
+                .createNativeQuery("select count(*) from account a where a.email = :email")
+                .setParameter("email", email(0))
+                .getSingleResult());
+        return count != null && count.longValue() > 0;
+    }
+
+    /**
+     * 이름으로 구분하는 기준 테이블 식별키 조회, 없는 이름은 추가
+     *
+     * @param entityType 엔티티
+     * @param table 테이블
+     * @param names 이름
+     * @return names 순서의 이름 별 식별키
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> references(Class<?> entityType, String table, String... names) {
+        Map<String, Long> existing = new HashMap<>();
+        List<Object[]> rows = entityManager.createNativeQuery("select t.id, t.name from " + table + " t").getResultList();
+        rows.forEach(row -> existing.put((String) row[1], ((Number) row[0]).longValue()));
+
+        List<String> missing = Arrays.stream(names).filter(name -> !existing.containsKey(name)).collect(toList());
+        Timestamp created = Timestamp.valueOf(BASE_TIME);
+        List<Long> ids = inserter.insert(entityType, table, columns("name"),
+                missing.stream().map(name -> new Object[]{created, created, name}).collect(toList()));
+        for (int i = 0; i < missing.size(); i++) {
+            existing.put(missing.get(i), ids.get(i));
+        }
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String name : names) {
+            result.put(name, existing.get(name));
+        }
+        return result;
+    }
+
+    private long[] accounts(Map<String, Long> authorities) {
+        Random random = random("account");
+        String password = passwordEncoder.encode(properties.getPassword());
+        Long admin = authorities.get("ADMIN");
+        Long user = authorities.get("USER");
+        return chunked("account", properties.getAccounts(), (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Timestamp created = timestamp(random);
+                rows.add(new Object[]{created, created, email(i), password, "사용자" + i, gender(random),
+                        city(random), street(random), zipCode(random), random.nextInt(100) == 0 ? admin : user});
+            }
+            return inserter.insert(Account.class, "account",
+                    columns("email", "password", "name", "gender", "city", "street", "zip_code", "authority_id"), rows);
+        });
+    }
+
+    /**
+     * 클라이언트와 권한, 접근 범위, 리소스, 인증 부여 방식, 리다이렉트 URI 매핑 생성, 매핑은 비어 있지 않은 임의 부분 집합
+     */
+    private void clients(long[] accountIds, long[] authorityIds, long[] scopeIds, long[] resourceIds) {
+        Random random = random("client");
+        String secret = passwordEncoder.encode(properties.getPassword());
+        GrantType[] grantTypes = GrantType.values();
+        chunked("client", properties.getClients(), (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Timestamp created = timestamp(random);
+                rows.add(new Object[]{created, created, "dataset-client-" + i, secret, 600, 3600,
+                        random.nextBoolean() ? "Y" : "N", accountIds[random.nextInt(accountIds.length)]});
+            }
+            List<Long> ids = inserter.insert(Client.class, "client",
+                    columns("client_id", "client_secret", "access_token_validity", "refresh_token_validity", "auto_approve", "account_id"), rows);
+
+            List<Object[]> clientAuthorities = new ArrayList<>();
+            List<Object[]> clientScopes = new ArrayList<>();
+            List<Object[]> clientResources = new ArrayList<>();
+            List<Object[]> clientGrantTypes = new ArrayList<>();
+            List<Object[]> clientRedirectUris = new ArrayList<>();
+            for (int k = 0; k < ids.size(); k++) {
+                Long clientId = ids.get(k);
+                Object created = rows.get(k)[0];
+                int authorityMask = subset(random, authorityIds.length);
+                int scopeMask = subset(random, scopeIds.length);
+                int resourceMask = subset(random, resourceIds.length);
+                int grantTypeMask = subset(random, grantTypes.length);
+                mapping(authorityMask, authorityIds, id -> clientAuthorities.add(new Object[]{created, created, clientId, id}));
+                mapping(scopeMask, scopeIds, id -> clientScopes.add(new Object[]{created, created, clientId, id}));
+                mapping(resourceMask, resourceIds, id -> clientResources.add(new Object[]{created, created, clientId, id}));
+                for (int g = 0; g < grantTypes.length; g++) {
+                    if ((grantTypeMask & 1 << g) != 0) {
+                        clientGrantTypes.add(new Object[]{created, created, grantTypes[g].name(), clientId});
+                    }
+                }
+                int uris = random.nextInt(2) + 1;
+                for (int u = 0; u < uris; u++) {
+                    clientRedirectUris.add(new Object[]{created, created, "http://localhost:9600/dataset/" + (from + k) + "/" + u, clientId});
+                }
+            }
+            inserter.insert(ClientAuthority.class, "client_authority", columns("client_id", "authority_id"), clientAuthorities);
+            inserter.insert(ClientScope.class, "client_scope", columns("client_id", "scope_id"), clientScopes);
+            inserter.insert(ClientResource.class, "client_resource", columns("client_id", "resource_id"), clientResources);
+            inserter.insert(ClientGrantType.class, "client_grant_type", columns("grant_type", "client_id"), clientGrantTypes);
+            inserter.insert(ClientRedirectUri.class, "client_redirect_uri", columns("uri", "client_id"), clientRedirectUris);
+            return ids;
+        });
+    }
+
+    private long[] creators() {
+        Random random = random("creator");
+        return chunked("creator", properties.getCreators(), (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Timestamp created = timestamp(random);
+                LocalDate birth = LocalDate.of(1900, 1, 1).plusDays(random.nextInt(100 * 365));
+                LocalDate death = random.nextInt(3) == 0 ? birth.plusYears(40 + random.nextInt(50)) : null;
+                rows.add(new Object[]{created, created, "작가 " + i, gender(random), Date.valueOf(birth), death != null ? Date.valueOf(death) : null});
+            }
+            return inserter.insert(Creator.class, "creator", columns("name", "gender", "birth", "death"), rows);
+        });
+    }
+
+    private long[] companies() {
+        Random random = random("company");
+        return chunked("company", properties.getCompanies(), (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Timestamp created = timestamp(random);
+                rows.add(new Object[]{created, created, "회사 " + i, Date.valueOf(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(70 * 365)))});
+            }
+            return inserter.insert(Company.class, "company", columns("name", "establish_date"), rows);
+        });
+    }
+
+    /**
+     * 최상위, 하위 2단계 카테고리 생성, 경로는 식별키가 정해진 뒤 수정
+     *
+     * @return 하위 카테고리 식별키
+     */
+    private long[] categories() {
+        int roots = properties.getRootCategories();
+        int subs = properties.getSubCategories();
+        long[] ids = transactionTemplate.execute(status -> {
+            Timestamp created = Timestamp.valueOf(BASE_TIME);
+            List<Object[]> rootRows = new ArrayList<>(roots);
+            for (int r = 0; r < roots; r++) {
+                rootRows.add(new Object[]{created, created, "카테고리 " + r, null});
+            }
+            List<Long> rootIds = inserter.insert(Category.class, "category", columns("name", "category_id"), rootRows);
+
+            List<Object[]> subRows = new ArrayList<>(roots * subs);
+            for (int r = 0; r < roots; r++) {
+                for (int s = 0; s < subs; s++) {
+                    subRows.add(new Object[]{created, created, "카테고리 " + r + "-" + s, rootIds.get(r)});
+                }
+            }
+            List<Long> subIds = inserter.insert(Category.class, "category", columns("name", "category_id"), subRows);
+
+            List<Object[]> paths = new ArrayList<>(rootIds.size() + subIds.size());
+            rootIds.forEach(id -> paths.add(new Object[]{"/" + id + "/", id}));
+            for (int k = 0; k < subIds.size(); k++) {
+                paths.add(new Object[]{"/" + rootIds.get(k / subs) + "/" + subIds.get(k) + "/", subIds.get(k)});
+            }
+            inserter.execute("update category set path = ? where id = ?", paths);
+            return toArray(subIds);
+        });
+        log.info("[log] dataset category {} rows", roots + roots * subs);
+        return ids;
+    }
+
+    /**
+     * 상품과 구분 값에 맞는 자식 테이블, 카테고리 매핑 생성, 책, 옷, 음식 균등 분배
+     */
+    private long[] products(long[] creatorIds, long[] companyIds, long[] categoryIds) {
+        Random random = random("product");
+        ZipfSampler creatorSampler = sampler(creatorIds.length);
+        ZipfSampler categorySampler = sampler(categoryIds.length);
+        ProductType[] types = ProductType.values();
+        Size[] sizes = Size.values();
+        return chunked("product", properties.getProducts(), (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            ProductType[] chunkTypes = new ProductType[to - from];
+            for (int i = from; i < to; i++) {
+                Timestamp created = timestamp(random);
+                ProductType type = types[random.nextInt(types.length)];
+                chunkTypes[i - from] = type;
+                rows.add(new Object[]{created, created, type.name(), type.name() + " 상품 " + i, (random.nextInt(50) + 1) * 1000,
+                        random.nextInt(100), creatorIds[creatorSampler.sample(random)], companyIds[random.nextInt(companyIds.length)]});
+            }
+            List<Long> ids = inserter.insert(Product.class, "product",
+                    columns("ptype", "name", "price", "stock_count", "creator_id", "company_id"), rows);
+
+            List<Object[]> books = new ArrayList<>();
+            List<Object[]> clothes = new ArrayList<>();
+            List<Object[]> foods = new ArrayList<>();
+            List<Object[]> productCategories = new ArrayList<>();
+            for (int k = 0; k < ids.size(); k++) {
+                Long id = ids.get(k);
+                switch (chunkTypes[k]) {
+                    case B:
+                        books.add(new Object[]{id, Date.valueOf(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(70 * 365)))});
+                        break;
+                    case C:
+                        clothes.add(new Object[]{id, sizes[random.nextInt(sizes.length)].name()});
+                        break;
+                    case F:
+                        foods.add(new Object[]{id, random.nextInt(1000), (random.nextInt(20) + 1) * 50});
+                        break;
+                }
+                if (categorySampler != null) {
+                    Object created = rows.get(k)[0];
+                    int count = random.nextInt(properties.getMaxProductCategories()) + 1;
+                    Set<Long> picked = new LinkedHashSet<>();
+                    for (int c = 0; c < count; c++) {
+                        picked.add(categoryIds[categorySampler.sample(random)]);
+                    }
+                    picked.forEach(categoryId -> productCategories.add(new Object[]{created, created, categoryId, id}));
+                }
+            }
+            inserter.insert("book", Arrays.asList("product_id", "publish_date"), books);
+            inserter.insert("clothes", Arrays.asList("product_id", "size"), clothes);
+            inserter.insert("food", Arrays.asList("product_id", "calorie", "weight_gram"), foods);
+            inserter.insert(ProductCategory.class, "product_category", columns("category_id", "product_id"), productCategories);
+            return ids;
+        });
+    }
+
+    /**
+     * 배송, 주문, 주문 상품 생성, 재고는 차감하지 않음
+     */
+    private void orders(long[] accountIds, long[] productIds) {
+        Random random = random("orders");
+        ZipfSampler accountSampler = sampler(accountIds.length);
+        ZipfSampler productSampler = sampler(productIds.length);
+        DeliveryStatus[] statuses = DeliveryStatus.values();
+        chunked("orders", properties.getOrders(), (from, to) -> {
+            List<Object[]> deliveries = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Timestamp created = timestamp(random);
+                deliveries.add(new Object[]{created, created, statuses[random.nextInt(statuses.length)].name(),
+                        city(random), street(random), zipCode(random)});
+            }
+            List<Long> deliveryIds = inserter.insert(Delivery.class, "delivery", columns("status", "city", "street", "zip_code"), deliveries);
+
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int k = 0; k < deliveryIds.size(); k++) {
+                Object created = deliveries.get(k)[0];
+                rows.add(new Object[]{created, created, deliveryIds.get(k), accountIds[accountSampler.sample(random)]});
+            }
+            List<Long> ids = inserter.insert(Order.class, "orders", columns("delivery_id", "account_id"), rows);
+
+            List<Object[]> orderProducts = new ArrayList<>();
+            for (int k = 0; k < ids.size(); k++) {
+                Long orderId = ids.get(k);
+                Object created = rows.get(k)[0];
+                int count = random.nextInt(properties.getMaxOrderProducts()) + 1;
+                Set<Long> picked = new LinkedHashSet<>();
+                for (int p = 0; p < count; p++) {
+                    picked.add(productIds[productSampler.sample(random)]);
+                }
+                for (Long productId : picked) {
+                    orderProducts.add(new Object[]{created, created, random.nextInt(3) + 1, productId, orderId});
+                }
+            }
+            inserter.insert(OrderProduct.class, "order_product", columns("count", "product_id", "order_id"), orderProducts);
+            return ids;
+        });
+    }
+
+    /**
+     * commitSize 행 단위 트랜잭션으로 추가
+     *
+     * @param table 로그 출력용 테이블
+     * @param count 전체 행 수
+     * @param writer 구간 [from, to) 행 추가, 추가 된 식별키 반환
+     * @return 추가 된 순서의 식별키
+     */
+    private long[] chunked(String table, int count, ChunkWriter writer) {
+        long start = System.currentTimeMillis();
+        long[] ids = new long[count];
+        for (int from = 0; from < count; from += properties.getCommitSize()) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + properties.getCommitSize(), count);
+            transactionTemplate.execute(status -> {
+                List<Long> chunkIds = writer.write(chunkFrom, chunkTo);
+                for (int i = 0; i < chunkIds.size(); i++) {
+                    ids[chunkFrom + i] = chunkIds.get(i);
+                }
+                return null;
+            });
+            log.debug("[log] dataset {} {} / {}", table, chunkTo, count);
+        }
+        log.info("[log] dataset {} {} rows, {}ms", table, count, System.currentTimeMillis() - start);
+        return ids;
+    }
+
+    /**
+     * 테이블 별 난수 생성기, 다른 테이블 수량이 바뀌어도 테이블 데이터는 유지
+     */
+    private Random random(String table) {
+        return new Random(properties.getSeed() * 31 + table.hashCode());
+    }
+
+    private ZipfSampler sampler(int size) {
+        return size > 0 ? new ZipfSampler(size, properties.getSkew()) : null;
+    }
+
+    private static List<String> columns(String... columns) {
+        List<String> result = new ArrayList<>(columns.length + 2);
+        result.add("created");
+        result.add("updated");
+        result.addAll(Arrays.asList(columns));
+        return result;
+    }
+
+    private static void mapping(int mask, long[] ids, LongConsumer consumer) {
+        for (int i = 0; i < ids.length; i++) {
+            if ((mask & 1 << i) != 0) {
+                consumer.accept(ids[i]);
+            }
+        }
+    }
+
+    /**
+     * 비어 있지 않은 임의 부분 집합 비트 마스크
+     */
+    private static int subset(Random random, int size) {
+        return random.nextInt((1 << size) - 1) + 1;
+    }
+
+    private static long[] toArray(Collection<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String email(int index) {
+        return "user" + index + EMAIL_DOMAIN;
+    }
+
+    private static Timestamp timestamp(Random random) {
+        return Timestamp.valueOf(BASE_TIME.minusSeconds(random.nextInt(SECONDS_OF_YEAR)));
+    }
+
+    private static String gender(Random random) {
+        return random.nextBoolean() ? Gender.M.name() : Gender.F.name();
+    }
+
+    private static String city(Random random) {
+        return CITIES[random.nextInt(CITIES.length)];
+    }
+
+    private static String street(Random random) {
+        return "테스트로 " + (random.nextInt(500) + 1);
+    }
+
+    private static String zipCode(Random random) {
+        return String.format("%05d", random.nextInt(100000));
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        List<Long> write(int from, int to);
+    }
+
+}
@@ -0,0 +1,78 @@
+package me.nuguri.common.support;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 요청 검증 값, BaseEntity 수정 날짜로 ETag, Last-Modified 생성, 목록은 ETag 만 생성
+ * 엔티티를 조회하지 않고 식별키, 수정 날짜만 조회해서 생성하므로 변경 되지 않은 경우 응답 본문 생성 없이 304 응답
+ */
+@Getter
+public class EntityVersion {
+
+    /** 약한 ETag, 같은 엔티티라도 응답 형식에 따라 본문이 다를 수 있으므로 의미상 동일함만 보장 */
+    private final String eTag;
+
+    /** Last-Modified epoch 밀리초, 초 단위로 비교 되므로 ETag 가 우선, 사용하지 않는 경우 -1 */
+    private final long lastModified;
+
+    private EntityVersion(String eTag, long lastModified) {
+        this.eTag = "W/\"" + eTag + "\"";
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 단건 검증 값 생성
+     *
+     * @param id 식별키
+     * @param updated 수정 날짜
+     * @return 검증 값, 수정 날짜가 없는 경우 null
+     */
+    public static EntityVersion of(Object id, LocalDateTime updated) {
+        if (updated == null) {
+            return null;
+        }
+        Instant instant = toInstant(updated);
+        return new EntityVersion(id + "-" + instant.getEpochSecond() + "." + instant.getNano(), instant.toEpochMilli());
+    }
+
+    /**
+     * 목록 검증 값 생성, 수정 날짜 최댓값은 추가, 수정을, 전체 수는 삭제를 반영
+     * 최신이 아닌 행이 삭제 되면 수정 날짜 최댓값은 그대로이므로 Last-Modified 없이 ETag 로만 검증
+     *
+     * @param key 검색 조건, 페이징 등 목록을 구분하는 값
+     * @param count 조건에 해당하는 전체 수
+     * @param maxUpdated 조건에 해당하는 수정 날짜 최댓값
+     * @return 검증 값, 조건에 해당하는 엔티티가 없는 경우 null
+     */
+    public static EntityVersion of(String key, long count, LocalDateTime maxUpdated) {
+        if (count < 1 || maxUpdated == null) {
+            return null;
+        }
+        Instant instant = toInstant(maxUpdated);
+        String value = key + "|" + count + "|" + instant.getEpochSecond() + "." + instant.getNano();
+        return new EntityVersion(DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)), -1);
+    }
+
+    /**
+     * If-None-Match, If-Modified-Since 요청 헤더 비교, 변경 되지 않은 경우 304 상태 설정
+     * GET, HEAD 요청이면 변경 여부와 상관 없이 ETag, Last-Modified(사용하는 경우) 응답 헤더 설정
+     *
+     * @param request 요청
+     * @return 변경 되지 않은 경우 true, 이 경우 응답 본문 없이 null 반환
+     */
+    public boolean checkNotModified(WebRequest request) {
+        return request.checkNotModified(eTag, lastModified);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+}
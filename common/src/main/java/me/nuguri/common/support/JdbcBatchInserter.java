@@ -0,0 +1,126 @@
+package me.nuguri.common.support;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentityGenerator;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 테이블에 직접 JDBC 배치 추가
+ * 현재 트랜잭션의 커넥션을 사용하므로 트랜잭션 안에서 호출
+ */
+@RequiredArgsConstructor
+public class JdbcBatchInserter {
+
+    /** JDBC 배치 한 번에 실행 할 기본 최대 행 수 */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    /** JDBC 배치 한 번에 실행 할 최대 행 수 */
+    private final int batchSize;
+
+    public JdbcBatchInserter(EntityManager entityManager) {
+        this(entityManager, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 식별키 생성 테이블 JDBC 배치 추가
+     * IDENTITY 식별키인 경우 생성 된 키를 돌려 받고, 시퀀스 등 그 외 식별키인 경우 엔티티 식별키 생성기로 미리 할당
+     *
+     * @param entityType 식별키 생성기를 확인 할 엔티티
+     * @param table 테이블
+     * @param columns 식별키를 제외한 컬럼
+     * @param rows 컬럼 순서의 값
+     * @return rows 순서의 식별키
+     */
+    public List<Long> insert(Class<?> entityType, String table, List<String> columns, List<Object[]> rows) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = session.getFactory().getMetamodel().entityPersister(entityType).getIdentifierGenerator();
+        boolean identity = generator instanceof IdentityGenerator;
+        List<Long> ids = new ArrayList<>(rows.size());
+        if (!identity) {
+            for (int i = 0; i < rows.size(); i++) {
+                ids.add(((Number) generator.generate(session, null)).longValue());
+            }
+        }
+        String sql = "insert into " + table
+                + " (" + (identity ? "" : "id, ") + String.join(", ", columns) + ")"
+                + " values (" + (identity ? "" : "?, ") + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = identity
+                    ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                    : connection.prepareStatement(sql)) {
+                for (int from = 0; from < rows.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, rows.size());
+                    for (int i = from; i < to; i++) {
+                        int index = 1;
+                        if (!identity) {
+                            statement.setLong(index++, ids.get(i));
+                        }
+                        for (Object value : rows.get(i)) {
+                            statement.setObject(index++, value);
+                        }
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    if (identity) {
+                        try (ResultSet keys = statement.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                ids.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * 식별키 없는 테이블 JDBC 배치 추가 또는 수정, 상속 자식 테이블처럼 부모 식별키를 컬럼 값으로 넘기는 경우
+     *
+     * @param sql 추가, 수정 SQL
+     * @param rows 파라미터 순서의 값
+     */
+    public void execute(String sql, List<Object[]> rows) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int from = 0; from < rows.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, rows.size());
+                    for (int i = from; i < to; i++) {
+                        int index = 1;
+                        for (Object value : rows.get(i)) {
+                            statement.setObject(index++, value);
+                        }
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    /**
+     * 식별키 없는 테이블 JDBC 배치 추가
+     *
+     * @param table 테이블
+     * @param columns 컬럼
+     * @param rows 컬럼 순서의 값
+     */
+    public void insert(String table, List<String> columns, List<Object[]> rows) {
+        execute("insert into " + table + " (" + String.join(", ", columns) + ")"
+                + " values (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")", rows);
+    }
+
+}
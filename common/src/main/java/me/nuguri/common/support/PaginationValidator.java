@@ -11,8 +11,19 @@ import static org.springframework.util.StringUtils.hasText;
 
 public class PaginationValidator {
 
+    private final SortablePropertyRegistry sortablePropertyRegistry;
+
+    public PaginationValidator() {
+        this(new SortablePropertyRegistry());
+    }
+
+    public PaginationValidator(SortablePropertyRegistry sortablePropertyRegistry) {
+        this.sortablePropertyRegistry = sortablePropertyRegistry;
+    }
+
     /**
      * Pagination 도메인 condition 값 중 페이지, 페이지 사이즈, 정렬 방식 검증
+     * 정렬 속성은 엔티티 메타모델로 등록 된 정렬 가능 속성 목록에서 조회
      *
      * @param pageableCondition page 페이지 번호, size 페이지 사이즈, sort 정렬 방식
      * @param entityType        페이징 객체 엔티티 타입 클래스
@@ -24,10 +35,7 @@ public class PaginationValidator {
             String[] sort = pageableCondition.getSort().split(",");
             if (sort.length > 1) {
                 for (int i = 0; i < sort.length - 1; i++) {
-                    String property = sort[i];
-                    try {
-                        entityType.getDeclaredField(property);
-                    } catch (NoSuchFieldException e) {
+                    if (!sortablePropertyRegistry.isSortable(entityType, sort[i])) {
                         errors.rejectValue("sort", "wrongValue", "sort property is wrong");
                     }
                 }
@@ -36,9 +44,7 @@ public class PaginationValidator {
                     errors.rejectValue("sort", "wrongValue", "sort direction is wrong");
                 }
             } else if (sort.length == 1) {
-                try {
-                    entityType.getDeclaredField(sort[0]);
-                } catch (NoSuchFieldException e) {
+                if (!sortablePropertyRegistry.isSortable(entityType, sort[0])) {
                     errors.rejectValue("sort", "wrongValue", "sort property is wrong");
                 }
             }
@@ -1,34 +1,43 @@
 package me.nuguri.common.support;
 
-import com.google.common.collect.Iterators;
-import com.querydsl.core.types.EntityPath;
-import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.*;
+import me.nuguri.common.dto.BaseSearchCondition;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Iterator;
 
 public abstract class QuerydslSupportCustom {
 
-    protected OrderSpecifier<?>[] getOrderSpecifiers(EntityPathBase<?> entityPathBase, Pageable pageable) {
-        Sort sort = pageable.getSort();
-        Iterator<Sort.Order> iterator = sort.iterator();
-        OrderSpecifier<?>[] orderSpecifiers = new OrderSpecifier[Iterators.size(sort.iterator())];
-
-        for (int i = 0; iterator.hasNext(); i++) {
-            Sort.Order order = iterator.next();
-            Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
-            String property = order.getProperty();
-            SimplePath<Object> path = Expressions.path(Object.class, entityPathBase, property);
-            orderSpecifiers[i] = new OrderSpecifier(direction, path);
-        }
+    /** 등록, 수정 날짜 검색 조건 파라미터, 값은 쿼리 생성 후 바인딩 */
+    protected static final Param<LocalDateTime> START_CREATED = new Param<>(LocalDateTime.class, "startCreated");
+
+    protected static final Param<LocalDateTime> END_CREATED = new Param<>(LocalDateTime.class, "endCreated");
+
+    protected static final Param<LocalDateTime> START_UPDATED = new Param<>(LocalDateTime.class, "startUpdated");
 
-        return orderSpecifiers;
+    protected static final Param<LocalDateTime> END_UPDATED = new Param<>(LocalDateTime.class, "endUpdated");
+
+    /** 기본 정렬 조건 캐시, 엔티티 메타모델로 생성한 빈이 있으면 교체 */
+    private SortablePropertyRegistry sortablePropertyRegistry = new SortablePropertyRegistry();
+
+    @Autowired(required = false)
+    public void setSortablePropertyRegistry(SortablePropertyRegistry sortablePropertyRegistry) {
+        this.sortablePropertyRegistry = sortablePropertyRegistry;
+    }
+
+    /**
+     * pageable 정렬 조건으로 querydsl 정렬 조건 조회, 루트 경로, 속성 별로 한번 생성한 정렬 조건 재사용
+     *
+     * @param entityPathBase 루트 경로
+     * @param pageable sort 정렬
+     * @return 정렬 조건
+     */
+    protected OrderSpecifier<?>[] getOrderSpecifiers(EntityPathBase<?> entityPathBase, Pageable pageable) {
+        return sortablePropertyRegistry.getOrderSpecifiers(entityPathBase, pageable.getSort());
     }
 
     protected BooleanExpression betweenCreated(EntityPathBase<?> entityPathBase, LocalDate startDate, LocalDate endDate) {
@@ -41,6 +50,49 @@ public abstract class QuerydslSupportCustom {
         return betweenDateTime(updated, startDate, endDate);
     }
 
+    /**
+     * 등록, 수정 날짜 검색 조건을 포함한 검색 쿼리 형태 생성, 검색 시작 날짜는 0시, 종료 날짜는 자정 직전으로 변환
+     *
+     * @param name 쿼리 이름
+     * @param condition 등록, 수정 날짜 검색 조건
+     * @return 검색 쿼리 형태
+     */
+    protected SearchShape shape(String name, BaseSearchCondition condition) {
+        return SearchShape.of(name)
+                .param(START_CREATED, startOfDay(condition.getStartCreated()))
+                .param(END_CREATED, endOfDay(condition.getEndCreated()))
+                .param(START_UPDATED, startOfDay(condition.getStartUpdated()))
+                .param(END_UPDATED, endOfDay(condition.getEndUpdated()));
+    }
+
+    protected BooleanExpression betweenCreated(SearchShape shape, EntityPathBase<?> entityPathBase) {
+        TimePath<LocalDateTime> created = Expressions.timePath(LocalDateTime.class, entityPathBase, "created");
+        return betweenDateTime(shape, created, START_CREATED, END_CREATED);
+    }
+
+    protected BooleanExpression betweenUpdated(SearchShape shape, EntityPathBase<?> entityPathBase) {
+        TimePath<LocalDateTime> updated = Expressions.timePath(LocalDateTime.class, entityPathBase, "updated");
+        return betweenDateTime(shape, updated, START_UPDATED, END_UPDATED);
+    }
+
+    private BooleanExpression betweenDateTime(SearchShape shape, TimePath<LocalDateTime> timePath, Param<LocalDateTime> start, Param<LocalDateTime> end) {
+        if (shape.has(start) && shape.has(end)) {
+            return timePath.between(start, end);
+        } else if (shape.has(start)) {
+            return timePath.goe(start);
+        } else {
+            return shape.when(end, timePath.loe(end));
+        }
+    }
+
+    private LocalDateTime startOfDay(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    private LocalDateTime endOfDay(LocalDate date) {
+        return date != null ? date.atTime(LocalTime.MAX) : null;
+    }
+
     private BooleanExpression betweenDateTime(TimePath<LocalDateTime> timePath, LocalDate startDate, LocalDate endDate) {
         if (startDate != null && endDate != null) {
             return timePath.between(startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
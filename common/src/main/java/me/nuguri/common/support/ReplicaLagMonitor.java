@@ -0,0 +1,123 @@
+package me.nuguri.common.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제 DB 지연 확인, 주기적으로 복제 DB 에서 지연 조회 쿼리를 실행해서 라우팅 가능 여부 갱신
+ * 지연 허용 시간 초과, 복제 중단, 커넥션 실패 시 사용 불가로 표시하고 다음 확인에서 정상이면 다시 사용
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /** 복제 지연 메트릭 이름 */
+    public static final String LAG_METRIC = "datasource.replica.lag";
+
+    /** Seconds_Behind_Master 컬럼이 없는 지연 조회 쿼리 결과는 첫 번째 컬럼 사용 */
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+
+    private final DataSource replica;
+
+    private final String lagQuery;
+
+    private final long maxLagMillis;
+
+    private final long checkIntervalMillis;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 마지막 확인한 복제 지연(ms), 확인 실패 시 -1 */
+    private volatile long lagMillis = -1;
+
+    /** 복제 DB 라우팅 가능 여부, 첫 확인 전에는 원본 DB 사용 */
+    private volatile boolean available = false;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkIntervalMillis = checkInterval.toMillis();
+        meterRegistry.gauge(LAG_METRIC, Tags.empty(), this, m -> m.lagMillis);
+        meterRegistry.gauge(LAG_METRIC + ".available", Tags.empty(), this, m -> m.available ? 1 : 0);
+    }
+
+    public void start() {
+        check();
+        executor.scheduleWithFixedDelay(this::check, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 복제 DB 커넥션 실패 등으로 다음 확인 전까지 사용 불가로 표시
+     *
+     * @param e 원인
+     */
+    public void markUnavailable(SQLException e) {
+        if (available) {
+            log.warn("[log] replica unavailable, route to primary : {}", e.getMessage());
+        }
+        available = false;
+        lagMillis = -1;
+    }
+
+    /**
+     * 복제 지연 확인, 스케줄러 스레드에서 실행 되므로 예외를 밖으로 던지지 않음
+     */
+    void check() {
+        boolean before = available;
+        try {
+            Long lag = queryLagSeconds();
+            lagMillis = lag != null ? lag * 1000 : -1;
+            available = lag != null && lagMillis <= maxLagMillis;
+        } catch (SQLException | RuntimeException e) {
+            lagMillis = -1;
+            available = false;
+            log.debug("[log] replica lag check failed : {}", e.getMessage());
+        }
+        if (before != available) {
+            log.warn("[log] replica {}, lag : {}ms, max lag : {}ms", available ? "available" : "unavailable", lagMillis, maxLagMillis);
+        }
+    }
+
+    private Long queryLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            int column = findColumn(resultSet.getMetaData());
+            long lag = resultSet.getLong(column);
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    private int findColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (SECONDS_BEHIND_MASTER.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+}
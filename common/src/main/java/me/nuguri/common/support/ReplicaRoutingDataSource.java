@@ -0,0 +1,84 @@
+package me.nuguri.common.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제 DB, 그 외는 원본 DB 커넥션 반환
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 설정 되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 실행 시 커넥션 획득
+ * 복제 지연이 허용 시간을 넘었거나 복제 DB 커넥션 획득에 실패하면 원본 DB 커넥션 반환
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    /** 라우팅 메트릭 이름 */
+    public static final String ROUTING_METRIC = "datasource.routing";
+
+    private final DataSource primary;
+
+    private final DataSource replica;
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter primaryCount;
+
+    private final Counter replicaCount;
+
+    private final Counter fallbackCount;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.primaryCount = meterRegistry.counter(ROUTING_METRIC, "target", "primary");
+        this.replicaCount = meterRegistry.counter(ROUTING_METRIC, "target", "replica");
+        this.fallbackCount = meterRegistry.counter(ROUTING_METRIC, "target", "fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 트랜잭션 읽기 전용 여부, 복제 지연으로 대상 DB 선택 후 커넥션 획득
+     *
+     * @param connector 선택한 DB 에서 커넥션 획득
+     * @return 커넥션
+     */
+    private Connection route(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCount.increment();
+            return connector.connect(primary);
+        }
+        if (!lagMonitor.isAvailable()) {
+            fallbackCount.increment();
+            return connector.connect(primary);
+        }
+        try {
+            Connection connection = connector.connect(replica);
+            replicaCount.increment();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            fallbackCount.increment();
+            return connector.connect(primary);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+}
@@ -0,0 +1,111 @@
+package me.nuguri.common.support;
+
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동적 검색 쿼리 컴파일 캐시, 검색 쿼리 형태 별로 Querydsl 쿼리를 JPQL 로 한번만 직렬화하고 이후 요청은 파라미터만 바인딩
+ * 같은 형태는 항상 같은 JPQL 이므로 Hibernate 쿼리 계획 캐시도 형태 수 만큼만 사용
+ * 형태 캐시 적중, 실패 수와 Hibernate 쿼리 계획 캐시 적중, 실패 수를 메트릭으로 노출
+ */
+public class SearchQueryCompiler {
+
+    /** 형태 캐시 메트릭 이름 */
+    public static final String COMPILE_METRIC = "search.query.compile";
+
+    /** Hibernate 쿼리 계획 캐시 메트릭 이름, 통계 수집(hibernate.generate_statistics) 시에만 집계 */
+    public static final String PLAN_CACHE_METRIC = "hibernate.query.plan.cache";
+
+    /** 기본 최대 형태 수 */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    private final JPQLTemplates templates;
+
+    private final int maxSize;
+
+    private final Map<String, CompiledQuery> compiled = new ConcurrentHashMap<>();
+
+    private final Counter hit;
+
+    private final Counter miss;
+
+    public SearchQueryCompiler(EntityManager entityManager, int maxSize, MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        this.templates = HQLTemplates.DEFAULT;
+        this.maxSize = maxSize;
+        this.hit = meterRegistry.counter(COMPILE_METRIC, "result", "hit");
+        this.miss = meterRegistry.counter(COMPILE_METRIC, "result", "miss");
+        meterRegistry.gaugeMapSize(COMPILE_METRIC + ".size", Tags.empty(), compiled);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        FunctionCounter.builder(PLAN_CACHE_METRIC, statistics, Statistics::getQueryPlanCacheHitCount).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder(PLAN_CACHE_METRIC, statistics, Statistics::getQueryPlanCacheMissCount).tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 검색 쿼리 생성, 처음 보는 형태인 경우만 query 로 Querydsl 쿼리를 만들어 직렬화
+     *
+     * @param shape 검색 쿼리 형태, 입력 된 파라미터 값 바인딩
+     * @param resultType 결과 타입
+     * @param query 형태에 맞는 Querydsl 쿼리, 값 대신 shape 의 Param 사용
+     * @param <T> 결과 타입
+     * @return 파라미터가 바인딩 된 쿼리, 페이징은 호출한 쪽에서 설정
+     */
+    public <T> TypedQuery<T> createQuery(SearchShape shape, Class<T> resultType, Supplier<? extends SubQueryExpression<?>> query) {
+        String key = shape.getKey();
+        CompiledQuery compiledQuery = compiled.get(key);
+        if (compiledQuery != null) {
+            hit.increment();
+        } else {
+            miss.increment();
+            compiledQuery = compile(query.get());
+            // 최대 형태 수를 넘으면 캐시 하지 않고 매번 직렬화
+            if (compiled.size() < maxSize) {
+                compiled.putIfAbsent(key, compiledQuery);
+            }
+        }
+        TypedQuery<T> typedQuery = entityManager.createQuery(compiledQuery.jpql, resultType);
+        JPAUtil.setConstants(typedQuery, compiledQuery.constants, shape.getParams());
+        return typedQuery;
+    }
+
+    private CompiledQuery compile(SubQueryExpression<?> query) {
+        JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
+        serializer.serialize(query.getMetadata(), false, null);
+        return new CompiledQuery(serializer.toString(), new HashMap<>(serializer.getConstantToLabel()));
+    }
+
+    /**
+     * 직렬화 된 JPQL, 상수 또는 파라미터 별 위치 파라미터 이름
+     */
+    private static class CompiledQuery {
+
+        private final String jpql;
+
+        private final Map<Object, String> constants;
+
+        private CompiledQuery(String jpql, Map<Object, String> constants) {
+            this.jpql = jpql;
+            this.constants = constants;
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package me.nuguri.common.support;
+
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.dsl.Param;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 동적 검색 쿼리 형태, 입력 된 검색 조건 파라미터와 정렬로 구분
+ * 같은 형태의 검색은 파라미터 값만 다르고 JPQL 은 같으므로 SearchQueryCompiler 가 형태 별로 한번만 생성
+ */
+public class SearchShape {
+
+    /** 쿼리 이름 */
+    private final String name;
+
+    /** 입력 된 검색 조건 파라미터, 추가 순서 유지 */
+    private final Map<ParamExpression<?>, Object> params = new LinkedHashMap<>();
+
+    /** 정렬, 정렬이 없거나 카운트 쿼리인 경우 null */
+    private Sort sort;
+
+    private String key;
+
+    private SearchShape(String name) {
+        this.name = name;
+    }
+
+    public static SearchShape of(String name) {
+        return new SearchShape(name);
+    }
+
+    /**
+     * 검색 조건 파라미터 추가, null 이거나 빈 문자열이면 입력 되지 않은 조건으로 형태에서 제외
+     *
+     * @param param 파라미터
+     * @param value 값
+     * @param <T> 파라미터 타입
+     * @return 검색 쿼리 형태
+     */
+    public <T> SearchShape param(Param<T> param, T value) {
+        if (value != null && (!(value instanceof String) || hasText((String) value))) {
+            params.put(param, value);
+            key = null;
+        }
+        return this;
+    }
+
+    public SearchShape sort(Sort sort) {
+        this.sort = sort != null && sort.isSorted() ? sort : null;
+        key = null;
+        return this;
+    }
+
+    /**
+     * 파라미터 입력 여부
+     *
+     * @param param 파라미터
+     * @return 입력 된 경우 true
+     */
+    public boolean has(ParamExpression<?> param) {
+        return params.containsKey(param);
+    }
+
+    /**
+     * 파라미터가 입력 된 경우만 검색 조건 사용, Querydsl where 절은 null 조건을 제외
+     *
+     * @param param 파라미터
+     * @param expression 파라미터를 사용하는 검색 조건
+     * @param <E> 검색 조건 타입
+     * @return 입력 된 경우 검색 조건, 입력 되지 않은 경우 null
+     */
+    public <E> E when(ParamExpression<?> param, E expression) {
+        return has(param) ? expression : null;
+    }
+
+    public Sort getSort() {
+        return sort != null ? sort : Sort.unsorted();
+    }
+
+    Map<ParamExpression<?>, Object> getParams() {
+        return params;
+    }
+
+    /**
+     * 형태 키, 쿼리 이름|입력 된 파라미터 이름|정렬
+     *
+     * @return 형태 키
+     */
+    public String getKey() {
+        if (key == null) {
+            StringBuilder builder = new StringBuilder(name).append('|');
+            params.keySet().forEach(p -> builder.append(p.getName()).append(','));
+            builder.append('|');
+            if (sort != null) {
+                builder.append(sort);
+            }
+            key = builder.toString();
+        }
+        return key;
+    }
+
+}
@@ -0,0 +1,109 @@
+package me.nuguri.common.support;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.Expressions;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정렬 가능 속성 목록, 정렬 조건 캐시
+ * 엔티티는 시작 시 JPA 메타모델의 기본 타입 속성(상속 받은 created, updated 포함)으로 정렬 가능 속성을 등록
+ * 엔티티가 아닌 타입은 처음 조회 시 선언 된 필드(상위 클래스 포함)로 한번만 등록
+ * 정렬 조건은 Querydsl 루트 경로, 속성 별로 오름차순, 내림차순 OrderSpecifier 를 한번만 생성해서 재사용, 호출 마다 결과 배열만 생성
+ */
+public class SortablePropertyRegistry {
+
+    /** 타입 별 정렬 가능 속성 */
+    private final Map<Class<?>, Set<String>> properties = new ConcurrentHashMap<>();
+
+    /** 루트 경로 별, 속성 별 정렬 조건, 0 오름차순 1 내림차순 */
+    private final Map<EntityPath<?>, Map<String, OrderSpecifier<?>[]>> orderSpecifiers = new ConcurrentHashMap<>();
+
+    public SortablePropertyRegistry() {
+    }
+
+    public SortablePropertyRegistry(Metamodel metamodel) {
+        for (EntityType<?> entityType : metamodel.getEntities()) {
+            Set<String> names = new HashSet<>();
+            for (Attribute<?, ?> attribute : entityType.getAttributes()) {
+                if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                    names.add(attribute.getName());
+                }
+            }
+            properties.put(entityType.getJavaType(), Collections.unmodifiableSet(names));
+        }
+    }
+
+    /**
+     * 정렬 가능 속성 여부, 예외 없이 등록 된 속성 목록에서 조회
+     *
+     * @param type 엔티티 또는 검색 조건 타입
+     * @param property 속성
+     * @return 정렬 가능한 경우 true
+     */
+    public boolean isSortable(Class<?> type, String property) {
+        return properties.computeIfAbsent(type, SortablePropertyRegistry::declaredFields).contains(property);
+    }
+
+    /**
+     * 정렬 조건 생성, 루트 경로, 속성, 방향이 같으면 같은 OrderSpecifier 반환
+     * 반환 배열은 호출자가 수정 할 수 있으므로 공유하지 않고 정렬 수 크기로 한 번만 생성
+     *
+     * @param root Querydsl 루트 경로
+     * @param sort 정렬
+     * @return 정렬 조건
+     */
+    public OrderSpecifier<?>[] getOrderSpecifiers(EntityPath<?> root, Sort sort) {
+        if (sort.isUnsorted()) {
+            return new OrderSpecifier[0];
+        }
+        Map<String, OrderSpecifier<?>[]> cached = orderSpecifiers.computeIfAbsent(root, k -> new ConcurrentHashMap<>());
+        int size = 0;
+        for (Sort.Order ignored : sort) {
+            size++;
+        }
+        OrderSpecifier<?>[] result = new OrderSpecifier[size];
+        int index = 0;
+        for (Sort.Order order : sort) {
+            OrderSpecifier<?>[] specifiers = cached.get(order.getProperty());
+            if (specifiers == null) {
+                specifiers = create(root, order.getProperty());
+                // 검증 되지 않은 속성은 캐시에 남기지 않음
+                if (isSortable(root.getType(), order.getProperty())) {
+                    cached.put(order.getProperty(), specifiers);
+                }
+            }
+            result[index++] = specifiers[order.isAscending() ? 0 : 1];
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrderSpecifier<?>[] create(EntityPath<?> root, String property) {
+        Path<Object> path = Expressions.path(Object.class, root, property);
+        return new OrderSpecifier[]{new OrderSpecifier(Order.ASC, path), new OrderSpecifier(Order.DESC, path)};
+    }
+
+    private static Set<String> declaredFields(Class<?> type) {
+        Set<String> names = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    names.add(field.getName());
+                }
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+}
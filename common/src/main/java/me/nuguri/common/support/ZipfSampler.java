@@ -0,0 +1,97 @@
+package me.nuguri.common.support;
+
+import java.util.Random;
+
+/**
+ * Zipf 분포 순위 샘플러, 순위 k 가 뽑힐 확률은 1 / k^exponent 에 비례
+ * 누적 분포표 없이 기각-역변환(rejection-inversion) 방식으로 샘플링 하므로 원소 수와 상관 없이 메모리 사용량 일정
+ * 상태는 난수 생성기에만 있으므로 같은 시드의 난수 생성기로 샘플링 하면 같은 순서의 값 반환
+ */
+public class ZipfSampler {
+
+    /** 원소 수 */
+    private final int size;
+
+    /** 지수, 0 이면 균등 분포, 클수록 상위 순위에 집중 */
+    private final double exponent;
+
+    private final double hIntegralX1;
+
+    private final double hIntegralSize;
+
+    private final double s;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive : " + size);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative : " + exponent);
+        }
+        this.size = size;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralSize = hIntegral(size + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    /**
+     * 샘플링
+     *
+     * @param random 난수 생성기
+     * @return 0 부터 시작하는 순위, 0 이 가장 자주 뽑힘
+     */
+    public int sample(Random random) {
+        while (true) {
+            double u = hIntegralSize + random.nextDouble() * (hIntegralX1 - hIntegralSize);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > size) {
+                k = size;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k - 1;
+            }
+        }
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1 - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1 - exponent);
+        if (t < -1) {
+            t = -1;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    /**
+     * log(1 + x) / x, 0 근처에서는 테일러 전개로 계산
+     */
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    /**
+     * (exp(x) - 1) / x, 0 근처에서는 테일러 전개로 계산
+     */
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+
+}
@@ -0,0 +1,155 @@
+import me.nuguri.common.entity.Account;
+import me.nuguri.common.property.DatasetProperties;
+import me.nuguri.common.support.DatasetGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대량 데이터 생성 결정성 테스트
+ * 생성기가 테이블 별로 직접 커밋하므로 테스트 트랜잭션 없이 실행하고 테스트 전후로 모든 테이블과 시퀀스 초기화
+ * 서비스와 같이 use-new-id-generator-mappings=false 로 H2 에서는 시퀀스 식별키 사용
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.use-new-id-generator-mappings=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("대량 데이터 생성기 테스트")
+public class DatasetGeneratorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void beforeEach() {
+        reset();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        reset();
+    }
+
+    @Test
+    @DisplayName("같은 시드와 수량으로 빈 DB 에 생성하면 모든 테이블에 같은 데이터가 생성 되는 경우")
+    public void generate_SameSeed_SameRows() {
+        generator(properties(1L)).generate();
+        Map<String, List<String>> first = snapshot();
+        reset();
+        generator(properties(1L)).generate();
+
+        assertEquals(first, snapshot());
+        assertEquals(20, count("account"));
+        assertEquals(5, count("client"));
+        assertEquals(30, count("product"));
+        assertEquals(30, count("book") + count("clothes") + count("food"));
+        assertEquals(2 + 2 * 3, count("category"));
+        assertEquals(40, count("orders"));
+    }
+
+    @Test
+    @DisplayName("시드가 다르면 다른 데이터가 생성 되는 경우")
+    public void generate_OtherSeed_OtherRows() {
+        generator(properties(1L)).generate();
+        Map<String, List<String>> first = snapshot();
+        reset();
+        generator(properties(2L)).generate();
+
+        assertNotEquals(first, snapshot());
+    }
+
+    @Test
+    @DisplayName("이미 생성 된 DB 에 다시 생성하면 건너 뛰는 경우")
+    public void generate_AlreadyGenerated_Skipped() {
+        generator(properties(1L)).generate();
+        Map<String, List<String>> first = snapshot();
+
+        generator(properties(2L)).generate();
+
+        assertEquals(first, snapshot());
+    }
+
+    /**
+     * 커밋, 배치 경계를 지나도록 작은 수량 사용
+     */
+    private DatasetProperties properties(long seed) {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setSeed(seed);
+        properties.setAccounts(20);
+        properties.setClients(5);
+        properties.setCreators(10);
+        properties.setCompanies(3);
+        properties.setProducts(30);
+        properties.setRootCategories(2);
+        properties.setSubCategories(3);
+        properties.setOrders(40);
+        properties.setBatchSize(7);
+        properties.setCommitSize(10);
+        return properties;
+    }
+
+    @SuppressWarnings("deprecation")
+    private DatasetGenerator generator(DatasetProperties properties) {
+        // 같은 데이터 비교를 위해 솔트 없는 인코더 사용
+        return new DatasetGenerator(entityManager, transactionManager, NoOpPasswordEncoder.getInstance(), properties);
+    }
+
+    /**
+     * 테이블 별 모든 행, 행 순서와 무관하게 비교하도록 정렬
+     */
+    private Map<String, List<String>> snapshot() {
+        Map<String, List<String>> snapshot = new TreeMap<>();
+        for (String table : tables()) {
+            snapshot.put(table, jdbcTemplate.queryForList("select * from " + table)
+                    .stream()
+                    .map(Object::toString)
+                    .sorted()
+                    .collect(toList()));
+        }
+        return snapshot;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private void reset() {
+        jdbcTemplate.execute("set referential_integrity false");
+        tables().forEach(table -> jdbcTemplate.execute("truncate table " + table));
+        jdbcTemplate.execute("set referential_integrity true");
+        jdbcTemplate.execute("alter sequence hibernate_sequence restart with 1");
+    }
+
+    private List<String> tables() {
+        return jdbcTemplate.queryForList(
+                "select table_name from information_schema.tables where table_schema = 'PUBLIC' and table_type = 'TABLE'", String.class);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Account.class)
+    public static class DatasetTestConfiguration {
+    }
+
+}
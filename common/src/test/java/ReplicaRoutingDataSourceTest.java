@@ -0,0 +1,116 @@
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.nuguri.common.support.ReplicaLagMonitor;
+import me.nuguri.common.support.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("읽기 전용 트랜잭션 복제 DB 라우팅 테스트")
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary";
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void afterEach() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB, 그 외는 원본 DB 로 라우팅 하는 경우")
+    public void getConnection_ReadOnly_Replica() throws SQLException {
+        DataSource routing = routing(REPLICA_URL, "select 0");
+
+        assertEquals(PRIMARY_URL, url(routing));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(REPLICA_URL, url(routing));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 시간을 넘은 경우 읽기 전용 트랜잭션도 원본 DB 로 라우팅")
+    public void getConnection_Lagging_Primary() throws SQLException {
+        DataSource routing = routing(REPLICA_URL, "select 60");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(PRIMARY_URL, url(routing));
+        assertEquals(1, meterRegistry.counter(ReplicaRoutingDataSource.ROUTING_METRIC, "target", "fallback").count());
+    }
+
+    @Test
+    @DisplayName("복제 상태 조회 결과가 없는 경우 복제 중단으로 판단해서 원본 DB 로 라우팅")
+    public void getConnection_NotReplicating_Primary() throws SQLException {
+        DataSource routing = routing(REPLICA_URL, "select 0 from dual where 1 = 0");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(PRIMARY_URL, url(routing));
+    }
+
+    @Test
+    @DisplayName("계정 정보로 커넥션 획득 시에도 같은 대상으로 라우팅하고 계정 정보를 전달하는 경우")
+    public void getConnectionWithCredentials_ReadOnly_Replica() throws SQLException {
+        CredentialsDataSource primary = new CredentialsDataSource(PRIMARY_URL);
+        CredentialsDataSource replica = new CredentialsDataSource(REPLICA_URL);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "select 0", Duration.ofSeconds(5), Duration.ofMinutes(1), meterRegistry);
+        monitor.start();
+        monitor.stop();
+        DataSource routing = new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry);
+
+        try (Connection connection = routing.getConnection("reader", "secret")) {
+            assertEquals(PRIMARY_URL, connection.getMetaData().getURL());
+        }
+        assertEquals("reader", primary.username);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection("reader", "secret")) {
+            assertEquals(REPLICA_URL, connection.getMetaData().getURL());
+        }
+        assertEquals("reader", replica.username);
+        assertEquals(1, meterRegistry.counter(ReplicaRoutingDataSource.ROUTING_METRIC, "target", "replica").count());
+    }
+
+    private DataSource routing(String replicaUrl, String lagQuery) {
+        DataSource primary = new DriverManagerDataSource(PRIMARY_URL);
+        DataSource replica = new DriverManagerDataSource(replicaUrl);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(5), Duration.ofMinutes(1), meterRegistry);
+        monitor.start();
+        monitor.stop();
+        return new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry);
+    }
+
+    private String url(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    /**
+     * 전달 받은 계정 정보를 기록하고 기본 계정으로 연결하는 데이터 소스
+     */
+    private static class CredentialsDataSource extends DriverManagerDataSource {
+
+        private String username;
+
+        private CredentialsDataSource(String url) {
+            super(url);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            this.username = username;
+            return getConnection();
+        }
+
+    }
+
+}
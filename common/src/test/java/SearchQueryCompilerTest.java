@@ -0,0 +1,164 @@
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.nuguri.common.entity.Creator;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.common.support.SearchQueryCompiler;
+import me.nuguri.common.support.SearchShape;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static me.nuguri.common.entity.QCreator.creator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("동적 검색 쿼리 컴파일 캐시 테스트")
+public class SearchQueryCompilerTest {
+
+    private static final Param<String> NAME = new Param<>(String.class, "name");
+
+    private static final Param<Gender> GENDER = new Param<>(Gender.class, "gender");
+
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EntityManager entityManager;
+
+    private SearchQueryCompiler searchQueryCompiler;
+
+    /** 형태 별 Querydsl 쿼리 생성 횟수 */
+    private final AtomicInteger built = new AtomicInteger();
+
+    @BeforeAll
+    public static void beforeAll() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.generate_statistics", "true");
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:search;DB_CLOSE_DELAY=-1"));
+        entityManagerFactory.setPackagesToScan("me.nuguri.common.entity");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(properties);
+        entityManagerFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        entityManagerFactory.destroy();
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+        entityManager.getTransaction().begin();
+        // 이름 순서가 식별키 순서와 같도록 0 부터 9 까지 저자 추가, 짝수는 남성
+        IntStream.range(0, 10).forEach(n -> entityManager.persist(Creator.builder()
+                .name("creator " + n)
+                .gender(n % 2 == 0 ? Gender.M : Gender.F)
+                .birth(LocalDate.of(1990, 1, 1).plusYears(n))
+                .build()));
+        entityManager.flush();
+        entityManager.clear();
+        searchQueryCompiler = new SearchQueryCompiler(entityManager, SearchQueryCompiler.DEFAULT_MAX_SIZE, meterRegistry);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("같은 형태는 한번만 직렬화하고 이후 요청은 다른 값만 바인딩해서 재사용")
+    public void createQuery_SameShape_Reused() {
+        assertEquals(names("creator 1"), search(SearchShape.of("creator.page").param(NAME, "creator 1"), null));
+        assertEquals(names("creator 2"), search(SearchShape.of("creator.page").param(NAME, "creator 2"), null));
+        assertEquals(names("creator 3"), search(SearchShape.of("creator.page").param(NAME, "creator 3"), null));
+
+        assertEquals(1, built.get());
+        assertEquals(1, count("miss"));
+        assertEquals(2, count("hit"));
+    }
+
+    @Test
+    @DisplayName("검색 조건 조합이 다르면 형태 별로 따로 직렬화하고 입력 된 조건만 적용")
+    public void createQuery_DifferentShapes_CompiledPerShape() {
+        assertEquals(10, search(SearchShape.of("creator.page"), null).size());
+        assertEquals(names("creator 0", "creator 2", "creator 4", "creator 6", "creator 8"),
+                search(SearchShape.of("creator.page").param(GENDER, Gender.M), null));
+        assertEquals(names("creator 1", "creator 3", "creator 5", "creator 7", "creator 9"),
+                search(SearchShape.of("creator.page").param(GENDER, Gender.F), null));
+        assertEquals(names("creator 4"), search(SearchShape.of("creator.page").param(NAME, "creator 4").param(GENDER, Gender.M), null));
+        assertEquals(names(), search(SearchShape.of("creator.page").param(NAME, "creator 4").param(GENDER, Gender.F), null));
+
+        assertEquals(3, built.get());
+        assertEquals(3, count("miss"));
+        assertEquals(2, count("hit"));
+    }
+
+    @Test
+    @DisplayName("재사용한 쿼리에도 페이지 번호가 아닌 오프셋, 페이지 크기로 페이징")
+    public void createQuery_Paging_OffsetAndLimit() {
+        Sort sort = Sort.by("name");
+        assertEquals(names("creator 0", "creator 1", "creator 2"),
+                search(SearchShape.of("creator.page").sort(sort), PageRequest.of(0, 3, sort)));
+        assertEquals(names("creator 3", "creator 4", "creator 5"),
+                search(SearchShape.of("creator.page").sort(sort), PageRequest.of(1, 3, sort)));
+        assertEquals(names("creator 9"),
+                search(SearchShape.of("creator.page").sort(sort), PageRequest.of(3, 3, sort)));
+        assertEquals(names("creator 6", "creator 8"),
+                search(SearchShape.of("creator.page").param(GENDER, Gender.M).sort(sort), PageRequest.of(1, 3, sort)));
+
+        assertEquals(2, built.get());
+        assertEquals(2, count("hit"));
+    }
+
+    /**
+     * 저자 검색, 저장소 구현과 같이 형태 캐시 실패 시에만 Querydsl 쿼리 생성
+     */
+    private List<String> search(SearchShape shape, Pageable pageable) {
+        TypedQuery<Creator> query = searchQueryCompiler.createQuery(shape, Creator.class, () -> {
+            built.incrementAndGet();
+            JPAQuery<Creator> jpaQuery = new JPAQueryFactory(entityManager)
+                    .selectFrom(creator)
+                    .where(shape.when(NAME, creator.name.eq(NAME)), shape.when(GENDER, creator.gender.eq(GENDER)));
+            return shape.getSort().isSorted() ? jpaQuery.orderBy(creator.name.asc()) : jpaQuery.orderBy(creator.id.asc());
+        });
+        if (pageable != null) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList().stream().map(Creator::getName).collect(toList());
+    }
+
+    private List<String> names(String... names) {
+        return Arrays.asList(names);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(SearchQueryCompiler.COMPILE_METRIC, "result", result).count();
+    }
+
+}
@@ -0,0 +1,91 @@
+import com.querydsl.core.types.dsl.Param;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.common.support.SearchShape;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("동적 검색 쿼리 형태 테스트")
+public class SearchShapeTest {
+
+    private static final Param<String> NAME = new Param<>(String.class, "name");
+
+    private static final Param<Gender> GENDER = new Param<>(Gender.class, "gender");
+
+    private static final Param<LocalDate> START_BIRTH = new Param<>(LocalDate.class, "startBirth");
+
+    @Test
+    @DisplayName("입력 된 검색 조건 조합이 같으면 값이 달라도 같은 형태 키")
+    public void getKey_SameFilters_SameKey() {
+        SearchShape first = shape("creator.page", "first", Gender.M, null);
+        SearchShape second = shape("creator.page", "second", Gender.F, null);
+
+        assertEquals("creator.page|name,gender,|", first.getKey());
+        assertEquals(first.getKey(), second.getKey());
+    }
+
+    @Test
+    @DisplayName("입력 된 검색 조건 조합, 쿼리 이름이 다르면 다른 형태 키")
+    public void getKey_DifferentFilters_DifferentKey() {
+        String nameOnly = shape("creator.page", "name", null, null).getKey();
+        String nameAndGender = shape("creator.page", "name", Gender.M, null).getKey();
+        String genderAndBirth = shape("creator.page", null, Gender.M, LocalDate.of(1990, 1, 1)).getKey();
+        String none = shape("creator.page", null, null, null).getKey();
+        String count = shape("creator.count", "name", null, null).getKey();
+
+        assertEquals("creator.page|name,|", nameOnly);
+        assertEquals("creator.page|gender,startBirth,|", genderAndBirth);
+        assertEquals("creator.page||", none);
+        assertEquals(5, new HashSet<>(Arrays.asList(nameOnly, nameAndGender, genderAndBirth, none, count)).size());
+    }
+
+    @Test
+    @DisplayName("null, 빈 문자열은 입력 되지 않은 조건으로 형태에서 제외")
+    public void param_BlankValue_Excluded() {
+        SearchShape shape = shape("creator.page", " ", null, null);
+
+        assertFalse(shape.has(NAME));
+        assertNull(shape.when(NAME, "predicate"));
+        assertEquals(shape("creator.page", null, null, null).getKey(), shape.getKey());
+    }
+
+    @Test
+    @DisplayName("정렬은 형태 키에 포함, 정렬 없음과 unsorted 는 같은 형태 키")
+    public void sort_IncludedInKey() {
+        SearchShape unsorted = shape("creator.page", "name", null, null).sort(Sort.unsorted());
+        SearchShape none = shape("creator.page", "name", null, null).sort(null);
+        SearchShape byName = shape("creator.page", "name", null, null).sort(Sort.by("name"));
+        SearchShape byNameDesc = shape("creator.page", "name", null, null).sort(Sort.by(Sort.Direction.DESC, "name"));
+
+        assertEquals(none.getKey(), unsorted.getKey());
+        assertTrue(unsorted.getSort().isUnsorted());
+        assertNotEquals(none.getKey(), byName.getKey());
+        assertNotEquals(byName.getKey(), byNameDesc.getKey());
+    }
+
+    @Test
+    @DisplayName("형태 키 생성 후 조건을 추가하면 형태 키 다시 생성")
+    public void getKey_AfterParam_Regenerated() {
+        SearchShape shape = shape("creator.page", "name", null, null);
+        String before = shape.getKey();
+
+        shape.param(GENDER, Gender.M);
+
+        assertNotEquals(before, shape.getKey());
+        assertEquals("creator.page|name,gender,|", shape.getKey());
+    }
+
+    private SearchShape shape(String name, String creatorName, Gender gender, LocalDate startBirth) {
+        return SearchShape.of(name)
+                .param(NAME, creatorName)
+                .param(GENDER, gender)
+                .param(START_BIRTH, startBirth);
+    }
+
+}
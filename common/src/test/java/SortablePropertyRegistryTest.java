@@ -0,0 +1,87 @@
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
+import me.nuguri.common.dto.PageableCondition;
+import me.nuguri.common.entity.Account;
+import me.nuguri.common.entity.Book;
+import me.nuguri.common.entity.Creator;
+import me.nuguri.common.support.SortablePropertyRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class SortablePropertyRegistryTest {
+
+    private final SortablePropertyRegistry registry = new SortablePropertyRegistry();
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("엔티티는 메타모델의 기본 타입 속성만 정렬 가능, 상속 받은 생성, 수정 날짜 포함")
+    public void isSortable_Metamodel() {
+        SortablePropertyRegistry registry = new SortablePropertyRegistry(entityManagerFactory.getMetamodel());
+
+        assertTrue(registry.isSortable(Creator.class, "id"));
+        assertTrue(registry.isSortable(Creator.class, "name"));
+        assertTrue(registry.isSortable(Creator.class, "created"));
+        assertTrue(registry.isSortable(Creator.class, "updated"));
+        // 연관 관계는 정렬 불가
+        assertFalse(registry.isSortable(Creator.class, "products"));
+        assertFalse(registry.isSortable(Creator.class, "unknown"));
+        // 상속 엔티티는 부모 엔티티 속성 포함
+        assertTrue(registry.isSortable(Book.class, "publishDate"));
+        assertTrue(registry.isSortable(Book.class, "stockCount"));
+        assertTrue(registry.isSortable(Book.class, "created"));
+        assertFalse(registry.isSortable(Book.class, "creator"));
+    }
+
+    @Test
+    @DisplayName("상위 클래스에 선언 된 속성도 정렬 가능, 없는 속성은 예외 없이 false")
+    public void isSortable() {
+        assertTrue(registry.isSortable(PageableCondition.class, "startCreated"));
+        assertTrue(registry.isSortable(PageableCondition.class, "sort"));
+        assertFalse(registry.isSortable(PageableCondition.class, "unknown"));
+    }
+
+    @Test
+    @DisplayName("같은 루트 경로, 속성, 방향이면 같은 정렬 조건 재사용")
+    public void getOrderSpecifiers_Cached() {
+        PathBuilder<PageableCondition> root = new PathBuilder<>(PageableCondition.class, "condition");
+
+        OrderSpecifier<?>[] first = registry.getOrderSpecifiers(root, Sort.by(Sort.Order.asc("page"), Sort.Order.desc("size")));
+        OrderSpecifier<?>[] second = registry.getOrderSpecifiers(root, Sort.by(Sort.Order.asc("page"), Sort.Order.desc("size")));
+
+        assertEquals(2, first.length);
+        assertSame(first[0], second[0]);
+        assertSame(first[1], second[1]);
+        assertTrue(first[0].isAscending());
+        assertFalse(first[1].isAscending());
+        assertEquals("condition.size", first[1].getTarget().toString());
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 없으면 빈 배열, 결과 배열은 호출 마다 새로 생성")
+    public void getOrderSpecifiers_NewArray() {
+        PathBuilder<PageableCondition> root = new PathBuilder<>(PageableCondition.class, "condition");
+
+        assertEquals(0, registry.getOrderSpecifiers(root, Sort.unsorted()).length);
+        OrderSpecifier<?>[] first = registry.getOrderSpecifiers(root, Sort.by("page"));
+        first[0] = null;
+        assertNotNull(registry.getOrderSpecifiers(root, Sort.by("page"))[0]);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Account.class)
+    public static class MetamodelConfiguration {
+    }
+
+}
@@ -0,0 +1,70 @@
+import me.nuguri.common.support.ZipfSampler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("같은 시드의 난수 생성기로 샘플링 하는 경우 같은 순서의 값 반환")
+    public void deterministic() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(1000, 1.0);
+        Random first = new Random(20200401L);
+        Random second = new Random(20200401L);
+        // when, then
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(sampler.sample(first), sampler.sample(second));
+        }
+    }
+
+    @Test
+    @DisplayName("샘플링 값은 원소 수 범위 안, 상위 순위일수록 자주 뽑힘")
+    public void skew() {
+        // given
+        int size = 100;
+        ZipfSampler sampler = new ZipfSampler(size, 1.0);
+        Random random = new Random(1L);
+        int[] counts = new int[size];
+        // when
+        for (int i = 0; i < 100000; i++) {
+            int sample = sampler.sample(random);
+            assertTrue(sample >= 0 && sample < size);
+            counts[sample]++;
+        }
+        // then
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[9]);
+        assertTrue(counts[9] > counts[99]);
+        // 지수 1 이면 1 순위 비율은 1 / H(100), 약 19%
+        assertEquals(0.19, counts[0] / 100000.0, 0.01);
+    }
+
+    @Test
+    @DisplayName("지수가 0 인 경우 균등 분포")
+    public void uniform() {
+        // given
+        int size = 10;
+        ZipfSampler sampler = new ZipfSampler(size, 0);
+        Random random = new Random(1L);
+        int[] counts = new int[size];
+        // when
+        for (int i = 0; i < 100000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        // then
+        for (int count : counts) {
+            assertEquals(0.1, count / 100000.0, 0.01);
+        }
+    }
+
+    @Test
+    @DisplayName("원소 수가 0 이하인 경우 예외")
+    public void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+    }
+
+}
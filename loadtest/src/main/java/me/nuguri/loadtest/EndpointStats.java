@@ -0,0 +1,141 @@
+package me.nuguri.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 별 응답 시간, 상태 코드 집계, 응답 시간은 마이크로초 단위 HdrHistogram 에 기록
+ * start, stop 사이 요청만 집계하므로 예열 구간 요청은 결과에 포함되지 않음
+ */
+public class EndpointStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    private long startNanos;
+
+    private long elapsedNanos;
+
+    public void start() {
+        endpoints.clear();
+        startNanos = System.nanoTime();
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 요청 결과 기록
+     *
+     * @param endpoint 엔드포인트 이름
+     * @param nanos    응답 시간
+     * @param status   상태 코드, 연결 실패, 타임 아웃은 0
+     */
+    public void record(String endpoint, long nanos, int status) {
+        if (!recording) {
+            return;
+        }
+        endpoints.computeIfAbsent(endpoint, Endpoint::new).record(nanos, status);
+    }
+
+    /**
+     * 집계 결과, 엔드포인트 이름 순
+     */
+    public List<Map<String, Object>> report() {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        new TreeMap<>(endpoints).values().forEach(endpoint -> rows.add(endpoint.report(seconds)));
+        return rows;
+    }
+
+    /**
+     * 집계 결과 표 출력
+     */
+    public void print(List<Map<String, Object>> rows, PrintStream out) {
+        out.printf("%-40s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map<String, Object> row : rows) {
+            out.printf("%-40s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("endpoint"), row.get("count"), row.get("errors"), row.get("throughput"),
+                    row.get("p50"), row.get("p90"), row.get("p99"), row.get("p99.9"), row.get("max"));
+        }
+    }
+
+    /**
+     * 집계 결과 JSON 파일 기록, 실행 간 비교 용도
+     */
+    public void write(List<Map<String, Object>> rows, Map<String, Object> settings, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("elapsedSeconds", elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        report.put("endpoints", rows);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static class Endpoint {
+
+        private final String name;
+
+        /** 자동 확장, 최대 값 제한 없음 */
+        private final Histogram histogram = new ConcurrentHistogram(3);
+
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private Endpoint(String name) {
+            this.name = name;
+        }
+
+        private void record(long nanos, int status) {
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        private Map<String, Object> report(double seconds) {
+            long count = histogram.getTotalCount();
+            Map<String, Long> codes = new TreeMap<>();
+            long errors = 0;
+            for (Map.Entry<Integer, LongAdder> entry : statuses.entrySet()) {
+                long sum = entry.getValue().sum();
+                codes.put(String.valueOf(entry.getKey()), sum);
+                if (entry.getKey() == 0 || entry.getKey() >= 400) {
+                    errors += sum;
+                }
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", name);
+            row.put("count", count);
+            row.put("errors", errors);
+            row.put("statuses", codes);
+            row.put("throughput", seconds > 0 ? count / seconds : 0.0);
+            row.put("mean", histogram.getMean() / 1000.0);
+            row.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+            row.put("p90", histogram.getValueAtPercentile(90) / 1000.0);
+            row.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+            row.put("p99.9", histogram.getValueAtPercentile(99.9) / 1000.0);
+            row.put("max", histogram.getMaxValue() / 1000.0);
+            return row;
+        }
+
+    }
+
+}
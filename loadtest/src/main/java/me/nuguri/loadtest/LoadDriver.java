@@ -0,0 +1,76 @@
+package me.nuguri.loadtest;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 스레드 실행, 스레드마다 가중치 비율로 작업을 골라 응답을 받은 후 다음 작업 실행
+ * 예열 시간 동안 집계 없이 실행해 JIT, 커넥션 풀, 캐시를 채운 후 측정 시간 동안만 집계
+ */
+public class LoadDriver {
+
+    private final LoadTestOptions options;
+
+    private final Operation[] operations;
+
+    /** 작업 별 누적 가중치, operations 와 같은 순서 */
+    private final int[] cumulative;
+
+    public LoadDriver(LoadTestOptions options) {
+        this.options = options;
+        Map<Operation, Integer> mix = options.getMix();
+        this.operations = new Operation[mix.size()];
+        this.cumulative = new int[mix.size()];
+        int index = 0;
+        int sum = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            sum += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulative[index++] = sum;
+        }
+    }
+
+    public void run(ServiceClient client, EndpointStats stats) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService workers = Executors.newFixedThreadPool(options.getThreads());
+        for (int i = 0; i < options.getThreads(); i++) {
+            Random random = new Random(options.getSeed() + i);
+            workers.execute(() -> {
+                while (running.get()) {
+                    try {
+                        pick(random).run(client, random);
+                    } catch (RuntimeException e) {
+                        // 응답 처리 중 예외로 요청 스레드가 줄어들지 않도록 무시, 요청 결과는 이미 기록됨
+                    }
+                }
+            });
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(options.getWarmup().toMillis());
+            stats.start();
+            TimeUnit.MILLISECONDS.sleep(options.getDuration().toMillis());
+            stats.stop();
+        } finally {
+            running.set(false);
+            workers.shutdown();
+            if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    private Operation pick(Random random) {
+        int value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+}
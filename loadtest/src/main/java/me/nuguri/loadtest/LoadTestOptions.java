@@ -0,0 +1,194 @@
+package me.nuguri.loadtest;
+
+import lombok.Getter;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션, 명령행 인자 --키=값 형식
+ * common.dataset. 으로 시작하는 인자는 resc 서비스 실행 시 대량 데이터 생성 옵션으로 그대로 전달
+ * 예) java -jar loadtest/target/loadtest.jar --duration=120 --threads=32 --mix=check_token=50,creators=50
+ */
+@Getter
+public class LoadTestOptions {
+
+    /** 대량 데이터 생성 옵션 접두어 */
+    public static final String DATASET_PREFIX = "common.dataset.";
+
+    /** 실행 방식, process 는 로컬 대체 저장소와 서비스 프로세스 직접 실행, external 은 이미 실행 중인 서비스 사용 */
+    private String mode = "process";
+
+    /** 측정 시간 */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /** 측정 전 예열 시간, 예열 중 요청은 집계하지 않음 */
+    private Duration warmup = Duration.ofSeconds(15);
+
+    /** 요청 스레드 수, 스레드 별로 응답을 받은 후 다음 요청 (closed model) */
+    private int threads = 16;
+
+    /** 요청 스레드 난수 시드, 같은 시드면 같은 순서의 요청 구성 */
+    private long seed = 20200401L;
+
+    /** 작업 구성 비율, 작업 이름=가중치 */
+    private Map<Operation, Integer> mix = Operation.defaultMix();
+
+    /** 인증 서버 주소, process 실행 방식이면 포트로 결정 */
+    private String authUrl = "http://localhost:9600";
+
+    /** 계정 서버 주소 */
+    private String accountUrl = "http://localhost:10600";
+
+    /** 계정 서버 사용 여부, process 실행 방식은 계정 서버 실행 jar 가 있는 경우에만 실행하고 없으면 user_crud 작업 제외 */
+    private boolean accountEnabled = true;
+
+    /** 리소스 서버 주소 */
+    private String rescUrl = "http://localhost:8600";
+
+    /** process 실행 방식 서비스 포트, 로컬에서 실행 중인 서비스와 겹치지 않도록 기본 포트 + 10000 */
+    private int authPort = 19600;
+
+    private int accountPort = 20600;
+
+    private int rescPort = 18600;
+
+    /** process 실행 방식 H2 TCP 서버 포트 */
+    private int h2Port = 19092;
+
+    /** process 실행 방식 임베디드 Redis 포트 */
+    private int redisPort = 16379;
+
+    /** 서비스 프로세스 최대 힙 크기 */
+    private String serviceHeap = "512m";
+
+    /** 서비스 기동 대기 최대 시간, 대량 데이터 생성 시간 포함 */
+    private Duration startupTimeout = Duration.ofMinutes(5);
+
+    /** 서비스 실행 jar 디렉토리, 기본 값은 부하 테스트 jar 옆 services */
+    private Path servicesDir = jarDirectory().resolve("services");
+
+    /** 서비스 로그, 결과 파일 디렉토리 */
+    private Path outputDir = jarDirectory().resolve("loadtest");
+
+    /** 클라이언트 아이디, 인증 서버 초기 데이터 */
+    private String clientId = "nuguri";
+
+    /** 클라이언트 비밀번호 */
+    private String clientSecret = "bom";
+
+    /** password 인증 계정, 유저 CRUD 조회, 변경, 삭제에 ADMIN 권한 필요 */
+    private String username = "admin@naver.com";
+
+    /** password 인증 비밀번호 */
+    private String password = "1234";
+
+    /** 작가 목록 조회 페이지 크기 */
+    private int pageSize = 10;
+
+    /** 작가 목록 조회 최대 페이지, 페이지는 Zipf 분포로 앞 페이지에 편중 */
+    private int maxPage = 100;
+
+    /** resc 서비스 대량 데이터 생성 옵션, 인자로 받은 값이 기본 값 덮어씀 */
+    private final Map<String, String> dataset = defaultDataset();
+
+    public boolean isProcessMode() {
+        return "process".equals(mode);
+    }
+
+    public Path getReportFile() {
+        return outputDir.resolve("report.json");
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("argument must be --key=value : " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            options.set(key, value);
+        }
+        if (options.isProcessMode()) {
+            options.authUrl = "http://localhost:" + options.authPort;
+            options.accountUrl = "http://localhost:" + options.accountPort;
+            options.rescUrl = "http://localhost:" + options.rescPort;
+        } else if (!"external".equals(options.mode)) {
+            throw new IllegalArgumentException("mode must be process or external : " + options.mode);
+        }
+        if (options.isProcessMode() && !Files.exists(options.servicesDir.resolve("account-exec.jar"))) {
+            options.accountEnabled = false;
+            options.mix.remove(Operation.USER_CRUD);
+            if (options.mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+                throw new IllegalArgumentException("mix must have operation other than user_crud without account service : " + options.servicesDir);
+            }
+        }
+        return options;
+    }
+
+    private void set(String key, String value) {
+        if (key.startsWith(DATASET_PREFIX)) {
+            dataset.put(key.substring(DATASET_PREFIX.length()), value);
+            return;
+        }
+        switch (key) {
+            case "mode": mode = value; break;
+            case "duration": duration = Duration.ofSeconds(Long.parseLong(value)); break;
+            case "warmup": warmup = Duration.ofSeconds(Long.parseLong(value)); break;
+            case "threads": threads = Integer.parseInt(value); break;
+            case "seed": seed = Long.parseLong(value); break;
+            case "mix": mix = Operation.parseMix(value); break;
+            case "auth-url": authUrl = value; break;
+            case "account-url": accountUrl = value; break;
+            case "resc-url": rescUrl = value; break;
+            case "auth-port": authPort = Integer.parseInt(value); break;
+            case "account-port": accountPort = Integer.parseInt(value); break;
+            case "resc-port": rescPort = Integer.parseInt(value); break;
+            case "h2-port": h2Port = Integer.parseInt(value); break;
+            case "redis-port": redisPort = Integer.parseInt(value); break;
+            case "service-heap": serviceHeap = value; break;
+            case "startup-timeout": startupTimeout = Duration.ofSeconds(Long.parseLong(value)); break;
+            case "services-dir": servicesDir = Paths.get(value); break;
+            case "output-dir": outputDir = Paths.get(value); break;
+            case "client-id": clientId = value; break;
+            case "client-secret": clientSecret = value; break;
+            case "username": username = value; break;
+            case "password": password = value; break;
+            case "page-size": pageSize = Integer.parseInt(value); break;
+            case "max-page": maxPage = Integer.parseInt(value); break;
+            default: throw new IllegalArgumentException("unknown option : " + key);
+        }
+    }
+
+    /**
+     * 부하 테스트용 대량 데이터 기본 수량, 서비스 기동 시간이 너무 길어지지 않도록 기본 설정보다 작게 지정
+     */
+    private static Map<String, String> defaultDataset() {
+        Map<String, String> dataset = new LinkedHashMap<>();
+        dataset.put("enabled", "true");
+        dataset.put("accounts", "10000");
+        dataset.put("clients", "1000");
+        dataset.put("creators", "1000");
+        dataset.put("companies", "100");
+        dataset.put("products", "20000");
+        dataset.put("orders", "50000");
+        return dataset;
+    }
+
+    private static Path jarDirectory() {
+        try {
+            File location = new File(LoadTestOptions.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            return location.getParentFile().toPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package me.nuguri.loadtest;
+
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 부하 테스트 실행 진입점
+ * process 실행 방식은 H2, 임베디드 Redis 를 띄우고 auth, resc, account 순서로 서비스 프로세스 실행 후 요청, 종료 시 모두 정리
+ * 계정 서버 실행 jar 가 없으면 계정 서버는 실행하지 않고 user_crud 작업 제외
+ * 예) mvn -P loadtest -pl loadtest -am package 후 java -jar loadtest/target/loadtest.jar --duration=60 --threads=16
+ * 계정 서버 포함 시 mvn -P loadtest,loadtest-account -pl loadtest -am package
+ * 결과는 엔드포인트 별 처리량, 백분위 응답 시간 표 출력 후 loadtest/target/loadtest/report.json 기록
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Deque<AutoCloseable> resources = new ConcurrentLinkedDeque<>();
+        Thread cleanup = new Thread(() -> closeAll(resources));
+        Runtime.getRuntime().addShutdownHook(cleanup);
+        try {
+            if (options.isProcessMode()) {
+                System.out.println("starting local h2, redis");
+                resources.push(LocalStandIns.start(options));
+                start(ServiceProcess.auth(options), options, resources);
+                start(ServiceProcess.resc(options), options, resources);
+                if (options.isAccountEnabled()) {
+                    start(ServiceProcess.account(options), options, resources);
+                } else {
+                    System.out.println("account service jar not found, skipping account and user_crud");
+                }
+            }
+            EndpointStats stats = new EndpointStats();
+            ServiceClient client = new ServiceClient(options, stats);
+            resources.push(client);
+            client.prepare();
+            System.out.printf("warmup %ds, measure %ds, %d threads, mix %s%n", options.getWarmup().getSeconds(),
+                    options.getDuration().getSeconds(), options.getThreads(), options.getMix());
+            new LoadDriver(options).run(client, stats);
+            List<Map<String, Object>> rows = stats.report();
+            stats.print(rows, System.out);
+            stats.write(rows, settings(options), options.getReportFile());
+            System.out.println("report written to " + options.getReportFile());
+        } finally {
+            closeAll(resources);
+            Runtime.getRuntime().removeShutdownHook(cleanup);
+        }
+    }
+
+    private static void start(ServiceProcess service, LoadTestOptions options, Deque<AutoCloseable> resources) throws InterruptedException {
+        resources.push(service);
+        System.out.println("starting " + service.getName());
+        service.awaitReady(options);
+    }
+
+    /**
+     * 실행 역순으로 정리, 서비스 프로세스 먼저 종료 후 저장소 종료
+     */
+    private static void closeAll(Deque<AutoCloseable> resources) {
+        AutoCloseable resource;
+        while ((resource = resources.pollFirst()) != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                System.err.println("close failed : " + e);
+            }
+        }
+    }
+
+    private static Map<String, Object> settings(LoadTestOptions options) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("mode", options.getMode());
+        settings.put("threads", options.getThreads());
+        settings.put("warmupSeconds", options.getWarmup().getSeconds());
+        settings.put("durationSeconds", options.getDuration().getSeconds());
+        settings.put("seed", options.getSeed());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.getMix().forEach((operation, weight) -> mix.put(operation.getKey(), weight));
+        settings.put("mix", mix);
+        if (options.isProcessMode()) {
+            settings.put("dataset", options.getDataset());
+        }
+        return settings;
+    }
+
+}
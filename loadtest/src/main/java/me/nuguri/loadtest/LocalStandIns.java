@@ -0,0 +1,51 @@
+package me.nuguri.loadtest;
+
+import org.h2.tools.Server;
+import redis.embedded.RedisServer;
+
+import java.sql.SQLException;
+
+/**
+ * MySQL, Redis 로컬 대체 저장소
+ * H2 는 TCP 서버로 띄워 서비스 프로세스들이 jdbc:h2:tcp 로 같은 인메모리 DB 공유
+ */
+public class LocalStandIns implements AutoCloseable {
+
+    private final Server h2;
+
+    private final RedisServer redis;
+
+    private LocalStandIns(Server h2, RedisServer redis) {
+        this.h2 = h2;
+        this.redis = redis;
+    }
+
+    public static LocalStandIns start(LoadTestOptions options) throws SQLException {
+        Server h2 = Server.createTcpServer("-tcpPort", String.valueOf(options.getH2Port()), "-ifNotExists").start();
+        RedisServer redis = new RedisServer(options.getRedisPort());
+        try {
+            redis.start();
+        } catch (RuntimeException e) {
+            h2.stop();
+            throw e;
+        }
+        return new LocalStandIns(h2, redis);
+    }
+
+    /**
+     * 서비스 프로세스 데이터소스 URL, 마지막 연결이 끊겨도 DB 유지
+     */
+    public static String jdbcUrl(LoadTestOptions options) {
+        return "jdbc:h2:tcp://localhost:" + options.getH2Port() + "/mem:oauth;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+
+    @Override
+    public void close() {
+        try {
+            redis.stop();
+        } finally {
+            h2.stop();
+        }
+    }
+
+}
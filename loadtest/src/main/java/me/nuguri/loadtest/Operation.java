@@ -0,0 +1,92 @@
+package me.nuguri.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+/**
+ * 부하 테스트 작업 종류, 요청 스레드는 가중치 비율로 작업을 골라 실행
+ */
+public enum Operation {
+
+    /** password 방식 토큰 발급 */
+    PASSWORD("password", (client, random) -> client.passwordGrant()),
+
+    /** client_credentials 방식 토큰 발급 */
+    CLIENT_CREDENTIALS("client_credentials", (client, random) -> client.clientCredentialsGrant()),
+
+    /** 토큰 검증 */
+    CHECK_TOKEN("check_token", (client, random) -> client.checkToken()),
+
+    /** 작가 목록 페이징 조회 */
+    CREATORS("creators", ServiceClient::queryCreators),
+
+    /** 유저 생성, 조회, 변경, 삭제 */
+    USER_CRUD("user_crud", ServiceClient::userCrud);
+
+    private final String key;
+
+    private final BiConsumer<ServiceClient, Random> action;
+
+    Operation(String key, BiConsumer<ServiceClient, Random> action) {
+        this.key = key;
+        this.action = action;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void run(ServiceClient client, Random random) {
+        action.accept(client, random);
+    }
+
+    public static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("unknown operation : " + key);
+    }
+
+    /**
+     * 기본 작업 구성, 토큰 검증과 목록 조회 위주의 읽기 트래픽에 토큰 발급, 유저 CRUD 섞음
+     */
+    public static Map<Operation, Integer> defaultMix() {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        mix.put(PASSWORD, 5);
+        mix.put(CLIENT_CREDENTIALS, 5);
+        mix.put(CHECK_TOKEN, 30);
+        mix.put(CREATORS, 40);
+        mix.put(USER_CRUD, 20);
+        return mix;
+    }
+
+    /**
+     * 작업 구성 파싱
+     *
+     * @param value 작업 이름=가중치 쉼표 구분, 예) check_token=50,creators=50
+     * @return 작업 별 가중치
+     */
+    public static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entry must be operation=weight : " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("weight must not be negative : " + entry);
+            }
+            mix.put(of(pair[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix must have positive weight : " + value);
+        }
+        return mix;
+    }
+
+}
@@ -0,0 +1,229 @@
+package me.nuguri.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nuguri.common.support.ZipfSampler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 서비스 요청 클라이언트, 요청마다 응답 시간과 상태 코드를 엔드포인트 별로 기록
+ * 토큰은 스레드 간 공유하고 토큰 발급 작업이 실행될 때마다 새 토큰으로 교체
+ */
+public class ServiceClient implements AutoCloseable {
+
+    private final LoadTestOptions options;
+
+    private final EndpointStats stats;
+
+    private final CloseableHttpClient httpClient;
+
+    private final RestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ZipfSampler pageSampler;
+
+    /** password 방식 토큰, 토큰 검증, 목록 조회, 유저 조회, 변경, 삭제에 사용 */
+    private final AtomicReference<String> userToken = new AtomicReference<>();
+
+    /** client_credentials 방식 토큰, 유저 생성에 사용 */
+    private final AtomicReference<String> clientToken = new AtomicReference<>();
+
+    /** 생성 유저 이메일 중복 방지 순번 */
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+
+    public ServiceClient(LoadTestOptions options, EndpointStats stats) {
+        this.options = options;
+        this.stats = stats;
+        // 요청 스레드 별로 서비스마다 연결 하나씩 유지, 연결 수립 비용이 측정 값에 섞이지 않도록 함
+        this.httpClient = HttpClients.custom()
+                .setMaxConnTotal(options.getThreads() * 3)
+                .setMaxConnPerRoute(options.getThreads())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(1000)
+                        .setSocketTimeout(30000)
+                        .build())
+                .disableCookieManagement()
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        // 4xx, 5xx 응답도 예외 없이 상태 코드로 집계
+        this.restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) throws IOException {
+                return false;
+            }
+        });
+        this.pageSampler = new ZipfSampler(options.getMaxPage(), 1.0);
+    }
+
+    /**
+     * 측정 전 토큰 발급, 발급 실패 시 설정이나 초기 데이터가 잘못된 것이므로 바로 실패
+     */
+    public void prepare() {
+        passwordGrant();
+        clientCredentialsGrant();
+        if (userToken.get() == null || clientToken.get() == null) {
+            throw new IllegalStateException("token not issued, check client and user credentials");
+        }
+    }
+
+    public void passwordGrant() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "password");
+        form.add("username", options.getUsername());
+        form.add("password", options.getPassword());
+        String token = accessToken(exchange("POST /oauth/token (password)", tokenRequest("/oauth/token", form)));
+        if (token != null) {
+            userToken.set(token);
+        }
+    }
+
+    public void clientCredentialsGrant() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "client_credentials");
+        String token = accessToken(exchange("POST /oauth/token (client_credentials)", tokenRequest("/oauth/token", form)));
+        if (token != null) {
+            clientToken.set(token);
+        }
+    }
+
+    public void checkToken() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("token", userToken.get());
+        exchange("POST /oauth/check_token", tokenRequest("/oauth/check_token", form));
+    }
+
+    /**
+     * 작가 목록 조회, 페이지는 앞 페이지에 편중, 페이지 번호는 1 부터 시작
+     */
+    public void queryCreators(Random random) {
+        URI uri = URI.create(options.getRescUrl() + "/api/v1/creators?page=" + (pageSampler.sample(random) + 1)
+                + "&size=" + options.getPageSize());
+        RequestEntity<Void> request = RequestEntity.get(uri)
+                .header(HttpHeaders.AUTHORIZATION, bearer(userToken))
+                .accept(MediaType.ALL)
+                .build();
+        exchange("GET /api/v1/creators", request);
+    }
+
+    /**
+     * 유저 생성, 조회, 변경, 삭제 순서로 실행, 각 요청은 별도 엔드포인트로 집계, 생성 실패 시 나머지 생략
+     */
+    public void userCrud(Random random) {
+        long number = sequence.incrementAndGet();
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("city", "서울시");
+        address.put("street", "street" + random.nextInt(1000));
+        address.put("zipCode", String.format("%05d", random.nextInt(100000)));
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("email", "loadtest" + number + "@loadtest.nuguri.me");
+        user.put("password", options.getPassword());
+        user.put("name", "부하테스트" + number);
+        user.put("gender", random.nextBoolean() ? "M" : "F");
+        user.put("address", address);
+        user.put("roles", "USER");
+        ResponseEntity<String> created = exchange("POST /api/v1/user", RequestEntity.post(accountUri("/api/v1/user"))
+                .header(HttpHeaders.AUTHORIZATION, bearer(clientToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.ALL)
+                .body(user));
+        JsonNode body = json(created);
+        if (body == null || !body.hasNonNull("id")) {
+            return;
+        }
+        URI uri = accountUri("/api/v1/user/" + body.get("id").asLong());
+        exchange("GET /api/v1/user/{id}", RequestEntity.get(uri)
+                .header(HttpHeaders.AUTHORIZATION, bearer(userToken))
+                .accept(MediaType.ALL)
+                .build());
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put("name", "부하테스트" + number + "변경");
+        exchange("PATCH /api/v1/user/{id}", RequestEntity.method(HttpMethod.PATCH, uri)
+                .header(HttpHeaders.AUTHORIZATION, bearer(userToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.ALL)
+                .body(update));
+        exchange("DELETE /api/v1/user/{id}", RequestEntity.delete(uri)
+                .header(HttpHeaders.AUTHORIZATION, bearer(userToken))
+                .accept(MediaType.ALL)
+                .build());
+    }
+
+    private RequestEntity<MultiValueMap<String, String>> tokenRequest(String path, MultiValueMap<String, String> form) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(options.getClientId(), options.getClientSecret());
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        return new RequestEntity<>(form, headers, HttpMethod.POST, URI.create(options.getAuthUrl() + path));
+    }
+
+    private URI accountUri(String path) {
+        return URI.create(options.getAccountUrl() + path);
+    }
+
+    private String bearer(AtomicReference<String> token) {
+        return "Bearer " + token.get();
+    }
+
+    /**
+     * 요청 실행 후 응답 시간, 상태 코드 기록, 연결 실패, 타임 아웃은 상태 코드 0 으로 기록
+     */
+    private ResponseEntity<String> exchange(String endpoint, RequestEntity<?> request) {
+        long start = System.nanoTime();
+        ResponseEntity<String> response = null;
+        int status = 0;
+        try {
+            response = restTemplate.exchange(request, String.class);
+            status = response.getStatusCodeValue();
+        } catch (RestClientException e) {
+            // 상태 코드 0 으로 기록
+        }
+        stats.record(endpoint, System.nanoTime() - start, status);
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private String accessToken(ResponseEntity<String> response) {
+        JsonNode body = json(response);
+        return body == null || !body.hasNonNull("access_token") ? null : body.get("access_token").asText();
+    }
+
+    private JsonNode json(ResponseEntity<String> response) {
+        if (response == null || !response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.getBody());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package me.nuguri.loadtest;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 실행 jar 를 로컬 프로세스로 실행
+ * 서비스마다 클래스패스 루트의 application.yml, 정적 리소스가 겹쳐 한 JVM 에서 함께 띄울 수 없으므로 프로세스 분리
+ * MySQL 드라이버만 포함된 실행 jar 에 PropertiesLauncher 의 loader.path 로 H2 드라이버 추가하고 설정은 명령행 인자로 덮어씀
+ */
+public class ServiceProcess implements AutoCloseable {
+
+    private static final String LAUNCHER = "org.springframework.boot.loader.PropertiesLauncher";
+
+    private final String name;
+
+    private final int port;
+
+    private final Process process;
+
+    private final Path log;
+
+    private ServiceProcess(String name, int port, Process process, Path log) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+        this.log = log;
+    }
+
+    /**
+     * 인증 서버 실행, 스키마 새로 생성하고 local 프로파일 초기 데이터(클라이언트, 관리자, 유저) 입력, 다른 서비스보다 먼저 실행
+     */
+    public static ServiceProcess auth(LoadTestOptions options) throws IOException {
+        List<String> args = commonArgs(options, options.getAuthPort(), "create");
+        return start("auth", options.getAuthPort(), args, options);
+    }
+
+    /**
+     * 리소스 서버 실행, 대량 데이터 생성 옵션 전달
+     */
+    public static ServiceProcess resc(LoadTestOptions options) throws IOException {
+        List<String> args = commonArgs(options, options.getRescPort(), "update");
+        args.addAll(authServerArgs("auth", options));
+        for (Map.Entry<String, String> entry : options.getDataset().entrySet()) {
+            args.add("--" + LoadTestOptions.DATASET_PREFIX + entry.getKey() + "=" + entry.getValue());
+        }
+        // 대량 데이터는 JDBC 로 입력되므로 단일 인스턴스인 이번 실행에서 상품 조회 모델 일회성 재구성
+        args.add("--resc.read-model.rebuild-on-startup=true");
+        return start("resc", options.getRescPort(), args, options);
+    }
+
+    /**
+     * 계정 서버 실행
+     */
+    public static ServiceProcess account(LoadTestOptions options) throws IOException {
+        List<String> args = commonArgs(options, options.getAccountPort(), "update");
+        args.addAll(authServerArgs("account", options));
+        args.add("--account.redirect-uri=" + options.getAuthUrl() + "/main");
+        return start("account", options.getAccountPort(), args, options);
+    }
+
+    private static List<String> commonArgs(LoadTestOptions options, int port, String ddlAuto) {
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=" + port);
+        args.add("--spring.datasource.url=" + LocalStandIns.jdbcUrl(options));
+        args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        args.add("--spring.datasource.username=sa");
+        args.add("--spring.datasource.password=");
+        args.add("--spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+        args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        args.add("--spring.redis.host=localhost");
+        args.add("--spring.redis.port=" + options.getRedisPort());
+        // 로컬 설정의 SQL, 바인딩 파라미터, 시큐리티 디버그 로그는 측정 값을 왜곡하므로 끔
+        args.add("--logging.level.root=WARN");
+        args.add("--logging.level.org.hibernate.SQL=WARN");
+        args.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        args.add("--logging.level.org.springframework.security=WARN");
+        args.add("--logging.level.org.springframework.boot.web.embedded=INFO");
+        return args;
+    }
+
+    private static List<String> authServerArgs(String prefix, LoadTestOptions options) {
+        List<String> args = new ArrayList<>();
+        args.add("--" + prefix + ".check-token-url=" + options.getAuthUrl() + "/oauth/check_token");
+        args.add("--" + prefix + ".revoke-token-url=" + options.getAuthUrl() + "/oauth/revoke_token");
+        args.add("--" + prefix + ".access-token-url=" + options.getAuthUrl() + "/oauth/token");
+        args.add("--" + prefix + ".authorize-code-url=" + options.getAuthUrl() + "/oauth/authorize");
+        return args;
+    }
+
+    private static ServiceProcess start(String name, int port, List<String> args, LoadTestOptions options) throws IOException {
+        Path jar = options.getServicesDir().resolve(name + "-exec.jar");
+        Path h2 = options.getServicesDir().resolve("lib").resolve("h2.jar");
+        if (!Files.exists(jar) || !Files.exists(h2)) {
+            throw new IllegalStateException("service jar not found, run mvn -P loadtest -pl loadtest -am package : " + jar);
+        }
+        Files.createDirectories(options.getOutputDir());
+        Path log = options.getOutputDir().resolve(name + ".log");
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx" + options.getServiceHeap());
+        command.add("-Dloader.path=" + h2.toAbsolutePath());
+        command.add("-cp");
+        command.add(jar.toAbsolutePath().toString());
+        command.add(LAUNCHER);
+        command.addAll(args);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(name, port, process, log);
+    }
+
+    /**
+     * 서비스가 HTTP 응답을 줄 때까지 대기, 상태 코드는 상관 없이 응답이 오면 기동 완료로 판단
+     *
+     * @param options 기동 대기 최대 시간
+     */
+    public void awaitReady(LoadTestOptions options) throws InterruptedException {
+        long deadline = System.nanoTime() + options.getStartupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ", see " + log);
+            }
+            if (responds()) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException(name + " not ready in " + options.getStartupTimeout() + ", see " + log);
+    }
+
+    private boolean responds() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/actuator/health").openConnection();
+            connection.setConnectTimeout(500);
+            connection.setReadTimeout(5000);
+            try {
+                connection.getResponseCode();
+                return true;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+}
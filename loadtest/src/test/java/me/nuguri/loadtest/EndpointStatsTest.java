@@ -0,0 +1,95 @@
+package me.nuguri.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("엔드포인트 응답 시간 집계 테스트")
+public class EndpointStatsTest {
+
+    private final EndpointStats stats = new EndpointStats();
+
+    @Test
+    @DisplayName("1ms 부터 100ms 까지 응답 시간의 백분위가 밀리초 단위로 집계 되는 경우")
+    public void report_Percentiles() {
+        stats.start();
+        for (int ms = 100; ms >= 1; ms--) {
+            stats.record("GET /api/v1/creators", TimeUnit.MILLISECONDS.toNanos(ms), 200);
+        }
+        stats.stop();
+
+        Map<String, Object> row = single(stats.report());
+
+        assertEquals("GET /api/v1/creators", row.get("endpoint"));
+        assertEquals(100L, row.get("count"));
+        assertEquals(0L, row.get("errors"));
+        // 마이크로초 유효 숫자 3자리 정밀도
+        assertEquals(50.0, (double) row.get("p50"), 0.1);
+        assertEquals(90.0, (double) row.get("p90"), 0.1);
+        assertEquals(99.0, (double) row.get("p99"), 0.1);
+        assertEquals(100.0, (double) row.get("p99.9"), 0.1);
+        assertEquals(100.0, (double) row.get("max"), 0.1);
+        assertEquals(50.5, (double) row.get("mean"), 0.1);
+    }
+
+    @Test
+    @DisplayName("start 전 예열 요청과 stop 후 요청은 집계하지 않는 경우")
+    public void record_OutsideMeasurement_Excluded() {
+        stats.record("POST /oauth/token", TimeUnit.SECONDS.toNanos(5), 200);
+        stats.start();
+        stats.record("POST /oauth/token", TimeUnit.MILLISECONDS.toNanos(10), 200);
+        stats.stop();
+        stats.record("POST /oauth/token", TimeUnit.SECONDS.toNanos(5), 500);
+
+        Map<String, Object> row = single(stats.report());
+
+        assertEquals(1L, row.get("count"));
+        assertEquals(0L, row.get("errors"));
+        assertEquals(10.0, (double) row.get("max"), 0.1);
+    }
+
+    @Test
+    @DisplayName("다시 start 하면 이전 집계를 버리는 경우")
+    public void start_Again_Cleared() {
+        stats.start();
+        stats.record("POST /oauth/token", TimeUnit.SECONDS.toNanos(5), 200);
+        stats.start();
+        stats.record("POST /oauth/check_token", TimeUnit.MILLISECONDS.toNanos(1), 200);
+        stats.stop();
+
+        assertEquals("POST /oauth/check_token", single(stats.report()).get("endpoint"));
+    }
+
+    @Test
+    @DisplayName("연결 실패(0), 4xx, 5xx 응답은 오류로 집계하고 상태 코드 별 건수를 남기는 경우")
+    @SuppressWarnings("unchecked")
+    public void report_Errors() {
+        stats.start();
+        stats.record("PATCH /api/v1/user/{id}", TimeUnit.MILLISECONDS.toNanos(1), 200);
+        stats.record("PATCH /api/v1/user/{id}", TimeUnit.MILLISECONDS.toNanos(1), 302);
+        stats.record("PATCH /api/v1/user/{id}", TimeUnit.MILLISECONDS.toNanos(1), 404);
+        stats.record("PATCH /api/v1/user/{id}", TimeUnit.MILLISECONDS.toNanos(1), 503);
+        stats.record("PATCH /api/v1/user/{id}", TimeUnit.MILLISECONDS.toNanos(1), 0);
+        stats.stop();
+
+        Map<String, Object> row = single(stats.report());
+        Map<String, Long> statuses = (Map<String, Long>) row.get("statuses");
+
+        assertEquals(5L, row.get("count"));
+        assertEquals(3L, row.get("errors"));
+        assertEquals(1L, statuses.get("0"));
+        assertEquals(1L, statuses.get("302"));
+        assertEquals(5, statuses.size());
+    }
+
+    private Map<String, Object> single(List<Map<String, Object>> rows) {
+        assertEquals(1, rows.size());
+        return rows.get(0);
+    }
+
+}
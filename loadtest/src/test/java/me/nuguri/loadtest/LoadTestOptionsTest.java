@@ -0,0 +1,96 @@
+package me.nuguri.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("부하 테스트 옵션 테스트")
+public class LoadTestOptionsTest {
+
+    @TempDir
+    Path servicesDir;
+
+    @Test
+    @DisplayName("process 실행 방식은 서비스 주소를 포트로 결정하고 나머지 옵션은 인자 값으로 덮어쓰는 경우")
+    public void parse_ProcessMode_UrlsFromPorts() throws IOException {
+        Files.createFile(servicesDir.resolve("account-exec.jar"));
+
+        LoadTestOptions options = LoadTestOptions.parse(new String[]{
+                "--services-dir=" + servicesDir, "--auth-port=29600", "--resc-port=28600", "--account-url=http://ignored",
+                "--duration=30", "--threads=4", "--seed=7"});
+
+        assertTrue(options.isProcessMode());
+        assertEquals("http://localhost:29600", options.getAuthUrl());
+        assertEquals("http://localhost:28600", options.getRescUrl());
+        assertEquals("http://localhost:20600", options.getAccountUrl());
+        assertEquals(Duration.ofSeconds(30), options.getDuration());
+        assertEquals(4, options.getThreads());
+        assertEquals(7L, options.getSeed());
+        assertTrue(options.isAccountEnabled());
+        assertEquals(Operation.defaultMix(), options.getMix());
+    }
+
+    @Test
+    @DisplayName("common.dataset. 인자는 접두어를 뗀 키로 대량 데이터 옵션에 전달 되고 나머지 기본 값은 유지 되는 경우")
+    public void parse_DatasetPrefix_PassedThrough() {
+        LoadTestOptions options = LoadTestOptions.parse(new String[]{
+                "--services-dir=" + servicesDir, "--common.dataset.products=500", "--common.dataset.seed=42"});
+
+        assertEquals("500", options.getDataset().get("products"));
+        assertEquals("42", options.getDataset().get("seed"));
+        assertEquals("true", options.getDataset().get("enabled"));
+        assertEquals("1000", options.getDataset().get("creators"));
+    }
+
+    @Test
+    @DisplayName("external 실행 방식은 입력한 서비스 주소를 그대로 사용하고 계정 서버 jar 없이도 계정 서버 사용")
+    public void parse_ExternalMode_UrlsAsGiven() {
+        LoadTestOptions options = LoadTestOptions.parse(new String[]{
+                "--mode=external", "--services-dir=" + servicesDir, "--auth-url=http://auth:9600", "--account-url=http://account:10600"});
+
+        assertFalse(options.isProcessMode());
+        assertEquals("http://auth:9600", options.getAuthUrl());
+        assertEquals("http://account:10600", options.getAccountUrl());
+        assertTrue(options.isAccountEnabled());
+        assertTrue(options.getMix().containsKey(Operation.USER_CRUD));
+    }
+
+    @Test
+    @DisplayName("process, external 외 실행 방식은 실패하는 경우")
+    public void parse_UnknownMode_Fail() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--mode=cluster"}));
+    }
+
+    @Test
+    @DisplayName("--키=값 형식이 아니거나 알 수 없는 옵션은 실패하는 경우")
+    public void parse_InvalidArgument_Fail() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"threads=4"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--threads"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--unknown=1"}));
+    }
+
+    @Test
+    @DisplayName("process 실행 방식에서 계정 서버 jar 가 없으면 계정 서버를 사용하지 않고 user_crud 작업을 제외하는 경우")
+    public void parse_AccountJarMissing_UserCrudExcluded() {
+        LoadTestOptions options = LoadTestOptions.parse(new String[]{"--services-dir=" + servicesDir});
+
+        assertFalse(options.isAccountEnabled());
+        assertFalse(options.getMix().containsKey(Operation.USER_CRUD));
+        assertEquals(Operation.defaultMix().size() - 1, options.getMix().size());
+    }
+
+    @Test
+    @DisplayName("계정 서버 jar 가 없는데 user_crud 작업만 구성하면 실패하는 경우")
+    public void parse_AccountJarMissing_OnlyUserCrud_Fail() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{
+                "--services-dir=" + servicesDir, "--mix=user_crud=10,creators=0"}));
+    }
+
+}
@@ -0,0 +1,46 @@
+package me.nuguri.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("부하 테스트 작업 구성 테스트")
+public class OperationTest {
+
+    @Test
+    @DisplayName("작업 이름=가중치 목록을 입력 순서대로 파싱하고 공백은 무시하는 경우")
+    public void parseMix_InputOrder() {
+        Map<Operation, Integer> mix = Operation.parseMix(" check_token = 50, creators=30 ,password=0");
+
+        assertEquals(Arrays.asList(Operation.CHECK_TOKEN, Operation.CREATORS, Operation.PASSWORD), new ArrayList<>(mix.keySet()));
+        assertEquals(50, mix.get(Operation.CHECK_TOKEN));
+        assertEquals(30, mix.get(Operation.CREATORS));
+        assertEquals(0, mix.get(Operation.PASSWORD));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 작업, 형식 오류, 음수 가중치, 가중치 합이 0 인 경우 실패")
+    public void parseMix_Invalid_Fail() {
+        assertThrows(IllegalArgumentException.class, () -> Operation.parseMix("unknown=10"));
+        assertThrows(IllegalArgumentException.class, () -> Operation.parseMix("creators"));
+        assertThrows(IllegalArgumentException.class, () -> Operation.parseMix("creators=1=2"));
+        assertThrows(IllegalArgumentException.class, () -> Operation.parseMix("creators=abc"));
+        assertThrows(IllegalArgumentException.class, () -> Operation.parseMix("creators=-1,check_token=5"));
+        assertThrows(IllegalArgumentException.class, () -> Operation.parseMix("creators=0,check_token=0"));
+    }
+
+    @Test
+    @DisplayName("기본 작업 구성은 모든 작업을 포함하는 경우")
+    public void defaultMix_AllOperations() {
+        Map<Operation, Integer> mix = Operation.defaultMix();
+
+        assertEquals(Operation.values().length, mix.size());
+        assertEquals(100, mix.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+}
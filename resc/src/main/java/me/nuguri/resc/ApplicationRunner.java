@@ -8,12 +8,14 @@ import me.nuguri.resc.repository.CompanyRepository;
 import me.nuguri.resc.repository.CreatorRepository;
 import me.nuguri.resc.repository.CategoryRepository;
 import me.nuguri.resc.repository.ProductCategoryRepository;
+import me.nuguri.resc.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -31,6 +33,8 @@ public class ApplicationRunner implements org.springframework.boot.ApplicationRu
 
     private final CompanyRepository companyRepository;
 
+    private final ProductRepository productRepository;
+
     @Value("${spring.profiles.active}")
     private String profile;
 
@@ -50,43 +54,50 @@ public class ApplicationRunner implements org.springframework.boot.ApplicationRu
                     , LocalDate.of(2020, 2, 14), LocalDate.of(1987, 7, 11), LocalDate.of(1999, 9, 12)};
 
             for (int i = 0; i < authorNames.length; i++) {
-                Creator creator = new Creator();
-                creator.setName(authorNames[i]);
-                creator.setBirth(authorBirth[i]);
-                creator.setDeath(authorDeath[i]);
-                creator.setGender(i % 2 == 0 ? Gender.M : Gender.F);
-                creatorList.add(creator);
+                creatorList.add(Creator.builder()
+                        .name(authorNames[i])
+                        .birth(authorBirth[i])
+                        .death(authorDeath[i])
+                        .gender(i % 2 == 0 ? Gender.M : Gender.F)
+                        .build());
+            }
+
+            creatorRepository.generateAll(creatorList);
+
+            List<Company> companyList = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                companyList.add(Company.builder().name("아무회사" + i).establishDate(LocalDate.now()).build());
             }
 
-            creatorRepository.saveAll(creatorList);
+            companyRepository.generateAll(companyList);
 
             List<Book> bookList = new ArrayList<>();
             long min = LocalDate.of(1900, 1, 1).toEpochDay();
             long max = LocalDate.now().toEpochDay();
             for (int i = 0; i < 200; i++) {
-                Book book = new Book();
-                book.setName("책 " + i);
-                book.setPublishDate(LocalDate.ofEpochDay(ThreadLocalRandom.current().nextLong(min, max)));
-                book.addCreator(creatorList.get(random.nextInt(creatorList.size())));
-                Company company = new Company();
-                company.setName("아무회사" + i);
-                company.setEstablishDate(LocalDate.now());
-                book.addCompany(company);
-                bookList.add(book);
-
-                companyRepository.save(company);
+                bookList.add(Book.builder()
+                        .name("책 " + i)
+                        .price((random.nextInt(50) + 1) * 1000)
+                        .stockCount(random.nextInt(100))
+                        .publishDate(LocalDate.ofEpochDay(ThreadLocalRandom.current().nextLong(min, max)))
+                        .creator(creatorList.get(random.nextInt(creatorList.size())))
+                        .company(companyList.get(i))
+                        .build());
             }
 
+            productRepository.generateAll(bookList);
+
             List<Category> majorCategoryList = new ArrayList<>();
             String[] majorCategoryNames = {"국내도서", "외국도서", "eBook"};
 
             for (String majorCategoryName : majorCategoryNames) {
-                Category category = new Category();
-                category.setName(majorCategoryName);
-                majorCategoryList.add(category);
+                majorCategoryList.add(Category.builder().name(majorCategoryName).build());
             }
 
-            List<List<MinorCategory>> minorCategoryList = new ArrayList<>();
+            // 하위 카테고리까지 영속성 전이 되지 않도록 상위 카테고리 먼저 저장, 하위 카테고리 경로는 상위 카테고리 경로로 생성
+            categoryRepository.generateAll(majorCategoryList);
+
+            List<List<Category>> minorCategoryList = new ArrayList<>();
             String[][] minorCategoryNames = {
                     {"소설/시", "에세이", "인문", "역사", "예술", "종교", "사회", "과학", "경제/경영", "자기계발", "만화", "라이트노벨", "여행", "잡지", "어린이",
                             "유아", "전집", "청소년", "요리", "육아", "가정 살림", "건강 취미", "대학교재", "국어와 외국어", "IT 모바일", "수험서 자격증", "초등참고서", "중고등참고서"},
@@ -97,33 +108,26 @@ public class ApplicationRunner implements org.springframework.boot.ApplicationRu
             };
 
             for (int i = 0; i < minorCategoryNames.length; i++) {
-                List<MinorCategory> categoryList = new ArrayList<>();
+                List<Category> categoryList = new ArrayList<>();
                 minorCategoryList.add(categoryList);
                 for (int j = 0; j < minorCategoryNames[i].length; j++) {
-                    MinorCategory category = new MinorCategory();
-                    category.setName(minorCategoryNames[i][j]);
-                    category.addMajorCategory(majorCategoryList.get(i));
-                    categoryList.add(category);
+                    categoryList.add(Category.builder().name(minorCategoryNames[i][j]).category(majorCategoryList.get(i)).build());
                 }
             }
 
-            categoryRepository.saveAll(majorCategoryList);
-
-            for (int i = 0; i < bookList.size(); i++) {
-                Book book = bookList.get(i);
-                for (int j = 0; j < random.nextInt(5) + 1; j++) {
-                    int index = random.nextInt(minorCategoryList.size());
-                    MinorCategory minorCategory = minorCategoryList.get(index).get(random.nextInt(minorCategoryList.get(index).size()));
-                    if (book.getProductCategories().stream().anyMatch(cb -> cb.getCategory().equals(minorCategory))) {
-                        j--;
-                    } else {
-                        ProductCategory productCategory = new ProductCategory();
-                        productCategory.addMinorCategory(minorCategory);
-                        productCategory.addProduct(book);
-                        productCategoryRepository.save(productCategory);
-                    }
+            categoryRepository.generateAll(minorCategoryList.stream().flatMap(List::stream));
+
+            List<ProductCategory> productCategoryList = new ArrayList<>();
+            for (Book book : bookList) {
+                int index = random.nextInt(minorCategoryList.size());
+                List<Category> categoryList = new ArrayList<>(minorCategoryList.get(index));
+                Collections.shuffle(categoryList, random);
+                for (Category category : categoryList.subList(0, random.nextInt(5) + 1)) {
+                    productCategoryList.add(ProductCategory.builder().category(category).product(book).build());
                 }
             }
+
+            productCategoryRepository.generateAll(productCategoryList);
         } else {
             log.info("[log] [active profile is " + profile + "] => do not persist test entities");
         }
@@ -1,18 +1,28 @@
 package me.nuguri.resc.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import me.nuguri.resc.property.ResponseCacheProperties;
+import me.nuguri.resc.property.StockLedgerProperties;
 import me.nuguri.resc.repository.BaseRepository;
 import me.nuguri.resc.repository.impl.BaseRepositoryImpl;
+import me.nuguri.resc.support.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.client.RestTemplate;
 
 import javax.persistence.EntityManager;
 
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
 @EnableJpaRepositories(basePackageClasses = BaseRepository.class, repositoryBaseClass = BaseRepositoryImpl.class)
 public class ApplicationConfiguration {
 
@@ -26,4 +36,58 @@ public class ApplicationConfiguration {
         return new JPAQueryFactory(entityManager);
     }
 
+    /**
+     * 엔티티 변경 이벤트 리스너 동기화를 트랜잭션 시작 시 등록하는 트랜잭션 매니저
+     * @param listeners 엔티티 변경 이벤트 리스너
+     * @param transactionManagerCustomizers spring.transaction 설정
+     * @return
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionalEntityEventListener<?>> listeners,
+                                                         ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        EntityEventTransactionManager transactionManager = new EntityEventTransactionManager(listeners);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public NameSearchIndex creatorNameIndex() {
+        return new NameSearchIndex();
+    }
+
+    @Bean
+    public NameSearchIndex productNameIndex() {
+        return new NameSearchIndex();
+    }
+
+    /**
+     * 재고 원장 저장소, Redis 저장소는 설정한 경우에만 연결
+     * @param stockLedgerProperties 재고 원장 설정
+     * @param redisTemplate Redis 템플릿
+     * @return
+     */
+    @Bean
+    public StockLedgerStore stockLedgerStore(StockLedgerProperties stockLedgerProperties, ObjectProvider<StringRedisTemplate> redisTemplate) {
+        if (stockLedgerProperties.getStore() == StockLedgerProperties.Store.REDIS) {
+            return new RedisStockLedgerStore(redisTemplate.getObject());
+        }
+        return new LocalStockLedgerStore(stockLedgerProperties.getStripes());
+    }
+
+    /**
+     * 조회 응답 캐시 저장소, Redis 저장소는 설정한 경우에만 연결
+     * @param responseCacheProperties 응답 캐시 설정
+     * @param redisTemplate Redis 템플릿
+     * @param objectMapper 캐시 된 응답 직렬화
+     * @return
+     */
+    @Bean
+    public ResponseCacheStore responseCacheStore(ResponseCacheProperties responseCacheProperties,
+                                                 ObjectProvider<StringRedisTemplate> redisTemplate, ObjectMapper objectMapper) {
+        if (responseCacheProperties.getStore() == ResponseCacheProperties.Store.REDIS) {
+            return new RedisResponseCacheStore(redisTemplate.getObject(), objectMapper, responseCacheProperties.getTtl());
+        }
+        return new LocalResponseCacheStore(responseCacheProperties.getTtl(), responseCacheProperties.getMaxSize());
+    }
+
 }
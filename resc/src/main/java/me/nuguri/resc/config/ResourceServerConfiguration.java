@@ -1,7 +1,9 @@
 package me.nuguri.resc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import me.nuguri.resc.property.ResourceServerConfigProperties;
+import me.nuguri.resc.support.CachingRemoteTokenServices;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -40,6 +42,7 @@ public class ResourceServerConfiguration extends ResourceServerConfigurerAdapter
         http
                 .authorizeRequests()
                 .mvcMatchers(HttpMethod.GET, "/api/**").access("#oauth2.hasScope('read')")
+                .mvcMatchers(HttpMethod.POST, "/api/v1/order").access("hasAnyRole('USER', 'ADMIN') and #oauth2.hasScope('write')")
                 .mvcMatchers("/api/**").access("(hasRole('ADMIN') or #oauth2.clientHasRole('ADMIN')) and #oauth2.hasScope('write')")
                 .anyRequest().authenticated();
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
@@ -49,11 +52,16 @@ public class ResourceServerConfiguration extends ResourceServerConfigurerAdapter
 
     /**
      * 리소스 서버에서 인증 서버로 check token endpoint 통신할 때 사용
+     * 토큰 검사 결과는 토큰 남은 유효 시간, 최대 유지 시간 내에서 캐싱
+     * @param meterRegistry 캐시 적중률 메트릭 레지스트리
      * @return
      */
     @Bean
-    public RemoteTokenServices remoteTokenServices() {
-        RemoteTokenServices remoteTokenServices = new RemoteTokenServices();
+    public RemoteTokenServices remoteTokenServices(MeterRegistry meterRegistry) {
+        RemoteTokenServices remoteTokenServices = new CachingRemoteTokenServices(
+                resourceServerConfigProperties.getIntrospectionCacheMaxTtl(),
+                resourceServerConfigProperties.getIntrospectionCacheMaxSize(),
+                meterRegistry);
         remoteTokenServices.setCheckTokenEndpointUrl(resourceServerConfigProperties.getCheckTokenUrl());
         remoteTokenServices.setClientId(resourceServerConfigProperties.getClientId());
         remoteTokenServices.setClientSecret(resourceServerConfigProperties.getClientSecret());
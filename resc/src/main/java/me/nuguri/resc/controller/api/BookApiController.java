@@ -1,9 +1,52 @@
 package me.nuguri.resc.controller.api;
 
 import lombok.RequiredArgsConstructor;
+import me.nuguri.common.dto.ErrorResponse;
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.resc.controller.api.ProductApiController.QueryProductsResource;
+import me.nuguri.resc.domain.ProductCursorCondition;
+import me.nuguri.resc.service.ProductService;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.Valid;
+
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
 @RestController
 @RequiredArgsConstructor
 public class BookApiController {
+
+    private final ProductService productService;
+
+    /**
+     * 책 목록 커서 조회
+     *
+     * @param condition cursor 이전 페이지 마지막 식별키, size 페이지 당 갯수
+     * @param errors 에러
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/books", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> queryBooks(@Valid ProductCursorCondition condition, Errors errors) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid parameters", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        condition.setPtype(ProductType.B);
+        Slice<ProductReadModel> slice = StringUtils.hasText(condition.getQ())
+                ? productService.search(condition.getQ(), ProductType.B, condition.getSize())
+                : productService.browse(condition.getCursor(), ProductType.B, condition.getSize());
+        WebMvcLinkBuilder builder = linkTo(methodOn(BookApiController.class).queryBooks(null, null));
+        return ResponseEntity.ok(new QueryProductsResource(slice, condition, builder));
+    }
+
 }
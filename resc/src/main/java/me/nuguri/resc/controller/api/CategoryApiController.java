@@ -1,9 +1,180 @@
 package me.nuguri.resc.controller.api;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.RestController;
+import lombok.Setter;
+import me.nuguri.common.dto.ErrorResponse;
+import me.nuguri.common.entity.Category;
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.resc.controller.api.ProductApiController.QueryProductsResource;
+import me.nuguri.resc.domain.CategoryTree;
+import me.nuguri.resc.domain.ProductCursorCondition;
+import me.nuguri.resc.service.CategoryService;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import java.util.NoSuchElementException;
+
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @RestController
 @RequiredArgsConstructor
 public class CategoryApiController {
+
+    private final CategoryService categoryService;
+
+    /**
+     * 카테고리 트리 조회, 메모리 스냅샷으로 응답
+     *
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/categories", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> queryCategories() {
+        CategoryTree tree = categoryService.getTree();
+        CollectionModel<CategoryTree.Node> resource = new CollectionModel<>(tree.getRoots());
+        resource.add(linkTo(methodOn(CategoryApiController.class).queryCategories()).withSelfRel());
+        return ResponseEntity.ok(resource);
+    }
+
+    /**
+     * 카테고리 하위 트리 조회, 메모리 스냅샷으로 응답
+     *
+     * @param id 식별키
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/category/{id}", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> getCategory(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(new GetCategoryResource(categoryService.find(id)));
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist id of category");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 카테고리 하위 트리 전체의 상품 목록 커서 조회
+     *
+     * @param id 카테고리 식별키
+     * @param condition cursor 이전 페이지 마지막 식별키, size 페이지 당 갯수
+     * @param errors 에러
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/category/{id}/products", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> queryCategoryProducts(@PathVariable Long id, @Valid ProductCursorCondition condition, Errors errors) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid parameters", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        try {
+            Slice<ProductReadModel> slice = categoryService.browseProducts(id, condition.getCursor(), condition.getSize());
+            WebMvcLinkBuilder builder = linkTo(methodOn(CategoryApiController.class).queryCategoryProducts(id, null, null));
+            return ResponseEntity.ok(new QueryProductsResource(slice, condition, builder));
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist id of category");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 카테고리 생성
+     *
+     * @param request name 이름, parentId 부모 카테고리 식별키
+     * @param errors 에러
+     * @return 응답
+     */
+    @PostMapping(value = "/api/v1/category", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> generateCategory(@RequestBody @Valid GenerateCategoryRequest request, Errors errors) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        try {
+            Category category = categoryService.generate(request.name, request.parentId);
+            GetCategoryResponse getCategoryResponse = new GetCategoryResponse(category);
+            return ResponseEntity
+                    .created(linkTo(methodOn(CategoryApiController.class).getCategory(category.getId())).toUri())
+                    .body(getCategoryResponse);
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist id of parent category");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 카테고리 수정, 부모 카테고리 변경 시 하위 트리 함께 이동
+     *
+     * @param id 식별키
+     * @param request name 이름, parentId 부모 카테고리 식별키(0 인 경우 최상위)
+     * @return 응답
+     */
+    @PatchMapping(value = "/api/v1/category/{id}", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> updateCategory(@PathVariable Long id, @RequestBody UpdateCategoryRequest request) {
+        try {
+            Category category = categoryService.update(id, request.name, request.parentId);
+            return ResponseEntity.ok(new GetCategoryResponse(category));
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist element of id");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    // ==========================================================================================================================================
+    // Resource
+    public static class GetCategoryResource extends EntityModel<CategoryTree.Node> {
+        public GetCategoryResource(CategoryTree.Node content, Link... links) {
+            super(content, links);
+            add(linkTo(methodOn(CategoryApiController.class).getCategory(content.getId())).withSelfRel().withType("GET"));
+            add(linkTo(methodOn(CategoryApiController.class).queryCategoryProducts(content.getId(), null, null)).withRel("queryCategoryProducts").withType("GET"));
+        }
+    }
+    // ==========================================================================================================================================
+
+    // ==========================================================================================================================================
+    // Domain
+    @Getter
+    @Setter
+    public static class GenerateCategoryRequest {
+        @NotBlank
+        private String name;
+        private Long parentId;
+    }
+
+    @Getter
+    @Setter
+    public static class UpdateCategoryRequest {
+        private String name;
+        private Long parentId;
+    }
+
+    @Getter
+    @Setter
+    public static class GetCategoryResponse {
+        private Long id;
+        private String name;
+        private String path;
+
+        public GetCategoryResponse(Category category) {
+            this.id = category.getId();
+            this.name = category.getName();
+            this.path = category.getPath();
+        }
+    }
+    // ==========================================================================================================================================
+
 }
@@ -9,14 +9,23 @@ import lombok.Setter;
 import me.nuguri.common.dto.ErrorResponse;
 import me.nuguri.common.dto.PageableCondition;
 import me.nuguri.common.entity.Book;
+import me.nuguri.common.entity.Category;
 import me.nuguri.common.entity.Creator;
+import me.nuguri.common.entity.Product;
 import me.nuguri.common.enums.Gender;
+import me.nuguri.common.enums.ProductType;
 import me.nuguri.common.support.BaseValidator;
+import me.nuguri.common.support.EntityVersion;
 import me.nuguri.common.support.PaginationValidator;
+import me.nuguri.resc.domain.CachedResponse;
+import me.nuguri.resc.domain.CreatorExpansion;
 import me.nuguri.resc.domain.CreatorSearchCondition;
+import me.nuguri.resc.mapper.CreatorMapper;
 import me.nuguri.resc.service.CreatorService;
-import org.modelmapper.ModelMapper;
+import me.nuguri.resc.support.ResponseCache;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
@@ -24,14 +33,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
@@ -48,53 +62,91 @@ public class CreatorApiController {
 
     private final PaginationValidator paginationValidator;
 
-    private final ModelMapper modelMapper;
+    private final CreatorMapper creatorMapper;
 
     private final CreatorValidator creatorValidator;
 
+    private final ResponseCache responseCache;
+
     /**
-     * 저자 정보 페이징 조회
+     * 저자 정보 페이징 조회, 검색어, 확장이 없는 경우 응답 캐시 사용
      *
+     * @param condition 검색 조건, expand 함께 조회 할 연관 엔티티(products, products.categories)
      * @param pageableCondition page 페이지 번호, size 페이지 당 갯수, sort 정렬(방식,기준)
      * @param errors     에러
-     * @return 응답
+     * @param webRequest 요청, If-None-Match, If-Modified-Since 조건부 요청 확인
+     * @return 응답, 변경 되지 않은 경우 본문 없이 304
      */
     @GetMapping(value = "/api/v1/creators", produces = HAL_JSON_VALUE)
-    public ResponseEntity<?> queryCreators(CreatorSearchCondition condition, PageableCondition pageableCondition, Errors errors) {
+    public ResponseEntity<?> queryCreators(CreatorSearchCondition condition, PageableCondition pageableCondition, Errors errors, WebRequest webRequest) {
         paginationValidator.validate(pageableCondition, Creator.class, errors);
+        creatorValidator.validate(condition, errors);
         if (errors.hasErrors()) {
             ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid parameters", errors);
             return ResponseEntity.badRequest().body(errorResponse);
         }
 
-        Page<Creator> page = creatorService.pagingWithCondition(condition, pageableCondition.getPageable());
+        Pageable pageable = pageableCondition.getPageable();
+        String key = "creators:" + condition.toKey(pageable);
+        if (condition.isCreatorOnly()) {
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                return cached.checkNotModified(webRequest) ? null : cached.toResponseEntity();
+            }
+        }
+        long generation = responseCache.generation();
+        EntityVersion version = creatorService.findVersion(condition, pageable);
+        if (version != null && version.checkNotModified(webRequest)) {
+            return null;
+        }
+
+        Page<Creator> page = creatorService.pagingWithCondition(condition, pageable);
         if (page.getNumberOfElements() < 1) {
             String message = page.getTotalElements() < 1 ? "content of all pages does not exist" : "content of current page does not exist";
             ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, message);
             return ResponseEntity.status(NOT_FOUND).body(errorResponse);
         }
+        CreatorExpansion expansion = creatorService.expand(page.getContent(), condition);
         PaginationResource<QueryCreatorsResource> queryCreatorsResources = new PaginationResource<>(page,
-                creator -> new QueryCreatorsResource(new GetCreatorResponse(creator)));
+                creator -> new QueryCreatorsResource(new GetCreatorResponse(creator, expansion)));
 
-        WebMvcLinkBuilder builder = linkTo(methodOn(CreatorApiController.class).queryCreators(null, null, null));
+        WebMvcLinkBuilder builder = linkTo(methodOn(CreatorApiController.class).queryCreators(null, null, null, null));
         queryCreatorsResources.addPaginationLink(builder, pageableCondition, condition.paramsToMap());
         queryCreatorsResources.add(linkTo(CreatorApiController.class).slash("/docs/creator.html").withRel("document"));
+        if (condition.isCreatorOnly()) {
+            return responseCache
+                    .put(key, Collections.singletonList(CreatorService.CREATORS_TAG), generation, queryCreatorsResources, version)
+                    .toResponseEntity();
+        }
         return ResponseEntity.ok(queryCreatorsResources);
     }
 
     /**
-     * 저자 정보 조회
+     * 저자 정보 조회, 응답 캐시 사용
      *
      * @param id 식별키
-     * @return 응답
+     * @param webRequest 요청, If-None-Match, If-Modified-Since 조건부 요청 확인
+     * @return 응답, 변경 되지 않은 경우 본문 없이 304
      */
     @GetMapping("/api/v1/creator/{id}")
-    public ResponseEntity<?> getCreator(@PathVariable Long id) {
+    public ResponseEntity<?> getCreator(@PathVariable Long id, WebRequest webRequest) {
+        String key = CreatorService.creatorTag(id);
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            return cached.checkNotModified(webRequest) ? null : cached.toResponseEntity();
+        }
+        long generation = responseCache.generation();
+        EntityVersion version = creatorService.findVersion(id);
+        if (version != null && version.checkNotModified(webRequest)) {
+            return null;
+        }
         try {
             Creator creator = creatorService.find(id);
             GetCreatorResponse getCreatorResponse = new GetCreatorResponse(creator);
             GetCreatorResource getCreatorResource = new GetCreatorResource(getCreatorResponse);
-            return ResponseEntity.ok(getCreatorResource);
+            return responseCache
+                    .put(key, Collections.singletonList(key), generation, getCreatorResource, version)
+                    .toResponseEntity();
         } catch (NoSuchElementException e) {
             ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist id of creator");
             return ResponseEntity.status(NOT_FOUND).body(errorResponse);
@@ -110,7 +162,7 @@ public class CreatorApiController {
      */
     @PostMapping("/api/v1/creator")
     public ResponseEntity<?> generateCreator(@RequestBody @Valid GenerateCreatorRequest request, Errors errors) {
-        Creator creator = modelMapper.map(request, Creator.class);
+        Creator creator = creatorMapper.toCreator(request);
         creatorValidator.validate(creator, errors);
         if (errors.hasErrors()) {
             ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
@@ -135,8 +187,7 @@ public class CreatorApiController {
      */
     @PatchMapping("/api/v1/creator/{id}")
     public ResponseEntity<?> updateCreator(@PathVariable Long id, @RequestBody GenerateCreatorRequest request, Errors errors) {
-        Creator creator = modelMapper.map(request, Creator.class);
-        creator.setId(id);
+        Creator creator = creatorMapper.toCreator(request, id);
         creatorValidator.validate(creator, errors);
         if (errors.hasErrors()) {
             ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
@@ -164,7 +215,7 @@ public class CreatorApiController {
      */
     @PutMapping("/api/v1/creator/{id}")
     public ResponseEntity<?> mergeCreator(@PathVariable Long id, @RequestBody @Valid GenerateCreatorRequest request, Errors errors) {
-        Creator creator = modelMapper.map(request, Creator.class);
+        Creator creator = creatorMapper.toCreator(request);
         creatorValidator.validate(creator, errors);
         if (errors.hasErrors()) {
             ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
@@ -221,7 +272,7 @@ public class CreatorApiController {
         public QueryCreatorsResource(GetCreatorResponse content, Link... links) {
             super(content, links);
             add(linkTo(CreatorApiController.class).slash("/docs/creator.html").withRel("document"));
-            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId())).withRel("getCreator").withType("GET"));
+            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId(), null)).withRel("getCreator").withType("GET"));
             add(linkTo(methodOn(CreatorApiController.class).updateCreator(content.getId(), null, null)).withRel("updateCreator").withType("PATCH"));
             add(linkTo(methodOn(CreatorApiController.class).mergeCreator(content.getId(), null, null)).withRel("mergeCreator").withType("PUT"));
             add(linkTo(methodOn(CreatorApiController.class).deleteCreator(content.getId())).withRel("deleteCreator").withType("DELETE"));
@@ -232,7 +283,7 @@ public class CreatorApiController {
         public GetCreatorResource(GetCreatorResponse content, Link... links) {
             super(content, links);
             add(linkTo(CreatorApiController.class).slash("/docs/creator.html").withRel("document"));
-            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId())).withSelfRel().withType("GET"));
+            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId(), null)).withSelfRel().withType("GET"));
             add(linkTo(methodOn(CreatorApiController.class).updateCreator(content.getId(), null, null)).withRel("updateCreator").withType("PATCH"));
             add(linkTo(methodOn(CreatorApiController.class).mergeCreator(content.getId(), null, null)).withRel("mergeCreator").withType("PUT"));
             add(linkTo(methodOn(CreatorApiController.class).deleteCreator(content.getId())).withRel("deleteCreator").withType("DELETE"));
@@ -244,7 +295,7 @@ public class CreatorApiController {
             super(content, links);
             add(linkTo(CreatorApiController.class).slash("/docs/creator.html").withRel("document"));
             add(linkTo(methodOn(CreatorApiController.class).updateCreator(content.getId(), null, null)).withSelfRel().withType("PATCH"));
-            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId())).withRel("getCreator").withType("GET"));
+            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId(), null)).withRel("getCreator").withType("GET"));
             add(linkTo(methodOn(CreatorApiController.class).mergeCreator(content.getId(), null, null)).withRel("mergeCreator").withType("PUT"));
             add(linkTo(methodOn(CreatorApiController.class).deleteCreator(content.getId())).withRel("deleteCreator").withType("DELETE"));
         }
@@ -255,7 +306,7 @@ public class CreatorApiController {
             super(content, links);
             add(linkTo(CreatorApiController.class).slash("/docs/creator.html").withRel("document"));
             add(linkTo(methodOn(CreatorApiController.class).mergeCreator(content.getId(), null, null)).withSelfRel().withType("PUT"));
-            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId())).withRel("getCreator").withType("GET"));
+            add(linkTo(methodOn(CreatorApiController.class).getCreator(content.getId(), null)).withRel("getCreator").withType("GET"));
             add(linkTo(methodOn(CreatorApiController.class).updateCreator(content.getId(), null, null)).withRel("updateCreator").withType("PATCH"));
             add(linkTo(methodOn(CreatorApiController.class).deleteCreator(content.getId())).withRel("deleteCreator").withType("DELETE"));
         }
@@ -292,15 +343,39 @@ public class CreatorApiController {
     public static class GetCreatorResponse {
         @Getter
         @Setter
-        private static class GetBookResponse {
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private static class GetProductResponse {
             private Long id;
+            private ProductType ptype;
             private String name;
             private LocalDate pubDate;
+            private List<GetCategoryResponse> categories;
+
+            public GetProductResponse(Product product, List<Category> categories) {
+                this.id = product.getId();
+                this.ptype = ProductType.of(product.getClass());
+                this.name = product.getName();
+                if (product instanceof Book) {
+                    this.pubDate = ((Book) product).getPublishDate();
+                }
+                if (categories != null) {
+                    this.categories = categories
+                            .stream()
+                            .map(GetCategoryResponse::new)
+                            .collect(Collectors.toList());
+                }
+            }
+        }
+
+        @Getter
+        @Setter
+        private static class GetCategoryResponse {
+            private Long id;
+            private String name;
 
-            public GetBookResponse(Book book) {
-                this.id = book.getId();
-                this.name = book.getName();
-                this.pubDate = book.getPublishDate();
+            public GetCategoryResponse(Category category) {
+                this.id = category.getId();
+                this.name = category.getName();
             }
         }
 
@@ -308,18 +383,45 @@ public class CreatorApiController {
         private String name;
         private LocalDate birth;
         private LocalDate death;
-        @JsonInclude(JsonInclude.Include.NON_EMPTY)
-        private List<GetBookResponse> books;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private List<GetProductResponse> products;
 
+        /**
+         * 저자 엔티티로 응답 생성, 상품 목록은 이미 조회 된 경우만 포함
+         *
+         * @param creator 저자 엔티티
+         */
         public GetCreatorResponse(Creator creator) {
+            setCreator(creator);
+            if (Hibernate.isInitialized(creator.getProducts()) && !creator.getProducts().isEmpty()) {
+                this.products = creator.getProducts()
+                        .stream()
+                        .map(p -> new GetProductResponse((Product) Hibernate.unproxy(p), null))
+                        .collect(Collectors.toList());
+            }
+        }
+
+        /**
+         * 저자 엔티티, expand 로 조회 한 연관 엔티티로 응답 생성, 저자 엔티티 지연 로딩 컬렉션은 사용하지 않음
+         *
+         * @param creator 저자 엔티티
+         * @param expansion 저자 식별키 별 상품 목록, 상품 식별키 별 카테고리 목록
+         */
+        public GetCreatorResponse(Creator creator, CreatorExpansion expansion) {
+            setCreator(creator);
+            if (expansion.getProducts() != null) {
+                this.products = expansion.getProducts(creator.getId())
+                        .stream()
+                        .map(p -> new GetProductResponse(p, expansion.getCategories() != null ? expansion.getCategories(p.getId()) : null))
+                        .collect(Collectors.toList());
+            }
+        }
+
+        private void setCreator(Creator creator) {
             this.id = creator.getId();
             this.name = creator.getName();
             this.birth = creator.getBirth();
             this.death = creator.getDeath();
-            this.books = creator.getProducts()
-                    .stream()
-                    .map(p -> new GetBookResponse((Book) p))
-                    .collect(Collectors.toList());
         }
     }
 
@@ -335,6 +437,24 @@ public class CreatorApiController {
     // Validator
     @Component
     public static class CreatorValidator extends BaseValidator {
+        /** expand 파라미터 허용 값 */
+        private static final Set<String> EXPANDS = new HashSet<>(Arrays.asList(
+                CreatorSearchCondition.EXPAND_PRODUCTS, CreatorSearchCondition.EXPAND_PRODUCT_CATEGORIES));
+
+        /**
+         * 저자 검색 조건 중 expand 검증
+         *
+         * @param condition expand 함께 조회 할 연관 엔티티
+         * @param errors    에러
+         */
+        public void validate(CreatorSearchCondition condition, Errors errors) {
+            for (String expand : condition.getExpand()) {
+                if (!EXPANDS.contains(expand)) {
+                    errors.reject("wrongValue", "expand is must be one of " + EXPANDS);
+                }
+            }
+        }
+
         /**
          * creator 도메인 값 중 생년날짜, 사망날짜 검증
          *
@@ -0,0 +1,247 @@
+package me.nuguri.resc.controller.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import me.nuguri.common.dto.ErrorResponse;
+import me.nuguri.common.entity.Address;
+import me.nuguri.common.entity.Order;
+import me.nuguri.common.enums.DeliveryStatus;
+import me.nuguri.common.exception.OutOfStockException;
+import me.nuguri.resc.domain.OrderIngestion;
+import me.nuguri.resc.service.OrderService;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.http.HttpStatus.*;
+
+@RestController
+@RequiredArgsConstructor
+public class OrderApiController {
+
+    private final OrderService orderService;
+
+    /**
+     * 주문 생성, 같은 상품이 여러 번 포함 된 경우 수량 합산
+     *
+     * @param request orderProducts 상품 식별키, 수량 목록, address 배송 주소(없는 경우 주문자 주소)
+     * @param errors 에러
+     * @param authentication 주문자 인증 정보
+     * @return 응답
+     */
+    @PostMapping(value = "/api/v1/order", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> placeOrder(@RequestBody @Valid PlaceOrderRequest request, Errors errors, OAuth2Authentication authentication) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        if (authentication.isClientOnly()) {
+            ErrorResponse errorResponse = new ErrorResponse(FORBIDDEN, "order requires user access token");
+            return ResponseEntity.status(FORBIDDEN).body(errorResponse);
+        }
+
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        request.orderProducts.forEach(p -> counts.merge(p.productId, p.count, Integer::sum));
+        try {
+            Order order = orderService.place(authentication.getName(), counts, request.toAddress());
+            GetOrderResource getOrderResource = new GetOrderResource(new GetOrderResponse(order, counts));
+            return ResponseEntity
+                    .created(linkTo(methodOn(OrderApiController.class).getOrder(order.getId(), null)).toUri())
+                    .body(getOrderResource);
+        } catch (OutOfStockException e) {
+            ErrorResponse errorResponse = new ErrorResponse(CONFLICT, e.getMessage());
+            return ResponseEntity.status(CONFLICT).body(errorResponse);
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist account or product of id");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 주문 조회, 주문자 본인이 아니고 관리자도 아닌 경우 존재하지 않는 주문과 같이 응답
+     *
+     * @param id 식별키
+     * @param authentication 조회자 인증 정보
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/order/{id}", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> getOrder(@PathVariable Long id, OAuth2Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        try {
+            Order order = orderService.find(id, authentication.getName(), admin);
+            return ResponseEntity.ok(new GetOrderResource(new GetOrderResponse(order)));
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist id of order");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 주문 일괄 등록, 이미 등록 된 멱등 키의 주문은 건너뛰고 기존 주문 식별키 응답
+     *
+     * @param request orders 멱등 키, 주문자 식별키, 배송 주소, 상품 식별키, 수량 목록
+     * @param errors 에러
+     * @return 응답
+     */
+    @PostMapping(value = "/api/v1/orders", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> ingestOrders(@RequestBody @Valid IngestOrdersRequest request, Errors errors) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid value", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        List<OrderIngestion> orders = new ArrayList<>(request.orders.size());
+        for (IngestOrderRequest order : request.orders) {
+            Map<Long, Integer> counts = new LinkedHashMap<>();
+            order.orderProducts.forEach(p -> counts.merge(p.productId, p.count, Integer::sum));
+            orders.add(new OrderIngestion(order.idempotencyKey, order.accountId, new Address(order.city, order.street, order.zipCode), counts));
+        }
+        try {
+            List<IngestOrderResponse> responses = orderService.ingest(orders).stream().map(IngestOrderResponse::new).collect(toList());
+            CollectionModel<IngestOrderResponse> resource = new CollectionModel<>(responses);
+            resource.add(linkTo(methodOn(OrderApiController.class).ingestOrders(null, null)).withSelfRel().withType("POST"));
+            boolean created = responses.stream().anyMatch(r -> !r.duplicate);
+            return ResponseEntity.status(created ? CREATED : OK).body(resource);
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist account or product of id");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    // ==========================================================================================================================================
+    // Resource
+    public static class GetOrderResource extends EntityModel<GetOrderResponse> {
+        public GetOrderResource(GetOrderResponse content, Link... links) {
+            super(content, links);
+            add(linkTo(methodOn(OrderApiController.class).getOrder(content.getId(), null)).withSelfRel().withType("GET"));
+        }
+    }
+    // ==========================================================================================================================================
+
+    // ==========================================================================================================================================
+    // Domain
+    @Getter
+    @Setter
+    public static class PlaceOrderRequest {
+        @NotEmpty
+        @Valid
+        private List<OrderProductRequest> orderProducts = new ArrayList<>();
+        private String city;
+        private String street;
+        private String zipCode;
+
+        public Address toAddress() {
+            return city == null && street == null && zipCode == null ? null : new Address(city, street, zipCode);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class OrderProductRequest {
+        @NotNull
+        private Long productId;
+        @Min(1)
+        private int count;
+    }
+
+    @Getter
+    @Setter
+    public static class IngestOrdersRequest {
+        @NotEmpty
+        @Size(max = 1000)
+        @Valid
+        private List<IngestOrderRequest> orders = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class IngestOrderRequest {
+        @NotBlank
+        @Size(max = 100)
+        private String idempotencyKey;
+        @NotNull
+        private Long accountId;
+        @NotBlank
+        private String city;
+        @NotBlank
+        private String street;
+        @NotBlank
+        private String zipCode;
+        @NotEmpty
+        @Valid
+        private List<OrderProductRequest> orderProducts = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class IngestOrderResponse {
+        private String idempotencyKey;
+        private boolean duplicate;
+        private Long orderId;
+        private Long deliveryId;
+        private List<Long> orderProductIds;
+
+        public IngestOrderResponse(OrderIngestion order) {
+            this.idempotencyKey = order.getIdempotencyKey();
+            this.duplicate = order.isDuplicate();
+            this.orderId = order.getOrderId();
+            this.deliveryId = order.getDeliveryId();
+            this.orderProductIds = order.getOrderProductIds();
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class GetOrderResponse {
+        private Long id;
+        private DeliveryStatus status;
+        private List<GetOrderProductResponse> orderProducts = new ArrayList<>();
+
+        public GetOrderResponse(Order order) {
+            this.id = order.getId();
+            this.status = order.getDelivery().getStatus();
+            order.getOrderProducts().forEach(p -> this.orderProducts.add(new GetOrderProductResponse(p.getProduct().getId(), p.getCount())));
+        }
+
+        public GetOrderResponse(Order order, Map<Long, Integer> counts) {
+            this.id = order.getId();
+            this.status = order.getDelivery().getStatus();
+            counts.forEach((productId, count) -> this.orderProducts.add(new GetOrderProductResponse(productId, count)));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class GetOrderProductResponse {
+        private Long productId;
+        private int count;
+
+        public GetOrderProductResponse(Long productId, int count) {
+            this.productId = productId;
+            this.count = count;
+        }
+    }
+    // ==========================================================================================================================================
+
+}
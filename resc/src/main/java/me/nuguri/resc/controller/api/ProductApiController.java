@@ -0,0 +1,157 @@
+package me.nuguri.resc.controller.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import me.nuguri.common.dto.ErrorResponse;
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.common.enums.Size;
+import me.nuguri.resc.domain.ProductCursorCondition;
+import me.nuguri.resc.service.ProductService;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@RestController
+@RequiredArgsConstructor
+public class ProductApiController {
+
+    private final ProductService productService;
+
+    /**
+     * 상품 목록 커서 조회, 모든 상품 구분 포함
+     *
+     * @param condition cursor 이전 페이지 마지막 식별키, size 페이지 당 갯수, ptype 상품 구분
+     * @param errors 에러
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/products", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> queryProducts(@Valid ProductCursorCondition condition, Errors errors) {
+        if (errors.hasErrors()) {
+            ErrorResponse errorResponse = new ErrorResponse(BAD_REQUEST, "invalid parameters", errors);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        Slice<ProductReadModel> slice = StringUtils.hasText(condition.getQ())
+                ? productService.search(condition.getQ(), condition.getPtype(), condition.getSize())
+                : productService.browse(condition.getCursor(), condition.getPtype(), condition.getSize());
+        WebMvcLinkBuilder builder = linkTo(methodOn(ProductApiController.class).queryProducts(null, null));
+        return ResponseEntity.ok(new QueryProductsResource(slice, condition, builder));
+    }
+
+    /**
+     * 상품 조회
+     *
+     * @param id 식별키
+     * @return 응답
+     */
+    @GetMapping(value = "/api/v1/product/{id}", produces = HAL_JSON_VALUE)
+    public ResponseEntity<?> getProduct(@PathVariable Long id) {
+        try {
+            ProductReadModel product = productService.find(id);
+            GetProductResponse getProductResponse = new GetProductResponse(product);
+            GetProductResource getProductResource = new GetProductResource(getProductResponse);
+            return ResponseEntity.ok(getProductResource);
+        } catch (NoSuchElementException e) {
+            ErrorResponse errorResponse = new ErrorResponse(NOT_FOUND, "not exist id of product");
+            return ResponseEntity.status(NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    // ==========================================================================================================================================
+    // Resource
+    @Getter
+    public static class QueryProductsResource extends CollectionModel<GetProductResponse> {
+        /** 다음 페이지 요청 커서, 다음 페이지가 없는 경우 null */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final Long nextCursor;
+
+        public QueryProductsResource(Slice<ProductReadModel> slice, ProductCursorCondition condition, WebMvcLinkBuilder builder, Link... links) {
+            super(slice.getContent().stream().map(GetProductResponse::new).collect(Collectors.toList()), links);
+            List<ProductReadModel> content = slice.getContent();
+            this.nextCursor = slice.hasNext() ? content.get(content.size() - 1).getId() : null;
+            add(builder.withSelfRel());
+            if (nextCursor != null) {
+                UriComponentsBuilder next = builder.toUriComponentsBuilder();
+                condition.nextParamsToMap(nextCursor).forEach(next::queryParam);
+                add(new Link(next.toUriString(), "next"));
+            }
+        }
+    }
+
+    public static class GetProductResource extends EntityModel<GetProductResponse> {
+        public GetProductResource(GetProductResponse content, Link... links) {
+            super(content, links);
+            add(linkTo(methodOn(ProductApiController.class).getProduct(content.getId())).withSelfRel().withType("GET"));
+        }
+    }
+    // ==========================================================================================================================================
+
+    // ==========================================================================================================================================
+    // Domain
+    @Getter
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class GetProductResponse {
+        private Long id;
+        private ProductType ptype;
+        private String name;
+        private int price;
+        private int stockCount;
+        /** 책 */
+        private LocalDate publishDate;
+        /** 의류 */
+        private Size size;
+        /** 음식 */
+        private Integer calorie;
+        private Integer weightGram;
+        private Long creatorId;
+        private String creatorName;
+        private Long companyId;
+        private String companyName;
+        @JsonRawValue
+        private String categories;
+
+        public GetProductResponse(ProductReadModel product) {
+            this.id = product.getId();
+            this.ptype = product.getPtype();
+            this.name = product.getName();
+            this.price = product.getPrice();
+            this.stockCount = product.getStockCount();
+            this.publishDate = product.getPublishDate();
+            this.size = product.getSize();
+            this.calorie = product.getCalorie();
+            this.weightGram = product.getWeightGram();
+            this.creatorId = product.getCreatorId();
+            this.creatorName = product.getCreatorName();
+            this.companyId = product.getCompanyId();
+            this.companyName = product.getCompanyName();
+            this.categories = product.getCategories();
+        }
+    }
+    // ==========================================================================================================================================
+
+}
@@ -0,0 +1,55 @@
+package me.nuguri.resc.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import me.nuguri.common.support.EntityVersion;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 캐시 된 조회 응답, 직렬화 된 HAL 본문과 조건부 요청 검증 값
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CachedResponse {
+
+    private static final MediaType HAL_JSON_UTF8 = new MediaType(MediaTypes.HAL_JSON, StandardCharsets.UTF_8);
+
+    /** HAL 본문 */
+    private String body;
+
+    /** ETag, 검증 값이 없는 경우 null */
+    private String eTag;
+
+    /** Last-Modified epoch 밀리초, 목록과 같이 사용하지 않는 경우 -1 */
+    private long lastModified;
+
+    public CachedResponse(String body, EntityVersion version) {
+        this.body = body;
+        if (version != null) {
+            this.eTag = version.getETag();
+            this.lastModified = version.getLastModified();
+        }
+    }
+
+    /**
+     * 캐시 된 검증 값으로 조건부 요청 확인, DB 조회 없이 304 응답
+     *
+     * @param request 요청
+     * @return 변경 되지 않은 경우 true
+     */
+    public boolean checkNotModified(WebRequest request) {
+        return eTag != null && request.checkNotModified(eTag, lastModified);
+    }
+
+    public ResponseEntity<String> toResponseEntity() {
+        return ResponseEntity.ok().contentType(HAL_JSON_UTF8).body(body);
+    }
+
+}
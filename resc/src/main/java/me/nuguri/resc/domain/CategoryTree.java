@@ -0,0 +1,110 @@
+package me.nuguri.resc.domain;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리 불변 스냅샷
+ * 카테고리 변경 시 새 스냅샷을 만들어 교체하므로 조회 시 잠금 없이 사용
+ */
+public class CategoryTree {
+
+    /** 빈 트리 */
+    public static final CategoryTree EMPTY = new CategoryTree(Collections.emptyList());
+
+    /** 최상위 카테고리 */
+    @Getter
+    private final List<Node> roots;
+
+    /** 식별키 별 카테고리 */
+    private final Map<Long, Node> nodes;
+
+    private CategoryTree(List<Node> roots) {
+        this.roots = Collections.unmodifiableList(roots);
+        Map<Long, Node> nodes = new HashMap<>();
+        Deque<Node> stack = new ArrayDeque<>(roots);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            nodes.put(node.id, node);
+            stack.addAll(node.children);
+        }
+        this.nodes = Collections.unmodifiableMap(nodes);
+    }
+
+    /**
+     * 카테고리 목록으로 트리 생성, 부모가 목록에 없는 카테고리는 최상위로 취급
+     *
+     * @param rows 카테고리 식별키, 이름, 부모 식별키, 경로
+     * @return 트리
+     */
+    public static CategoryTree of(List<Row> rows) {
+        Map<Long, List<Row>> childRows = new HashMap<>();
+        Set<Long> ids = new HashSet<>();
+        rows.forEach(r -> ids.add(r.id));
+        List<Row> rootRows = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.parentId == null || !ids.contains(row.parentId)) {
+                rootRows.add(row);
+            } else {
+                childRows.computeIfAbsent(row.parentId, k -> new ArrayList<>()).add(row);
+            }
+        }
+        List<Node> roots = new ArrayList<>();
+        for (Row row : rootRows) {
+            roots.add(build(row, childRows));
+        }
+        roots.sort(Comparator.comparing(Node::getId));
+        return new CategoryTree(roots);
+    }
+
+    private static Node build(Row row, Map<Long, List<Row>> childRows) {
+        List<Node> children = new ArrayList<>();
+        for (Row child : childRows.getOrDefault(row.id, Collections.emptyList())) {
+            children.add(build(child, childRows));
+        }
+        children.sort(Comparator.comparing(Node::getId));
+        return new Node(row.id, row.name, row.parentId, row.path, children);
+    }
+
+    public Optional<Node> find(Long id) {
+        return Optional.ofNullable(nodes.get(id));
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    @Getter
+    public static class Node {
+        private final Long id;
+        private final String name;
+        private final Long parentId;
+        private final String path;
+        private final List<Node> children;
+
+        private Node(Long id, String name, Long parentId, String path, List<Node> children) {
+            this.id = id;
+            this.name = name;
+            this.parentId = parentId;
+            this.path = path;
+            this.children = Collections.unmodifiableList(children);
+        }
+    }
+
+    @Getter
+    public static class Row {
+        private final Long id;
+        private final String name;
+        private final Long parentId;
+        private final String path;
+
+        public Row(Long id, String name, Long parentId, String path) {
+            this.id = id;
+            this.name = name;
+            this.parentId = parentId;
+            this.path = path;
+        }
+    }
+
+}
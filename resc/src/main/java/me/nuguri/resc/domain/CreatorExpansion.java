@@ -0,0 +1,39 @@
+package me.nuguri.resc.domain;
+
+import lombok.Getter;
+import me.nuguri.common.entity.Category;
+import me.nuguri.common.entity.Product;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저자 목록 조회 시 expand 파라미터로 함께 조회 한 연관 엔티티
+ */
+@Getter
+public class CreatorExpansion {
+
+    /** 확장 하지 않은 경우 */
+    public static final CreatorExpansion NONE = new CreatorExpansion(null, null);
+
+    /** 저자 식별키 별 상품 목록, 확장 하지 않은 경우 null */
+    private final Map<Long, List<Product>> products;
+
+    /** 상품 식별키 별 카테고리 목록, 확장 하지 않은 경우 null */
+    private final Map<Long, List<Category>> categories;
+
+    public CreatorExpansion(Map<Long, List<Product>> products, Map<Long, List<Category>> categories) {
+        this.products = products;
+        this.categories = categories;
+    }
+
+    public List<Product> getProducts(Long creatorId) {
+        return products.getOrDefault(creatorId, Collections.emptyList());
+    }
+
+    public List<Category> getCategories(Long productId) {
+        return categories.getOrDefault(productId, Collections.emptyList());
+    }
+
+}
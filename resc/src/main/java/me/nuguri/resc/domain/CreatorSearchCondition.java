@@ -3,21 +3,34 @@ package me.nuguri.resc.domain;
 import lombok.Getter;
 import lombok.Setter;
 import me.nuguri.common.enums.Gender;
+import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Getter
 @Setter
 public class CreatorSearchCondition {
 
+    /** 저자 상품 목록 확장 */
+    public static final String EXPAND_PRODUCTS = "products";
+
+    /** 저자 상품 카테고리 목록 확장, 상품 목록 확장 포함 */
+    public static final String EXPAND_PRODUCT_CATEGORIES = "products.categories";
+
     /** 이름 */
     private String name;
 
+    /** 이름 부분 일치 검색어, 이름 검색 색인으로 검색 */
+    private String q;
+
     /** 성별 */
     private Gender gender;
 
@@ -37,12 +50,35 @@ public class CreatorSearchCondition {
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate endDeath;
 
+    /** 함께 조회 할 연관 엔티티, products, products.categories */
+    private Set<String> expand = new LinkedHashSet<>();
+
+    public boolean isExpandProducts() {
+        return expand.contains(EXPAND_PRODUCTS) || isExpandProductCategories();
+    }
+
+    public boolean isExpandProductCategories() {
+        return expand.contains(EXPAND_PRODUCT_CATEGORIES);
+    }
+
+    /**
+     * 검색어, 확장 없이 저자 테이블만으로 응답하는 조건인지 여부, 조건부 요청 검증 값, 응답 캐시 사용 조건
+     *
+     * @return 저자 테이블만 조회하는 경우 true
+     */
+    public boolean isCreatorOnly() {
+        return !StringUtils.hasText(q) && expand.isEmpty();
+    }
+
     public Map<String, String> paramsToMap() {
         Map<String, String> params = new HashMap<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         if (StringUtils.hasText(name)) {
             params.put("name", name);
         }
+        if (StringUtils.hasText(q)) {
+            params.put("q", q);
+        }
         if (gender != null) {
             params.put("gender", gender.toString());
         }
@@ -58,7 +94,21 @@ public class CreatorSearchCondition {
         if (endDeath != null) {
             params.put("endDeath", formatter.format(endDeath));
         }
+        if (!expand.isEmpty()) {
+            params.put("expand", String.join(",", expand));
+        }
         return params;
     }
 
+    /**
+     * 검색 조건, 페이징을 구분하는 키, 파라미터 순서와 상관 없이 같은 조건이면 같은 키
+     *
+     * @param pageable 페이징
+     * @return 키
+     */
+    public String toKey(Pageable pageable) {
+        return new TreeMap<>(paramsToMap())
+                + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+    }
+
 }
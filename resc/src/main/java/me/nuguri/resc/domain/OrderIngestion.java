@@ -0,0 +1,49 @@
+package me.nuguri.resc.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import me.nuguri.common.entity.Address;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 등록 할 주문, 등록 후 생성 된 식별키 또는 중복 여부 기록
+ */
+@Getter
+@Setter
+public class OrderIngestion {
+
+    /** 멱등 키 */
+    private final String idempotencyKey;
+
+    /** 주문자 식별키 */
+    private final Long accountId;
+
+    /** 배송 주소 */
+    private final Address address;
+
+    /** 상품 식별키 별 주문 수량 */
+    private final Map<Long, Integer> counts;
+
+    /** 이미 등록 된 멱등 키인 경우 true */
+    private boolean duplicate;
+
+    /** 생성 된 배송 식별키 */
+    private Long deliveryId;
+
+    /** 생성 된 주문 식별키, 중복인 경우 이미 등록 된 주문 식별키 */
+    private Long orderId;
+
+    /** 생성 된 주문 상품 식별키, counts 순서 */
+    private List<Long> orderProductIds = new ArrayList<>();
+
+    public OrderIngestion(String idempotencyKey, Long accountId, Address address, Map<Long, Integer> counts) {
+        this.idempotencyKey = idempotencyKey;
+        this.accountId = accountId;
+        this.address = address;
+        this.counts = counts;
+    }
+
+}
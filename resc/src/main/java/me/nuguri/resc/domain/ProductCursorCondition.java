@@ -0,0 +1,47 @@
+package me.nuguri.resc.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import me.nuguri.common.enums.ProductType;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+public class ProductCursorCondition {
+
+    /** 이전 페이지 마지막 식별키 */
+    @Min(0)
+    private Long cursor;
+
+    /** 페이지 당 갯수 */
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    /** 상품 구분 */
+    private ProductType ptype;
+
+    /** 이름 부분 일치 검색어, 검색 순위 순서로 size 만큼 조회하고 다음 페이지 없음 */
+    private String q;
+
+    /**
+     * 다음 페이지 요청 파라미터
+     *
+     * @param nextCursor 현재 페이지 마지막 식별키
+     * @return 파라미터
+     */
+    public Map<String, String> nextParamsToMap(Long nextCursor) {
+        Map<String, String> params = new HashMap<>();
+        params.put("cursor", String.valueOf(nextCursor));
+        params.put("size", String.valueOf(size));
+        if (ptype != null) {
+            params.put("ptype", ptype.toString());
+        }
+        return params;
+    }
+
+}
@@ -0,0 +1,48 @@
+package me.nuguri.resc.domain;
+
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 한 트랜잭션에서 변경 된 상품 조회 모델 원본 엔티티 식별키
+ */
+@Getter
+public class ReadModelChanges {
+
+    /** 생성, 수정, 삭제 된 상품 식별키 */
+    private final Set<Long> productIds = new HashSet<>();
+
+    /** 수정 된 저자 식별키 */
+    private final Set<Long> creatorIds = new HashSet<>();
+
+    /** 수정 된 회사 식별키 */
+    private final Set<Long> companyIds = new HashSet<>();
+
+    /** 수정 된 카테고리 식별키 */
+    private final Set<Long> categoryIds = new HashSet<>();
+
+    public boolean isEmpty() {
+        return productIds.isEmpty() && creatorIds.isEmpty() && companyIds.isEmpty() && categoryIds.isEmpty();
+    }
+
+    /**
+     * 현재까지 기록 된 식별키를 꺼내고 비움
+     *
+     * @return 기록 된 식별키
+     */
+    public ReadModelChanges drain() {
+        ReadModelChanges drained = new ReadModelChanges();
+        drained.productIds.addAll(productIds);
+        drained.creatorIds.addAll(creatorIds);
+        drained.companyIds.addAll(companyIds);
+        drained.categoryIds.addAll(categoryIds);
+        productIds.clear();
+        creatorIds.clear();
+        companyIds.clear();
+        categoryIds.clear();
+        return drained;
+    }
+
+}
@@ -0,0 +1,35 @@
+package me.nuguri.resc.mapper;
+
+import me.nuguri.common.entity.Creator;
+import me.nuguri.resc.controller.api.CreatorApiController.GenerateCreatorRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * 저자 요청, 엔티티 매퍼, 컴파일 시 구현체 생성
+ * 리플렉션 없이 Creator.builder() 로 생성, 매핑 되지 않은 엔티티 값이 있으면 컴파일 에러
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CreatorMapper {
+
+    /**
+     * 저자 생성 요청으로 엔티티 생성, 식별키는 저장 시 생성
+     *
+     * @param request name 이름, gender 성별, birth 출생날짜, death 사망 날짜
+     * @return 저자 엔티티
+     */
+    @Mapping(target = "id", ignore = true)
+    Creator toCreator(GenerateCreatorRequest request);
+
+    /**
+     * 저자 수정, 병합 요청으로 엔티티 생성
+     *
+     * @param request name 이름, gender 성별, birth 출생날짜, death 사망 날짜
+     * @param id 식별키
+     * @return 저자 엔티티
+     */
+    @Mapping(target = "id", source = "id")
+    Creator toCreator(GenerateCreatorRequest request, Long id);
+
+}
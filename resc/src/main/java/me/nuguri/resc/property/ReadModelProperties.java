@@ -0,0 +1,23 @@
+package me.nuguri.resc.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "resc.read-model")
+@Getter
+@Setter
+public class ReadModelProperties {
+
+    /**
+     * 애플리케이션 시작 시 상품 조회 모델 재구성 여부, 전체 상품을 다시 쓰므로 기본 값 false
+     * 조회 모델 도입, 대량 데이터 생성 후 한 인스턴스만 한 번 켜서 실행, 여러 인스턴스가 동시에 켜면 같은 행을 경쟁해서 갱신
+     */
+    private boolean rebuildOnStartup = false;
+
+    /** 재구성 시 한 트랜잭션에서 갱신 할 상품 수 */
+    private int rebuildChunkSize = 500;
+
+}
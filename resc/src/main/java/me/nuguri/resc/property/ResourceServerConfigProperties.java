@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "auth")
 @Getter
@@ -30,4 +32,10 @@ public class ResourceServerConfigProperties {
     /** 인증 서버 토근 검사 URL */
     private String checkTokenUrl;
 
+    /** 토큰 검사 결과 최대 캐시 유지 시간, 토큰 폐기 반영 최대 지연 시간 */
+    private Duration introspectionCacheMaxTtl = Duration.ofSeconds(30);
+
+    /** 토큰 검사 결과 최대 캐시 항목 수 */
+    private int introspectionCacheMaxSize = 10000;
+
 }
@@ -0,0 +1,32 @@
+package me.nuguri.resc.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "resc.response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    /** 조회 응답 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 응답 캐시 저장소, 여러 노드가 캐시와 무효화를 공유하는 경우 REDIS */
+    private Store store = Store.LOCAL;
+
+    /** 응답 캐시 유지 시간, 무효화 되지 않은 변경(직접 DB 수정 등)이 반영되기까지의 최대 지연 시간 */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /** 메모리 저장소 최대 항목 수 */
+    private int maxSize = 10000;
+
+    public enum Store {
+        LOCAL, REDIS
+    }
+
+}
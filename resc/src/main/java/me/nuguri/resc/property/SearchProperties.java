@@ -0,0 +1,20 @@
+package me.nuguri.resc.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "resc.search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    /** 이름 검색 최대 결과 수 */
+    private int maxResults = 1000;
+
+    /** 색인 구성 시 조회 fetch size */
+    private int fetchSize = 1000;
+
+}
@@ -0,0 +1,43 @@
+package me.nuguri.resc.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "resc.stock-ledger")
+@Getter
+@Setter
+public class StockLedgerProperties {
+
+    /** 재고 원장 사용 여부 */
+    private boolean enabled = false;
+
+    /** 재고 원장 저장소, 여러 노드로 운영하는 경우 REDIS */
+    private Store store = Store.LOCAL;
+
+    /** 재고 원장으로 예약 할 상품 식별키, 그 외 상품은 DB 조건부 차감 */
+    private Set<Long> productIds = new HashSet<>();
+
+    /** 메모리 저장소 상품 별 재고 분할 수 */
+    private int stripes = 16;
+
+    /** 확정 또는 취소 되지 않은 예약 자동 취소 시간 */
+    private Duration reservationTtl = Duration.ofSeconds(30);
+
+    /** 확정 된 재고 차감 DB 반영 주기(ms) */
+    private long flushIntervalMillis = 1000;
+
+    /** DB 반영 시 한 트랜잭션에서 처리 할 원장 기록 수 */
+    private int flushBatchSize = 1000;
+
+    public enum Store {
+        LOCAL, REDIS
+    }
+
+}
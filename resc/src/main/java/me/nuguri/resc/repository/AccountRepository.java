@@ -0,0 +1,14 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.Account;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional
+public interface AccountRepository extends BaseRepository<Account, Long> {
+
+    @Transactional(readOnly = true)
+    Optional<Account> findByEmail(String email);
+
+}
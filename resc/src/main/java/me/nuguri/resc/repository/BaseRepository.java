@@ -4,12 +4,31 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.io.Serializable;
+import java.util.stream.Stream;
 
 @NoRepositoryBean
 public interface BaseRepository<T, ID extends Serializable> extends JpaRepository<T, ID> {
 
     T generate(T t);
 
+    /**
+     * 엔티티 일괄 저장, hibernate.jdbc.batch_size 만큼 저장 할 때마다 flush, clear
+     *
+     * @param entities 저장 할 엔티티
+     * @return 저장 한 엔티티 수
+     */
+    long generateAll(Iterable<? extends T> entities);
+
+    long generateAll(Iterable<? extends T> entities, int batchSize);
+
+    /**
+     * 엔티티 스트림 일괄 저장, 스트림을 모두 메모리에 올리지 않고 배치 크기 만큼만 영속성 컨텍스트에 유지
+     *
+     * @param entities 저장 할 엔티티 스트림
+     * @return 저장 한 엔티티 수
+     */
+    long generateAll(Stream<? extends T> entities);
+
     T merge(T t);
 
     boolean contains(T t);
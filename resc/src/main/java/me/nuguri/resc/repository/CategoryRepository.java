@@ -1,8 +1,39 @@
 package me.nuguri.resc.repository;
 
 import me.nuguri.common.entity.Category;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Transactional
 public interface CategoryRepository extends BaseRepository<Category, Long> {
+
+    /**
+     * 트리 구성용 카테고리 식별키, 이름, 부모 식별키, 경로 조회
+     * 쿼리 캐시 대상, 카테고리 테이블 변경 시 무효화
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("select c.id, c.name, p.id, c.path from Category c left join c.category p")
+    List<Object[]> findAllRows();
+
+    /**
+     * 하위 트리 경로 일괄 변경, 경로 접두사를 교체
+     *
+     * @param oldPath 기존 경로
+     * @param newPath 변경 경로
+     * @param start 기존 경로 다음 문자 위치(1부터 시작)
+     * @return 변경 수
+     */
+    @Modifying
+    @Query("update Category c set c.path = concat(:newPath, substring(c.path, :start)) where c.path like :oldPath%")
+    int replacePathPrefix(@Param("oldPath") String oldPath, @Param("newPath") String newPath, @Param("start") int start);
+
 }
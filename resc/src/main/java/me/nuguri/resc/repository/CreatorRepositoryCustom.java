@@ -1,11 +1,13 @@
 package me.nuguri.resc.repository;
 
 import me.nuguri.common.entity.Creator;
+import me.nuguri.common.support.EntityVersion;
 import me.nuguri.resc.domain.CreatorSearchCondition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Transactional
@@ -15,4 +17,12 @@ public interface CreatorRepositoryCustom {
 
     Page<Creator> pageByCondition(CreatorSearchCondition condition, Pageable pageable);
 
+    Page<Creator> pageByCondition(CreatorSearchCondition condition, Collection<Long> ids, Pageable pageable);
+
+    List<Creator> findAllByCondition(CreatorSearchCondition condition, Collection<Long> ids);
+
+    EntityVersion findVersionById(Long id);
+
+    EntityVersion findVersionByCondition(CreatorSearchCondition condition, Pageable pageable);
+
 }
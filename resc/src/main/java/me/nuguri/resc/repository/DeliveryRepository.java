@@ -0,0 +1,8 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.Delivery;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public interface DeliveryRepository extends BaseRepository<Delivery, Long> {
+}
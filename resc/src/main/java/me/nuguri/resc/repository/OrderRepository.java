@@ -0,0 +1,8 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.Order;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public interface OrderRepository extends BaseRepository<Order, Long>, OrderRepositoryCustom {
+}
@@ -0,0 +1,28 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.Order;
+import me.nuguri.resc.domain.OrderIngestion;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Transactional
+public interface OrderRepositoryCustom {
+
+    Optional<Order> findDetailById(Long id);
+
+    Set<String> claimIdempotencyKeys(List<String> keys);
+
+    Map<String, Long> findOrderIdsByIdempotencyKeys(Collection<String> keys);
+
+    void insertAll(List<OrderIngestion> orders);
+
+    long countAccountsByIds(Collection<Long> ids);
+
+    long countProductsByIds(Collection<Long> ids);
+
+}
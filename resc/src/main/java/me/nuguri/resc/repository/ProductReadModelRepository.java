@@ -0,0 +1,73 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.common.enums.ProductType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Transactional
+public interface ProductReadModelRepository extends BaseRepository<ProductReadModel, Long> {
+
+    @Transactional(readOnly = true)
+    Slice<ProductReadModel> findByIdGreaterThan(Long cursor, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    Slice<ProductReadModel> findByPtypeAndIdGreaterThan(ProductType ptype, Long cursor, Pageable pageable);
+
+    /**
+     * 카테고리 하위 트리 전체의 상품 조회 모델 조회, 카테고리 경로 접두사 조건
+     *
+     * @param path 카테고리 경로
+     * @param cursor 이전 페이지 마지막 상품 식별키
+     * @param pageable 페이징
+     * @return 상품 조회 모델 슬라이스
+     */
+    @Transactional(readOnly = true)
+    @Query("select m from ProductReadModel m where m.id > :cursor and m.id in " +
+            "(select pc.product.id from ProductCategory pc join pc.category c where c.path like :path%)")
+    Slice<ProductReadModel> findByCategoryPath(@Param("path") String path, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    List<ProductReadModel> findByPtypeAndIdIn(ProductType ptype, Collection<Long> ids);
+
+    /**
+     * 주문 재고 차감 반영, 원본 재고는 네이티브 쿼리로 차감 되어 변경 감지 이벤트가 발생하지 않음
+     *
+     * @param id 상품 식별키
+     * @param count 차감 수량
+     * @return 수정 된 행 수
+     */
+    @Modifying
+    @Query("update ProductReadModel m set m.stockCount = m.stockCount - :count where m.id = :id")
+    int decreaseStock(@Param("id") Long id, @Param("count") int count);
+
+    @Modifying
+    @Query("update ProductReadModel m set m.stockCount = m.stockCount + :delta where m.id = :id")
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("delete from ProductReadModel m where m.id in :ids")
+    int deleteByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from ProductReadModel m where m.creatorId in :creatorIds")
+    int deleteByCreatorIdIn(Collection<Long> creatorIds);
+
+    /**
+     * 상품이 존재하지 않는 조회 모델 제거
+     * 네이티브 쿼리는 수정 대상 엔티티를 알 수 없어 모든 2차 캐시 영역을 비우므로 JPQL 로 상품 조회 모델 영역만 무효화
+     *
+     * @return 제거 수
+     */
+    @Modifying
+    @Query("delete from ProductReadModel m where m.id not in (select p.id from Product p)")
+    int deleteOrphans();
+
+}
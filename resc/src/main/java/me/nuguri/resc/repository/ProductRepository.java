@@ -4,5 +4,5 @@ import me.nuguri.common.entity.Product;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
-public interface ProductRepository extends BaseRepository<Product, Long> {
+public interface ProductRepository extends BaseRepository<Product, Long>, ProductRepositoryCustom {
 }
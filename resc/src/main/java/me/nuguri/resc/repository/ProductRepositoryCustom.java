@@ -0,0 +1,37 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.Product;
+import me.nuguri.common.entity.ProductCategory;
+import me.nuguri.common.enums.ProductType;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Transactional
+public interface ProductRepositoryCustom {
+
+    Map<Long, ProductType> findKeysByCursor(Long cursor, ProductType ptype, int limit);
+
+    List<Product> findAllByKeys(Map<Long, ProductType> keys);
+
+    List<Product> findAllByIds(Collection<Long> ids);
+
+    List<Product> findAllByCreatorIds(Collection<Long> creatorIds);
+
+    List<ProductCategory> findProductCategoriesByProductIds(Collection<Long> productIds);
+
+    List<Long> findIdsByCreatorIds(Collection<Long> creatorIds);
+
+    List<Long> findIdsByCompanyIds(Collection<Long> companyIds);
+
+    List<Long> findIdsByCategoryIds(Collection<Long> categoryIds);
+
+    int decreaseStock(Long id, int count);
+
+    int adjustStock(Long id, int delta);
+
+    Map<Long, Integer> findLedgerStockCounts(Collection<Long> ids);
+
+}
@@ -0,0 +1,31 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.StockLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional
+public interface StockLedgerEntryRepository extends BaseRepository<StockLedgerEntry, Long> {
+
+    /**
+     * 상품 재고에 반영 할 원장 기록 조회, 여러 노드가 동시에 반영해도 같은 기록을 중복 반영하지 않도록 쓰기 잠금
+     *
+     * @param pageable 조회 수
+     * @return 식별키 순서의 원장 기록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from StockLedgerEntry e order by e.id")
+    List<StockLedgerEntry> findForFlush(Pageable pageable);
+
+    @Modifying
+    @Query("delete from StockLedgerEntry e where e.id in :ids")
+    int deleteByIdIn(Collection<Long> ids);
+
+}
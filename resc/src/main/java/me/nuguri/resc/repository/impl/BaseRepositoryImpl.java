@@ -1,5 +1,6 @@
 package me.nuguri.resc.repository.impl;
 
+import lombok.extern.slf4j.Slf4j;
 import me.nuguri.resc.repository.BaseRepository;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
@@ -7,14 +8,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+@Slf4j
 @Transactional
 public class BaseRepositoryImpl<T, ID extends Serializable> extends SimpleJpaRepository<T, ID> implements BaseRepository<T, ID> {
 
+    /** hibernate.jdbc.batch_size 설정이 없는 경우 일괄 저장 배치 크기 */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final String BATCH_SIZE_PROPERTY = "hibernate.jdbc.batch_size";
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+
     private final EntityManager entityManager;
 
     public BaseRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
         super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
         this.entityManager = entityManager;
     }
 
@@ -24,6 +37,56 @@ public class BaseRepositoryImpl<T, ID extends Serializable> extends SimpleJpaRep
         return t;
     }
 
+    @Override
+    public long generateAll(Iterable<? extends T> entities) {
+        return generateAll(entities.iterator(), batchSize());
+    }
+
+    @Override
+    public long generateAll(Iterable<? extends T> entities, int batchSize) {
+        return generateAll(entities.iterator(), batchSize);
+    }
+
+    @Override
+    public long generateAll(Stream<? extends T> entities) {
+        return generateAll(entities.iterator(), batchSize());
+    }
+
+    /**
+     * 배치 크기 만큼 저장 할 때마다 flush, clear 해서 영속성 컨텍스트 크기를 배치 크기 이하로 유지
+     * 호출 전부터 영속성 컨텍스트에 있던 엔티티도 준영속 상태가 되고, IDENTITY 식별키 엔티티는 JDBC 배치 되지 않음
+     *
+     * @param entities 저장 할 엔티티
+     * @param batchSize 배치 크기
+     * @return 저장 한 엔티티 수
+     */
+    private long generateAll(Iterator<? extends T> entities, int batchSize) {
+        long start = System.nanoTime();
+        long count = 0;
+        while (entities.hasNext()) {
+            entityManager.persist(entities.next());
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = Math.max(System.nanoTime() - start, 1);
+        log.info("[log] {} generated : {}, batch size : {}, elapsed : {}ms, throughput : {}/s",
+                entityInformation.getEntityName(), count, batchSize,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), count * TimeUnit.SECONDS.toNanos(1) / elapsed);
+        return count;
+    }
+
+    /**
+     * 일괄 저장 배치 크기, JDBC 배치 크기와 맞춰서 flush 한 번에 배치 한 번 실행
+     */
+    private int batchSize() {
+        Object value = entityManager.getEntityManagerFactory().getProperties().get(BATCH_SIZE_PROPERTY);
+        return value != null ? Integer.parseInt(String.valueOf(value)) : DEFAULT_BATCH_SIZE;
+    }
+
     @Override
     public T merge(T t) {
         entityManager.merge(t);
@@ -1,205 +1,284 @@
 package me.nuguri.resc.repository.impl;
 
-import com.google.common.collect.Iterators;
-import com.querydsl.core.Tuple;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.google.common.collect.Lists;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DatePath;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.PathBuilder;
-import com.querydsl.core.types.dsl.SimplePath;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.dsl.Param;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import me.nuguri.common.entity.Creator;
 import me.nuguri.common.entity.Product;
 import me.nuguri.common.enums.Gender;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.common.support.EntityVersion;
+import me.nuguri.common.support.SearchQueryCompiler;
+import me.nuguri.common.support.SearchShape;
+import me.nuguri.common.support.SortablePropertyRegistry;
 import me.nuguri.resc.domain.CreatorSearchCondition;
 import me.nuguri.resc.repository.CreatorRepositoryCustom;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.*;
 
-import static java.util.stream.Collectors.toList;
 import static me.nuguri.common.entity.QCreator.creator;
-import static me.nuguri.common.entity.QProduct.product;
 import static me.nuguri.common.entity.QProductCategory.productCategory;
+import static me.nuguri.resc.repository.impl.ProductRepositoryImpl.IN_QUERY_SIZE;
 
 @Transactional
 @RequiredArgsConstructor
 public class CreatorRepositoryImpl implements CreatorRepositoryCustom {
 
+    /** 검색 조건 파라미터, 값은 쿼리 생성 후 바인딩 */
+    @SuppressWarnings("rawtypes")
+    private static final Param<Collection> IDS = new Param<>(Collection.class, "ids");
+
+    private static final Param<String> NAME = new Param<>(String.class, "name");
+
+    private static final Param<Gender> GENDER = new Param<>(Gender.class, "gender");
+
+    private static final Param<LocalDate> START_BIRTH = new Param<>(LocalDate.class, "startBirth");
+
+    private static final Param<LocalDate> END_BIRTH = new Param<>(LocalDate.class, "endBirth");
+
+    private static final Param<LocalDate> START_DEATH = new Param<>(LocalDate.class, "startDeath");
+
+    private static final Param<LocalDate> END_DEATH = new Param<>(LocalDate.class, "endDeath");
+
     private final JPAQueryFactory jpaQueryFactory;
 
+    private final EntityManager entityManager;
+
+    private final SortablePropertyRegistry sortablePropertyRegistry;
+
+    private final SearchQueryCompiler searchQueryCompiler;
+
+    /**
+     * 저자와 연관 상품, 상품 카테고리 삭제, 엔티티를 조회하지 않고 식별키, 구분 값만 조회
+     * 상품 카테고리 > 상품 자식 테이블 > 상품 부모 테이블 > 저자 순서로 IN 쿼리 파라미터 수 만큼 나눠서 삭제
+     *
+     * @param ids 저자 식별키
+     * @return 삭제 된 저자 수
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public long deleteByIdBatchInQuery(List<Long> ids) {
-        // 저자와 연관된 상품 엔티티, 상품 카테고리 식별키 조회
-        List<Tuple> result = jpaQueryFactory
-                .select(creator.id, product, productCategory.id)
-                .from(creator)
-                .leftJoin(creator.products, product)
-                .leftJoin(product.productCategories, productCategory)
-                .where(creator.id.in(ids))
-                .fetch();
-
-        // creator 조인을 줄일 수 있지만 조인 하나 더한다고 로우가 많이 늘어나서 성능 저하가 클 것 같지만
-        // 성능이 저하가 크지 않고 오히려 조인을 줄이고 product.creator.id 조회보다 더 빠름
-        // PK 조회와 FK 조회의 컬럼 위치가 인덱스 조회에 영향을 미치는 듯?
-        // 하지만 조회 로우수가 증가 하므로 속도와 조회량에 맞춰서 쿼리를 사용하면 될 것 같음
-//        List<Tuple> result = jpaQueryFactory
-//                .select(product.creator.id, product, productCategory.id)
-//                .from(product)
-//                .leftJoin(product.productCategories, productCategory)
-//                .where(product.creator.id.in(ids))
-//                .fetch();
-
         // 삭제 요청받은 저자 식별키들 중에서 실제로 존재하는 식별키 추출
-        List<Long> creatorIds = result
-                .stream()
-                .map(t -> t.get(creator.id))
-                .distinct()
-                .collect(toList());
+        List<Long> creatorIds = new ArrayList<>();
+        for (List<Long> chunk : Lists.partition(ids, IN_QUERY_SIZE)) {
+            creatorIds.addAll(jpaQueryFactory
+                    .select(creator.id)
+                    .from(creator)
+                    .where(creator.id.in(chunk))
+                    .fetch());
+        }
 
         // 제거할 저자 엔티티가 없는 경우
         if (creatorIds.isEmpty()) {
             return 0;
         }
 
-        // 조회한 상품 엔티티를 ptype 기준으로 그룹핑
-        Map<? extends Class<? extends Product>, List<Product>> productGroups = result
-                .stream()
-                .map(t -> t.get(product))
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.groupingBy(Product::getClass));
-
-        // 삭제 요청 받은 저자 식별키와 연관된 상품 카테고리 식별키 추출
-        List<Long> productCategoryIds = result
-                .stream()
-                .map(t -> t.get(productCategory.id))
-                .filter(Objects::nonNull)
-                .collect(toList());
-
-        // 상품 카테고리 엔티티 삭제
-        if (!productCategoryIds.isEmpty()) {
-            jpaQueryFactory
-                    .delete(productCategory)
-                    .where(productCategory.id.in(productCategoryIds))
-                    .execute();
+        // 저자와 연관된 상품 식별키를 ptype 기준으로 그룹핑, JPQL 은 모든 자식 테이블과 외부 조인하므로 부모 테이블만 조회
+        Map<ProductType, List<Long>> productGroups = new EnumMap<>(ProductType.class);
+        for (List<Long> chunk : Lists.partition(creatorIds, IN_QUERY_SIZE)) {
+            List<Object[]> rows = entityManager
+                    .createNativeQuery("select p.id, p.ptype from product p where p.creator_id in (:ids)")
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            for (Object[] row : rows) {
+                productGroups
+                        .computeIfAbsent(ProductType.valueOf(String.valueOf(row[1])), k -> new ArrayList<>())
+                        .add(((Number) row[0]).longValue());
+            }
         }
 
-        // 상품 엔티티 삭제
-        if (!productGroups.isEmpty()) {
-            for (Class<? extends Product> ptype : productGroups.keySet()) {
-                List<Long> productIds = productGroups
-                        .get(ptype)
-                        .stream()
-                        .map(Product::getId)
-                        .collect(toList());
-                PathBuilder<? extends Product> entityPath = new PathBuilder<>(ptype, "ptype");
-
+        for (Map.Entry<ProductType, List<Long>> group : productGroups.entrySet()) {
+            // JPQL 벌크 삭제는 JOINED 상속 엔티티에 임시 테이블을 사용하므로 자식 테이블, 부모 테이블 순서로 직접 삭제
+            AbstractEntityPersister persister = (AbstractEntityPersister) entityManager
+                    .getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getMetamodel()
+                    .entityPersister(group.getKey().getEntityType());
+            String deleteSubtype = "delete from " + persister.getTableName()
+                    + " where " + persister.getIdentifierColumnNames()[0] + " in (:ids)";
+            for (List<Long> chunk : Lists.partition(group.getValue(), IN_QUERY_SIZE)) {
+                // 상품 카테고리 엔티티 삭제
                 jpaQueryFactory
-                        .delete(entityPath)
-                        .where(entityPath.get("id").in(productIds))
+                        .delete(productCategory)
+                        .where(productCategory.product.id.in(chunk))
                         .execute();
+                // 상품 엔티티 삭제, 삭제 대상을 상품으로 지정해서 다른 2차 캐시 영역은 유지
+                entityManager.createNativeQuery(deleteSubtype)
+                        .unwrap(NativeQuery.class)
+                        .addSynchronizedEntityClass(group.getKey().getEntityType())
+                        .setParameter("ids", chunk)
+                        .executeUpdate();
+                entityManager.createNativeQuery("delete from product where id in (:ids)")
+                        .unwrap(NativeQuery.class)
+                        .addSynchronizedEntityClass(Product.class)
+                        .setParameter("ids", chunk)
+                        .executeUpdate();
             }
         }
 
         // 저자 엔티티 삭제
-        return jpaQueryFactory
-                .delete(creator)
-                .where(creator.id.in(creatorIds))
-                .execute();
+        long deleted = 0;
+        for (List<Long> chunk : Lists.partition(creatorIds, IN_QUERY_SIZE)) {
+            deleted += jpaQueryFactory
+                    .delete(creator)
+                    .where(creator.id.in(chunk))
+                    .execute();
+        }
+        return deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Creator> pageByCondition(CreatorSearchCondition condition, Pageable pageable) {
+        return pageByCondition(condition, null, pageable);
+    }
+
+    /**
+     * 검색 조건, 식별키 목록으로 저자 페이징 조회, 입력 된 검색 조건과 정렬이 같은 요청은 컴파일 된 쿼리 재사용
+     *
+     * @param condition 검색 조건
+     * @param ids 식별키 목록, null 인 경우 식별키 조건 없음
+     * @param pageable 페이징
+     * @return 저자 엔티티 페이징 객체
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Creator> pageByCondition(CreatorSearchCondition condition, Collection<Long> ids, Pageable pageable) {
         // 페이징 쿼리
-        List<Creator> content = jpaQueryFactory
-                .selectFrom(creator)
-                .where(
-                        eqName(condition.getName()),
-                        eqGender(condition.getGender()),
-                        betweenBirth(condition.getStartBirth(), condition.getEndBirth()),
-                        betweenDeath(condition.getStartDeath(), condition.getEndDeath())
-                )
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
-                .orderBy(orderSpecifiers(pageable))
-                .fetch();
+        SearchShape shape = shape("creator.page", condition, ids).sort(pageable.getSort());
+        List<Creator> content = searchQueryCompiler
+                .createQuery(shape, Creator.class, () -> jpaQueryFactory
+                        .selectFrom(creator)
+                        .where(where(shape))
+                        .orderBy(sortablePropertyRegistry.getOrderSpecifiers(creator, shape.getSort())))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
 
         // 카운트 쿼리
-        JPAQuery<Creator> countQuery = jpaQueryFactory
-                .selectFrom(creator)
-                .where(
-                        eqName(condition.getName()),
-                        eqGender(condition.getGender()),
-                        betweenBirth(condition.getStartBirth(), condition.getEndBirth()),
-                        betweenDeath(condition.getStartDeath(), condition.getEndDeath())
-                );
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+        SearchShape countShape = shape("creator.count", condition, ids);
+        return PageableExecutionUtils.getPage(content, pageable, () -> searchQueryCompiler
+                .createQuery(countShape, Long.class, () -> jpaQueryFactory
+                        .select(creator.count())
+                        .from(creator)
+                        .where(where(countShape)))
+                .getSingleResult());
     }
 
     /**
-     * pageable 값에 따라 동적으로 querydsl 정렬 조건 생성 메소드
+     * 검색 조건, 식별키 목록으로 저자 전체 조회, 식별키 목록 크기로 조회 수가 제한 되는 경우만 사용
      *
-     * @param pageable page 페이지, size 사이즈, sort 정렬
-     * @return
+     * @param condition 검색 조건
+     * @param ids 식별키 목록
+     * @return 저자 엔티티
      */
-    private OrderSpecifier<?>[] orderSpecifiers(Pageable pageable) {
-        Sort sort = pageable.getSort();
-        Iterator<Sort.Order> iterator = sort.iterator();
-        OrderSpecifier<?>[] orderSpecifiers = new OrderSpecifier[Iterators.size(sort.iterator())];
-
-        for (int i = 0; iterator.hasNext(); i++) {
-            Sort.Order order = iterator.next();
-            Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
-            String property = order.getProperty();
-            SimplePath<Object> path = Expressions.path(Object.class, creator, property);
-            orderSpecifiers[i] = new OrderSpecifier(direction, path);
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public List<Creator> findAllByCondition(CreatorSearchCondition condition, Collection<Long> ids) {
+        SearchShape shape = shape("creator.all", condition, ids);
+        return searchQueryCompiler
+                .createQuery(shape, Creator.class, () -> jpaQueryFactory
+                        .selectFrom(creator)
+                        .where(where(shape)))
+                .getResultList();
+    }
 
-        return orderSpecifiers;
+    /**
+     * 저자 조건부 요청 검증 값 조회, 엔티티를 조회하지 않고 수정 날짜만 조회
+     *
+     * @param id 식별키
+     * @return 검증 값, 저자가 없거나 수정 날짜가 없는 경우 null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EntityVersion findVersionById(Long id) {
+        LocalDateTime updated = jpaQueryFactory
+                .select(creator.updated)
+                .from(creator)
+                .where(creator.id.eq(id))
+                .fetchOne();
+        return EntityVersion.of(id, updated);
     }
 
-    private BooleanExpression betweenBirth(LocalDate startBirth, LocalDate endBirth) {
-        if (startBirth != null && endBirth != null) {
-            return creator.birth.between(startBirth, endBirth);
-        } else if (startBirth == null && endBirth == null) {
-            return null;
-        } else {
-            return startBirth == null ? creator.birth.loe(endBirth) : creator.birth.goe(startBirth);
-        }
+    /**
+     * 저자 페이징 조회 조건부 요청 검증 값 조회, 검색 조건에 해당하는 전체 수와 수정 날짜 최댓값 한 번에 집계
+     *
+     * @param condition 검색 조건
+     * @param pageable 페이징
+     * @return 검증 값, 조건에 해당하는 저자가 없는 경우 null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EntityVersion findVersionByCondition(CreatorSearchCondition condition, Pageable pageable) {
+        SearchShape shape = shape("creator.version", condition, null);
+        Object[] row = searchQueryCompiler
+                .createQuery(shape, Object[].class, () -> jpaQueryFactory
+                        .select(creator.count(), creator.updated.max())
+                        .from(creator)
+                        .where(where(shape)))
+                .getSingleResult();
+        return EntityVersion.of(condition.toKey(pageable), ((Number) row[0]).longValue(), (LocalDateTime) row[1]);
     }
 
-    private BooleanExpression betweenDeath(LocalDate startDeath, LocalDate endDeath) {
-        if (startDeath != null && endDeath != null) {
-            return creator.death.between(startDeath, endDeath);
-        } else if (startDeath == null && endDeath == null) {
-            return null;
-        } else {
-            return startDeath == null ? creator.death.loe(endDeath) : creator.death.goe(startDeath);
-        }
+    /**
+     * 입력 된 검색 조건으로 검색 쿼리 형태 생성
+     *
+     * @param name 쿼리 이름
+     * @param condition 검색 조건
+     * @param ids 식별키 목록, null 인 경우 식별키 조건 없음
+     * @return 검색 쿼리 형태
+     */
+    private SearchShape shape(String name, CreatorSearchCondition condition, Collection<Long> ids) {
+        return SearchShape.of(name)
+                .param(IDS, ids)
+                .param(NAME, condition.getName())
+                .param(GENDER, condition.getGender())
+                .param(START_BIRTH, condition.getStartBirth())
+                .param(END_BIRTH, condition.getEndBirth())
+                .param(START_DEATH, condition.getStartDeath())
+                .param(END_DEATH, condition.getEndDeath());
     }
 
-    private BooleanExpression eqGender(Gender gender) {
-        return gender != null ? creator.gender.eq(gender) : null;
+    /**
+     * 검색 쿼리 형태의 검색 조건, 값 대신 파라미터를 사용하므로 형태 별로 처음 한번만 호출
+     *
+     * @param shape 검색 쿼리 형태
+     * @return 입력 되지 않은 조건은 null 인 검색 조건
+     */
+    private Predicate[] where(SearchShape shape) {
+        return new Predicate[]{
+                shape.when(IDS, Expressions.booleanOperation(Ops.IN, creator.id, IDS)),
+                shape.when(NAME, creator.name.eq(NAME)),
+                shape.when(GENDER, creator.gender.eq(GENDER)),
+                between(shape, creator.birth, START_BIRTH, END_BIRTH),
+                between(shape, creator.death, START_DEATH, END_DEATH)
+        };
     }
 
-    private BooleanExpression eqName(String name) {
-        return !StringUtils.isEmpty(name) ? creator.name.eq(name) : null;
+    private BooleanExpression between(SearchShape shape, DatePath<LocalDate> path, Param<LocalDate> start, Param<LocalDate> end) {
+        if (shape.has(start) && shape.has(end)) {
+            return path.between(start, end);
+        } else if (shape.has(start)) {
+            return path.goe(start);
+        } else {
+            return shape.when(end, path.loe(end));
+        }
     }
 
 }
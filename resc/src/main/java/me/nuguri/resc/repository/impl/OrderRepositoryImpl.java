@@ -0,0 +1,228 @@
+package me.nuguri.resc.repository.impl;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.Delivery;
+import me.nuguri.common.entity.Order;
+import me.nuguri.common.entity.OrderProduct;
+import me.nuguri.common.enums.DeliveryStatus;
+import me.nuguri.common.support.JdbcBatchInserter;
+import me.nuguri.resc.domain.OrderIngestion;
+import me.nuguri.resc.repository.OrderRepositoryCustom;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static me.nuguri.resc.repository.impl.ProductRepositoryImpl.IN_QUERY_SIZE;
+
+@Transactional
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    /** JDBC 배치 한 번에 실행 할 최대 행 수 */
+    public static final int BATCH_SIZE = 1000;
+
+    /** 무결성 제약 조건 위반 SQLState 클래스 */
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private static final String INSERT_IDEMPOTENCY_KEY = "insert into order_idempotency_key (idempotency_key, created) values (?, ?)";
+
+    private final EntityManager entityManager;
+
+    /**
+     * 주문 상세 조회, 배송, 주문자, 주문 상품과 상품을 함께 조회
+     *
+     * @param id 식별키
+     * @return 주문
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> findDetailById(Long id) {
+        return entityManager
+                .createQuery("select distinct o from Order o join fetch o.delivery join fetch o.account left join fetch o.orderProducts op left join fetch op.product where o.id = :id", Order.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 멱등 키 배치 추가, 이미 있는 키는 기본 키 중복으로 실패하므로 추가 전 조회 하지 않음
+     * 드라이버가 실패 이후 배치를 계속 실행하지 않은 경우 남은 키는 한 건씩 추가
+     *
+     * @param keys 멱등 키
+     * @return 새로 추가 된 멱등 키
+     */
+    @Override
+    public Set<String> claimIdempotencyKeys(List<String> keys) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Set<String> claimed = new HashSet<>();
+            for (List<String> chunk : Lists.partition(keys, BATCH_SIZE)) {
+                int[] counts;
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_IDEMPOTENCY_KEY)) {
+                    for (String key : chunk) {
+                        statement.setString(1, key);
+                        statement.setTimestamp(2, now);
+                        statement.addBatch();
+                    }
+                    try {
+                        counts = statement.executeBatch();
+                    } catch (BatchUpdateException e) {
+                        if (!isIntegrityConstraintViolation(e)) {
+                            throw e;
+                        }
+                        counts = e.getUpdateCounts();
+                    }
+                }
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] != Statement.EXECUTE_FAILED) {
+                        claimed.add(chunk.get(i));
+                    }
+                }
+                for (int i = counts.length; i < chunk.size(); i++) {
+                    if (claimIdempotencyKey(connection, chunk.get(i), now)) {
+                        claimed.add(chunk.get(i));
+                    }
+                }
+            }
+            return claimed;
+        });
+    }
+
+    /**
+     * 멱등 키로 주문 식별키 조회
+     *
+     * @param keys 멱등 키
+     * @return 멱등 키 별 주문 식별키
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> findOrderIdsByIdempotencyKeys(Collection<String> keys) {
+        Map<String, Long> result = new HashMap<>();
+        for (List<String> chunk : Lists.partition(new ArrayList<>(keys), IN_QUERY_SIZE)) {
+            List<Object[]> rows = entityManager
+                    .createNativeQuery("select k.idempotency_key, k.order_id from order_idempotency_key k where k.idempotency_key in (:keys)")
+                    .setParameter("keys", chunk)
+                    .getResultList();
+            rows.forEach(row -> result.put((String) row[0], row[1] != null ? ((Number) row[1]).longValue() : null));
+        }
+        return result;
+    }
+
+    /**
+     * 배송, 주문, 주문 상품, 멱등 키 순서로 테이블 별 JDBC 배치 실행, 생성 된 식별키를 주문에 기록
+     * 엔티티를 영속성 컨텍스트에 올리지 않으므로 IDENTITY 식별키여도 배치로 추가
+     *
+     * @param orders 일괄 등록 할 주문
+     */
+    @Override
+    public void insertAll(List<OrderIngestion> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        JdbcBatchInserter inserter = new JdbcBatchInserter(entityManager, BATCH_SIZE);
+
+        List<Object[]> deliveries = new ArrayList<>(orders.size());
+        for (OrderIngestion order : orders) {
+            deliveries.add(new Object[]{now, now, DeliveryStatus.READY.name(),
+                    order.getAddress().getCity(), order.getAddress().getStreet(), order.getAddress().getZipCode()});
+        }
+        List<Long> deliveryIds = inserter.insert(Delivery.class, "delivery",
+                Arrays.asList("created", "updated", "status", "city", "street", "zip_code"), deliveries);
+
+        List<Object[]> rows = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            orders.get(i).setDeliveryId(deliveryIds.get(i));
+            rows.add(new Object[]{now, now, deliveryIds.get(i), orders.get(i).getAccountId()});
+        }
+        List<Long> orderIds = inserter.insert(Order.class, "orders",
+                Arrays.asList("created", "updated", "delivery_id", "account_id"), rows);
+
+        List<Object[]> orderProducts = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Long orderId = orderIds.get(i);
+            orders.get(i).setOrderId(orderId);
+            orders.get(i).getCounts().forEach((productId, count) -> orderProducts.add(new Object[]{now, now, count, productId, orderId}));
+        }
+        Iterator<Long> orderProductIds = inserter.insert(OrderProduct.class, "order_product",
+                Arrays.asList("created", "updated", "count", "product_id", "order_id"), orderProducts).iterator();
+        for (OrderIngestion order : orders) {
+            for (int i = 0; i < order.getCounts().size(); i++) {
+                order.getOrderProductIds().add(orderProductIds.next());
+            }
+        }
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("update order_idempotency_key set order_id = ? where idempotency_key = ?")) {
+                for (List<OrderIngestion> chunk : Lists.partition(orders, BATCH_SIZE)) {
+                    for (OrderIngestion order : chunk) {
+                        statement.setLong(1, order.getOrderId());
+                        statement.setString(2, order.getIdempotencyKey());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    /**
+     * 계정 수 조회, 식별키 존재 여부 확인용
+     *
+     * @param ids 계정 식별키
+     * @return 존재하는 계정 수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countAccountsByIds(Collection<Long> ids) {
+        return countBy("select count(*) from account a where a.id in (:ids)", ids);
+    }
+
+    /**
+     * 상품 수 조회, 부모 테이블만 조회
+     *
+     * @param ids 상품 식별키
+     * @return 존재하는 상품 수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countProductsByIds(Collection<Long> ids) {
+        return countBy("select count(*) from product p where p.id in (:ids)", ids);
+    }
+
+    private long countBy(String sql, Collection<Long> ids) {
+        long count = 0;
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(ids), IN_QUERY_SIZE)) {
+            count += ((Number) entityManager
+                    .createNativeQuery(sql)
+                    .setParameter("ids", chunk)
+                    .getSingleResult()).longValue();
+        }
+        return count;
+    }
+
+    private boolean claimIdempotencyKey(Connection connection, String key, Timestamp now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_IDEMPOTENCY_KEY)) {
+            statement.setString(1, key);
+            statement.setTimestamp(2, now);
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            if (isIntegrityConstraintViolation(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isIntegrityConstraintViolation(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION);
+    }
+
+}
@@ -0,0 +1,296 @@
+package me.nuguri.resc.repository.impl;
+
+import com.google.common.collect.Lists;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.Product;
+import me.nuguri.common.entity.ProductCategory;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.resc.repository.ProductRepositoryCustom;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.*;
+
+import static me.nuguri.common.entity.QCategory.category;
+import static me.nuguri.common.entity.QProductCategory.productCategory;
+
+@Transactional
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    /** IN 쿼리 최대 파라미터 수, default_batch_fetch_size 와 동일 */
+    public static final int IN_QUERY_SIZE = 1000;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 커서(식별키) 이후 상품 식별키, 구분 값을 식별키 순서로 조회
+     * JPQL 로 부모 엔티티를 조회하면 모든 자식 테이블과 외부 조인이 발생하므로 부모 테이블만 네이티브 쿼리로 조회
+     *
+     * @param cursor 이전 페이지 마지막 식별키, null 인 경우 처음부터
+     * @param ptype 상품 구분, null 인 경우 전체
+     * @param limit 조회 수
+     * @return 식별키 순서의 식별키, 구분 값
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Map<Long, ProductType> findKeysByCursor(Long cursor, ProductType ptype, int limit) {
+        String sql = "select p.id, p.ptype from product p where p.id > :cursor"
+                + (ptype != null ? " and p.ptype = :ptype" : "")
+                + " order by p.id";
+        Query query = entityManager
+                .createNativeQuery(sql)
+                .setParameter("cursor", cursor != null ? cursor : 0L)
+                .setMaxResults(limit);
+        if (ptype != null) {
+            query.setParameter("ptype", ptype.name());
+        }
+        return toKeys(query.getResultList());
+    }
+
+    /**
+     * 식별키, 구분 값으로 상품 자식 엔티티 조회
+     * 구분 값 별로 해당 자식 테이블(+ 부모 테이블)만 IN 쿼리로 조회하므로 상품 종류가 늘어나도 조인 수가 늘어나지 않음
+     *
+     * @param keys 식별키, 구분 값
+     * @return keys 순서의 상품 엔티티
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findAllByKeys(Map<Long, ProductType> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<ProductType, List<Long>> groups = new EnumMap<>(ProductType.class);
+        keys.forEach((id, ptype) -> groups.computeIfAbsent(ptype, k -> new ArrayList<>()).add(id));
+
+        Map<Long, Product> products = new HashMap<>();
+        groups.forEach((ptype, ids) -> {
+            PathBuilder<? extends Product> entityPath = new PathBuilder<>(ptype.getEntityType(), "p");
+            for (List<Long> chunk : Lists.partition(ids, IN_QUERY_SIZE)) {
+                jpaQueryFactory
+                        .selectFrom(entityPath)
+                        .where(entityPath.getNumber("id", Long.class).in(chunk))
+                        .fetch()
+                        .forEach(p -> products.put(p.getId(), p));
+            }
+        });
+
+        List<Product> result = new ArrayList<>(keys.size());
+        for (Long id : keys.keySet()) {
+            Product product = products.get(id);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 식별키로 상품 자식 엔티티 조회, 구분 값 조회 후 구분 값 별 IN 쿼리로 조회
+     *
+     * @param ids 식별키
+     * @return ids 순서의 상품 엔티티
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, ProductType> found = new HashMap<>();
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(ids), IN_QUERY_SIZE)) {
+            found.putAll(toKeys(entityManager
+                    .createNativeQuery("select p.id, p.ptype from product p where p.id in (:ids)")
+                    .setParameter("ids", chunk)
+                    .getResultList()));
+        }
+        Map<Long, ProductType> keys = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ProductType ptype = found.get(id);
+            if (ptype != null) {
+                keys.put(id, ptype);
+            }
+        }
+        return findAllByKeys(keys);
+    }
+
+    /**
+     * 저자 식별키로 상품 자식 엔티티 조회, IN 쿼리 파라미터 수 만큼 나눠서 조회
+     * JPQL 로 부모 엔티티를 조회하면 모든 자식 테이블과 외부 조인이 발생하므로 부모 테이블에서 식별키, 구분 값 조회 후 구분 값 별 IN 쿼리로 조회
+     *
+     * @param creatorIds 저자 식별키
+     * @return 식별키 순서의 상품 엔티티
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<Product> findAllByCreatorIds(Collection<Long> creatorIds) {
+        if (creatorIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, ProductType> keys = new LinkedHashMap<>();
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(creatorIds), IN_QUERY_SIZE)) {
+            keys.putAll(toKeys(entityManager
+                    .createNativeQuery("select p.id, p.ptype from product p where p.creator_id in (:ids) order by p.id")
+                    .setParameter("ids", chunk)
+                    .getResultList()));
+        }
+        return findAllByKeys(keys);
+    }
+
+    /**
+     * 상품 식별키로 상품 카테고리 엔티티 카테고리 패치 조인 조회, IN 쿼리 파라미터 수 만큼 나눠서 조회
+     *
+     * @param productIds 상품 식별키
+     * @return 상품 카테고리 엔티티
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductCategory> findProductCategoriesByProductIds(Collection<Long> productIds) {
+        List<ProductCategory> result = new ArrayList<>();
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(productIds), IN_QUERY_SIZE)) {
+            result.addAll(jpaQueryFactory
+                    .selectFrom(productCategory)
+                    .join(productCategory.category, category).fetchJoin()
+                    .where(productCategory.product.id.in(chunk))
+                    .fetch());
+        }
+        return result;
+    }
+
+    /**
+     * 저자 식별키로 상품 식별키 조회
+     *
+     * @param creatorIds 저자 식별키
+     * @return 상품 식별키
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByCreatorIds(Collection<Long> creatorIds) {
+        return findIdsBy("select p.id from product p where p.creator_id in (:ids)", creatorIds);
+    }
+
+    /**
+     * 회사 식별키로 상품 식별키 조회
+     *
+     * @param companyIds 회사 식별키
+     * @return 상품 식별키
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByCompanyIds(Collection<Long> companyIds) {
+        return findIdsBy("select p.id from product p where p.company_id in (:ids)", companyIds);
+    }
+
+    /**
+     * 카테고리 식별키로 상품 식별키 조회
+     *
+     * @param categoryIds 카테고리 식별키
+     * @return 상품 식별키
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByCategoryIds(Collection<Long> categoryIds) {
+        return findIdsBy("select distinct pc.product_id from product_category pc where pc.category_id in (:ids)", categoryIds);
+    }
+
+    /**
+     * 재고 수량 조건부 차감, 재고가 차감 수량 이상인 경우에만 차감
+     * 조회 후 수정하지 않고 단일 UPDATE 로 확인, 차감 하므로 행 잠금은 문장 실행 동안만 경합
+     * JPQL 벌크 수정은 JOINED 상속 엔티티에 임시 테이블을 사용하므로 부모 테이블만 네이티브 쿼리로 수정
+     * 수정 대상을 상품으로 지정해서 네이티브 쿼리 실행 시 다른 2차 캐시 영역까지 비워지지 않도록 함
+     *
+     * @param id 상품 식별키
+     * @param count 차감 수량
+     * @return 수정 된 행 수, 재고 부족 또는 존재하지 않는 상품인 경우 0
+     */
+    @Override
+    public int decreaseStock(Long id, int count) {
+        return entityManager
+                .createNativeQuery("update product set stock_count = stock_count - :count where id = :id and stock_count >= :count")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .setParameter("count", count)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    /**
+     * 재고 수량 증감, 재고 원장에서 확정한 수량을 반영하므로 조건 없이 수정
+     *
+     * @param id 상품 식별키
+     * @param delta 증감 수량
+     * @return 수정 된 행 수
+     */
+    @Override
+    public int adjustStock(Long id, int delta) {
+        return entityManager
+                .createNativeQuery("update product set stock_count = stock_count + :delta where id = :id")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .setParameter("delta", delta)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    /**
+     * 재고 원장 적재 수량 조회, 상품 재고에 아직 반영 되지 않은 원장 기록까지 더한 수량
+     * 반영 중인 기록이 재고와 원장 기록 양쪽에서 세어지거나 빠지지 않도록 한 문장으로 조회
+     *
+     * @param ids 상품 식별키
+     * @return 상품 식별키 별 재고 수량, 존재하지 않는 상품은 제외
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Map<Long, Integer> findLedgerStockCounts(Collection<Long> ids) {
+        Map<Long, Integer> result = new HashMap<>();
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(ids), IN_QUERY_SIZE)) {
+            List<Object[]> rows = entityManager
+                    .createNativeQuery("select p.id, p.stock_count + coalesce((select sum(e.delta) from stock_ledger_entry e " +
+                            "where e.product_id = p.id), 0) from product p where p.id in (:ids)")
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            rows.forEach(row -> result.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue()));
+        }
+        return result;
+    }
+
+    /**
+     * 부모 테이블, 매핑 테이블에서 상품 식별키만 조회, IN 쿼리 파라미터 수 만큼 나눠서 조회
+     *
+     * @param sql :ids 파라미터를 가진 네이티브 쿼리
+     * @param ids 조회 조건 식별키
+     * @return 상품 식별키
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> findIdsBy(String sql, Collection<Long> ids) {
+        List<Long> result = new ArrayList<>();
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(ids), IN_QUERY_SIZE)) {
+            List<Number> rows = entityManager
+                    .createNativeQuery(sql)
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            rows.forEach(id -> result.add(id.longValue()));
+        }
+        return result;
+    }
+
+    private Map<Long, ProductType> toKeys(List<Object[]> rows) {
+        Map<Long, ProductType> keys = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            keys.put(((Number) row[0]).longValue(), ProductType.valueOf(String.valueOf(row[1])));
+        }
+        return keys;
+    }
+
+}
@@ -1,4 +1,141 @@
 package me.nuguri.resc.service;
 
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.Category;
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.resc.domain.CategoryTree;
+import me.nuguri.resc.repository.CategoryRepository;
+import me.nuguri.resc.repository.ProductReadModelRepository;
+import me.nuguri.resc.support.CategoryTreeCache;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
 public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    private final ProductReadModelRepository productReadModelRepository;
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    /**
+     * 애플리케이션 시작 시 경로가 없거나 잘못 된 카테고리 경로 보정 후 트리 스냅샷 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (Category category : categoryRepository.findAll()) {
+            String path = category.buildPath();
+            if (!path.equals(category.getPath())) {
+                category.setPath(path);
+            }
+        }
+        categoryTreeCache.refreshAfterCommit();
+    }
+
+    /**
+     * 카테고리 트리 스냅샷 조회, DB 조회 없음
+     *
+     * @return 카테고리 트리
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CategoryTree getTree() {
+        return categoryTreeCache.get();
+    }
+
+    /**
+     * 카테고리 하위 트리 조회, DB 조회 없음
+     *
+     * @param id 식별키
+     * @return 카테고리 노드
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CategoryTree.Node find(Long id) {
+        return categoryTreeCache.get().find(id).orElseThrow(NoSuchElementException::new);
+    }
+
+    /**
+     * 카테고리 하위 트리 전체의 상품 조회 모델 커서 조회, 경로 접두사 조건으로 한 번에 조회
+     *
+     * @param id 카테고리 식별키
+     * @param cursor 이전 페이지 마지막 상품 식별키, null 인 경우 처음부터
+     * @param size 페이지 당 갯수
+     * @return 상품 조회 모델 슬라이스, 식별키 오름차순
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductReadModel> browseProducts(Long id, Long cursor, int size) {
+        String path = find(id).getPath();
+        return productReadModelRepository.findByCategoryPath(path, cursor != null ? cursor : 0L, PageRequest.of(0, size, Sort.by("id")));
+    }
+
+    /**
+     * 카테고리 엔티티 생성
+     *
+     * @param name 이름
+     * @param parentId 부모 카테고리 식별키, null 인 경우 최상위
+     * @return 생성한 카테고리 엔티티
+     */
+    public Category generate(String name, Long parentId) {
+        Category parent = parentId != null ? categoryRepository.findById(parentId).orElseThrow(NoSuchElementException::new) : null;
+        Category category = categoryRepository.generate(Category.builder().name(name).category(parent).build());
+        categoryTreeCache.refreshAfterCommit();
+        return category;
+    }
+
+    /**
+     * 카테고리 엔티티 수정, 부모 카테고리가 바뀌는 경우 하위 트리 경로 일괄 변경
+     *
+     * @param id 식별키
+     * @param name 이름, 비어 있는 경우 변경하지 않음
+     * @param parentId 부모 카테고리 식별키, null 인 경우 변경하지 않음, 0 인 경우 최상위로 이동
+     * @return 수정한 카테고리 엔티티
+     */
+    public Category update(Long id, String name, Long parentId) {
+        Category category = categoryRepository.findById(id).orElseThrow(NoSuchElementException::new);
+        if (!StringUtils.isEmpty(name)) {
+            category.setName(name);
+        }
+        if (parentId != null) {
+            Category parent = parentId == 0 ? null : categoryRepository.findById(parentId).orElseThrow(NoSuchElementException::new);
+            Long currentParentId = category.getCategory() != null ? category.getCategory().getId() : null;
+            if (!Objects.equals(currentParentId, parent != null ? parent.getId() : null)) {
+                move(category, parent);
+            }
+        }
+        categoryTreeCache.refreshAfterCommit();
+        return category;
+    }
+
+    private void move(Category category, Category parent) {
+        String oldPath = category.getPath();
+        if (parent != null && parent.getPath().startsWith(oldPath)) {
+            throw new IllegalArgumentException("can not move category under its own subtree");
+        }
+        if (category.getCategory() != null) {
+            category.getCategory().getSubCategories().remove(category);
+        }
+        if (parent != null) {
+            category.addCategory(parent);
+        } else {
+            category.setCategory(null);
+        }
+        String newPath = category.buildPath();
+        category.setPath(newPath);
+        categoryRepository.flush();
+        // 하위 카테고리 경로는 벌크 쿼리로 한 번에 변경
+        categoryRepository.replacePathPrefix(oldPath, newPath, oldPath.length() + 1);
+    }
+
 }
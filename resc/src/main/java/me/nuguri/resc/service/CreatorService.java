@@ -1,47 +1,119 @@
 package me.nuguri.resc.service;
 
 import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.Category;
 import me.nuguri.common.entity.Creator;
 import me.nuguri.common.entity.Product;
+import me.nuguri.common.entity.ProductCategory;
+import me.nuguri.common.support.EntityVersion;
+import me.nuguri.resc.domain.CreatorExpansion;
 import me.nuguri.resc.domain.CreatorSearchCondition;
 import me.nuguri.resc.repository.CreatorRepository;
+import me.nuguri.resc.repository.ProductReadModelRepository;
+import me.nuguri.resc.repository.ProductRepository;
+import me.nuguri.resc.support.ResponseCache;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
+import static java.util.stream.Collectors.*;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CreatorService {
 
+    /** 저자 목록 응답 캐시 태그, 저자 쓰기 커밋 후 모든 목록 무효화 */
+    public static final String CREATORS_TAG = "creators";
+
     private final CreatorRepository creatorRepository;
 
+    private final ProductReadModelRepository productReadModelRepository;
+
+    private final ProductRepository productRepository;
+
+    private final NameSearchService nameSearchService;
+
+    private final ResponseCache responseCache;
+
+    /**
+     * 저자 단건 응답 캐시 태그
+     *
+     * @param id 식별키
+     * @return 태그
+     */
+    public static String creatorTag(Long id) {
+        return "creator:" + id;
+    }
+
     /**
-     * 저자 엔티티 페이지 조회
+     * 저자 엔티티 페이지 조회, 연관 엔티티는 조회하지 않음
+     * q 검색어가 있는 경우 이름 검색 색인 결과로 제한하고 정렬 조건이 없으면 검색 순위 순서로 정렬
      *
      * @param pageable 페이징
      * @return 조회한 저자 엔티티 페이징 객체
      */
     @Transactional(readOnly = true)
     public Page<Creator> pagingWithCondition(CreatorSearchCondition condition, Pageable pageable) {
-        Page<Creator> page = creatorRepository.pageByCondition(condition, pageable);
-        // TODO lazy Loading 부분 서비스 로직과 분리해야함
-        page
+        if (!StringUtils.hasText(condition.getQ())) {
+            return creatorRepository.pageByCondition(condition, pageable);
+        }
+        List<Long> ids = nameSearchService.searchCreatorIds(condition.getQ());
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (pageable.getSort().isSorted()) {
+            return creatorRepository.pageByCondition(condition, ids, pageable);
+        }
+        // 검색 결과 수는 최대 결과 수로 제한 되므로 전체 조회 후 순위 순서로 페이징
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ranks.put(ids.get(i), i);
+        }
+        List<Creator> creators = creatorRepository.findAllByCondition(condition, ids);
+        creators.sort(Comparator.comparing(c -> ranks.get(c.getId())));
+        int from = (int) Math.min(pageable.getOffset(), creators.size());
+        int to = Math.min(from + pageable.getPageSize(), creators.size());
+        return new PageImpl<>(creators.subList(from, to), pageable, creators.size());
+    }
+
+    /**
+     * 저자 연관 엔티티 조회, 요청한 단계 별로 IN 쿼리 한번씩 조회하고 요청하지 않은 경우 조회하지 않음
+     *
+     * @param creators 저자 엔티티
+     * @param condition expand 함께 조회 할 연관 엔티티
+     * @return 저자 식별키 별 상품 목록, 상품 식별키 별 카테고리 목록
+     */
+    @Transactional(readOnly = true)
+    public CreatorExpansion expand(List<Creator> creators, CreatorSearchCondition condition) {
+        if (!condition.isExpandProducts() || creators.isEmpty()) {
+            return CreatorExpansion.NONE;
+        }
+        List<Long> creatorIds = creators.stream().map(Creator::getId).collect(toList());
+        List<Product> products = productRepository.findAllByCreatorIds(creatorIds);
+        Map<Long, List<Product>> productGroups = products
+                .stream()
+                .collect(groupingBy(p -> p.getCreator().getId()));
+        if (!condition.isExpandProductCategories() || products.isEmpty()) {
+            return new CreatorExpansion(productGroups, null);
+        }
+        List<Long> productIds = products.stream().map(Product::getId).collect(toList());
+        Map<Long, List<Category>> categoryGroups = productRepository
+                .findProductCategoriesByProductIds(productIds)
                 .stream()
-                .findFirst()
-                .ifPresent(c -> {
-                    List<Product> products = c.getProducts();
-                    if (!products.isEmpty()) {
-                        // 페이징 조회로 패치 조인 불가능으로인해 컬렉션 Batch Size Lazy Loading 사용
-                        products.get(0).getId();
-                    }
-                });
-        return page;
+                .collect(groupingBy(pc -> pc.getProduct().getId(), mapping(ProductCategory::getCategory, toList())));
+        return new CreatorExpansion(productGroups, categoryGroups);
     }
 
     public boolean exist(Long id) {
@@ -59,6 +131,33 @@ public class CreatorService {
         return creatorRepository.findById(id).orElseThrow(NoSuchElementException::new);
     }
 
+    /**
+     * 저자 조건부 요청 검증 값 조회
+     *
+     * @param id 식별키
+     * @return 검증 값, 없는 경우 null
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion findVersion(Long id) {
+        return creatorRepository.findVersionById(id);
+    }
+
+    /**
+     * 저자 페이징 조회 조건부 요청 검증 값 조회
+     * 검색어는 이름 검색 색인 결과, expand 는 상품, 카테고리 수정 날짜에 따라 응답이 달라지므로 검증 값을 만들지 않음
+     *
+     * @param condition 검색 조건
+     * @param pageable 페이징
+     * @return 검증 값, 만들 수 없는 경우 null
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion findVersion(CreatorSearchCondition condition, Pageable pageable) {
+        if (!condition.isCreatorOnly()) {
+            return null;
+        }
+        return creatorRepository.findVersionByCondition(condition, pageable);
+    }
+
     /**
      * 저자 엔티티 생성, 입력 받은 파라미터 값으로 생성
      *
@@ -66,6 +165,7 @@ public class CreatorService {
      * @return 생성한 저자 엔티티 객체
      */
     public Creator generate(Creator creator) {
+        responseCache.evictAfterCommit(Arrays.asList(CREATORS_TAG));
         return creatorRepository.generate(creator);
     }
 
@@ -77,6 +177,7 @@ public class CreatorService {
      */
     public Creator update(Creator creator) {
         Creator update = find(creator.getId());
+        responseCache.evictAfterCommit(Arrays.asList(CREATORS_TAG, creatorTag(creator.getId())));
         if (!StringUtils.isEmpty(creator.getName())) {
             update.setName(creator.getName());
         }
@@ -99,6 +200,7 @@ public class CreatorService {
      * @return 병합한 유저 엔티티 객체
      */
     public Creator merge(Creator creator) {
+        responseCache.evictAfterCommit(Arrays.asList(CREATORS_TAG, creatorTag(creator.getId())));
         return creatorRepository.merge(creator);
     }
 
@@ -108,14 +210,21 @@ public class CreatorService {
      */
     public void delete(Long id) {
         Creator creator = find(id);
+        responseCache.evictAfterCommit(Arrays.asList(CREATORS_TAG, creatorTag(id)));
         creatorRepository.delete(creator);
     }
 
     /**
      * 저자 엔티티 제거, in batch 쿼리
+     * 벌크 쿼리는 엔티티 이벤트가 발생하지 않으므로 상품 조회 모델도 저자 식별키로 함께 제거
      * @param ids 식별키
      */
     public long deleteInBatch(List<Long> ids) {
+        List<String> tags = new ArrayList<>(ids.size() + 1);
+        tags.add(CREATORS_TAG);
+        ids.forEach(id -> tags.add(creatorTag(id)));
+        responseCache.evictAfterCommit(tags);
+        productReadModelRepository.deleteByCreatorIdIn(ids);
         return creatorRepository.deleteByIdBatchInQuery(ids);
     }
 
@@ -0,0 +1,68 @@
+package me.nuguri.resc.service;
+
+import lombok.RequiredArgsConstructor;
+import me.nuguri.resc.property.SearchProperties;
+import me.nuguri.resc.support.NameSearchIndex;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NameSearchService {
+
+    private final NameSearchIndex creatorNameIndex;
+
+    private final NameSearchIndex productNameIndex;
+
+    private final EntityManager entityManager;
+
+    private final SearchProperties properties;
+
+    /**
+     * 저자 이름 검색
+     *
+     * @param q 검색어
+     * @return 순위 순서의 저자 식별키
+     */
+    public List<Long> searchCreatorIds(String q) {
+        return creatorNameIndex.search(q, properties.getMaxResults());
+    }
+
+    /**
+     * 상품 이름 검색
+     *
+     * @param q 검색어
+     * @param limit 최대 결과 수
+     * @return 순위 순서의 상품 식별키
+     */
+    public List<Long> searchProductIds(String q, int limit) {
+        return productNameIndex.search(q, Math.min(limit, properties.getMaxResults()));
+    }
+
+    /**
+     * 저자, 상품 이름 색인 재구성, 식별키와 이름만 스트리밍 조회하여 엔티티를 영속성 컨텍스트에 올리지 않음
+     */
+    public void rebuild() {
+        build(creatorNameIndex, "select c.id, c.name from creator c");
+        build(productNameIndex, "select p.id, p.name from product p");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void build(NameSearchIndex index, String sql) {
+        NameSearchIndex built = new NameSearchIndex();
+        try (Stream<Object[]> rows = entityManager
+                .createNativeQuery(sql)
+                .setHint(QueryHints.HINT_FETCH_SIZE, properties.getFetchSize())
+                .getResultStream()) {
+            rows.forEach(row -> built.put(((Number) row[0]).longValue(), (String) row[1]));
+        }
+        index.replaceWith(built);
+    }
+
+}
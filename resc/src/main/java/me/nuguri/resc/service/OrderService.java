@@ -0,0 +1,160 @@
+package me.nuguri.resc.service;
+
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.Account;
+import me.nuguri.common.entity.Address;
+import me.nuguri.common.entity.Delivery;
+import me.nuguri.common.entity.Order;
+import me.nuguri.common.entity.OrderProduct;
+import me.nuguri.common.enums.DeliveryStatus;
+import me.nuguri.common.exception.OutOfStockException;
+import me.nuguri.resc.domain.OrderIngestion;
+import me.nuguri.resc.repository.AccountRepository;
+import me.nuguri.resc.repository.DeliveryRepository;
+import me.nuguri.resc.repository.OrderRepository;
+import me.nuguri.resc.repository.ProductReadModelRepository;
+import me.nuguri.resc.repository.ProductRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class OrderService {
+
+    private final AccountRepository accountRepository;
+
+    private final ProductRepository productRepository;
+
+    private final ProductReadModelRepository productReadModelRepository;
+
+    private final DeliveryRepository deliveryRepository;
+
+    private final OrderRepository orderRepository;
+
+    private final StockLedgerService stockLedgerService;
+
+    /**
+     * 주문 생성, 상품 재고 조건부 차감 후 배송, 주문, 주문 상품 생성
+     * 상품 식별키 오름차순으로 차감해서 여러 상품 주문 간 행 잠금 순서를 고정, 교착 상태 없이 대기만 발생
+     * 하나라도 재고가 부족하면 예외로 트랜잭션 롤백, 먼저 차감한 재고도 함께 복구
+     *
+     * @param email 주문자 이메일
+     * @param counts 상품 식별키 별 주문 수량
+     * @param address 배송 주소, null 인 경우 주문자 주소
+     * @return 생성한 주문
+     */
+    public Order place(String email, Map<Long, Integer> counts, Address address) {
+        Account account = accountRepository.findByEmail(email).orElseThrow(NoSuchElementException::new);
+        SortedMap<Long, Integer> sorted = new TreeMap<>(counts);
+        sorted.forEach(this::reserve);
+
+        Delivery delivery = Delivery.builder()
+                .status(DeliveryStatus.READY)
+                .address(address != null ? address : account.getAddress())
+                .build();
+        deliveryRepository.generate(delivery);
+        Order order = Order.builder()
+                .delivery(delivery)
+                .account(account)
+                .build();
+        sorted.forEach((productId, count) -> OrderProduct.builder()
+                .count(count)
+                .product(productRepository.getOne(productId))
+                .order(order)
+                .build());
+        return orderRepository.generate(order);
+    }
+
+    /**
+     * 주문 조회, 주문자 본인 또는 관리자만 조회 가능
+     *
+     * @param id 식별키
+     * @param email 조회자 이메일
+     * @param admin 관리자 여부
+     * @return 주문
+     */
+    @Transactional(readOnly = true)
+    public Order find(Long id, String email, boolean admin) {
+        return orderRepository.findDetailById(id)
+                .filter(o -> admin || o.getAccount().getEmail().equals(email))
+                .orElseThrow(NoSuchElementException::new);
+    }
+
+    /**
+     * 주문 일괄 등록, 테이블 별 JDBC 배치로 배송, 주문, 주문 상품 추가
+     * 멱등 키를 먼저 추가해서 이미 등록 된 키의 주문은 건너뛰고 이미 등록 된 주문 식별키만 조회
+     * 외부에서 이미 판매 된 주문이므로 재고는 조건 없이 상품 별 합산 수량만큼 차감
+     *
+     * @param orders 일괄 등록 할 주문
+     * @return 생성 된 식별키 또는 중복 여부가 기록 된 주문, orders 순서
+     */
+    public List<OrderIngestion> ingest(List<OrderIngestion> orders) {
+        Set<Long> accountIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        orders.forEach(o -> {
+            accountIds.add(o.getAccountId());
+            productIds.addAll(o.getCounts().keySet());
+        });
+        if (orderRepository.countAccountsByIds(accountIds) != accountIds.size()
+                || orderRepository.countProductsByIds(productIds) != productIds.size()) {
+            throw new NoSuchElementException();
+        }
+
+        Set<String> claimed = orderRepository.claimIdempotencyKeys(orders.stream().map(OrderIngestion::getIdempotencyKey).collect(toList()));
+        List<OrderIngestion> created = new ArrayList<>();
+        Set<String> duplicates = new HashSet<>();
+        for (OrderIngestion order : orders) {
+            // 같은 요청에 같은 키가 여러 번 있는 경우 처음 주문만 등록
+            if (claimed.remove(order.getIdempotencyKey())) {
+                created.add(order);
+            } else {
+                order.setDuplicate(true);
+                duplicates.add(order.getIdempotencyKey());
+            }
+        }
+        orderRepository.insertAll(created);
+        if (!duplicates.isEmpty()) {
+            Map<String, Long> orderIds = orderRepository.findOrderIdsByIdempotencyKeys(duplicates);
+            orders.stream().filter(OrderIngestion::isDuplicate).forEach(o -> o.setOrderId(orderIds.get(o.getIdempotencyKey())));
+        }
+
+        SortedMap<Long, Integer> sold = new TreeMap<>();
+        created.forEach(o -> o.getCounts().forEach((productId, count) -> sold.merge(productId, count, Integer::sum)));
+        sold.forEach((productId, count) -> {
+            if (stockLedgerService.isLedgered(productId)) {
+                stockLedgerService.record(productId, count);
+            } else {
+                productRepository.adjustStock(productId, -count);
+                productReadModelRepository.adjustStock(productId, -count);
+            }
+        });
+        return orders;
+    }
+
+    /**
+     * 상품 재고 예약, 조건부 차감 실패 시 존재하지 않는 상품과 재고 부족을 구분
+     * 재고 원장 대상 상품은 상품 행을 수정하지 않고 재고 원장으로 예약
+     *
+     * @param productId 상품 식별키
+     * @param count 주문 수량
+     */
+    private void reserve(Long productId, int count) {
+        if (stockLedgerService.isLedgered(productId)) {
+            stockLedgerService.reserve(productId, count);
+            return;
+        }
+        if (productRepository.decreaseStock(productId, count) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new NoSuchElementException();
+            }
+            throw new OutOfStockException(productId);
+        }
+        productReadModelRepository.decreaseStock(productId, count);
+    }
+
+}
@@ -0,0 +1,146 @@
+package me.nuguri.resc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.Category;
+import me.nuguri.common.entity.Product;
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.resc.domain.ReadModelChanges;
+import me.nuguri.resc.repository.ProductReadModelRepository;
+import me.nuguri.resc.repository.ProductRepository;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductReadModelService {
+
+    private final ProductRepository productRepository;
+
+    private final ProductReadModelRepository productReadModelRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 변경 된 엔티티 식별키로 영향 받는 상품 조회 모델 갱신
+     *
+     * @param changes 트랜잭션에서 변경 된 상품, 저자, 회사, 카테고리 식별키
+     */
+    public void project(ReadModelChanges changes) {
+        Set<Long> productIds = new HashSet<>(changes.getProductIds());
+        if (!changes.getCreatorIds().isEmpty()) {
+            productIds.addAll(productRepository.findIdsByCreatorIds(changes.getCreatorIds()));
+        }
+        if (!changes.getCompanyIds().isEmpty()) {
+            productIds.addAll(productRepository.findIdsByCompanyIds(changes.getCompanyIds()));
+        }
+        if (!changes.getCategoryIds().isEmpty()) {
+            productIds.addAll(productRepository.findIdsByCategoryIds(changes.getCategoryIds()));
+        }
+        refresh(productIds);
+    }
+
+    /**
+     * 상품 조회 모델 갱신, 상품이 존재하지 않는 경우 조회 모델 제거
+     *
+     * @param productIds 상품 식별키
+     */
+    public void refresh(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<Long> removed = new HashSet<>(productIds);
+        List<Product> products = productRepository.findAllByIds(productIds);
+        products.forEach(p -> removed.remove(p.getId()));
+        refresh(products);
+        if (!removed.isEmpty()) {
+            productReadModelRepository.deleteByIdIn(removed);
+        }
+    }
+
+    /**
+     * 상품 조회 모델 재구성, 상품 식별키 순서로 size 만큼 갱신
+     *
+     * @param cursor 이전 재구성 마지막 상품 식별키
+     * @param size 갱신 수
+     * @return 마지막 상품 식별키, 더 이상 상품이 없는 경우 null
+     */
+    public Long rebuild(Long cursor, int size) {
+        Map<Long, ProductType> keys = productRepository.findKeysByCursor(cursor, null, size);
+        if (keys.isEmpty()) {
+            return null;
+        }
+        refresh(productRepository.findAllByKeys(keys));
+        Long last = null;
+        for (Long id : keys.keySet()) {
+            last = id;
+        }
+        return last;
+    }
+
+    /**
+     * 상품이 존재하지 않는 조회 모델 제거
+     *
+     * @return 제거 수
+     */
+    public int deleteOrphans() {
+        return productReadModelRepository.deleteOrphans();
+    }
+
+    private void refresh(List<Product> products) {
+        Map<Long, ProductReadModel> models = productReadModelRepository
+                .findAllById(products.stream().map(Product::getId).collect(toList()))
+                .stream()
+                .collect(toMap(ProductReadModel::getId, Function.identity()));
+        for (Product p : products) {
+            // 영속성 컨텍스트에 부모 타입 프록시가 있는 경우 프록시가 조회 되므로 실제 엔티티로 변환
+            Product product = (Product) Hibernate.unproxy(p);
+            String categories = toCategories(product);
+            ProductReadModel model = models.get(product.getId());
+            if (model == null) {
+                productReadModelRepository.generate(new ProductReadModel(product, categories));
+            } else {
+                model.refresh(product, categories);
+            }
+        }
+    }
+
+    /**
+     * 상품 카테고리 식별키, 이름 목록 JSON 변환, 같은 트랜잭션에서 제거 된 매핑은 제외
+     *
+     * @param product 상품 엔티티
+     * @return JSON
+     */
+    private String toCategories(Product product) {
+        List<Map<String, Object>> categories = product.getProductCategories()
+                .stream()
+                .filter(entityManager::contains)
+                .map(pc -> {
+                    Category category = pc.getCategory();
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    map.put("id", category.getId());
+                    map.put("name", category.getName());
+                    return map;
+                })
+                .collect(toList());
+        try {
+            return objectMapper.writeValueAsString(categories);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package me.nuguri.resc.service;
+
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.ProductReadModel;
+import me.nuguri.common.enums.ProductType;
+import me.nuguri.resc.repository.ProductReadModelRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductService {
+
+    private final ProductReadModelRepository productReadModelRepository;
+
+    private final NameSearchService nameSearchService;
+
+    /**
+     * 상품 조회 모델 커서 조회, 비정규화 된 조회 모델 테이블 하나만 인덱스로 조회
+     *
+     * @param cursor 이전 페이지 마지막 식별키, null 인 경우 처음부터
+     * @param ptype 상품 구분, null 인 경우 전체
+     * @param size 페이지 당 갯수
+     * @return 조회한 상품 조회 모델 슬라이스, 식별키 오름차순
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductReadModel> browse(Long cursor, ProductType ptype, int size) {
+        Pageable pageable = PageRequest.of(0, size, Sort.by("id"));
+        Long from = cursor != null ? cursor : 0L;
+        return ptype == null
+                ? productReadModelRepository.findByIdGreaterThan(from, pageable)
+                : productReadModelRepository.findByPtypeAndIdGreaterThan(ptype, from, pageable);
+    }
+
+    /**
+     * 상품 조회 모델 이름 검색, 이름 검색 색인 순위 순서로 size 만큼 조회
+     *
+     * @param q 검색어
+     * @param ptype 상품 구분, null 인 경우 전체
+     * @param size 조회 수
+     * @return 조회한 상품 조회 모델 슬라이스, 검색 순위 순서, 다음 페이지 없음
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductReadModel> search(String q, ProductType ptype, int size) {
+        // 상품 구분 조건이 있으면 구분 조건으로 걸러지는 수 만큼 더 조회해야 하므로 최대 결과 수 만큼 검색
+        List<Long> ids = nameSearchService.searchProductIds(q, ptype == null ? size : Integer.MAX_VALUE);
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(Collections.emptyList());
+        }
+        List<ProductReadModel> models = ptype == null
+                ? productReadModelRepository.findAllById(ids)
+                : productReadModelRepository.findByPtypeAndIdIn(ptype, ids);
+        Map<Long, ProductReadModel> byId = new HashMap<>();
+        models.forEach(m -> byId.put(m.getId(), m));
+        List<ProductReadModel> content = new ArrayList<>(size);
+        for (Long id : ids) {
+            ProductReadModel model = byId.get(id);
+            if (model != null && content.size() < size) {
+                content.add(model);
+            }
+        }
+        return new SliceImpl<>(content);
+    }
+
+    /**
+     * 상품 조회 모델 조회, 식별키 조회
+     *
+     * @param id 상품 식별키
+     * @return 조회한 상품 조회 모델
+     */
+    @Transactional(readOnly = true)
+    public ProductReadModel find(Long id) {
+        return productReadModelRepository.findById(id).orElseThrow(NoSuchElementException::new);
+    }
+
+}
@@ -0,0 +1,135 @@
+package me.nuguri.resc.service;
+
+import lombok.RequiredArgsConstructor;
+import me.nuguri.common.entity.StockLedgerEntry;
+import me.nuguri.common.exception.OutOfStockException;
+import me.nuguri.resc.property.StockLedgerProperties;
+import me.nuguri.resc.repository.ProductReadModelRepository;
+import me.nuguri.resc.repository.ProductRepository;
+import me.nuguri.resc.repository.StockLedgerEntryRepository;
+import me.nuguri.resc.support.StockLedgerStore;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockLedgerService {
+
+    private final StockLedgerProperties stockLedgerProperties;
+
+    private final StockLedgerStore stockLedgerStore;
+
+    private final StockLedgerEntryRepository stockLedgerEntryRepository;
+
+    private final ProductRepository productRepository;
+
+    private final ProductReadModelRepository productReadModelRepository;
+
+    /**
+     * 재고 원장으로 예약하는 상품인지 여부
+     *
+     * @param productId 상품 식별키
+     * @return 재고 원장 예약 여부
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isLedgered(Long productId) {
+        return stockLedgerProperties.isEnabled() && stockLedgerProperties.getProductIds().contains(productId);
+    }
+
+    /**
+     * 재고 원장 예약, 상품 행 잠금 없이 원장 저장소에서 차감하고 차감 기록만 추가
+     * 트랜잭션 커밋 시 예약 확정, 롤백 시 예약 취소, 확정 된 차감은 주기적으로 상품 재고에 반영
+     * 원장 저장소에 적재 되지 않은 상품(시작 후 추가 된 상품, 유실 된 Redis 키)은 DB 에서 적재 후 다시 예약
+     *
+     * @param productId 상품 식별키
+     * @param count 수량
+     */
+    public void reserve(Long productId, int count) {
+        String reservationId = UUID.randomUUID().toString();
+        long expireAt = System.currentTimeMillis() + stockLedgerProperties.getReservationTtl().toMillis();
+        if (!stockLedgerStore.reserve(reservationId, productId, count, expireAt)) {
+            if (stockLedgerStore.available(productId) != null) {
+                throw new OutOfStockException(productId);
+            }
+            Map<Long, Integer> stocks = productRepository.findLedgerStockCounts(Collections.singleton(productId));
+            if (stocks.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            stockLedgerStore.load(stocks);
+            if (!stockLedgerStore.reserve(reservationId, productId, count, expireAt)) {
+                throw new OutOfStockException(productId);
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    stockLedgerStore.confirm(reservationId, productId, count);
+                } else {
+                    stockLedgerStore.release(reservationId, productId, count);
+                }
+            }
+        });
+        stockLedgerEntryRepository.generate(new StockLedgerEntry(productId, -count));
+    }
+
+    /**
+     * 이미 판매 된 수량 기록, 예약 없이 트랜잭션 커밋 후 원장 저장소에서 차감하고 차감 기록만 추가
+     *
+     * @param productId 상품 식별키
+     * @param count 수량
+     */
+    public void record(Long productId, int count) {
+        String reservationId = UUID.randomUUID().toString();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 예약이 없으므로 확정 시 차감
+                stockLedgerStore.confirm(reservationId, productId, count);
+            }
+        });
+        stockLedgerEntryRepository.generate(new StockLedgerEntry(productId, -count));
+    }
+
+    /**
+     * 재고 원장 기록 상품 재고에 반영, 상품 별 증감 수량을 합산해서 상품 당 한 번만 수정
+     *
+     * @return 반영한 기록 수, 설정한 수보다 작은 경우 남은 기록 없음
+     */
+    public int flush() {
+        List<StockLedgerEntry> entries = stockLedgerEntryRepository.findForFlush(PageRequest.of(0, stockLedgerProperties.getFlushBatchSize()));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        // 상품 식별키 순서로 수정해서 주문 재고 차감과 행 잠금 순서 일치
+        Map<Long, Integer> deltas = new TreeMap<>();
+        entries.forEach(e -> deltas.merge(e.getProductId(), e.getDelta(), Integer::sum));
+        deltas.forEach((productId, delta) -> {
+            productRepository.adjustStock(productId, delta);
+            productReadModelRepository.adjustStock(productId, delta);
+        });
+        stockLedgerEntryRepository.deleteByIdIn(entries.stream().map(StockLedgerEntry::getId).collect(toList()));
+        return entries.size();
+    }
+
+    /**
+     * 재고 원장 대상 상품 재고 적재, 반영 되지 않은 원장 기록이 있으면 재고에 더해서 적재
+     */
+    @Transactional(readOnly = true)
+    public void load() {
+        Set<Long> productIds = stockLedgerProperties.getProductIds();
+        if (!productIds.isEmpty()) {
+            stockLedgerStore.load(productRepository.findLedgerStockCounts(productIds));
+        }
+    }
+
+}
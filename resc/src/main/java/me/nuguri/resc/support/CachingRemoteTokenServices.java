@@ -0,0 +1,195 @@
+package me.nuguri.resc.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.RemoteTokenServices;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 서버 토큰 검사(/oauth/check_token) 결과를 캐싱하는 RemoteTokenServices
+ * 캐시 키는 토큰 원문이 아닌 SHA-256 다이제스트, 캐시 유지 시간은 토큰 남은 유효 시간과 최대 유지 시간 중 짧은 값
+ * 같은 토큰에 대한 동시 검사 요청은 하나의 인증 서버 호출로 합쳐서 처리
+ */
+public class CachingRemoteTokenServices extends RemoteTokenServices {
+
+    /** 토큰 검사 캐시 메트릭 이름 */
+    public static final String CACHE_METRIC = "token.introspection.cache";
+
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /** 인증 서버 호출 진행 중인 토큰 검사 요청 */
+    private final ConcurrentHashMap<String, CompletableFuture<OAuth2Authentication>> inFlight = new ConcurrentHashMap<>();
+
+    /** 최대 캐시 유지 시간, 토큰 폐기가 리소스 서버에 반영되기까지의 최대 지연 시간 */
+    private final long maxTtlMillis;
+
+    /** 최대 캐시 항목 수 */
+    private final int maxSize;
+
+    private final Counter hit;
+
+    private final Counter miss;
+
+    private final Counter coalesced;
+
+    public CachingRemoteTokenServices(Duration maxTtl, int maxSize, MeterRegistry meterRegistry) {
+        this.maxTtlMillis = maxTtl.toMillis();
+        this.maxSize = maxSize;
+        this.hit = meterRegistry.counter(CACHE_METRIC, "result", "hit");
+        this.miss = meterRegistry.counter(CACHE_METRIC, "result", "miss");
+        this.coalesced = meterRegistry.counter(CACHE_METRIC, "result", "coalesced");
+        meterRegistry.gaugeMapSize(CACHE_METRIC + ".size", Tags.empty(), cache);
+        setAccessTokenConverter(new ClaimRetainingAccessTokenConverter());
+    }
+
+    @Override
+    public OAuth2Authentication loadAuthentication(String accessToken) throws AuthenticationException, InvalidTokenException {
+        String key = digest(accessToken);
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            if (entry.expireAt > now) {
+                hit.increment();
+                return copy(entry.authentication);
+            }
+            cache.remove(key, entry);
+        }
+
+        CompletableFuture<OAuth2Authentication> future = new CompletableFuture<>();
+        CompletableFuture<OAuth2Authentication> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalesced.increment();
+            return copy(await(running));
+        }
+
+        miss.increment();
+        try {
+            OAuth2Authentication authentication = super.loadAuthentication(accessToken);
+            put(key, authentication, now);
+            future.complete(authentication);
+            return copy(authentication);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 캐시 저장, 이미 만료 된 토큰은 저장하지 않음
+     * 최대 항목 수 초과 시 만료 된 항목을 정리하고 그래도 초과하면 저장하지 않음
+     *
+     * @param key 토큰 다이제스트
+     * @param authentication 인증 정보
+     * @param now 현재 시간
+     */
+    private void put(String key, OAuth2Authentication authentication, long now) {
+        long expireAt = now + maxTtlMillis;
+        Serializable exp = authentication.getOAuth2Request().getExtensions().get(AccessTokenConverter.EXP);
+        if (exp instanceof Number) {
+            expireAt = Math.min(expireAt, ((Number) exp).longValue() * 1000);
+        }
+        if (expireAt <= now) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> e.expireAt <= now);
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(key, new Entry(authentication, expireAt));
+    }
+
+    /**
+     * 진행 중인 토큰 검사 결과 대기, 실패한 경우 같은 예외 발생
+     *
+     * @param future 진행 중인 토큰 검사
+     * @return 인증 정보
+     */
+    private OAuth2Authentication await(CompletableFuture<OAuth2Authentication> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 인증 필터가 요청 별 details 를 설정하므로 캐시 된 인증 정보를 공유하지 않고 복사해서 반환
+     *
+     * @param authentication 캐시 된 인증 정보
+     * @return
+     */
+    private OAuth2Authentication copy(OAuth2Authentication authentication) {
+        return new OAuth2Authentication(authentication.getOAuth2Request(), authentication.getUserAuthentication());
+    }
+
+    private String digest(String accessToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+
+        private final OAuth2Authentication authentication;
+
+        private final long expireAt;
+
+        private Entry(OAuth2Authentication authentication, long expireAt) {
+            this.authentication = authentication;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+    /**
+     * 기본 변환기가 버리는 토큰 검사 응답 값(exp)을 OAuth2Request extensions 에 보관하는 변환기
+     */
+    public static class ClaimRetainingAccessTokenConverter extends DefaultAccessTokenConverter {
+
+        @Override
+        public OAuth2Authentication extractAuthentication(Map<String, ?> map) {
+            OAuth2Authentication authentication = super.extractAuthentication(map);
+            Object exp = map.get(EXP);
+            if (!(exp instanceof Number)) {
+                return authentication;
+            }
+            OAuth2Request request = authentication.getOAuth2Request();
+            Map<String, Serializable> extensions = new HashMap<>(request.getExtensions());
+            extensions.put(EXP, ((Number) exp).longValue());
+            OAuth2Request retained = new OAuth2Request(request.getRequestParameters(), request.getClientId(), request.getAuthorities(),
+                    request.isApproved(), request.getScope(), request.getResourceIds(), request.getRedirectUri(),
+                    request.getResponseTypes(), extensions);
+            return new OAuth2Authentication(retained, authentication.getUserAuthentication());
+        }
+
+    }
+
+}
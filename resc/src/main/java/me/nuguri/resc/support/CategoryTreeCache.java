@@ -0,0 +1,59 @@
+package me.nuguri.resc.support;
+
+import lombok.RequiredArgsConstructor;
+import me.nuguri.resc.domain.CategoryTree;
+import me.nuguri.resc.repository.CategoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 카테고리 트리 스냅샷 캐시
+ * 카테고리 변경 시 전체 트리를 새로 만들어 교체(copy-on-write), 트리 조회는 DB 없이 스냅샷으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategoryTree> snapshot = new AtomicReference<>(CategoryTree.EMPTY);
+
+    public CategoryTree get() {
+        return snapshot.get();
+    }
+
+    /**
+     * 카테고리 한 번 조회로 새 트리를 만들어 교체
+     */
+    public void refresh() {
+        List<CategoryTree.Row> rows = categoryRepository
+                .findAllRows()
+                .stream()
+                .map(r -> new CategoryTree.Row((Long) r[0], (String) r[1], (Long) r[2], (String) r[3]))
+                .collect(toList());
+        snapshot.set(CategoryTree.of(rows));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 트리 교체, 트랜잭션 밖인 경우 바로 교체
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+}
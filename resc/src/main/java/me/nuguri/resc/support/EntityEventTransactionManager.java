@@ -0,0 +1,45 @@
+package me.nuguri.resc.support;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 엔티티 변경 이벤트 리스너 동기화를 트랜잭션 시작 시 등록하는 JPA 트랜잭션 매니저
+ * 변경 감지로 수정 된 엔티티는 doCommit 에서 처음 flush 되고 그 전에 beforeCommit 동기화가 이미 호출 되므로
+ * 첫 이벤트에서 동기화를 등록하면 커밋 직전 반영이 누락 됨
+ */
+public class EntityEventTransactionManager extends JpaTransactionManager {
+
+    private final ObjectProvider<TransactionalEntityEventListener<?>> listenerProvider;
+
+    /** 리스너가 트랜잭션 매니저를 사용하는 서비스에 의존하므로 첫 트랜잭션에서 조회 */
+    private volatile List<TransactionalEntityEventListener<?>> listeners;
+
+    public EntityEventTransactionManager(ObjectProvider<TransactionalEntityEventListener<?>> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Override
+    protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
+        super.prepareSynchronization(status, definition);
+        if (status.isNewTransaction() && status.isNewSynchronization() && !definition.isReadOnly()) {
+            listeners().forEach(TransactionalEntityEventListener::begin);
+        }
+    }
+
+    private List<TransactionalEntityEventListener<?>> listeners() {
+        List<TransactionalEntityEventListener<?>> result = listeners;
+        if (result == null) {
+            result = listenerProvider.orderedStream().collect(toList());
+            listeners = result;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,99 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.resc.domain.CachedResponse;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 조회 응답 캐시 저장소, 조회는 잠금 없이 처리하고 저장, 무효화만 서로 동기화
+ */
+public class LocalResponseCacheStore implements ResponseCacheStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 태그 별 캐시 키 */
+    private final ConcurrentHashMap<String, Set<String>> tagKeys = new ConcurrentHashMap<>();
+
+    private final long ttlMillis;
+
+    private final int maxSize;
+
+    private volatile long generation;
+
+    public LocalResponseCacheStore(Duration ttl, int maxSize) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.response;
+    }
+
+    @Override
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * 응답 저장, 최대 항목 수 초과 시 만료 된 항목을 정리하고 그래도 초과하면 저장하지 않음
+     */
+    @Override
+    public synchronized boolean put(String key, CachedResponse response, Collection<String> tags, long generation) {
+        if (this.generation != generation) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize) {
+            removeExpired(now);
+            if (entries.size() >= maxSize) {
+                return false;
+            }
+        }
+        entries.put(key, new Entry(response, now + ttlMillis));
+        tags.forEach(tag -> tagKeys.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key));
+        return true;
+    }
+
+    @Override
+    public synchronized void evict(Collection<String> tags) {
+        generation++;
+        for (String tag : tags) {
+            Set<String> keys = tagKeys.remove(tag);
+            if (keys != null) {
+                keys.forEach(entries::remove);
+            }
+        }
+    }
+
+    private void removeExpired(long now) {
+        entries.values().removeIf(e -> e.expireAt <= now);
+        tagKeys.values().forEach(keys -> keys.removeIf(k -> !entries.containsKey(k)));
+        tagKeys.values().removeIf(Set::isEmpty);
+    }
+
+    private static class Entry {
+
+        private final CachedResponse response;
+
+        private final long expireAt;
+
+        private Entry(CachedResponse response, long expireAt) {
+            this.response = response;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+}
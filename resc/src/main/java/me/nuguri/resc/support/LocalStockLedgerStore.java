@@ -0,0 +1,197 @@
+package me.nuguri.resc.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 메모리 재고 원장 저장소, 단일 노드 운영용
+ * 상품 재고를 여러 칸으로 나눠서 스레드 별로 다른 칸을 차감, 한 상품에 대한 동시 예약이 하나의 값을 두고 경합하지 않음
+ */
+public class LocalStockLedgerStore implements StockLedgerStore {
+
+    private final int stripes;
+
+    private final ConcurrentHashMap<Long, StripedCounter> counters = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    public LocalStockLedgerStore(int stripes) {
+        this.stripes = Math.max(1, stripes);
+    }
+
+    @Override
+    public void load(Map<Long, Integer> stocks) {
+        stocks.forEach((productId, stock) -> counters.putIfAbsent(productId, new StripedCounter(stripes, stock)));
+    }
+
+    @Override
+    public void adjust(Long productId, int delta) {
+        StripedCounter counter = counters.get(productId);
+        if (counter == null) {
+            return;
+        }
+        if (delta > 0) {
+            counter.release(delta);
+        } else if (delta < 0) {
+            counter.forceAcquire(-delta);
+        }
+    }
+
+    @Override
+    public boolean reserve(String reservationId, Long productId, int count, long expireAt) {
+        StripedCounter counter = counters.get(productId);
+        if (counter == null || !counter.tryAcquire(count)) {
+            return false;
+        }
+        reservations.put(reservationId, new Reservation(productId, count, expireAt));
+        return true;
+    }
+
+    @Override
+    public void confirm(String reservationId, Long productId, int count) {
+        if (reservations.remove(reservationId) == null) {
+            StripedCounter counter = counters.get(productId);
+            if (counter != null) {
+                counter.forceAcquire(count);
+            }
+        }
+    }
+
+    @Override
+    public void release(String reservationId, Long productId, int count) {
+        if (reservations.remove(reservationId) != null) {
+            counters.get(productId).release(count);
+        }
+    }
+
+    @Override
+    public int sweep(long now) {
+        int swept = 0;
+        for (Map.Entry<String, Reservation> entry : reservations.entrySet()) {
+            Reservation reservation = entry.getValue();
+            if (reservation.expireAt <= now && reservations.remove(entry.getKey(), reservation)) {
+                counters.get(reservation.productId).release(reservation.count);
+                swept++;
+            }
+        }
+        return swept;
+    }
+
+    @Override
+    public Integer available(Long productId) {
+        StripedCounter counter = counters.get(productId);
+        return counter != null ? counter.sum() : null;
+    }
+
+    private static class Reservation {
+
+        private final Long productId;
+
+        private final int count;
+
+        private final long expireAt;
+
+        private Reservation(Long productId, int count, long expireAt) {
+            this.productId = productId;
+            this.count = count;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+    /**
+     * 여러 칸으로 나눈 재고 수량
+     * 스레드 칸에서 먼저 차감하고 부족하면 다른 칸에서 나눠서 차감, 전체 합이 부족한 경우에만 실패
+     * 만료 후 확정으로 음수가 된 칸은 복구 시 먼저 채워서 전체 합 이상 예약 되지 않도록 함
+     */
+    static class StripedCounter {
+
+        /** 칸 사이 간격, 다른 칸이 같은 캐시 라인에 올라가지 않도록 함 */
+        private static final int PADDING = 16;
+
+        private final int stripes;
+
+        private final AtomicIntegerArray cells;
+
+        StripedCounter(int stripes, int stock) {
+            this.stripes = stripes;
+            this.cells = new AtomicIntegerArray(stripes * PADDING);
+            for (int i = 0; i < stripes; i++) {
+                cells.set(i * PADDING, stock / stripes + (i < stock % stripes ? 1 : 0));
+            }
+        }
+
+        boolean tryAcquire(int count) {
+            int home = home();
+            int taken = 0;
+            for (int i = 0; i < stripes && taken < count; i++) {
+                taken += takeUpTo((home + i) % stripes, count - taken);
+            }
+            if (taken < count) {
+                if (taken > 0) {
+                    release(taken);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        void forceAcquire(int count) {
+            int home = home();
+            int taken = 0;
+            for (int i = 0; i < stripes && taken < count; i++) {
+                taken += takeUpTo((home + i) % stripes, count - taken);
+            }
+            if (taken < count) {
+                cells.addAndGet(home * PADDING, taken - count);
+            }
+        }
+
+        void release(int count) {
+            int remaining = count;
+            for (int i = 0; i < stripes && remaining > 0; i++) {
+                int index = i * PADDING;
+                int current;
+                while ((current = cells.get(index)) < 0) {
+                    int paid = Math.min(-current, remaining);
+                    if (cells.compareAndSet(index, current, current + paid)) {
+                        remaining -= paid;
+                        break;
+                    }
+                }
+            }
+            if (remaining > 0) {
+                cells.addAndGet(home() * PADDING, remaining);
+            }
+        }
+
+        int sum() {
+            int sum = 0;
+            for (int i = 0; i < stripes; i++) {
+                sum += cells.get(i * PADDING);
+            }
+            return sum;
+        }
+
+        private int takeUpTo(int stripe, int max) {
+            int index = stripe * PADDING;
+            while (true) {
+                int current = cells.get(index);
+                if (current <= 0) {
+                    return 0;
+                }
+                int taken = Math.min(current, max);
+                if (cells.compareAndSet(index, current, current - taken)) {
+                    return taken;
+                }
+            }
+        }
+
+        private int home() {
+            return (int) (Thread.currentThread().getId() % stripes);
+        }
+
+    }
+
+}
@@ -0,0 +1,236 @@
+package me.nuguri.resc.support;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이름 n-gram 메모리 검색 색인
+ * 이름을 1-gram, 2-gram 으로 나눠서 식별키 목록을 색인하고 검색어 gram 의 식별키 목록 교집합으로 후보를 찾음
+ * LIKE '%검색어%' 테이블 스캔 없이 부분 일치 검색, 정확 일치 > 접두 일치 > 앞쪽 일치 > 짧은 이름 순서로 정렬
+ */
+public class NameSearchIndex {
+
+    /** 식별키 별 정규화 된 이름 */
+    private Map<Long, String> names = new HashMap<>();
+
+    /** gram 별 식별키 목록 */
+    private Map<String, Set<Long>> postings = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 이름 색인 추가, 이미 색인 된 식별키인 경우 교체
+     *
+     * @param id 식별키
+     * @param name 이름
+     */
+    public void put(Long id, String name) {
+        if (id == null || name == null) {
+            return;
+        }
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            String previous = names.put(id, normalized);
+            if (previous != null) {
+                if (previous.equals(normalized)) {
+                    return;
+                }
+                unindex(id, previous);
+            }
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이름 색인 제거
+     *
+     * @param id 식별키
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            String previous = names.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 색인 제거
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 별도로 구성한 색인으로 교체, 재구성 중에도 기존 색인으로 검색 가능
+     *
+     * @param built 새로 구성한 색인
+     */
+    public void replaceWith(NameSearchIndex built) {
+        lock.writeLock().lock();
+        try {
+            this.names = built.names;
+            this.postings = built.postings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름 부분 일치 검색
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 순위 순서의 식별키
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            // 가장 작은 식별키 목록부터 교집합
+            List<Set<Long>> sets = new ArrayList<>();
+            for (String gram : queryGrams(normalized)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptyList();
+                }
+                sets.add(ids);
+            }
+            sets.sort(Comparator.comparingInt(Set::size));
+            List<Match> matches = new ArrayList<>();
+            for (Long id : sets.get(0)) {
+                if (!containsAll(sets, id)) {
+                    continue;
+                }
+                // gram 교집합은 순서를 보장하지 않으므로 실제 포함 여부 확인
+                String name = names.get(id);
+                int position = name.indexOf(normalized);
+                if (position >= 0) {
+                    matches.add(new Match(id, name, position, normalized));
+                }
+            }
+            matches.sort(null);
+            List<Long> result = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                result.add(matches.get(i).id);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsAll(List<Set<Long>> sets, Long id) {
+        for (int i = 1; i < sets.size(); i++) {
+            if (!sets.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void unindex(Long id, String name) {
+        for (String gram : grams(name)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인 gram, 1-gram 과 2-gram
+     */
+    private Set<String> grams(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+            if (i + 2 <= name.length()) {
+                grams.add(name.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 gram, 한 글자인 경우 1-gram 그 외 2-gram
+     */
+    private Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Collections.singleton(query);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Match implements Comparable<Match> {
+
+        private final Long id;
+
+        /** 0 정확 일치, 1 접두 일치, 2 부분 일치 */
+        private final int rank;
+
+        private final int position;
+
+        private final int length;
+
+        private Match(Long id, String name, int position, String query) {
+            this.id = id;
+            this.rank = name.equals(query) ? 0 : position == 0 ? 1 : 2;
+            this.position = position;
+            this.length = name.length();
+        }
+
+        @Override
+        public int compareTo(Match o) {
+            int compare = Integer.compare(rank, o.rank);
+            if (compare == 0) {
+                compare = Integer.compare(position, o.position);
+            }
+            if (compare == 0) {
+                compare = Integer.compare(length, o.length);
+            }
+            return compare != 0 ? compare : id.compareTo(o.id);
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.common.entity.Creator;
+import me.nuguri.common.entity.Product;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저자, 상품 이름 변경 감지
+ * 트랜잭션 커밋 후 이름 검색 색인에 반영, 롤백 된 변경은 반영하지 않음
+ */
+@Component
+public class NameSearchIndexEventListener extends TransactionalEntityEventListener<List<Runnable>> {
+
+    private final NameSearchIndex creatorNameIndex;
+
+    private final NameSearchIndex productNameIndex;
+
+    public NameSearchIndexEventListener(EntityManagerFactory entityManagerFactory, NameSearchIndex creatorNameIndex,
+                                        NameSearchIndex productNameIndex) {
+        super(entityManagerFactory);
+        this.creatorNameIndex = creatorNameIndex;
+        this.productNameIndex = productNameIndex;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getEntity(), true);
+    }
+
+    private void record(Object entity, boolean delete) {
+        Runnable change;
+        if (entity instanceof Creator) {
+            Creator creator = (Creator) entity;
+            change = delete
+                    ? () -> creatorNameIndex.remove(creator.getId())
+                    : put(creatorNameIndex, creator.getId(), creator.getName());
+        } else if (entity instanceof Product) {
+            Product product = (Product) entity;
+            change = delete
+                    ? () -> productNameIndex.remove(product.getId())
+                    : put(productNameIndex, product.getId(), product.getName());
+        } else {
+            return;
+        }
+        List<Runnable> changes = currentChanges();
+        if (changes == null) {
+            change.run();
+            return;
+        }
+        changes.add(change);
+    }
+
+    /**
+     * 이벤트 시점의 이름으로 색인 추가, 이후 엔티티 값이 바뀌어도 영향 받지 않도록 값을 미리 꺼냄
+     */
+    private Runnable put(NameSearchIndex index, Long id, String name) {
+        return () -> index.put(id, name);
+    }
+
+    @Override
+    protected List<Runnable> newChanges() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    protected void afterCommit(List<Runnable> changes) {
+        changes.forEach(Runnable::run);
+    }
+
+}
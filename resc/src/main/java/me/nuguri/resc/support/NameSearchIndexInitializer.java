@@ -0,0 +1,32 @@
+package me.nuguri.resc.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.nuguri.resc.service.NameSearchService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 저자, 상품 이름 검색 색인 구성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NameSearchIndexInitializer {
+
+    private final NameSearchService nameSearchService;
+
+    private final NameSearchIndex creatorNameIndex;
+
+    private final NameSearchIndex productNameIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        nameSearchService.rebuild();
+        log.info("[log] name search index built, creators : {}, products : {}, elapsed : {}ms",
+                creatorNameIndex.size(), productNameIndex.size(), System.currentTimeMillis() - start);
+    }
+
+}
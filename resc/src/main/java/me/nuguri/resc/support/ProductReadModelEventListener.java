@@ -0,0 +1,87 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.common.entity.*;
+import me.nuguri.resc.domain.ReadModelChanges;
+import me.nuguri.resc.service.ProductReadModelService;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 상품 조회 모델 원본 엔티티 변경 감지
+ * 트랜잭션에서 변경 된 식별키를 기록하고 커밋 직전에 같은 트랜잭션으로 상품 조회 모델 갱신
+ */
+@Component
+public class ProductReadModelEventListener extends TransactionalEntityEventListener<ReadModelChanges> {
+
+    private final EntityManager entityManager;
+
+    private final ProductReadModelService productReadModelService;
+
+    public ProductReadModelEventListener(EntityManagerFactory entityManagerFactory, EntityManager entityManager,
+                                         ProductReadModelService productReadModelService) {
+        super(entityManagerFactory);
+        this.entityManager = entityManager;
+        this.productReadModelService = productReadModelService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getEntity(), true);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getEntity(), false);
+    }
+
+    /**
+     * 변경 된 엔티티 식별키 기록
+     * 저자, 회사, 카테고리는 생성 시 연관 상품이 없고 연관 상품이 있으면 삭제 할 수 없으므로 수정만 기록
+     *
+     * @param entity 엔티티
+     * @param update 수정 여부
+     */
+    private void record(Object entity, boolean update) {
+        ReadModelChanges changes = currentChanges();
+        if (changes == null) {
+            return;
+        }
+        if (entity instanceof Product) {
+            changes.getProductIds().add(((Product) entity).getId());
+        } else if (entity instanceof ProductCategory) {
+            changes.getProductIds().add(((ProductCategory) entity).getProduct().getId());
+        } else if (update && entity instanceof Creator) {
+            changes.getCreatorIds().add(((Creator) entity).getId());
+        } else if (update && entity instanceof Company) {
+            changes.getCompanyIds().add(((Company) entity).getId());
+        } else if (update && entity instanceof Category) {
+            changes.getCategoryIds().add(((Category) entity).getId());
+        }
+    }
+
+    @Override
+    protected ReadModelChanges newChanges() {
+        return new ReadModelChanges();
+    }
+
+    @Override
+    protected void beforeCommit(ReadModelChanges changes) {
+        // 아직 flush 되지 않은 변경 사항도 기록 되도록 먼저 flush
+        entityManager.flush();
+        while (!changes.isEmpty()) {
+            productReadModelService.project(changes.drain());
+            entityManager.flush();
+        }
+    }
+
+}
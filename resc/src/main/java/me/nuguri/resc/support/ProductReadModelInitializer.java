@@ -0,0 +1,42 @@
+package me.nuguri.resc.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.nuguri.resc.property.ReadModelProperties;
+import me.nuguri.resc.service.ProductReadModelService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 상품 조회 모델 재구성, resc.read-model.rebuild-on-startup=true 인 경우에만 실행
+ * 조회 모델 도입 전 데이터, 벌크 쿼리, 대량 데이터 생성으로 변경 된 데이터를 맞추기 위한 일회성 작업
+ * 예) java -jar resc.jar --resc.read-model.rebuild-on-startup=true 로 한 인스턴스만 실행 후 설정 없이 재시작
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductReadModelInitializer {
+
+    private final ProductReadModelService productReadModelService;
+
+    private final ReadModelProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isRebuildOnStartup()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int deleted = productReadModelService.deleteOrphans();
+        int chunks = 0;
+        Long cursor = 0L;
+        // 청크 별로 트랜잭션을 나눠서 영속성 컨텍스트가 커지지 않도록 함
+        while ((cursor = productReadModelService.rebuild(cursor, properties.getRebuildChunkSize())) != null) {
+            chunks++;
+        }
+        log.info("[log] product read model rebuilt, chunks : {}, orphans deleted : {}, elapsed : {}ms",
+                chunks, deleted, System.currentTimeMillis() - start);
+    }
+
+}
@@ -0,0 +1,102 @@
+package me.nuguri.resc.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nuguri.resc.domain.CachedResponse;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 조회 응답 캐시 저장소, 여러 노드가 캐시와 무효화를 공유하는 경우 사용
+ * 응답은 문자열 키, 태그는 캐시 키 집합으로 보관하고 세대 값 확인과 저장, 무효화를 Lua 스크립트로 한 번에 실행
+ */
+public class RedisResponseCacheStore implements ResponseCacheStore {
+
+    private static final String GENERATION_KEY = "response-cache:generation";
+
+    private static final String ENTRY_KEY_PREFIX = "response-cache:entry:";
+
+    private static final String TAG_KEY_PREFIX = "response-cache:tag:";
+
+    private static final RedisScript<Long> PUT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[1]) or '0') ~= tonumber(ARGV[1]) then return 0 end\n" +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])\n" +
+            "for i = 3, #KEYS do\n" +
+            "  redis.call('SADD', KEYS[i], KEYS[2])\n" +
+            "  redis.call('PEXPIRE', KEYS[i], ARGV[3])\n" +
+            "end\n" +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[1])\n" +
+            "for i = 2, #KEYS do\n" +
+            "  local keys = redis.call('SMEMBERS', KEYS[i])\n" +
+            "  for j = 1, #keys, 1000 do\n" +
+            "    redis.call('DEL', unpack(keys, j, math.min(j + 999, #keys)))\n" +
+            "  end\n" +
+            "  redis.call('DEL', KEYS[i])\n" +
+            "end\n" +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final long ttlMillis;
+
+    public RedisResponseCacheStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        String value = redisTemplate.opsForValue().get(ENTRY_KEY_PREFIX + key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, CachedResponse.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public long generation() {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation != null ? Long.parseLong(generation) : 0;
+    }
+
+    @Override
+    public boolean put(String key, CachedResponse response, Collection<String> tags, long generation) {
+        String value;
+        try {
+            value = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+        List<String> keys = new ArrayList<>(tags.size() + 2);
+        keys.add(GENERATION_KEY);
+        keys.add(ENTRY_KEY_PREFIX + key);
+        tags.forEach(tag -> keys.add(TAG_KEY_PREFIX + tag));
+        Long stored = redisTemplate.execute(PUT, keys, String.valueOf(generation), value, String.valueOf(ttlMillis));
+        return stored != null && stored == 1L;
+    }
+
+    @Override
+    public void evict(Collection<String> tags) {
+        List<String> keys = new ArrayList<>(tags.size() + 1);
+        keys.add(GENERATION_KEY);
+        tags.forEach(tag -> keys.add(TAG_KEY_PREFIX + tag));
+        redisTemplate.execute(EVICT, keys);
+    }
+
+}
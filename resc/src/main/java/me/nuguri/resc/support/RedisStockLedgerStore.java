@@ -0,0 +1,119 @@
+package me.nuguri.resc.support;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 재고 원장 저장소, 여러 노드가 같은 재고를 공유하는 경우 사용
+ * 예약 가능 재고는 상품 별 문자열 키, 예약은 만료 시간을 점수로 하는 정렬 집합에 보관
+ * 확인, 차감, 예약 기록을 Lua 스크립트로 한 번에 실행하고 노드가 종료 되어도 다른 노드가 만료 된 예약 취소
+ */
+public class RedisStockLedgerStore implements StockLedgerStore {
+
+    private static final String STOCK_KEY_PREFIX = "stock-ledger:stock:";
+
+    private static final String RESERVATIONS_KEY = "stock-ledger:reservations";
+
+    /** 만료 된 예약 한 번에 취소 할 최대 수 */
+    private static final int SWEEP_SIZE = 1000;
+
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>(
+            "local stock = tonumber(redis.call('GET', KEYS[1]))\n" +
+            "if stock == nil or stock < tonumber(ARGV[1]) then return 0 end\n" +
+            "redis.call('DECRBY', KEYS[1], ARGV[1])\n" +
+            "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[3])\n" +
+            "return 1", Long.class);
+
+    /** 재고 키가 유실 된 경우 차감, 복구로 키를 새로 만들지 않음, 다음 예약 시 DB 에서 적재 */
+    private static final RedisScript<Long> CONFIRM = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[2], ARGV[2]) == 1 then return 1 end\n" +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('DECRBY', KEYS[1], ARGV[1]) end\n" +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[2], ARGV[2]) == 0 then return 0 end\n" +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCRBY', KEYS[1], ARGV[1]) end\n" +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> ADJUST = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end\n" +
+            "redis.call('INCRBY', KEYS[1], ARGV[1])\n" +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisStockLedgerStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void load(Map<Long, Integer> stocks) {
+        stocks.forEach((productId, stock) -> redisTemplate.opsForValue().setIfAbsent(stockKey(productId), String.valueOf(stock)));
+    }
+
+    @Override
+    public void adjust(Long productId, int delta) {
+        redisTemplate.execute(ADJUST, Collections.singletonList(stockKey(productId)), String.valueOf(delta));
+    }
+
+    @Override
+    public boolean reserve(String reservationId, Long productId, int count, long expireAt) {
+        Long reserved = redisTemplate.execute(RESERVE, Arrays.asList(stockKey(productId), RESERVATIONS_KEY),
+                String.valueOf(count), String.valueOf(expireAt), member(reservationId, productId, count));
+        return reserved != null && reserved == 1L;
+    }
+
+    @Override
+    public void confirm(String reservationId, Long productId, int count) {
+        redisTemplate.execute(CONFIRM, Arrays.asList(stockKey(productId), RESERVATIONS_KEY),
+                String.valueOf(count), member(reservationId, productId, count));
+    }
+
+    @Override
+    public void release(String reservationId, Long productId, int count) {
+        redisTemplate.execute(RELEASE, Arrays.asList(stockKey(productId), RESERVATIONS_KEY),
+                String.valueOf(count), member(reservationId, productId, count));
+    }
+
+    @Override
+    public int sweep(long now) {
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(RESERVATIONS_KEY, Double.NEGATIVE_INFINITY, now, 0, SWEEP_SIZE);
+        if (expired == null) {
+            return 0;
+        }
+        int swept = 0;
+        for (String member : expired) {
+            String[] parts = member.split(":");
+            Long released = redisTemplate.execute(RELEASE, Arrays.asList(stockKey(Long.valueOf(parts[1])), RESERVATIONS_KEY),
+                    parts[2], member);
+            if (released != null && released == 1L) {
+                swept++;
+            }
+        }
+        return swept;
+    }
+
+    @Override
+    public Integer available(Long productId) {
+        String stock = redisTemplate.opsForValue().get(stockKey(productId));
+        return stock != null ? Integer.valueOf(stock) : null;
+    }
+
+    private String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    /**
+     * 예약 집합 값, 다른 노드가 만료 취소 할 수 있도록 상품 식별키와 수량 포함
+     */
+    private String member(String reservationId, Long productId, int count) {
+        return reservationId + ":" + productId + ":" + count;
+    }
+
+}
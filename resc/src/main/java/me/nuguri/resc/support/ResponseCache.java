@@ -0,0 +1,142 @@
+package me.nuguri.resc.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.nuguri.common.support.EntityVersion;
+import me.nuguri.resc.domain.CachedResponse;
+import me.nuguri.resc.property.ResponseCacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.Collection;
+
+/**
+ * 조회 응답 캐시, HAL 본문을 직렬화 해서 저장하고 캐시 된 경우 DB 조회, 직렬화 없이 응답
+ * 쓰기 트랜잭션 커밋 후 태그 단위로 무효화, 캐시를 사용하지 않는 경우에도 같은 방식으로 응답 생성
+ */
+@Component
+public class ResponseCache {
+
+    /** 응답 캐시 메트릭 이름 */
+    public static final String CACHE_METRIC = "response.cache";
+
+    private final ResponseCacheStore store;
+
+    private final ResponseCacheProperties responseCacheProperties;
+
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    private final Counter hit;
+
+    private final Counter miss;
+
+    private final Counter rejected;
+
+    /** HAL 응답 변환기의 ObjectMapper, MVC 응답과 같은 본문을 만들기 위해 처음 사용 시 조회 */
+    private volatile ObjectMapper halObjectMapper;
+
+    public ResponseCache(ResponseCacheStore store, ResponseCacheProperties responseCacheProperties,
+                         ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.responseCacheProperties = responseCacheProperties;
+        this.handlerAdapter = handlerAdapter;
+        this.hit = meterRegistry.counter(CACHE_METRIC, "result", "hit");
+        this.miss = meterRegistry.counter(CACHE_METRIC, "result", "miss");
+        this.rejected = meterRegistry.counter(CACHE_METRIC, "result", "rejected");
+    }
+
+    /**
+     * 캐시 된 응답 조회
+     *
+     * @param key 캐시 키
+     * @return 응답, 없거나 캐시를 사용하지 않는 경우 null
+     */
+    public CachedResponse get(String key) {
+        if (!responseCacheProperties.isEnabled()) {
+            return null;
+        }
+        CachedResponse response = store.get(key);
+        (response != null ? hit : miss).increment();
+        return response;
+    }
+
+    /**
+     * 현재 세대 값, 캐시 되지 않은 응답을 만들기 위해 DB 조회 전 확인
+     *
+     * @return 세대 값
+     */
+    public long generation() {
+        return responseCacheProperties.isEnabled() ? store.generation() : 0;
+    }
+
+    /**
+     * 응답 직렬화 후 저장, 조회 중 무효화 된 경우 저장하지 않고 응답만 반환
+     *
+     * @param key 캐시 키
+     * @param tags 무효화 태그
+     * @param generation 조회 전 확인한 세대 값
+     * @param resource HAL 리소스
+     * @param version 조건부 요청 검증 값, 없는 경우 null
+     * @return 응답
+     */
+    public CachedResponse put(String key, Collection<String> tags, long generation, Object resource, EntityVersion version) {
+        CachedResponse response = new CachedResponse(render(resource), version);
+        if (responseCacheProperties.isEnabled() && !store.put(key, response, tags, generation)) {
+            rejected.increment();
+        }
+        return response;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 태그 무효화, 트랜잭션 밖인 경우 바로 무효화
+     *
+     * @param tags 무효화 태그
+     */
+    public void evictAfterCommit(Collection<String> tags) {
+        if (!responseCacheProperties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            store.evict(tags);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                store.evict(tags);
+            }
+        });
+    }
+
+    private String render(Object resource) {
+        try {
+            return halObjectMapper().writeValueAsString(resource);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ObjectMapper halObjectMapper() {
+        if (halObjectMapper == null) {
+            for (HttpMessageConverter<?> converter : handlerAdapter.getObject().getMessageConverters()) {
+                if (converter instanceof AbstractJackson2HttpMessageConverter && converter.getSupportedMediaTypes().contains(MediaTypes.HAL_JSON)) {
+                    halObjectMapper = ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+                    break;
+                }
+            }
+            if (halObjectMapper == null) {
+                throw new IllegalStateException("HAL message converter is not registered");
+            }
+        }
+        return halObjectMapper;
+    }
+
+}
@@ -0,0 +1,46 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.resc.domain.CachedResponse;
+
+import java.util.Collection;
+
+/**
+ * 조회 응답 캐시 저장소, 응답마다 태그를 붙이고 태그 단위로 무효화
+ * 무효화 할 때마다 세대 값을 올리고 조회 시작 전 세대 값과 다르면 저장하지 않아서 무효화 이전에 조회한 응답이 다시 저장 되지 않음
+ */
+public interface ResponseCacheStore {
+
+    /**
+     * 캐시 된 응답 조회
+     *
+     * @param key 캐시 키
+     * @return 응답, 없거나 만료 된 경우 null
+     */
+    CachedResponse get(String key);
+
+    /**
+     * 현재 세대 값, 응답을 만들기 위해 DB 조회 전 확인
+     *
+     * @return 세대 값
+     */
+    long generation();
+
+    /**
+     * 응답 저장, 세대 값이 그 사이 바뀐 경우 저장하지 않음
+     *
+     * @param key 캐시 키
+     * @param response 응답
+     * @param tags 무효화 태그
+     * @param generation 조회 전 확인한 세대 값
+     * @return 저장 여부
+     */
+    boolean put(String key, CachedResponse response, Collection<String> tags, long generation);
+
+    /**
+     * 태그가 붙은 응답 무효화
+     *
+     * @param tags 무효화 태그
+     */
+    void evict(Collection<String> tags);
+
+}
@@ -0,0 +1,75 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.common.entity.Product;
+import me.nuguri.resc.service.StockLedgerService;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재고 원장 대상 상품의 재고 수량 변경 감지, 입고, 관리자 재고 수정을 트랜잭션 커밋 후 원장 저장소에 반영
+ * 주문 차감, 원장 반영은 엔티티를 거치지 않는 벌크 수정이므로 이벤트가 발생하지 않음
+ * 추가 된 상품은 원장 저장소에 없으므로 첫 예약 시 DB 에서 적재
+ */
+@Component
+public class StockLedgerEventListener extends TransactionalEntityEventListener<Map<Long, Integer>> {
+
+    private static final String STOCK_COUNT = "stockCount";
+
+    private final StockLedgerService stockLedgerService;
+
+    private final StockLedgerStore stockLedgerStore;
+
+    public StockLedgerEventListener(EntityManagerFactory entityManagerFactory, StockLedgerService stockLedgerService,
+                                    StockLedgerStore stockLedgerStore) {
+        super(entityManagerFactory);
+        this.stockLedgerService = stockLedgerService;
+        this.stockLedgerStore = stockLedgerStore;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Product) || event.getOldState() == null) {
+            return;
+        }
+        Long productId = ((Product) event.getEntity()).getId();
+        if (!stockLedgerService.isLedgered(productId)) {
+            return;
+        }
+        int index = event.getPersister().getEntityMetamodel().getPropertyIndex(STOCK_COUNT);
+        int delta = (Integer) event.getState()[index] - (Integer) event.getOldState()[index];
+        if (delta == 0) {
+            return;
+        }
+        Map<Long, Integer> changes = currentChanges();
+        if (changes == null) {
+            stockLedgerStore.adjust(productId, delta);
+            return;
+        }
+        changes.merge(productId, delta, Integer::sum);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+    }
+
+    @Override
+    protected Map<Long, Integer> newChanges() {
+        return new HashMap<>();
+    }
+
+    @Override
+    protected void afterCommit(Map<Long, Integer> changes) {
+        changes.forEach(stockLedgerStore::adjust);
+    }
+
+}
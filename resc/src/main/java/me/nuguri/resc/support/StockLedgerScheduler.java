@@ -0,0 +1,74 @@
+package me.nuguri.resc.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.nuguri.resc.property.StockLedgerProperties;
+import me.nuguri.resc.service.StockLedgerService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 원장 보정, 반영, 만료 예약 취소
+ * 시작 시 이전 실행에서 반영 되지 않은 원장 기록을 모두 상품 재고에 반영한 후 원장 저장소에 재고 적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockLedgerScheduler {
+
+    private final StockLedgerService stockLedgerService;
+
+    private final StockLedgerStore stockLedgerStore;
+
+    private final StockLedgerProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int flushed = flushAll();
+        stockLedgerService.load();
+        log.info("[log] stock ledger reconciled, entries flushed : {}, products : {}, elapsed : {}ms",
+                flushed, properties.getProductIds().size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${resc.stock-ledger.flush-interval-millis:1000}")
+    public void flush() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int flushed = flushAll();
+        if (flushed > 0) {
+            log.debug("[log] stock ledger flushed, entries : {}", flushed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${resc.stock-ledger.flush-interval-millis:1000}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int swept = stockLedgerStore.sweep(System.currentTimeMillis());
+        if (swept > 0) {
+            log.warn("[log] stock ledger expired reservations released : {}", swept);
+        }
+    }
+
+    /**
+     * 배치 별로 트랜잭션을 나눠서 남은 원장 기록 모두 반영
+     */
+    private int flushAll() {
+        int total = 0;
+        int flushed;
+        do {
+            flushed = stockLedgerService.flush();
+            total += flushed;
+        } while (flushed >= properties.getFlushBatchSize());
+        return total;
+    }
+
+}
@@ -0,0 +1,71 @@
+package me.nuguri.resc.support;
+
+import java.util.Map;
+
+/**
+ * 재고 원장 저장소, 상품 별 예약 가능 재고와 만료 시간이 있는 예약 보관
+ */
+public interface StockLedgerStore {
+
+    /**
+     * 상품 재고 적재, 이미 적재 된 상품은 다른 노드의 진행 중인 예약이 반영 된 값이므로 유지
+     *
+     * @param stocks 상품 식별키 별 재고 수량
+     */
+    void load(Map<Long, Integer> stocks);
+
+    /**
+     * 적재 된 상품 재고 증감, 입고, 관리자 재고 수정 반영
+     * 적재 되지 않은 상품은 다음 예약 시 DB 에서 적재 되므로 무시
+     *
+     * @param productId 상품 식별키
+     * @param delta 증감 수량
+     */
+    void adjust(Long productId, int delta);
+
+    /**
+     * 재고 예약, 예약 가능 재고가 부족하거나 적재 되지 않은 상품인 경우 실패
+     *
+     * @param reservationId 예약 식별키
+     * @param productId 상품 식별키
+     * @param count 수량
+     * @param expireAt 예약 만료 시간(epoch ms)
+     * @return 예약 성공 여부
+     */
+    boolean reserve(String reservationId, Long productId, int count, long expireAt);
+
+    /**
+     * 예약 확정, 만료로 이미 취소 된 예약인 경우 재고를 다시 차감, 적재 되지 않은 상품은 차감하지 않음
+     *
+     * @param reservationId 예약 식별키
+     * @param productId 상품 식별키
+     * @param count 수량
+     */
+    void confirm(String reservationId, Long productId, int count);
+
+    /**
+     * 예약 취소, 예약 가능 재고 복구
+     *
+     * @param reservationId 예약 식별키
+     * @param productId 상품 식별키
+     * @param count 수량
+     */
+    void release(String reservationId, Long productId, int count);
+
+    /**
+     * 만료 된 예약 취소
+     *
+     * @param now 현재 시간(epoch ms)
+     * @return 취소 된 예약 수
+     */
+    int sweep(long now);
+
+    /**
+     * 예약 가능 재고 조회
+     *
+     * @param productId 상품 식별키
+     * @return 예약 가능 재고, 적재 되지 않은 상품인 경우 null
+     */
+    Integer available(Long productId);
+
+}
@@ -0,0 +1,112 @@
+package me.nuguri.resc.support;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 엔티티 변경 이벤트를 트랜잭션 단위로 모으는 Hibernate 이벤트 리스너 공통 부분
+ * 이벤트 리스너 등록, 트랜잭션 별 변경 기록 바인딩, 트랜잭션 종료 시 해제를 담당하고
+ * 변경 기록을 커밋 직전(beforeCommit), 커밋 후(afterCommit) 중 언제 반영할지는 하위 클래스가 정함
+ * 쓰기 트랜잭션은 {@link EntityEventTransactionManager} 가 시작 시 동기화를 등록하므로
+ * 커밋 중 처음 flush 되는 변경 감지 수정도 beforeCommit 에서 반영 됨
+ *
+ * @param <C> 트랜잭션 별 변경 기록 타입
+ */
+public abstract class TransactionalEntityEventListener<C> implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    protected TransactionalEntityEventListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * 트랜잭션 시작 시 변경 기록 바인딩, 트랜잭션 동기화 등록
+     */
+    public void begin() {
+        currentChanges();
+    }
+
+    /**
+     * 현재 트랜잭션의 변경 기록 조회, 처음 조회 시 생성하고 트랜잭션 동기화 등록
+     *
+     * @return 변경 기록, 트랜잭션 밖인 경우 null
+     */
+    @SuppressWarnings("unchecked")
+    protected C currentChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        C changes = (C) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            C created = newChanges();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    TransactionalEntityEventListener.this.beforeCommit(created);
+                }
+
+                @Override
+                public void afterCommit() {
+                    TransactionalEntityEventListener.this.afterCommit(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalEntityEventListener.this);
+                }
+            });
+            changes = created;
+        }
+        return changes;
+    }
+
+    /**
+     * 트랜잭션 별 빈 변경 기록 생성
+     */
+    protected abstract C newChanges();
+
+    /**
+     * 커밋 직전 같은 트랜잭션에서 변경 기록 반영
+     *
+     * @param changes 변경 기록
+     */
+    protected void beforeCommit(C changes) {
+    }
+
+    /**
+     * 커밋 후 변경 기록 반영, 롤백 된 경우 호출 되지 않음
+     *
+     * @param changes 변경 기록
+     */
+    protected void afterCommit(C changes) {
+    }
+
+}
@@ -1,9 +1,114 @@
 package me.nuguri.resc.controller.api;
 
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
 import me.nuguri.resc.common.BaseIntegrationTest;
-import org.junit.jupiter.api.Disabled;
+import me.nuguri.resc.service.ProductReadModelService;
+import me.nuguri.resc.support.CategoryTreeCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
-@Disabled
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("카테고리 API 테스트")
 public class CategoryApiControllerTest extends BaseIntegrationTest {
 
-}
\ No newline at end of file
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private ProductReadModelService productReadModelService;
+
+    private Category root;
+
+    private Category child;
+
+    @BeforeEach
+    public void beforeEach() {
+        root = Category.builder().name("국내도서").build();
+        child = Category.builder().name("소설/시").category(root).build();
+        Category grandChild = Category.builder().name("한국소설").category(child).build();
+        Category other = Category.builder().name("외국도서").build();
+        entityManager.persist(root);
+        entityManager.persist(other);
+
+        Creator creator = Creator.builder().name("Test Creator").gender(Gender.M).birth(LocalDate.of(1996, 9, 17)).build();
+        Company company = Company.builder().name("아무회사").establishDate(LocalDate.now()).build();
+        entityManager.persist(creator);
+        entityManager.persist(company);
+        Book inGrandChild = Book.builder().name("책 1").publishDate(LocalDate.now()).creator(creator).company(company).build();
+        Book inOther = Book.builder().name("책 2").publishDate(LocalDate.now()).creator(creator).company(company).build();
+        entityManager.persist(inGrandChild);
+        entityManager.persist(inOther);
+        entityManager.persist(ProductCategory.builder().category(grandChild).product(inGrandChild).build());
+        entityManager.persist(ProductCategory.builder().category(other).product(inOther).build());
+        entityManager.flush();
+
+        // 테스트 트랜잭션은 커밋 되지 않으므로 커밋 후 작업을 직접 수행
+        productReadModelService.refresh(Arrays.asList(inGrandChild.getId(), inOther.getId()));
+        entityManager.flush();
+        categoryTreeCache.refresh();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리 트리 조회 성공적인 경우")
+    public void queryCategories_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/categories")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("카테고리 하위 트리 조회 경로가 포함 되는 경우")
+    public void getCategory_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/category/{id}", child.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.path").value("/" + root.getId() + "/" + child.getId() + "/"))
+                .andExpect(jsonPath("$.children", hasSize(1)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("카테고리 하위 트리 상품 조회 손자 카테고리 상품만 조회 되는 경우")
+    public void queryCategoryProducts_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/category/{id}/products", root.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.getProductResponses", hasSize(1)))
+                .andExpect(jsonPath("$._embedded.getProductResponses[0].name").value("책 1"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("카테고리 하위 트리 상품 조회 존재하지 않는 카테고리로 실패하는 경우")
+    public void queryCategoryProducts_V1_NotFound_404() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/category/{id}/products", 0)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+}
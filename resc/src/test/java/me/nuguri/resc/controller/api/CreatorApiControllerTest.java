@@ -19,16 +19,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @DisplayName("저자 API 테스트")
 public class CreatorApiControllerTest extends BaseIntegrationTest {
@@ -60,6 +64,48 @@ public class CreatorApiControllerTest extends BaseIntegrationTest {
                 .andDo(print());
     }
 
+    @ParameterizedTest(name = "{index}. {displayName} parameter(expand: {arguments})")
+    @DisplayName("저자 목록 페이징 조회 연관 엔티티 확장 성공적인 경우")
+    @ValueSource(strings = {"products", "products,products.categories", "products.categories"})
+    public void queryCreators_V1_Expand_Success_200(String expand) throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        generateCreator();
+        mockMvc.perform(get("/api/v1/creators")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("name", "Test Creator")
+                .queryParam("expand", expand))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..products").exists())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("저자 목록 페이징 조회 확장하지 않으면 상품 목록이 없는 경우")
+    public void queryCreators_V1_NoExpand_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        generateCreator();
+        mockMvc.perform(get("/api/v1/creators")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("name", "Test Creator"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..products").isEmpty())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("저자 목록 페이징 조회 잘못된 확장 값으로 실패하는 경우")
+    public void queryCreators_V1_InvalidExpand_400() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/creators")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("expand", "company"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("저자 목록 페이징 조회 잘못된 엑세스 토큰으로 실패하는경우")
     public void queryCreators_V1_Unauthorized_401() throws Exception {
@@ -101,6 +147,50 @@ public class CreatorApiControllerTest extends BaseIntegrationTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("저자 목록 페이징 조회 최신이 아닌 저자 삭제 후 If-Modified-Since 로 조회하는 경우 Last-Modified 없이 ETag 로만 검증해서 200 응답")
+    public void queryCreators_V1_DeletedAfterIfModifiedSince_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        Creator older = Creator.builder().name("Version Creator").gender(Gender.M).birth(LocalDate.of(1990, 1, 1)).build();
+        Creator newer = Creator.builder().name("Version Creator").gender(Gender.F).birth(LocalDate.of(1991, 1, 1)).build();
+        entityManager.persist(older);
+        entityManager.persist(newer);
+        entityManager.flush();
+        entityManager.clear();
+
+        String eTag = mockMvc.perform(get("/api/v1/creators")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("name", "Version Creator"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..name", hasSize(2)))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        entityManager.remove(entityManager.find(Creator.class, older.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/creators")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusDays(1)))
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("name", "Version Creator"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..name", hasSize(1)))
+                .andDo(print());
+
+        mockMvc.perform(get("/api/v1/creators")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("name", "Version Creator"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("저자 조회 성공적인 경우")
     public void getCreator_V1_Success_200() throws Exception {
@@ -113,6 +203,28 @@ public class CreatorApiControllerTest extends BaseIntegrationTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("저자 조회 변경 되지 않은 경우 ETag 로 본문 없이 304 응답")
+    public void getCreator_V1_NotModified_304() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        Creator creator = generateCreator();
+        String eTag = mockMvc.perform(get("/api/v1/creator/{id}", creator.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/creator/{id}", creator.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("저자 조회 잘못된 엑세스 토큰을 실패하는 경우")
     public void getCreator_V1_Unauthorized_401() throws Exception {
@@ -0,0 +1,263 @@
+package me.nuguri.resc.controller.api;
+
+import com.jayway.jsonpath.JsonPath;
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.resc.common.BaseIntegrationTest;
+import me.nuguri.resc.controller.api.OrderApiController.IngestOrderRequest;
+import me.nuguri.resc.controller.api.OrderApiController.IngestOrdersRequest;
+import me.nuguri.resc.controller.api.OrderApiController.OrderProductRequest;
+import me.nuguri.resc.controller.api.OrderApiController.PlaceOrderRequest;
+import me.nuguri.resc.service.ProductReadModelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("주문 API 테스트")
+public class OrderApiControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ProductReadModelService productReadModelService;
+
+    private Account account;
+
+    private Book book1;
+
+    private Book book2;
+
+    @BeforeEach
+    public void beforeEach() {
+        Authority authority = Authority.builder().name("ADMIN").build();
+        entityManager.persist(authority);
+        account = Account.builder()
+                .email("admin@naver.com")
+                .password("1234")
+                .name("관리자")
+                .gender(Gender.M)
+                .address(new Address("경기도 과천시", "부림2길 76 2층", "13830"))
+                .authority(authority)
+                .build();
+        entityManager.persist(account);
+
+        Creator creator = Creator.builder().name("Test Creator").gender(Gender.M).birth(LocalDate.of(1996, 9, 17)).build();
+        Company company = Company.builder().name("아무회사").establishDate(LocalDate.now()).build();
+        entityManager.persist(creator);
+        entityManager.persist(company);
+        book1 = Book.builder().name("책 1").price(10000).stockCount(10).publishDate(LocalDate.now()).creator(creator).company(company).build();
+        book2 = Book.builder().name("책 2").price(20000).stockCount(1).publishDate(LocalDate.now()).creator(creator).company(company).build();
+        entityManager.persist(book1);
+        entityManager.persist(book2);
+        entityManager.flush();
+
+        // 테스트 트랜잭션은 커밋 되지 않으므로 커밋 전 작업을 직접 수행
+        productReadModelService.refresh(Arrays.asList(book1.getId(), book2.getId()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("주문 생성 성공적인 경우, 같은 상품 수량 합산 후 재고 차감")
+    public void placeOrder_V1_Success_201() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        PlaceOrderRequest request = request(line(book1.getId(), 2), line(book2.getId(), 1), line(book1.getId(), 3));
+
+        mockMvc.perform(post("/api/v1/order")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderProducts", hasSize(2)))
+                .andDo(print());
+
+        entityManager.clear();
+        assertEquals(5, entityManager.find(Product.class, book1.getId()).getStockCount());
+        assertEquals(0, entityManager.find(Product.class, book2.getId()).getStockCount());
+        assertEquals(5, entityManager.find(ProductReadModel.class, book1.getId()).getStockCount());
+    }
+
+    @Test
+    @DisplayName("주문 생성 후 Location 헤더, self 링크로 생성 된 주문 조회")
+    public void getOrder_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        PlaceOrderRequest request = request(line(book1.getId(), 2), line(book2.getId(), 1));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/order")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andDo(print())
+                .andReturn();
+        Number orderId = JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+        String location = result.getResponse().getHeader(HttpHeaders.LOCATION);
+        assertEquals("http://localhost/api/v1/order/" + orderId, location);
+        assertEquals(location, JsonPath.read(result.getResponse().getContentAsString(), "$._links.self.href"));
+
+        entityManager.flush();
+        entityManager.clear();
+        mockMvc.perform(get(location)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(orderId.longValue()))
+                .andExpect(jsonPath("$.orderProducts", hasSize(2)))
+                .andExpect(jsonPath("$._links.self.href").value(location))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문 조회 존재하지 않는 주문으로 실패하는 경우")
+    public void getOrder_V1_NotFound_404() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+
+        mockMvc.perform(get("/api/v1/order/{id}", 0L)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문 생성 재고 부족으로 실패하는 경우, 먼저 차감한 재고는 롤백")
+    public void placeOrder_V1_OutOfStock_409() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        PlaceOrderRequest request = request(line(book1.getId(), 1), line(book2.getId(), 2));
+
+        mockMvc.perform(post("/api/v1/order")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문 생성 존재하지 않는 상품으로 실패하는 경우")
+    public void placeOrder_V1_NotFound_404() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        PlaceOrderRequest request = request(line(0L, 1));
+
+        mockMvc.perform(post("/api/v1/order")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문 생성 잘못된 입력 값으로 실패하는 경우")
+    public void placeOrder_V1_Invalid_400() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        PlaceOrderRequest request = request(line(book1.getId(), 0));
+
+        mockMvc.perform(post("/api/v1/order")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 등록 성공적인 경우, 같은 멱등 키로 재시도 시 기존 주문 식별키 응답")
+    public void ingestOrders_V1_Success_201() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        IngestOrdersRequest request = new IngestOrdersRequest();
+        request.setOrders(Arrays.asList(
+                ingest("partner-1", line(book1.getId(), 2), line(book2.getId(), 1)),
+                ingest("partner-2", line(book1.getId(), 3))));
+
+        String body = mockMvc.perform(post("/api/v1/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$._embedded.ingestOrderResponses", hasSize(2)))
+                .andExpect(jsonPath("$._embedded.ingestOrderResponses[0].duplicate").value(false))
+                .andExpect(jsonPath("$._embedded.ingestOrderResponses[0].orderProductIds", hasSize(2)))
+                .andDo(print())
+                .andReturn().getResponse().getContentAsString();
+        Number orderId = JsonPath.read(body, "$._embedded.ingestOrderResponses[0].orderId");
+
+        mockMvc.perform(post("/api/v1/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.ingestOrderResponses[0].duplicate").value(true))
+                .andExpect(jsonPath("$._embedded.ingestOrderResponses[0].orderId").value(orderId.longValue()))
+                .andDo(print());
+
+        entityManager.clear();
+        assertEquals(5, entityManager.find(Product.class, book1.getId()).getStockCount());
+        assertEquals(2L, entityManager.createQuery("select count(o) from Order o").getSingleResult());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 등록 존재하지 않는 계정으로 실패하는 경우")
+    public void ingestOrders_V1_NotFound_404() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        IngestOrdersRequest request = new IngestOrdersRequest();
+        IngestOrderRequest order = ingest("partner-1", line(book1.getId(), 1));
+        order.setAccountId(0L);
+        request.setOrders(Arrays.asList(order));
+
+        mockMvc.perform(post("/api/v1/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    private IngestOrderRequest ingest(String idempotencyKey, OrderProductRequest... lines) {
+        IngestOrderRequest order = new IngestOrderRequest();
+        order.setIdempotencyKey(idempotencyKey);
+        order.setAccountId(account.getId());
+        order.setCity("서울시");
+        order.setStreet("테헤란로 1");
+        order.setZipCode("06236");
+        order.setOrderProducts(Arrays.asList(lines));
+        return order;
+    }
+
+    private PlaceOrderRequest request(OrderProductRequest... lines) {
+        PlaceOrderRequest request = new PlaceOrderRequest();
+        request.setOrderProducts(Arrays.asList(lines));
+        return request;
+    }
+
+    private OrderProductRequest line(Long productId, int count) {
+        OrderProductRequest line = new OrderProductRequest();
+        line.setProductId(productId);
+        line.setCount(count);
+        return line;
+    }
+
+}
@@ -0,0 +1,134 @@
+package me.nuguri.resc.controller.api;
+
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.common.enums.Size;
+import me.nuguri.resc.common.BaseIntegrationTest;
+import me.nuguri.resc.service.ProductReadModelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("상품 API 테스트")
+public class ProductApiControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ProductReadModelService productReadModelService;
+
+    private Long firstId;
+
+    @BeforeEach
+    public void beforeEach() {
+        Creator creator = Creator.builder()
+                .name("Test Creator")
+                .birth(LocalDate.of(1996, 9, 17))
+                .death(LocalDate.now())
+                .gender(Gender.M)
+                .build();
+        Company company = Company.builder()
+                .name("아무회사")
+                .establishDate(LocalDate.now())
+                .build();
+        entityManager.persist(creator);
+        entityManager.persist(company);
+        Product book = Book.builder().name("Test Book").publishDate(LocalDate.now()).price(1000).stockCount(10).creator(creator).company(company).build();
+        Product clothes = Clothes.builder().name("Test Clothes").size(Size.M).price(2000).stockCount(10).creator(creator).company(company).build();
+        Product food = Food.builder().name("Test Food").calorie(100).weightGram(200).price(3000).stockCount(10).creator(creator).company(company).build();
+        entityManager.persist(book);
+        entityManager.persist(clothes);
+        entityManager.persist(food);
+        entityManager.flush();
+        // 테스트 트랜잭션은 커밋 되지 않으므로 커밋 전 조회 모델 갱신을 직접 수행
+        productReadModelService.refresh(Arrays.asList(book.getId(), clothes.getId(), food.getId()));
+        entityManager.flush();
+        entityManager.clear(); // 테스트 시 조회 쿼리 정확히 보기 위해서 영속성 콘텍스트 초기화
+        firstId = book.getId() - 1;
+    }
+
+    @Test
+    @DisplayName("상품 목록 커서 조회 여러 상품 구분이 함께 조회 되는 경우")
+    public void queryProducts_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/products")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("cursor", String.valueOf(firstId))
+                .queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.getProductResponses", hasSize(2)))
+                .andExpect(jsonPath("$._embedded.getProductResponses[0].publishDate").exists())
+                .andExpect(jsonPath("$._embedded.getProductResponses[1].size").value(Size.M.toString()))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andExpect(jsonPath("$._links.next.href", containsString("cursor=")))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("책 목록 커서 조회 책만 조회 되는 경우")
+    public void queryBooks_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/books")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("cursor", String.valueOf(firstId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.getProductResponses[*].ptype", everyItem(is("B"))))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("상품 조회 저자, 회사 정보가 함께 조회 되는 경우")
+    public void getProduct_V1_Success_200() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/product/{id}", firstId + 1)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creatorName").value("Test Creator"))
+                .andExpect(jsonPath("$.companyName").value("아무회사"))
+                .andExpect(jsonPath("$.categories", hasSize(0)))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("상품 조회 존재하지 않아서 실패하는 경우")
+    public void getProduct_V1_NotFound_404() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/product/{id}", 0)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    @ParameterizedTest(name = "{index}. {displayName} parameter(cursor: {0} / size: {1})")
+    @DisplayName("상품 목록 커서 조회 잘못된 파라미터로 실패하는 경우")
+    @CsvSource(value = {"-1:10", "0:0", "0:101", "asd:10"}, delimiter = ':')
+    public void queryProducts_V1_Invalid_400(String cursor, String size) throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        mockMvc.perform(get("/api/v1/products")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON)
+                .queryParam("cursor", cursor)
+                .queryParam("size", size))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+}
@@ -0,0 +1,56 @@
+package me.nuguri.resc.mapper;
+
+import me.nuguri.common.entity.Creator;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.resc.controller.api.CreatorApiController.GenerateCreatorRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("저자 매퍼 테스트")
+public class CreatorMapperTest {
+
+    private final CreatorMapper creatorMapper = Mappers.getMapper(CreatorMapper.class);
+
+    @Test
+    @DisplayName("저자 생성 요청으로 엔티티 생성하는 경우, 식별키는 비어 있음")
+    public void toCreator_Generate() {
+        GenerateCreatorRequest request = request();
+
+        Creator creator = creatorMapper.toCreator(request);
+
+        assertNull(creator.getId());
+        assertEquals(request.getName(), creator.getName());
+        assertEquals(request.getGender(), creator.getGender());
+        assertEquals(request.getBirth(), creator.getBirth());
+        assertEquals(request.getDeath(), creator.getDeath());
+    }
+
+    @Test
+    @DisplayName("저자 수정 요청으로 엔티티 생성하는 경우, 입력 되지 않은 값은 null")
+    public void toCreator_Update() {
+        GenerateCreatorRequest request = request();
+        request.setDeath(null);
+
+        Creator creator = creatorMapper.toCreator(request, 1L);
+
+        assertEquals(1L, creator.getId());
+        assertEquals(request.getName(), creator.getName());
+        assertNull(creator.getDeath());
+    }
+
+    private GenerateCreatorRequest request() {
+        GenerateCreatorRequest request = new GenerateCreatorRequest();
+        request.setName("Test Creator");
+        request.setGender(Gender.M);
+        request.setBirth(LocalDate.of(1996, 9, 17));
+        request.setDeath(LocalDate.of(2070, 9, 17));
+        return request;
+    }
+
+}
@@ -0,0 +1,120 @@
+package me.nuguri.resc.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import me.nuguri.common.config.AutoConfiguration;
+import me.nuguri.common.entity.Company;
+import me.nuguri.resc.repository.impl.BaseRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(AutoConfiguration.class)
+@DisplayName("기본 레파지토리 일괄 저장 테스트")
+public class BaseRepositoryTest {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("배치 크기 만큼 저장 할 때마다 영속성 컨텍스트를 비우고 모든 엔티티를 저장하는 경우")
+    public void generateAll_BatchSize_ClearedPerBatch() {
+        List<Company> companies = companies(7);
+        Company first = companies.get(0);
+        List<Boolean> firstContained = new ArrayList<>();
+        long before = companyRepository.count();
+
+        long count = companyRepository.generateAll(
+                () -> companies.stream().peek(c -> firstContained.add(entityManager.contains(first))).iterator(), 3);
+
+        assertEquals(7, count);
+        // 첫 엔티티 저장 후 첫 배치(3개)가 저장 되면 준영속 상태
+        assertEquals(Arrays.asList(false, true, true, false, false, false, false), firstContained);
+        assertPersisted(companies, before);
+    }
+
+    @Test
+    @DisplayName("배치 크기 없이 일괄 저장하면 hibernate.jdbc.batch_size 만큼 저장 후 영속성 컨텍스트를 비우는 경우")
+    public void generateAll_DefaultBatchSize() {
+        List<Company> companies = companies(5);
+        long before = companyRepository.count();
+
+        assertEquals(5, companyRepository.generateAll(companies));
+
+        companies.forEach(c -> assertFalse(entityManager.contains(c)));
+        assertPersisted(companies, before);
+    }
+
+    @Test
+    @DisplayName("스트림 일괄 저장 시 모든 엔티티를 저장하고 영속성 컨텍스트를 비우는 경우")
+    public void generateAll_Stream() {
+        List<Company> companies = companies(5);
+        long before = companyRepository.count();
+
+        assertEquals(5, companyRepository.generateAll(companies.stream()));
+
+        companies.forEach(c -> assertFalse(entityManager.contains(c)));
+        assertPersisted(companies, before);
+    }
+
+    @Test
+    @DisplayName("호출 전부터 영속성 컨텍스트에 있던 엔티티도 준영속 상태가 되는 경우")
+    public void generateAll_ExistingEntity_Detached() {
+        Company existing = companyRepository.generate(companies(1).get(0));
+
+        companyRepository.generateAll(companies(2), 1);
+
+        assertFalse(entityManager.contains(existing));
+        assertNotNull(companyRepository.findById(existing.getId()).orElse(null));
+    }
+
+    private List<Company> companies(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> Company.builder().name("일괄회사" + i).establishDate(LocalDate.now()).build())
+                .collect(toList());
+    }
+
+    private void assertPersisted(List<Company> companies, long before) {
+        assertEquals(before + companies.size(), companyRepository.count());
+        companies.forEach(c -> {
+            assertNotNull(c.getId());
+            assertEquals(c.getName(), companyRepository.findById(c.getId()).map(Company::getName).orElse(null));
+        });
+    }
+
+    /**
+     * 슬라이스 테스트는 ApplicationConfiguration 을 읽지 않으므로 기본 레파지토리 구현체와 Querydsl 쿼리 팩토리 등록
+     * 사용자 정의 레파지토리 구현체가 사용하는 정렬, 검색 쿼리 빈은 공통 자동 설정으로 등록
+     */
+    @TestConfiguration
+    @EnableJpaRepositories(basePackageClasses = BaseRepository.class, repositoryBaseClass = BaseRepositoryImpl.class)
+    public static class RepositoryConfiguration {
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory(EntityManager entityManager) {
+            return new JPAQueryFactory(entityManager);
+        }
+
+    }
+
+}
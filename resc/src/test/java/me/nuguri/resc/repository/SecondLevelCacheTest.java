@@ -0,0 +1,114 @@
+package me.nuguri.resc.repository;
+
+import me.nuguri.common.entity.Authority;
+import me.nuguri.common.entity.Category;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 참조 엔티티 2차 캐시 적중 테스트
+ * 2차 캐시는 트랜잭션 커밋 후 공유 되므로 테스트 트랜잭션 없이 실행하고 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("2차 캐시 테스트")
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductReadModelRepository productReadModelRepository;
+
+    private Long categoryId;
+
+    private Long authorityId;
+
+    @BeforeEach
+    public void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Category category = Category.builder().name("캐시 카테고리").build();
+            Authority authority = Authority.builder().name("CACHE").build();
+            entityManager.persist(category);
+            entityManager.persist(authority);
+            categoryId = category.getId();
+            authorityId = authority.getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.remove(entityManager.find(Category.class, categoryId));
+            entityManager.remove(entityManager.find(Authority.class, authorityId));
+        });
+    }
+
+    @Test
+    @DisplayName("카테고리, 접근 권한을 처음 조회하면 캐시에 저장하고 다음 트랜잭션 조회는 캐시에서 적중하는 경우")
+    public void find_SecondTransaction_Hit() {
+        CacheRegionStatistics category = statistics(Category.class);
+        CacheRegionStatistics authority = statistics(Authority.class);
+        long categoryHit = category.getHitCount();
+        long categoryMiss = category.getMissCount();
+        long authorityHit = authority.getHitCount();
+        long authorityMiss = authority.getMissCount();
+
+        find();
+        assertEquals(categoryHit, category.getHitCount());
+        assertEquals(categoryMiss + 1, category.getMissCount());
+        assertEquals(authorityHit, authority.getHitCount());
+        assertEquals(authorityMiss + 1, authority.getMissCount());
+
+        find();
+        assertEquals(categoryHit + 1, category.getHitCount());
+        assertEquals(categoryMiss + 1, category.getMissCount());
+        assertEquals(authorityHit + 1, authority.getHitCount());
+        assertEquals(authorityMiss + 1, authority.getMissCount());
+    }
+
+    @Test
+    @DisplayName("상품 조회 모델 고아 삭제는 참조 엔티티 캐시 영역을 비우지 않는 경우")
+    public void deleteOrphans_ReferenceRegionsKept() {
+        find();
+
+        transactionTemplate.executeWithoutResult(status -> productReadModelRepository.deleteOrphans());
+
+        assertTrue(entityManagerFactory.getCache().contains(Category.class, categoryId));
+        assertTrue(entityManagerFactory.getCache().contains(Authority.class, authorityId));
+    }
+
+    private void find() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertNotNull(entityManager.find(Category.class, categoryId));
+            assertNotNull(entityManager.find(Authority.class, authorityId));
+        });
+    }
+
+    private CacheRegionStatistics statistics(Class<?> entityClass) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getDomainDataRegionStatistics(entityClass.getName());
+    }
+
+}
@@ -0,0 +1,231 @@
+package me.nuguri.resc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.common.exception.OutOfStockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 인기 상품 동시 주문 경합 테스트
+ * 재고 차감은 커밋 된 트랜잭션 간 경합이므로 테스트 트랜잭션 없이 실행하고 생성한 데이터는 직접 삭제
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("주문 재고 경합 테스트")
+public class OrderServiceContentionTest {
+
+    private static final String EMAIL = "contention@naver.com";
+
+    private static final int BUYERS = 200;
+
+    private static final int STOCK = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductReadModelService productReadModelService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long accountId;
+
+    private Long creatorId;
+
+    private Long companyId;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    public void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Authority authority = Authority.builder().name("CONTENTION").build();
+            entityManager.persist(authority);
+            Account account = Account.builder()
+                    .email(EMAIL)
+                    .password("1234")
+                    .name("구매자")
+                    .gender(Gender.F)
+                    .address(new Address("경기도 안양시", "한미아파트 502호", "12314"))
+                    .authority(authority)
+                    .build();
+            entityManager.persist(account);
+            Creator creator = Creator.builder().name("Hot Creator").gender(Gender.M).birth(LocalDate.of(1996, 9, 17)).build();
+            Company company = Company.builder().name("인기회사").establishDate(LocalDate.now()).build();
+            entityManager.persist(creator);
+            entityManager.persist(company);
+            productIds = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                Book book = Book.builder().name("한정판 " + i).price(10000).stockCount(STOCK)
+                        .publishDate(LocalDate.now()).creator(creator).company(company).build();
+                entityManager.persist(book);
+                productIds.add(book.getId());
+            }
+            entityManager.flush();
+            productReadModelService.refresh(productIds);
+            accountId = account.getId();
+            creatorId = creator.getId();
+            companyId = company.getId();
+        });
+    }
+
+    @AfterEach
+    public void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> deliveryIds = entityManager
+                    .createQuery("select o.delivery.id from Order o where o.account.id = :id", Long.class)
+                    .setParameter("id", accountId)
+                    .getResultList();
+            entityManager.createQuery("delete from OrderProduct op where op.order.id in (select o.id from Order o where o.account.id = :id)")
+                    .setParameter("id", accountId)
+                    .executeUpdate();
+            entityManager.createQuery("delete from Order o where o.account.id = :id")
+                    .setParameter("id", accountId)
+                    .executeUpdate();
+            if (!deliveryIds.isEmpty()) {
+                entityManager.createQuery("delete from Delivery d where d.id in :ids")
+                        .setParameter("ids", deliveryIds)
+                        .executeUpdate();
+            }
+            productIds.forEach(id -> entityManager.remove(entityManager.find(Product.class, id)));
+            entityManager.remove(entityManager.find(Creator.class, creatorId));
+            entityManager.remove(entityManager.find(Company.class, companyId));
+            Account account = entityManager.find(Account.class, accountId);
+            entityManager.remove(account);
+            entityManager.remove(account.getAuthority());
+        });
+    }
+
+    @Test
+    @DisplayName("인기 상품 하나에 재고보다 많은 구매자가 동시 주문하는 경우 재고 만큼만 성공")
+    public void place_HotProduct_SucceedsUpToStock() throws Exception {
+        Long hot = productIds.get(0);
+        Result result = run(i -> Collections.singletonMap(hot, 1));
+
+        assertEquals(STOCK, result.succeeded);
+        assertEquals(BUYERS - STOCK, result.outOfStock);
+        assertEquals(0, result.failed);
+        assertStock(hot, 0);
+    }
+
+    @Test
+    @DisplayName("여러 상품 주문이 서로 다른 순서로 동시 요청 되는 경우 교착 상태 없이 재고 만큼만 성공")
+    public void place_MultipleProducts_NoDeadlock() throws Exception {
+        Long first = productIds.get(0);
+        Long second = productIds.get(1);
+        Result result = run(i -> {
+            // 요청 순서를 번갈아 바꿔도 서비스에서 식별키 순서로 차감
+            Map<Long, Integer> counts = new LinkedHashMap<>();
+            counts.put(i % 2 == 0 ? first : second, 1);
+            counts.put(i % 2 == 0 ? second : first, 1);
+            return counts;
+        });
+
+        assertEquals(STOCK, result.succeeded);
+        assertEquals(BUYERS - STOCK, result.outOfStock);
+        assertEquals(0, result.failed);
+        assertStock(first, 0);
+        assertStock(second, 0);
+    }
+
+    /**
+     * 구매자 수 만큼 동시에 주문 요청 후 결과, 처리량, 응답 시간 기록
+     *
+     * @param order 구매자 순번 별 주문 상품 수량
+     * @return 결과
+     */
+    private Result run(IntFunction<Map<Long, Integer>> order) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch ready = new CountDownLatch(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BUYERS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[BUYERS];
+        for (int i = 0; i < BUYERS; i++) {
+            int buyer = i;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        orderService.place(EMAIL, order.apply(buyer), null);
+                        succeeded.incrementAndGet();
+                    } catch (OutOfStockException e) {
+                        outOfStock.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        log.error("[log] order failed", e);
+                        failed.incrementAndGet();
+                    }
+                    latencies[buyer] = System.nanoTime() - begin;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(1, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdownNow();
+
+        Arrays.sort(latencies);
+        log.info("[log] {} buyers, {} succeeded, {} out of stock, {} failed, {} orders/s, p50 {} ms, p99 {} ms",
+                BUYERS, succeeded.get(), outOfStock.get(), failed.get(),
+                BUYERS * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1),
+                TimeUnit.NANOSECONDS.toMillis(latencies[BUYERS / 2]),
+                TimeUnit.NANOSECONDS.toMillis(latencies[BUYERS * 99 / 100]));
+        return new Result(succeeded.get(), outOfStock.get(), failed.get());
+    }
+
+    private void assertStock(Long productId, int expected) {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(expected, entityManager.find(Product.class, productId).getStockCount());
+            assertEquals(expected, entityManager.find(ProductReadModel.class, productId).getStockCount());
+        });
+    }
+
+    private static class Result {
+
+        private final int succeeded;
+
+        private final int outOfStock;
+
+        private final int failed;
+
+        private Result(int succeeded, int outOfStock, int failed) {
+            this.succeeded = succeeded;
+            this.outOfStock = outOfStock;
+            this.failed = failed;
+        }
+
+    }
+
+}
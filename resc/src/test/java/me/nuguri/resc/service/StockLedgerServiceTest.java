@@ -0,0 +1,169 @@
+package me.nuguri.resc.service;
+
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.resc.property.StockLedgerProperties;
+import me.nuguri.resc.support.StockLedgerScheduler;
+import me.nuguri.resc.support.StockLedgerStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 원장 반영, 보정, 적재 테스트
+ * 원장 저장소는 커밋 후 반영 되므로 테스트 트랜잭션 없이 실행하고 생성한 데이터는 직접 삭제
+ * 테스트 마다 새로 생성한 상품은 원장 저장소에 적재 되지 않은 상태이므로 재시작 직후 노드와 같음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("재고 원장 서비스 테스트")
+public class StockLedgerServiceTest {
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private StockLedgerScheduler stockLedgerScheduler;
+
+    @Autowired
+    private StockLedgerStore stockLedgerStore;
+
+    @Autowired
+    private StockLedgerProperties stockLedgerProperties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private boolean enabled;
+
+    private Long creatorId;
+
+    private Long companyId;
+
+    private Long productId;
+
+    @BeforeEach
+    public void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Creator creator = Creator.builder().name("Ledger Creator").gender(Gender.M).birth(LocalDate.of(1996, 9, 17)).build();
+            Company company = Company.builder().name("원장회사").establishDate(LocalDate.now()).build();
+            entityManager.persist(creator);
+            entityManager.persist(company);
+            Book book = Book.builder().name("원장 책").price(10000).stockCount(10)
+                    .publishDate(LocalDate.now()).creator(creator).company(company).build();
+            entityManager.persist(book);
+            creatorId = creator.getId();
+            companyId = company.getId();
+            productId = book.getId();
+        });
+        enabled = stockLedgerProperties.isEnabled();
+        stockLedgerProperties.setEnabled(true);
+        stockLedgerProperties.getProductIds().add(productId);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        stockLedgerProperties.setEnabled(enabled);
+        stockLedgerProperties.getProductIds().remove(productId);
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from StockLedgerEntry e where e.productId = :id")
+                    .setParameter("id", productId)
+                    .executeUpdate();
+            entityManager.remove(entityManager.find(Product.class, productId));
+            entityManager.remove(entityManager.find(Creator.class, creatorId));
+            entityManager.remove(entityManager.find(Company.class, companyId));
+        });
+    }
+
+    @Test
+    @DisplayName("원장 기록을 상품 별로 합산해서 상품 재고와 조회 모델 재고에 반영하고 기록을 삭제하는 경우")
+    public void flush_DeltasSummed() {
+        generateEntries(-3, -2, 1);
+
+        assertEquals(3, stockLedgerService.flush());
+
+        assertStock(6);
+        assertEquals(0L, countEntries());
+        assertEquals(0, stockLedgerService.flush());
+    }
+
+    @Test
+    @DisplayName("재시작 시 이전 실행에서 반영 되지 않은 원장 기록을 반영한 후 원장 저장소에 적재하는 경우")
+    public void reconcile_AfterRestart_FlushedAndLoaded() {
+        generateEntries(-3, -2, 1);
+        assertNull(stockLedgerStore.available(productId));
+
+        stockLedgerScheduler.reconcile();
+
+        assertStock(6);
+        assertEquals(0L, countEntries());
+        assertEquals(6, stockLedgerStore.available(productId));
+    }
+
+    @Test
+    @DisplayName("원장 저장소에 없는 상품 예약 시 상품 재고와 반영 되지 않은 원장 기록으로 적재 후 예약하는 경우")
+    public void reserve_NotLoaded_LoadedFromDb() {
+        generateEntries(-2);
+
+        transactionTemplate.executeWithoutResult(status -> stockLedgerService.reserve(productId, 3));
+
+        assertEquals(5, stockLedgerStore.available(productId));
+        assertEquals(2L, countEntries());
+    }
+
+    @Test
+    @DisplayName("원장 저장소에 없고 DB 에도 없는 상품 예약 시 실패하는 경우")
+    public void reserve_UnknownProduct_Fail() {
+        assertThrows(NoSuchElementException.class, () -> stockLedgerService.reserve(-1L, 1));
+        assertNull(stockLedgerStore.available(-1L));
+    }
+
+    @Test
+    @DisplayName("변경 감지로 상품 재고를 수정하고 커밋하면 예약 중인 수량을 유지한 채 원장 저장소에 증감이 반영 되는 경우")
+    public void commit_DirtyCheckedStock_StoreAdjusted() {
+        stockLedgerService.load();
+        transactionTemplate.executeWithoutResult(status -> stockLedgerService.reserve(productId, 3));
+        assertEquals(7, stockLedgerStore.available(productId));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Product.class, productId).setStockCount(15));
+
+        assertEquals(12, stockLedgerStore.available(productId));
+    }
+
+    private void generateEntries(int... deltas) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int delta : deltas) {
+                entityManager.persist(new StockLedgerEntry(productId, delta));
+            }
+        });
+    }
+
+    private long countEntries() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select count(e) from StockLedgerEntry e where e.productId = :id", Long.class)
+                .setParameter("id", productId)
+                .getSingleResult());
+    }
+
+    private void assertStock(int expected) {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(expected, entityManager.find(Product.class, productId).getStockCount());
+            assertEquals(expected, entityManager.find(ProductReadModel.class, productId).getStockCount());
+        });
+    }
+
+}
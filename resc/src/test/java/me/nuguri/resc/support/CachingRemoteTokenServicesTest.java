@@ -0,0 +1,177 @@
+package me.nuguri.resc.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("토큰 검사 결과 캐싱 테스트")
+public class CachingRemoteTokenServicesTest {
+
+    private static final String CHECK_TOKEN_URL = "http://localhost:9600/oauth/check_token";
+
+    private RestTemplate restTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingRemoteTokenServices tokenServices;
+
+    @BeforeEach
+    public void beforeEach() {
+        restTemplate = mock(RestTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenServices = new CachingRemoteTokenServices(Duration.ofSeconds(30), 100, meterRegistry);
+        tokenServices.setCheckTokenEndpointUrl(CHECK_TOKEN_URL);
+        tokenServices.setClientId("nuguri");
+        tokenServices.setClientSecret("bom");
+        tokenServices.setRestTemplate(restTemplate);
+    }
+
+    @Test
+    @DisplayName("유효 시간이 남은 토큰은 한번만 인증 서버에 검사 요청하는 경우")
+    public void loadAuthentication_ValidToken_CachedOnce() {
+        mockCheckToken(System.currentTimeMillis() / 1000 + 600);
+
+        OAuth2Authentication first = tokenServices.loadAuthentication("token");
+        OAuth2Authentication second = tokenServices.loadAuthentication("token");
+
+        assertEquals("nuguri", second.getOAuth2Request().getClientId());
+        assertNotSame(first, second);
+        verify(restTemplate, times(1)).exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class));
+        assertEquals(1, meterRegistry.counter(CachingRemoteTokenServices.CACHE_METRIC, "result", "hit").count());
+        assertEquals(1, meterRegistry.counter(CachingRemoteTokenServices.CACHE_METRIC, "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("만료 된 토큰은 캐싱하지 않고 매번 인증 서버에 검사 요청하는 경우")
+    public void loadAuthentication_ExpiredToken_NotCached() {
+        mockCheckToken(System.currentTimeMillis() / 1000 - 1);
+
+        tokenServices.loadAuthentication("token");
+        tokenServices.loadAuthentication("token");
+
+        verify(restTemplate, times(2)).exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 동시에 검사하면 인증 서버에 한번만 요청하고 나머지는 결과를 기다려 받는 경우")
+    public void loadAuthentication_Concurrent_SingleCheckToken() throws Exception {
+        int threads = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        ResponseEntity<Map<String, Object>> response = ResponseEntity.ok(checkTokenResponse(System.currentTimeMillis() / 1000 + 600));
+        when(restTemplate.exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return response;
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<OAuth2Authentication>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> tokenServices.loadAuthentication("token")));
+            }
+            // 첫 요청이 인증 서버 응답을 기다리는 동안 나머지 요청이 모두 진행 중인 검사에 합류하면 응답
+            awaitCoalesced(threads - 1);
+            release.countDown();
+
+            for (Future<OAuth2Authentication> future : futures) {
+                assertEquals("nuguri", future.get(5, TimeUnit.SECONDS).getOAuth2Request().getClientId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(restTemplate, times(1)).exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class));
+        assertEquals(1, meterRegistry.counter(CachingRemoteTokenServices.CACHE_METRIC, "result", "miss").count());
+        assertEquals(threads - 1, meterRegistry.counter(CachingRemoteTokenServices.CACHE_METRIC, "result", "coalesced").count());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    @DisplayName("토큰 검사가 실패하면 기다리던 요청도 같은 예외로 실패하고 진행 중 목록에서 제거 되어 다음 요청은 다시 검사하는 경우")
+    public void loadAuthentication_Failed_RemovedFromInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ResourceAccessException failure = new ResourceAccessException("auth server down");
+        ResponseEntity<Map<String, Object>> response = ResponseEntity.ok(checkTokenResponse(System.currentTimeMillis() / 1000 + 600));
+        AtomicInteger checks = new AtomicInteger();
+        // 첫 검사만 인증 서버 장애로 실패, 이후 검사는 성공
+        when(restTemplate.exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class)))
+                .thenAnswer(invocation -> {
+                    if (checks.incrementAndGet() > 1) {
+                        return response;
+                    }
+                    release.await(5, TimeUnit.SECONDS);
+                    throw failure;
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<OAuth2Authentication> first = executor.submit(() -> tokenServices.loadAuthentication("token"));
+            Future<OAuth2Authentication> second = executor.submit(() -> tokenServices.loadAuthentication("token"));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+            assertSame(failure, assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(inFlight().isEmpty());
+
+        assertEquals("nuguri", tokenServices.loadAuthentication("token").getOAuth2Request().getClientId());
+        verify(restTemplate, times(2)).exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class));
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter(CachingRemoteTokenServices.CACHE_METRIC, "result", "coalesced").count() < expected) {
+            assertTrue(System.currentTimeMillis() < deadline, "coalesced requests timed out");
+            Thread.sleep(10);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CompletableFuture<OAuth2Authentication>> inFlight() {
+        return (Map<String, CompletableFuture<OAuth2Authentication>>) ReflectionTestUtils.getField(tokenServices, "inFlight");
+    }
+
+    private void mockCheckToken(long exp) {
+        when(restTemplate.exchange(eq(CHECK_TOKEN_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class), any(Object.class)))
+                .thenReturn(ResponseEntity.ok(checkTokenResponse(exp)));
+    }
+
+    private Map<String, Object> checkTokenResponse(long exp) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("aud", Arrays.asList("nuguri"));
+        map.put("user_name", "admin@naver.com");
+        map.put("scope", Arrays.asList("read", "write"));
+        map.put("active", true);
+        map.put("exp", exp);
+        map.put("authorities", Arrays.asList("ROLE_ADMIN", "ROLE_USER"));
+        map.put("client_id", "nuguri");
+        return map;
+    }
+
+}
@@ -0,0 +1,62 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.resc.domain.CachedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("메모리 응답 캐시 저장소 테스트")
+public class LocalResponseCacheStoreTest {
+
+    private LocalResponseCacheStore store;
+
+    @BeforeEach
+    public void beforeEach() {
+        store = new LocalResponseCacheStore(Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("태그 무효화 시 해당 태그가 붙은 응답만 제거 되는 경우")
+    public void evict_OnlyTagged() {
+        long generation = store.generation();
+        assertTrue(store.put("creator:1", response("1"), Arrays.asList("creator:1"), generation));
+        assertTrue(store.put("creator:2", response("2"), Arrays.asList("creator:2"), generation));
+        assertTrue(store.put("creators:page", response("page"), Arrays.asList("creators"), generation));
+
+        store.evict(Arrays.asList("creators", "creator:1"));
+
+        assertNull(store.get("creator:1"));
+        assertNull(store.get("creators:page"));
+        assertEquals("2", store.get("creator:2").getBody());
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화 된 경우 이전에 조회한 응답이 저장 되지 않는 경우")
+    public void put_AfterEvict_Rejected() {
+        long generation = store.generation();
+        store.evict(Collections.singletonList("creators"));
+
+        assertFalse(store.put("creators:page", response("stale"), Collections.singletonList("creators"), generation));
+        assertNull(store.get("creators:page"));
+        assertTrue(store.put("creators:page", response("fresh"), Collections.singletonList("creators"), store.generation()));
+    }
+
+    @Test
+    @DisplayName("만료 된 응답은 조회 되지 않는 경우")
+    public void get_Expired() {
+        store = new LocalResponseCacheStore(Duration.ZERO, 100);
+        store.put("creator:1", response("1"), Collections.singletonList("creator:1"), store.generation());
+        assertNull(store.get("creator:1"));
+    }
+
+    private CachedResponse response(String body) {
+        return new CachedResponse(body, null);
+    }
+
+}
@@ -0,0 +1,106 @@
+package me.nuguri.resc.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("메모리 재고 원장 저장소 테스트")
+public class LocalStockLedgerStoreTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private LocalStockLedgerStore store;
+
+    @BeforeEach
+    public void beforeEach() {
+        store = new LocalStockLedgerStore(8);
+        store.load(Collections.singletonMap(PRODUCT_ID, 100));
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 동시 예약 요청 시 재고 만큼만 예약 되는 경우")
+    public void reserve_Concurrent_UpToStock() throws Exception {
+        int buyers = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        for (int i = 0; i < buyers; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    if (store.reserve(UUID.randomUUID().toString(), PRODUCT_ID, 1, Long.MAX_VALUE)) {
+                        reserved.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(100, reserved.get());
+        assertEquals(0, store.available(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("한 칸의 재고보다 많은 수량 예약 시 여러 칸에서 나눠서 차감 되는 경우")
+    public void reserve_AcrossStripes() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 60, Long.MAX_VALUE));
+        assertFalse(store.reserve("b", PRODUCT_ID, 41, Long.MAX_VALUE));
+        assertEquals(40, store.available(PRODUCT_ID));
+        store.release("a", PRODUCT_ID, 60);
+        assertEquals(100, store.available(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("만료 된 예약은 취소 되고 이후 확정 시 재고가 다시 차감 되는 경우")
+    public void sweep_ThenConfirm() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 100, 1000L));
+        assertEquals(1, store.sweep(1000L));
+        assertEquals(100, store.available(PRODUCT_ID));
+
+        assertTrue(store.reserve("b", PRODUCT_ID, 100, Long.MAX_VALUE));
+        store.confirm("a", PRODUCT_ID, 100);
+        assertEquals(-100, store.available(PRODUCT_ID));
+        assertFalse(store.reserve("c", PRODUCT_ID, 1, Long.MAX_VALUE));
+
+        // 음수 칸부터 채워서 전체 합 이상 예약 되지 않음
+        store.release("b", PRODUCT_ID, 100);
+        assertEquals(0, store.available(PRODUCT_ID));
+        assertFalse(store.reserve("d", PRODUCT_ID, 1, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("적재 되지 않은 상품 예약 시 실패하는 경우")
+    public void reserve_NotLoaded() {
+        assertFalse(store.reserve("a", 2L, 1, Long.MAX_VALUE));
+        assertNull(store.available(2L));
+    }
+
+    @Test
+    @DisplayName("입고, 재고 수정 증감이 적재 된 상품에만 반영 되는 경우")
+    public void adjust_LoadedOnly() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 100, Long.MAX_VALUE));
+        store.adjust(PRODUCT_ID, 30);
+        assertEquals(30, store.available(PRODUCT_ID));
+        store.adjust(PRODUCT_ID, -50);
+        assertEquals(-20, store.available(PRODUCT_ID));
+        assertFalse(store.reserve("b", PRODUCT_ID, 1, Long.MAX_VALUE));
+
+        store.adjust(2L, 10);
+        assertNull(store.available(2L));
+    }
+
+}
@@ -0,0 +1,58 @@
+package me.nuguri.resc.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("이름 검색 색인 테스트")
+public class NameSearchIndexTest {
+
+    private NameSearchIndex index;
+
+    @BeforeEach
+    public void beforeEach() {
+        index = new NameSearchIndex();
+        index.put(1L, "홍길동전");
+        index.put(2L, "길동");
+        index.put(3L, "아무개 길동이");
+        index.put(4L, "Spring Boot");
+    }
+
+    @Test
+    @DisplayName("정확 일치, 접두 일치, 부분 일치 순서로 검색 되는 경우")
+    public void search_Ranked() {
+        assertEquals(Arrays.asList(2L, 1L, 3L), index.search("길동", 10));
+        assertEquals(Collections.singletonList(2L), index.search("길동", 1));
+    }
+
+    @Test
+    @DisplayName("gram 은 모두 포함하지만 연속되지 않은 이름은 검색 되지 않는 경우")
+    public void search_NotContinuous_Empty() {
+        index.put(5L, "동길 길동");
+        assertEquals(Collections.singletonList(5L), index.search("동길", 10));
+        assertEquals(Collections.emptyList(), index.search("길동길", 10));
+    }
+
+    @Test
+    @DisplayName("한 글자, 대소문자 구분 없이 검색 되는 경우")
+    public void search_SingleCharAndIgnoreCase() {
+        assertEquals(Collections.singletonList(1L), index.search("전", 10));
+        assertEquals(Collections.singletonList(4L), index.search("boot", 10));
+    }
+
+    @Test
+    @DisplayName("이름 변경, 제거 시 색인에 반영 되는 경우")
+    public void putAndRemove() {
+        index.put(2L, "임꺽정");
+        assertEquals(Arrays.asList(1L, 3L), index.search("길동", 10));
+        index.remove(1L);
+        assertEquals(Collections.singletonList(3L), index.search("길동", 10));
+        assertEquals(Collections.singletonList(2L), index.search("꺽정", 10));
+    }
+
+}
@@ -0,0 +1,91 @@
+package me.nuguri.resc.support;
+
+import me.nuguri.common.entity.*;
+import me.nuguri.common.enums.Gender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 상품 조회 모델 커밋 직전 갱신 테스트
+ * 변경 감지 수정은 커밋 중 처음 flush 되므로 테스트 트랜잭션 없이 실행하고 생성한 데이터는 직접 삭제
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("상품 조회 모델 이벤트 리스너 테스트")
+public class ProductReadModelEventListenerTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long creatorId;
+
+    private Long companyId;
+
+    private Long productId;
+
+    @BeforeEach
+    public void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Creator creator = Creator.builder().name("Read Model Creator").gender(Gender.M).birth(LocalDate.of(1996, 9, 17)).build();
+            Company company = Company.builder().name("조회모델회사").establishDate(LocalDate.now()).build();
+            entityManager.persist(creator);
+            entityManager.persist(company);
+            Book book = Book.builder().name("조회 모델 책").price(10000).stockCount(10)
+                    .publishDate(LocalDate.now()).creator(creator).company(company).build();
+            entityManager.persist(book);
+            creatorId = creator.getId();
+            companyId = company.getId();
+            productId = book.getId();
+        });
+    }
+
+    @AfterEach
+    public void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.remove(entityManager.find(Product.class, productId));
+            entityManager.remove(entityManager.find(Creator.class, creatorId));
+            entityManager.remove(entityManager.find(Company.class, companyId));
+        });
+        assertNull(readModel());
+    }
+
+    @Test
+    @DisplayName("flush 없이 변경 감지로 상품을 수정하고 커밋하면 조회 모델도 갱신 되는 경우")
+    public void commit_DirtyCheckedProduct_ReadModelUpdated() {
+        assertEquals(10000, readModel().getPrice());
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Product.class, productId).setPrice(20000));
+
+        assertEquals(20000, readModel().getPrice());
+    }
+
+    @Test
+    @DisplayName("flush 없이 변경 감지로 저자 이름을 수정하고 커밋하면 연관 상품 조회 모델도 갱신 되는 경우")
+    public void commit_DirtyCheckedCreator_ReadModelUpdated() {
+        assertEquals("Read Model Creator", readModel().getCreatorName());
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Creator.class, creatorId).setName("Renamed Creator"));
+
+        assertEquals("Renamed Creator", readModel().getCreatorName());
+    }
+
+    private ProductReadModel readModel() {
+        return transactionTemplate.execute(status -> entityManager.find(ProductReadModel.class, productId));
+    }
+
+}
@@ -0,0 +1,117 @@
+package me.nuguri.resc.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nuguri.common.support.EntityVersion;
+import me.nuguri.resc.domain.CachedResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.SocketUtils;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Redis 응답 캐시 저장소 테스트")
+public class RedisResponseCacheStoreTest {
+
+    private static RedisServer redisServer;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisResponseCacheStore store;
+
+    @BeforeAll
+    public static void beforeAll() {
+        int port = SocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.flushAll();
+            return null;
+        });
+        store = new RedisResponseCacheStore(stringRedisTemplate, new ObjectMapper(), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("저장한 응답이 본문, 검증 값 그대로 조회 되는 경우")
+    public void put_Get_SameResponse() {
+        EntityVersion version = EntityVersion.of(1L, LocalDateTime.now());
+        assertTrue(store.put("creator:1", new CachedResponse("{\"id\":1}", version), Collections.singletonList("creator:1"), store.generation()));
+
+        CachedResponse cached = store.get("creator:1");
+
+        assertEquals("{\"id\":1}", cached.getBody());
+        assertEquals(version.getETag(), cached.getETag());
+        assertEquals(version.getLastModified(), cached.getLastModified());
+    }
+
+    @Test
+    @DisplayName("태그 무효화 시 해당 태그가 붙은 응답만 제거 되고 세대 값이 올라가는 경우")
+    public void evict_OnlyTagged() {
+        long generation = store.generation();
+        assertTrue(store.put("creator:1", response("1"), Arrays.asList("creator:1"), generation));
+        assertTrue(store.put("creator:2", response("2"), Arrays.asList("creator:2"), generation));
+        assertTrue(store.put("creators:page", response("page"), Arrays.asList("creators"), generation));
+
+        store.evict(Arrays.asList("creators", "creator:1"));
+
+        assertNull(store.get("creator:1"));
+        assertNull(store.get("creators:page"));
+        assertEquals("2", store.get("creator:2").getBody());
+        assertEquals(generation + 1, store.generation());
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화 된 경우 이전에 조회한 응답이 저장 되지 않는 경우")
+    public void put_AfterEvict_Rejected() {
+        long generation = store.generation();
+        store.evict(Collections.singletonList("creators"));
+
+        assertFalse(store.put("creators:page", response("stale"), Collections.singletonList("creators"), generation));
+        assertNull(store.get("creators:page"));
+        assertTrue(store.put("creators:page", response("fresh"), Collections.singletonList("creators"), store.generation()));
+        assertEquals("fresh", store.get("creators:page").getBody());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 저장소도 같은 응답, 무효화를 공유하는 경우")
+    public void sharedAcrossStores() {
+        RedisResponseCacheStore other = new RedisResponseCacheStore(stringRedisTemplate, new ObjectMapper(), Duration.ofMinutes(1));
+        store.put("creator:1", response("1"), Collections.singletonList("creator:1"), store.generation());
+
+        assertEquals("1", other.get("creator:1").getBody());
+        other.evict(Collections.singletonList("creator:1"));
+        assertNull(store.get("creator:1"));
+    }
+
+    private CachedResponse response(String body) {
+        return new CachedResponse(body, null);
+    }
+
+}
@@ -0,0 +1,143 @@
+package me.nuguri.resc.support;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.SocketUtils;
+import redis.embedded.RedisServer;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Redis 재고 원장 저장소 테스트")
+public class RedisStockLedgerStoreTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private static RedisServer redisServer;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisStockLedgerStore store;
+
+    @BeforeAll
+    public static void beforeAll() {
+        int port = SocketUtils.findAvailableTcpPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        flushAll();
+        store = new RedisStockLedgerStore(stringRedisTemplate);
+        store.load(Collections.singletonMap(PRODUCT_ID, 10));
+    }
+
+    @Test
+    @DisplayName("이미 적재 된 상품은 다시 적재해도 다른 노드의 예약이 반영 된 값을 유지하는 경우")
+    public void load_Loaded_Kept() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 3, Long.MAX_VALUE));
+
+        store.load(Collections.singletonMap(PRODUCT_ID, 10));
+
+        assertEquals(7, store.available(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("예약 가능 재고 만큼만 예약 되고 적재 되지 않은 상품은 실패하는 경우")
+    public void reserve_UpToStock() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 6, Long.MAX_VALUE));
+        assertFalse(store.reserve("b", PRODUCT_ID, 5, Long.MAX_VALUE));
+        assertTrue(store.reserve("c", PRODUCT_ID, 4, Long.MAX_VALUE));
+        assertEquals(0, store.available(PRODUCT_ID));
+
+        assertFalse(store.reserve("d", 2L, 1, Long.MAX_VALUE));
+        assertNull(store.available(2L));
+    }
+
+    @Test
+    @DisplayName("확정 된 예약은 다시 차감하지 않고 취소 된 예약은 한 번만 복구 되는 경우")
+    public void confirm_Release() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 3, Long.MAX_VALUE));
+        assertTrue(store.reserve("b", PRODUCT_ID, 2, Long.MAX_VALUE));
+
+        store.confirm("a", PRODUCT_ID, 3);
+        assertEquals(5, store.available(PRODUCT_ID));
+
+        store.release("b", PRODUCT_ID, 2);
+        store.release("b", PRODUCT_ID, 2);
+        assertEquals(7, store.available(PRODUCT_ID));
+
+        // 확정 된 예약은 취소로 복구 되지 않음
+        store.release("a", PRODUCT_ID, 3);
+        assertEquals(7, store.available(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("만료 된 예약은 취소 되고 이후 확정 시 재고가 다시 차감 되는 경우")
+    public void sweep_ThenConfirm() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 4, 1000L));
+        assertTrue(store.reserve("b", PRODUCT_ID, 1, Long.MAX_VALUE));
+
+        assertEquals(1, store.sweep(1000L));
+        assertEquals(9, store.available(PRODUCT_ID));
+
+        store.confirm("a", PRODUCT_ID, 4);
+        assertEquals(5, store.available(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("입고, 재고 수정 증감은 적재 된 상품에만 반영 되는 경우")
+    public void adjust_LoadedOnly() {
+        store.adjust(PRODUCT_ID, 5);
+        assertEquals(15, store.available(PRODUCT_ID));
+        store.adjust(PRODUCT_ID, -12);
+        assertEquals(3, store.available(PRODUCT_ID));
+
+        store.adjust(2L, 5);
+        assertNull(store.available(2L));
+    }
+
+    @Test
+    @DisplayName("재고 키가 유실 된 후 확정, 취소는 키를 만들지 않고 다시 적재하면 예약 되는 경우")
+    public void keyLost_NotRecreated() {
+        assertTrue(store.reserve("a", PRODUCT_ID, 3, Long.MAX_VALUE));
+        assertTrue(store.reserve("b", PRODUCT_ID, 2, Long.MAX_VALUE));
+        stringRedisTemplate.delete("stock-ledger:stock:" + PRODUCT_ID);
+
+        store.confirm("a", PRODUCT_ID, 3);
+        store.confirm("c", PRODUCT_ID, 1);
+        store.release("b", PRODUCT_ID, 2);
+        assertNull(store.available(PRODUCT_ID));
+
+        store.load(Collections.singletonMap(PRODUCT_ID, 7));
+        assertTrue(store.reserve("d", PRODUCT_ID, 7, Long.MAX_VALUE));
+    }
+
+    private void flushAll() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.flushAll();
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,134 @@
+package me.nuguri.resc.support;
+
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.nuguri.common.entity.Creator;
+import me.nuguri.common.enums.Gender;
+import me.nuguri.resc.common.BaseIntegrationTest;
+import me.nuguri.resc.controller.api.CreatorApiController.GenerateCreatorRequest;
+import me.nuguri.resc.domain.CachedResponse;
+import me.nuguri.resc.service.CreatorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 응답 캐시 사용 시 조회, 무효화 테스트
+ * 무효화는 쓰기 트랜잭션 커밋 후 실행 되므로 테스트 트랜잭션 없이 실행하고 생성한 데이터는 직접 삭제
+ */
+@TestPropertySource(properties = "resc.response-cache.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("응답 캐시 테스트")
+public class ResponseCacheTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long creatorId;
+
+    @BeforeEach
+    public void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Creator creator = Creator.builder().name("Cached Creator").gender(Gender.M).birth(LocalDate.of(1996, 9, 17)).build();
+            entityManager.persist(creator);
+            creatorId = creator.getId();
+        });
+    }
+
+    @AfterEach
+    public void afterEach() {
+        transactionTemplate.executeWithoutResult(status -> entityManager.remove(entityManager.find(Creator.class, creatorId)));
+    }
+
+    @Test
+    @DisplayName("같은 조회를 반복하면 두번째 조회는 캐시 된 응답으로 응답하는 경우")
+    public void getCreator_SecondRead_Hit() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        double hit = count("hit");
+        double miss = count("miss");
+
+        String first = getCreator();
+        String second = getCreator();
+
+        assertEquals(first, second);
+        assertEquals(miss + 1, count("miss"));
+        assertEquals(hit + 1, count("hit"));
+    }
+
+    @Test
+    @DisplayName("저자 수정 커밋 후 다음 조회는 캐시 된 이전 응답이 아닌 수정 된 응답인 경우")
+    public void updateCreator_InvalidatesNextRead() throws Exception {
+        mockRestTemplate(HttpStatus.OK);
+        assertEquals("Cached Creator", JsonPath.read(getCreator(), "$.name"));
+        assertNotNull(responseCache.get(CreatorService.creatorTag(creatorId)));
+
+        GenerateCreatorRequest request = new GenerateCreatorRequest();
+        request.setName("Updated Creator");
+        mockMvc.perform(patch("/api/v1/creator/{id}", creatorId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        assertNull(responseCache.get(CreatorService.creatorTag(creatorId)));
+        assertEquals("Updated Creator", JsonPath.read(getCreator(), "$.name"));
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화 된 경우 조회 전 세대 값으로 만든 응답은 저장 되지 않는 경우")
+    public void put_EvictedDuringRead_NotStored() {
+        String key = CreatorService.creatorTag(creatorId);
+        double rejected = count("rejected");
+        long generation = responseCache.generation();
+
+        responseCache.evictAfterCommit(Collections.singletonList(key));
+        CachedResponse response = responseCache.put(key, Collections.singletonList(key), generation, Collections.singletonMap("id", creatorId), null);
+
+        assertEquals("{\"id\":" + creatorId + "}", response.getBody());
+        assertNull(responseCache.get(key));
+        assertEquals(rejected + 1, count("rejected"));
+    }
+
+    private String getCreator() throws Exception {
+        return mockMvc.perform(get("/api/v1/creator/{id}", creatorId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(creatorId))
+                .andDo(print())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(ResponseCache.CACHE_METRIC, "result", result).count();
+    }
+
+}